@@ -5,10 +5,13 @@ import android.util.Log;
 
 import dagger.hilt.android.HiltAndroidApp;
 
+import com.example.navermapapi.path.manager.PathDataManager;
 import com.google.android.gms.common.ConnectionResult;
 import com.google.android.gms.common.GoogleApiAvailability;
 import com.naver.maps.map.NaverMapSdk;
 
+import java.io.IOException;
+
 @HiltAndroidApp
 public class NavigationApplication extends Application {
     private static final String TAG = "NavigationApplication";
@@ -20,6 +23,8 @@ public class NavigationApplication extends Application {
     }
 
     private void initializeServices() {
+        loadVenueGraph();
+
         try {
             // Naver Map 초기화
             NaverMapSdk.getInstance(this).setClient(
@@ -38,6 +43,16 @@ public class NavigationApplication extends Application {
         }
     }
 
+    private void loadVenueGraph() {
+        try {
+            // 메모리 매핑이므로 시설 크기와 무관하게 즉시 완료
+            PathDataManager.loadVenueAsset(getAssets(), PathDataManager.DEFAULT_VENUE_ASSET);
+            Log.d(TAG, "Venue graph loaded: " + PathDataManager.getGraph().getNodeCount() + " nodes");
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to load venue graph", e);
+        }
+    }
+
     private boolean isGooglePlayServicesAvailable() {
         GoogleApiAvailability apiAvailability = GoogleApiAvailability.getInstance();
         int resultCode = apiAvailability.isGooglePlayServicesAvailable(this);
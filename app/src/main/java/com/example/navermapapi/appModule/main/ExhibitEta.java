@@ -0,0 +1,54 @@
+package com.example.navermapapi.appModule.main;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.constants.ExhibitionConstants;
+import com.naver.maps.geometry.LatLng;
+
+/**
+ * 전시 지점까지의 보행 거리와 예상 소요 시간
+ */
+public final class ExhibitEta {
+    private final String name;
+    private final LatLng location;
+    private final double distance;
+
+    public ExhibitEta(@NonNull String name, @NonNull LatLng location, double distance) {
+        this.name = name;
+        this.location = location;
+        this.distance = distance;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @NonNull
+    public LatLng getLocation() {
+        return location;
+    }
+
+    /**
+     * 경로 거리 (미터), 도달할 수 없으면 {@link Double#POSITIVE_INFINITY}
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    public boolean isReachable() {
+        return !Double.isInfinite(distance);
+    }
+
+    /**
+     * 평균 보행 속도 기준 예상 소요 시간 (초), 도달할 수 없으면 -1
+     */
+    public int getEtaSeconds() {
+        return isReachable() ? (int) Math.round(distance / ExhibitionConstants.WALKING_SPEED) : -1;
+    }
+
+    @Override
+    public String toString() {
+        return "ExhibitEta{" + name + ", " + distance + "m, " + getEtaSeconds() + "s}";
+    }
+}
@@ -13,6 +13,9 @@ import com.example.navermapapi.R;
 import com.example.navermapapi.constants.ExhibitionConstants;
 import com.example.navermapapi.coreModule.api.environment.model.EnvironmentType;
 import com.example.navermapapi.coreModule.api.location.model.LocationData;
+import com.example.navermapapi.path.graph.RoutingProfile;
+import com.example.navermapapi.path.manager.DistanceTracker;
+import com.example.navermapapi.path.manager.PathDataManager;
 import com.naver.maps.geometry.LatLng;
 import com.naver.maps.map.CameraAnimation;
 import com.naver.maps.map.CameraUpdate;
@@ -20,6 +23,8 @@ import com.naver.maps.map.NaverMap;
 import com.naver.maps.map.overlay.LocationOverlay;
 import com.naver.maps.map.overlay.OverlayImage;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import dagger.hilt.android.lifecycle.HiltViewModel;
 import javax.inject.Inject;
@@ -34,6 +39,13 @@ public class MainViewModel extends ViewModel {
     private final MutableLiveData<Boolean> isDemoMode = new MutableLiveData<>(false);
     private final MutableLiveData<Boolean> isNavigating = new MutableLiveData<>(false);
     private final MutableLiveData<Float> currentAzimuth = new MutableLiveData<>();
+    private final MutableLiveData<List<ExhibitEta>> exhibitEtas =
+            new MutableLiveData<>(Collections.<ExhibitEta>emptyList());
+
+    // 전시 지점 거리 추적 (그래프 스냅샷과 경로 프로필이 바뀌면 다시 만듦)
+    private DistanceTracker exhibitDistances;
+    private RoutingProfile exhibitProfile;
+    private long exhibitVersion;
 
     public LiveData<Float> getCurrentAzimuth() {
         return currentAzimuth;
@@ -99,6 +111,40 @@ public class MainViewModel extends ViewModel {
     public LiveData<Boolean> isNavigating() {
         return isNavigating;
     }
+
+    /**
+     * 모든 전시 지점({@link ExhibitionConstants#DEMO_PATH})까지의 보행 거리와 예상 시간
+     * 위치가 바뀔 때마다 갱신되며, 경로 탐색은 복도 위 위치의 노드가 바뀔 때만 한다.
+     */
+    public LiveData<List<ExhibitEta>> getExhibitEtas() {
+        return exhibitEtas;
+    }
+
+    private void updateExhibitEtas(LocationData location) {
+        if (location == null || !PathDataManager.isVenueLoaded()) return;
+
+        try {
+            RoutingProfile profile = PathDataManager.getRoutingProfile();
+            long version = PathDataManager.getSnapshotVersion();
+            if (exhibitDistances == null || exhibitProfile != profile || exhibitVersion != version) {
+                exhibitDistances = PathDataManager.newDistanceTracker(ExhibitionConstants.DEMO_PATH);
+                exhibitProfile = profile;
+                exhibitVersion = version;
+            }
+            if (!exhibitDistances.update(new LatLng(location.getLatitude(), location.getLongitude()))) {
+                return;
+            }
+
+            List<ExhibitEta> etas = new ArrayList<>(ExhibitionConstants.DEMO_PATH.length);
+            for (int i = 0; i < ExhibitionConstants.DEMO_PATH.length; i++) {
+                etas.add(new ExhibitEta(ExhibitionConstants.PATH_DESCRIPTIONS[i],
+                        ExhibitionConstants.DEMO_PATH[i], exhibitDistances.getDistance(i)));
+            }
+            exhibitEtas.setValue(Collections.unmodifiableList(etas));
+        } catch (IllegalStateException e) {
+            Log.e(TAG, "Error updating exhibit ETAs", e);
+        }
+    }
     // 지도 업데이트 관련 메서드 추가
     @SuppressLint("RestrictedApi")
     public void updateMapLocation(NaverMap naverMap, LocationOverlay locationOverlay, LocationData location) {
@@ -161,6 +207,7 @@ public class MainViewModel extends ViewModel {
 
     public void updateCurrentLocation(LocationData location) {
         currentLocation.setValue(location);
+        updateExhibitEtas(location);
     }
 
     public void updateEnvironment(EnvironmentType environment) {
@@ -179,5 +226,6 @@ public class MainViewModel extends ViewModel {
         Log.d(TAG, "Updating location and environment in ViewModel");
         currentLocation.setValue(location);
         currentEnvironment.setValue(location.getEnvironment());
+        updateExhibitEtas(location);
     }
 }
\ No newline at end of file
@@ -5,6 +5,11 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.MainThread;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -16,15 +21,20 @@ import com.example.navermapapi.beaconModule.internal.pdr.StepDetector;
 import com.example.navermapapi.beaconModule.internal.pdr.OrientationCalculator;
 import com.example.navermapapi.beaconModule.internal.beacon.BeaconScanner;
 import com.example.navermapapi.beaconModule.internal.positioning.PositionCalculator;
+import com.example.navermapapi.beaconModule.internal.positioning.RadioMap;
 import com.example.navermapapi.coreModule.api.location.model.LocationData;
 import com.example.navermapapi.coreModule.api.location.callback.LocationCallback;
 import com.example.navermapapi.coreModule.api.environment.model.EnvironmentType;
+import com.example.navermapapi.path.manager.MapMatcher;
+import com.example.navermapapi.path.manager.PathDataManager;
+import com.naver.maps.geometry.LatLng;
 
 @Singleton
 public class BeaconLocationProvider {
     private static final String TAG = "BeaconLocationProvider";
     private static final long MIN_UPDATE_INTERVAL = 100;
     private static final float BASE_ACCURACY = 1.0f;
+    private static final float STEP_ACCURACY_GROWTH = 0.1f;  // 걸음당 PDR 오차 증가 (미터)
     private static final double EARTH_RADIUS = 6371000;
 
     private final Context context;
@@ -45,6 +55,14 @@ public class BeaconLocationProvider {
     private double currentX;  // 상대 X 좌표 (미터)
     private double currentY;  // 상대 Y 좌표 (미터)
 
+    // 정확도 기준: 마지막 비콘 측위(없으면 초기 위치)의 정확도와 그때의 걸음 수
+    private float fixAccuracy = BASE_ACCURACY;
+    private int fixStepCount;
+
+    // 복도 지도 매칭 (시설 그래프가 있을 때만)
+    private MapMatcher mapMatcher;
+    private LatLng matchedPosition;
+
     @Inject
     public BeaconLocationProvider(@NonNull Context context) {
         this.context = context.getApplicationContext();
@@ -63,6 +81,7 @@ public class BeaconLocationProvider {
             this.orientationCalculator = new OrientationCalculator(context);
             this.beaconScanner = new BeaconScanner(context);
             this.positionCalculator = new PositionCalculator();
+            positionCalculator.setRadioMap(loadRadioMap());
 
             setupCallbacks();
             isInitialized = true;
@@ -74,6 +93,24 @@ public class BeaconLocationProvider {
         }
     }
 
+    /**
+     * 전파 지도 읽기 (assets에 없으면 삼변측량만 사용)
+     */
+    @Nullable
+    private RadioMap loadRadioMap() {
+        try (Reader reader = new InputStreamReader(
+                context.getAssets().open(RadioMap.DEFAULT_ASSET), StandardCharsets.UTF_8)) {
+            RadioMap radioMap = RadioMap.load(reader);
+            Log.d(TAG, "Loaded radio map: " + radioMap.size() + " points, " + radioMap.getDimension() + " beacons");
+            return radioMap;
+        } catch (FileNotFoundException e) {
+            Log.d(TAG, "No radio map, using trilateration only");
+        } catch (IOException e) {
+            Log.e(TAG, "Error loading radio map", e);
+        }
+        return null;
+    }
+
     private void setupCallbacks() {
         if (!isInitialized) {
             Log.w(TAG, "Cannot setup callbacks before initialization");
@@ -114,7 +151,8 @@ public class BeaconLocationProvider {
             if (isInitialized && beacons != null && !beacons.isEmpty()) {
                 double[] position = positionCalculator.calculatePosition(beacons);
                 if (position != null) {
-                    updatePositionWithBeacon(position[0], position[1]);
+                    updatePositionWithBeacon(position[0], position[1],
+                            positionCalculator.getLastAccuracy());
                 }
             }
         });
@@ -134,6 +172,7 @@ public class BeaconLocationProvider {
         // 상대 좌표 업데이트
         currentX += stepLength * Math.sin(angle);
         currentY += stepLength * Math.cos(angle);
+        matchToCorridor();
 
         lastLocation = calculateAbsoluteLocation();
         if (lastLocation != null) {
@@ -141,10 +180,13 @@ public class BeaconLocationProvider {
         }
     }
 
-    private void updatePositionWithBeacon(double x, double y) {
+    private void updatePositionWithBeacon(double x, double y, double accuracy) {
         double weight = 0.3; // 비콘 위치의 가중치
         currentX = (1 - weight) * currentX + weight * x;
         currentY = (1 - weight) * currentY + weight * y;
+        fixAccuracy = (float) accuracy;
+        fixStepCount = getStepCount();
+        matchToCorridor();
 
         lastLocation = calculateAbsoluteLocation();
         if (lastLocation != null) {
@@ -152,8 +194,24 @@ public class BeaconLocationProvider {
         }
     }
 
+    /**
+     * PDR 위치를 복도 그래프에 매칭 (벽을 통과하는 누적 오차 보정)
+     * 매칭기는 원래 PDR 궤적을 관측으로 받고, 매칭 결과는 표시 위치에만 사용한다.
+     */
+    private void matchToCorridor() {
+        LatLng raw = calculateRawPosition();
+        if (raw == null || !PathDataManager.isVenueLoaded()) {
+            matchedPosition = null;
+            return;
+        }
+        if (mapMatcher == null) {
+            mapMatcher = PathDataManager.newMapMatcher();
+        }
+        matchedPosition = mapMatcher.update(raw) ? mapMatcher.getMatchedPosition() : null;
+    }
+
     @Nullable
-    private LocationData calculateAbsoluteLocation() {
+    private LatLng calculateRawPosition() {
         if (initialLocation == null) return null;
 
         double lat = initialLocation.getLatitude();
@@ -163,11 +221,18 @@ public class BeaconLocationProvider {
         double dLat = Math.toDegrees(currentY / EARTH_RADIUS);
         double dLng = Math.toDegrees(currentX /
                 (EARTH_RADIUS * Math.cos(Math.toRadians(lat))));
+        return new LatLng(lat + dLat, lng + dLng);
+    }
+
+    @Nullable
+    private LocationData calculateAbsoluteLocation() {
+        LatLng position = matchedPosition != null ? matchedPosition : calculateRawPosition();
+        if (position == null) return null;
 
         float currentAzimuth = orientationCalculator != null ?
                 orientationCalculator.getCurrentAzimuth() : 0f;
 
-        return new LocationData.Builder(lat + dLat, lng + dLng)
+        return new LocationData.Builder(position.latitude, position.longitude)
                 .accuracy(calculateAccuracy())
                 .bearing(currentAzimuth)
                 .environment(EnvironmentType.INDOOR)
@@ -177,8 +242,17 @@ public class BeaconLocationProvider {
                 .build();
     }
 
+    /**
+     * 마지막 비콘 측위의 정확도 (삼변측량 공분산 또는 핑거프린트 이웃 분산)에
+     * 그 뒤 PDR 걸음마다 누적되는 오차를 더한 값 (미터)
+     */
     private float calculateAccuracy() {
-        return Math.min(BASE_ACCURACY + (getStepCount() * 0.1f), 10.0f);
+        return fixAccuracy + (getStepCount() - fixStepCount) * STEP_ACCURACY_GROWTH;
+    }
+
+    private void resetAccuracy() {
+        fixAccuracy = BASE_ACCURACY;
+        fixStepCount = getStepCount();
     }
 
     public void startTracking() {
@@ -223,6 +297,8 @@ public class BeaconLocationProvider {
     private void initializePosition() {
         currentX = 0;
         currentY = 0;
+        resetAccuracy();
+        resetMapMatching();
         lastUpdateTime = System.currentTimeMillis();
         lastLocation = initialLocation;
         notifyLocationChanged(initialLocation);
@@ -231,12 +307,20 @@ public class BeaconLocationProvider {
     private void resetTracking() {
         currentX = 0;
         currentY = 0;
+        resetAccuracy();
+        resetMapMatching();
         lastUpdateTime = 0;
         lastLocation = null;
 
         if (stepDetector != null) stepDetector.destroy();
         if (orientationCalculator != null) orientationCalculator.destroy();
         if (beaconScanner != null) beaconScanner.stopScanning();
+        if (positionCalculator != null) positionCalculator.reset();
+    }
+
+    private void resetMapMatching() {
+        if (mapMatcher != null) mapMatcher.reset();
+        matchedPosition = null;
     }
 
     public int getStepCount() {
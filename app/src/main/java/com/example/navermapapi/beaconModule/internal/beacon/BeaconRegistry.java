@@ -0,0 +1,268 @@
+package com.example.navermapapi.beaconModule.internal.beacon;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 시설에 설치된 비콘 목록 (측량된 로컬 좌표와 층)
+ * 스캔한 비콘을 MAC 주소 또는 (UUID, major, minor)로 찾아 좌표를 붙이는 데 쓴다.
+ *
+ * <p>불변이며 비콘 속성은 배열에 나누어 담는다. 두 키는 각각 정렬된 배열로 두고 이진 탐색하므로
+ * 수천 개 비콘에서도 조회가 O(log n)이고 조회 중 할당이 없다 (UUID 문자열 변환 제외).</p>
+ *
+ * <p>파일 형식 (assets/{@value #DEFAULT_ASSET}, 한 줄에 비콘 하나, '#'으로 시작하는 줄은 주석):</p>
+ * <pre>
+ * MAC,UUID,major,minor,measuredPower,x,y,color[,floor]
+ * C3:00:00:19:2F:46,fda50693-a4e2-4fb1-afcf-c6eb07647825,123,456,-59,-2.4,6.3,#0000FF
+ * </pre>
+ * x, y는 시설 로컬 좌표(미터), measuredPower는 1m 거리 RSSI, floor를 생략하면 0층이다.
+ */
+public final class BeaconRegistry {
+    public static final String DEFAULT_ASSET = "beacon_info.txt";
+    public static final BeaconRegistry EMPTY = new BeaconRegistry(new ArrayList<Entry>());
+
+    private final long[] macs;            // 오름차순
+    private final long[] uuidHigh;        // MAC 순서
+    private final long[] uuidLow;
+    private final int[] majorMinor;       // (major << 16) | minor
+    private final int[] measuredPower;
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] floors;
+    private final String[] colors;
+    private final int[] byIdentifier;     // (UUID, major, minor) 순으로 정렬한 비콘 번호 (식별자가 유일한 비콘만)
+
+    private BeaconRegistry(List<Entry> entries) {
+        int n = entries.size();
+        Entry[] sorted = entries.toArray(new Entry[n]);
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.mac, b.mac));
+
+        this.macs = new long[n];
+        this.uuidHigh = new long[n];
+        this.uuidLow = new long[n];
+        this.majorMinor = new int[n];
+        this.measuredPower = new int[n];
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.floors = new int[n];
+        this.colors = new String[n];
+        for (int i = 0; i < n; i++) {
+            Entry entry = sorted[i];
+            if (i > 0 && entry.mac == sorted[i - 1].mac) {
+                throw new IllegalArgumentException("Duplicate beacon: " + MacAddress.format(entry.mac));
+            }
+            macs[i] = entry.mac;
+            uuidHigh[i] = entry.uuidHigh;
+            uuidLow[i] = entry.uuidLow;
+            majorMinor[i] = entry.majorMinor;
+            measuredPower[i] = entry.measuredPower;
+            xs[i] = entry.x;
+            ys[i] = entry.y;
+            floors[i] = entry.floor;
+            colors[i] = entry.color;
+        }
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> compareIdentifier(a, uuidHigh[b], uuidLow[b], majorMinor[b]));
+        // 식별자가 겹치는 비콘은 어느 것인지 알 수 없으므로 식별자 색인에서 뺀다 (MAC으로만 찾음)
+        int[] unique = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; ) {
+            int j = i + 1;
+            while (j < n && compareIdentifier(order[j], uuidHigh[order[i]], uuidLow[order[i]], majorMinor[order[i]]) == 0) {
+                j++;
+            }
+            if (j == i + 1) {
+                unique[count++] = order[i];
+            }
+            i = j;
+        }
+        this.byIdentifier = Arrays.copyOf(unique, count);
+    }
+
+    /**
+     * 비콘 목록 파일 읽기
+     * @throws IOException 읽기 실패 또는 형식 오류 (줄 번호 포함)
+     */
+    @NonNull
+    public static BeaconRegistry load(@NonNull Reader reader) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);  // UTF-8 BOM
+            }
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            try {
+                entries.add(parseLine(line));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid beacon at line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        try {
+            return new BeaconRegistry(entries);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Entry parseLine(String line) {
+        String[] fields = line.split(",");
+        if (fields.length < 8 || fields.length > 9) {
+            throw new IllegalArgumentException("Expected 8 or 9 fields: " + line);
+        }
+        Entry entry = new Entry();
+        entry.mac = MacAddress.parse(fields[0].trim());
+        if (entry.mac == MacAddress.INVALID) {
+            throw new IllegalArgumentException("Bad MAC address: " + fields[0]);
+        }
+        UUID uuid = UUID.fromString(fields[1].trim());
+        entry.uuidHigh = uuid.getMostSignificantBits();
+        entry.uuidLow = uuid.getLeastSignificantBits();
+        entry.majorMinor = packMajorMinor(Integer.parseInt(fields[2].trim()), Integer.parseInt(fields[3].trim()));
+        entry.measuredPower = Integer.parseInt(fields[4].trim());
+        entry.x = Double.parseDouble(fields[5].trim());
+        entry.y = Double.parseDouble(fields[6].trim());
+        entry.color = fields[7].trim();
+        entry.floor = fields.length == 9 ? Integer.parseInt(fields[8].trim()) : 0;
+        return entry;
+    }
+
+    private static int packMajorMinor(int major, int minor) {
+        if (major < 0 || major > 0xFFFF || minor < 0 || minor > 0xFFFF) {
+            throw new IllegalArgumentException("major/minor out of range: " + major + "/" + minor);
+        }
+        return (major << 16) | minor;
+    }
+
+    /**
+     * MAC 주소로 비콘 번호 찾기
+     * @param mac {@link MacAddress#parse}로 압축한 주소
+     * @return 비콘 번호, 없으면 -1
+     */
+    public int indexOf(long mac) {
+        int index = Arrays.binarySearch(macs, mac);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * iBeacon 식별자로 비콘 번호 찾기 (MAC이 바뀌는 비콘용)
+     * @return 비콘 번호, 없거나 여러 비콘이 같은 식별자를 쓰거나 식별자 형식이 맞지 않으면 -1
+     */
+    public int indexOf(@Nullable String uuid, int major, int minor) {
+        if (uuid == null || major < 0 || major > 0xFFFF || minor < 0 || minor > 0xFFFF) return -1;
+        UUID parsed;
+        try {
+            parsed = UUID.fromString(uuid);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        long high = parsed.getMostSignificantBits();
+        long low = parsed.getLeastSignificantBits();
+        int key = (major << 16) | minor;
+        int lo = 0;
+        int hi = byIdentifier.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int compare = compareIdentifier(byIdentifier[mid], high, low, key);
+            if (compare < 0) {
+                lo = mid + 1;
+            } else if (compare > 0) {
+                hi = mid - 1;
+            } else {
+                return byIdentifier[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 스캔 결과의 비콘 번호 (MAC 우선, 없으면 iBeacon 식별자)
+     * @return 비콘 번호, 등록되지 않은 비콘이면 -1
+     */
+    public int find(long mac, @Nullable String uuid, int major, int minor) {
+        int index = mac != MacAddress.INVALID ? indexOf(mac) : -1;
+        return index >= 0 ? index : indexOf(uuid, major, minor);
+    }
+
+    private int compareIdentifier(int index, long high, long low, int key) {
+        int compare = Long.compare(uuidHigh[index], high);
+        if (compare != 0) return compare;
+        compare = Long.compare(uuidLow[index], low);
+        if (compare != 0) return compare;
+        return Integer.compare(majorMinor[index], key);
+    }
+
+    public int size() {
+        return macs.length;
+    }
+
+    public long getMac(int index) {
+        return macs[index];
+    }
+
+    public int getMajor(int index) {
+        return majorMinor[index] >>> 16;
+    }
+
+    public int getMinor(int index) {
+        return majorMinor[index] & 0xFFFF;
+    }
+
+    /**
+     * 1m 거리에서의 RSSI (dBm)
+     */
+    public int getMeasuredPower(int index) {
+        return measuredPower[index];
+    }
+
+    /**
+     * 로컬 x 좌표 (미터, 동쪽)
+     */
+    public double getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * 로컬 y 좌표 (미터, 북쪽)
+     */
+    public double getY(int index) {
+        return ys[index];
+    }
+
+    public int getFloor(int index) {
+        return floors[index];
+    }
+
+    public String getColor(int index) {
+        return colors[index];
+    }
+
+    // 파싱 중간 결과
+    private static final class Entry {
+        long mac;
+        long uuidHigh;
+        long uuidLow;
+        int majorMinor;
+        int measuredPower;
+        double x;
+        double y;
+        int floor;
+        String color;
+    }
+}
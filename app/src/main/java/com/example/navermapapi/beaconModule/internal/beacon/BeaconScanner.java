@@ -3,8 +3,13 @@ package com.example.navermapapi.beaconModule.internal.beacon;
 import android.content.Context;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -23,6 +28,8 @@ public class BeaconScanner {
     private final Handler mainHandler;
     private final List<BeaconScanCallback> callbacks;
     private final List<BeaconData> lastDetectedBeacons;
+    private final RssiFilterBank filterBank = new RssiFilterBank();
+    private final BeaconRegistry registry;
     private boolean isScanning = false;
 
     public BeaconScanner(@NonNull Context context) {
@@ -31,10 +38,23 @@ public class BeaconScanner {
         this.mainHandler = new Handler(Looper.getMainLooper());
         this.callbacks = new ArrayList<>();
         this.lastDetectedBeacons = new ArrayList<>();
+        this.registry = loadRegistry(this.context);
 
         initializeBeaconManager();
     }
 
+    private static BeaconRegistry loadRegistry(Context context) {
+        try (Reader reader = new InputStreamReader(
+                context.getAssets().open(BeaconRegistry.DEFAULT_ASSET), StandardCharsets.UTF_8)) {
+            BeaconRegistry registry = BeaconRegistry.load(reader);
+            Log.d(TAG, "Loaded " + registry.size() + " beacons");
+            return registry;
+        } catch (IOException e) {
+            Log.e(TAG, "Error loading beacon registry", e);
+            return BeaconRegistry.EMPTY;
+        }
+    }
+
     private void initializeBeaconManager() {
         // iBeacon 레이아웃 설정
         beaconManager.getBeaconParsers().add(new BeaconParser()
@@ -47,15 +67,36 @@ public class BeaconScanner {
         if (!isScanning) {
             beaconManager.addRangeNotifier((beacons, region) -> {
                 List<BeaconData> beaconDataList = new ArrayList<>();
-                for (Beacon beacon : beacons) {
-                    BeaconData data = new BeaconData.Builder()
-                            .setId(beacon.getBluetoothAddress())
-                            .setUuid(beacon.getId1().toString())
-                            .setMajor(beacon.getId2().toInt())
-                            .setMinor(beacon.getId3().toInt())
-                            .setRssi(beacon.getRssi())
-                            .build();
-                    beaconDataList.add(data);
+                long now = SystemClock.elapsedRealtime();
+                synchronized (filterBank) {
+                    for (Beacon beacon : beacons) {
+                        // 등록되지 않은 비콘은 필터와 위치 계산에 넣지 않음
+                        long mac = MacAddress.parse(beacon.getBluetoothAddress());
+                        String uuid = beacon.getId1().toString();
+                        int major = beacon.getId2().toInt();
+                        int minor = beacon.getId3().toInt();
+                        int index = registry.find(mac, uuid, major, minor);
+                        if (index < 0) continue;
+
+                        // 비콘별 필터로 평활화한 RSSI와 최근 원시 RSSI 분산을 함께 전달
+                        long key = registry.getMac(index);
+                        int rssi = (int) Math.round(filterBank.update(key, beacon.getRssi(), now));
+                        BeaconData data = new BeaconData.Builder()
+                                .setId(beacon.getBluetoothAddress())
+                                .setUuid(uuid)
+                                .setMajor(major)
+                                .setMinor(minor)
+                                .setRssi(rssi)
+                                .setRssiVariance(filterBank.getSpreadVariance(key))
+                                .setMeasuredPower(registry.getMeasuredPower(index))
+                                .setX(registry.getX(index))
+                                .setY(registry.getY(index))
+                                .setFloor(registry.getFloor(index))
+                                .setColor(registry.getColor(index))
+                                .build();
+                        beaconDataList.add(data);
+                    }
+                    filterBank.evictStale(now);
                 }
                 notifyBeaconsDetected(beaconDataList);
             });
@@ -76,6 +117,9 @@ public class BeaconScanner {
                 beaconManager.stopRangingBeacons(new Region("myRangingUniqueId", null, null, null));
                 isScanning = false;
                 lastDetectedBeacons.clear();
+                synchronized (filterBank) {
+                    filterBank.clear();
+                }
                 Log.d(TAG, "Beacon scanning stopped");
             } catch (Exception e) {
                 Log.e(TAG, "Error stopping beacon scanning", e);
@@ -0,0 +1,56 @@
+package com.example.navermapapi.beaconModule.internal.beacon;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * 48비트 MAC 주소를 long 하나로 다루는 유틸리티 ("C3:00:00:19:2F:4C" ↔ 0xC30000192F4CL)
+ * 문자열 대신 long을 키로 쓰면 비콘마다 해시/비교 비용과 박싱 할당이 없다.
+ */
+public final class MacAddress {
+    /** 잘못된 주소 (48비트 값과 겹치지 않음) */
+    public static final long INVALID = -1L;
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private MacAddress() {
+        // Utility class
+    }
+
+    /**
+     * "XX:XX:XX:XX:XX:XX" 형식(대소문자 무관, ':' 또는 '-' 구분) 주소를 48비트 값으로 변환
+     * @return 변환한 값, 형식이 맞지 않으면 {@link #INVALID}
+     */
+    public static long parse(@Nullable String address) {
+        if (address == null || address.length() != 17) {
+            return INVALID;
+        }
+        long value = 0;
+        for (int i = 0; i < 17; i++) {
+            char c = address.charAt(i);
+            if (i % 3 == 2) {
+                if (c != ':' && c != '-') return INVALID;
+                continue;
+            }
+            int digit = Character.digit(c, 16);
+            if (digit < 0) return INVALID;
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    /**
+     * 48비트 값을 "XX:XX:XX:XX:XX:XX" 형식으로 변환
+     */
+    @NonNull
+    public static String format(long mac) {
+        char[] chars = new char[17];
+        for (int i = 0; i < 6; i++) {
+            int octet = (int) (mac >>> (40 - 8 * i)) & 0xFF;
+            chars[i * 3] = HEX[octet >>> 4];
+            chars[i * 3 + 1] = HEX[octet & 0xF];
+            if (i < 5) chars[i * 3 + 2] = ':';
+        }
+        return new String(chars);
+    }
+}
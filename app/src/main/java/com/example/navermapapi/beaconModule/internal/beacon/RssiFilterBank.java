@@ -0,0 +1,302 @@
+package com.example.navermapapi.beaconModule.internal.beacon;
+
+import java.util.Arrays;
+
+/**
+ * 비콘별 RSSI 필터 묶음 (키: {@link MacAddress}로 압축한 48비트 MAC)
+ * 채널마다 최근 원시 RSSI 링 버퍼, 1차원 칼만 상태, 스캔 시각 기반 지수 감쇠 평균을 둔다.
+ * 칼만 필터의 과정 잡음은 마지막 수신 이후 경과 시간에 비례하고, 측정 잡음은 링 버퍼의 분산에서 얻는다.
+ *
+ * <p>채널 상태는 모두 채널 번호로 색인하는 기본형 배열에 있고, MAC → 채널 번호는 선형 탐사 해시 표로 찾으므로
+ * 갱신할 때 할당이 없다. 오래 수신되지 않은 채널은 {@link #evictStale}에서 지우고,
+ * 채널이 가득 차면 가장 오래전에 수신된 채널을 재사용하므로 메모리는 {@code maxChannels}로 제한된다.
+ * 스레드 안전하지 않다.</p>
+ */
+public final class RssiFilterBank {
+    public static final int DEFAULT_MAX_CHANNELS = 512;
+    public static final long DEFAULT_EVICT_AFTER_MILLIS = 15_000L;
+
+    private static final int RING_SIZE = 16;                    // 분산 추정용 최근 원시 값 수
+    private static final int MIN_SPREAD_SAMPLES = 3;
+    private static final double PROCESS_NOISE_PER_SECOND = 4.0; // 걷는 동안 RSSI 변화 (dB²/s)
+    private static final double MIN_MEASUREMENT_VARIANCE = 4.0;     // (2 dB)²
+    private static final double MAX_MEASUREMENT_VARIANCE = 100.0;   // (10 dB)²
+    private static final double DEFAULT_MEASUREMENT_VARIANCE = 16.0;  // 표본이 적을 때 (4 dB)²
+    private static final double DECAY_TIME_CONSTANT_MILLIS = 3000.0;
+    private static final int EMPTY = -1;
+
+    private final int maxChannels;
+    private final long evictAfterMillis;
+
+    // MAC → 채널 번호 (선형 탐사, 크기는 2의 거듭제곱)
+    private final long[] tableKeys;
+    private final int[] tableChannels;
+    private final int mask;
+
+    // 채널 상태
+    private final long[] macs;
+    private final boolean[] used;
+    private final byte[] ring;        // 채널 c의 값은 ring[c * RING_SIZE ...]
+    private final int[] ringCount;
+    private final int[] ringHead;
+    private final int[] ringSum;
+    private final int[] ringSumSquares;
+    private final double[] estimate;          // 칼만 추정값 (dBm)
+    private final double[] estimateVariance;  // 칼만 오차 분산 (dB²)
+    private final double[] decayedMean;       // 지수 감쇠 평균 (dBm)
+    private final double[] decayedWeight;
+    private final long[] lastHeard;           // 마지막 수신 시각 (ms)
+    private final int[] freeChannels;
+    private int freeCount;
+
+    public RssiFilterBank() {
+        this(DEFAULT_MAX_CHANNELS, DEFAULT_EVICT_AFTER_MILLIS);
+    }
+
+    /**
+     * @param maxChannels 동시에 유지할 최대 비콘 수
+     * @param evictAfterMillis 이 시간 동안 수신되지 않은 비콘은 지움
+     */
+    public RssiFilterBank(int maxChannels, long evictAfterMillis) {
+        if (maxChannels <= 0) {
+            throw new IllegalArgumentException("maxChannels must be positive: " + maxChannels);
+        }
+        if (evictAfterMillis <= 0) {
+            throw new IllegalArgumentException("evictAfterMillis must be positive: " + evictAfterMillis);
+        }
+        this.maxChannels = maxChannels;
+        this.evictAfterMillis = evictAfterMillis;
+
+        int tableSize = Integer.highestOneBit(Math.max(2, maxChannels * 2 - 1)) << 1;
+        this.tableKeys = new long[tableSize];
+        this.tableChannels = new int[tableSize];
+        this.mask = tableSize - 1;
+        Arrays.fill(tableChannels, EMPTY);
+
+        this.macs = new long[maxChannels];
+        this.used = new boolean[maxChannels];
+        this.ring = new byte[maxChannels * RING_SIZE];
+        this.ringCount = new int[maxChannels];
+        this.ringHead = new int[maxChannels];
+        this.ringSum = new int[maxChannels];
+        this.ringSumSquares = new int[maxChannels];
+        this.estimate = new double[maxChannels];
+        this.estimateVariance = new double[maxChannels];
+        this.decayedMean = new double[maxChannels];
+        this.decayedWeight = new double[maxChannels];
+        this.lastHeard = new long[maxChannels];
+        this.freeChannels = new int[maxChannels];
+        for (int i = 0; i < maxChannels; i++) {
+            freeChannels[i] = maxChannels - 1 - i;
+        }
+        this.freeCount = maxChannels;
+    }
+
+    /**
+     * 비콘 RSSI 측정값 반영
+     * @param mac {@link MacAddress#parse}로 압축한 주소
+     * @param rssi 원시 RSSI (dBm)
+     * @param timestampMillis 스캔 시각 (단조 증가 시계, 예: elapsedRealtime)
+     * @return 필터링된 RSSI (칼만 추정값)
+     */
+    public double update(long mac, int rssi, long timestampMillis) {
+        int value = Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, rssi));
+        int channel = find(mac);
+        if (channel == EMPTY) {
+            channel = allocate(mac, timestampMillis);
+            push(channel, value);
+            estimate[channel] = value;
+            estimateVariance[channel] = DEFAULT_MEASUREMENT_VARIANCE;
+            decayedMean[channel] = value;
+            decayedWeight[channel] = 1.0;
+            lastHeard[channel] = timestampMillis;
+            return value;
+        }
+
+        double elapsed = Math.max(0L, timestampMillis - lastHeard[channel]);
+        lastHeard[channel] = timestampMillis;
+        push(channel, value);
+
+        // 예측: 경과 시간만큼 불확실성 증가, 갱신: 측정 잡음은 최근 원시 값의 분산
+        double predicted = estimateVariance[channel] + PROCESS_NOISE_PER_SECOND * elapsed / 1000.0;
+        double measurementVariance = ringCount[channel] >= MIN_SPREAD_SAMPLES ?
+                Math.max(MIN_MEASUREMENT_VARIANCE, Math.min(MAX_MEASUREMENT_VARIANCE, spread(channel)))
+                : DEFAULT_MEASUREMENT_VARIANCE;
+        double gain = predicted / (predicted + measurementVariance);
+        estimate[channel] += gain * (value - estimate[channel]);
+        estimateVariance[channel] = (1 - gain) * predicted;
+
+        // 지수 감쇠 평균: 오래된 측정일수록 가중치가 exp(-경과 시간 / 시상수)로 줄어듦
+        double weight = decayedWeight[channel] * Math.exp(-elapsed / DECAY_TIME_CONSTANT_MILLIS) + 1.0;
+        decayedMean[channel] += (value - decayedMean[channel]) / weight;
+        decayedWeight[channel] = weight;
+        return estimate[channel];
+    }
+
+    /**
+     * evictAfterMillis 동안 수신되지 않은 비콘 제거
+     * @return 제거한 비콘 수
+     */
+    public int evictStale(long nowMillis) {
+        int evicted = 0;
+        for (int channel = 0; channel < maxChannels; channel++) {
+            if (used[channel] && nowMillis - lastHeard[channel] > evictAfterMillis) {
+                remove(channel);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public boolean contains(long mac) {
+        return find(mac) != EMPTY;
+    }
+
+    /**
+     * 필터링된 RSSI (dBm), 없는 비콘이면 NaN
+     */
+    public double getEstimate(long mac) {
+        int channel = find(mac);
+        return channel != EMPTY ? estimate[channel] : Double.NaN;
+    }
+
+    /**
+     * 필터링된 RSSI의 오차 분산 (dB²), 없는 비콘이면 NaN
+     */
+    public double getEstimateVariance(long mac) {
+        int channel = find(mac);
+        return channel != EMPTY ? estimateVariance[channel] : Double.NaN;
+    }
+
+    /**
+     * 최근 원시 RSSI의 표본 분산 (dB²), 표본이 3개 미만이거나 없는 비콘이면 NaN
+     */
+    public double getSpreadVariance(long mac) {
+        int channel = find(mac);
+        return channel != EMPTY && ringCount[channel] >= MIN_SPREAD_SAMPLES ? spread(channel) : Double.NaN;
+    }
+
+    /**
+     * 스캔 시각 기준 지수 감쇠 평균 (dBm), 없는 비콘이면 NaN
+     */
+    public double getDecayedMean(long mac) {
+        int channel = find(mac);
+        return channel != EMPTY ? decayedMean[channel] : Double.NaN;
+    }
+
+    /**
+     * 마지막 수신 시각 (ms), 없는 비콘이면 -1
+     */
+    public long getLastHeard(long mac) {
+        int channel = find(mac);
+        return channel != EMPTY ? lastHeard[channel] : -1L;
+    }
+
+    /**
+     * 현재 유지 중인 비콘 수
+     */
+    public int size() {
+        return maxChannels - freeCount;
+    }
+
+    public void clear() {
+        for (int channel = 0; channel < maxChannels; channel++) {
+            if (used[channel]) remove(channel);
+        }
+    }
+
+    private void push(int channel, int value) {
+        int base = channel * RING_SIZE;
+        if (ringCount[channel] == RING_SIZE) {
+            int old = ring[base + ringHead[channel]];
+            ringSum[channel] -= old;
+            ringSumSquares[channel] -= old * old;
+        } else {
+            ringCount[channel]++;
+        }
+        ring[base + ringHead[channel]] = (byte) value;
+        ringHead[channel] = (ringHead[channel] + 1) % RING_SIZE;
+        ringSum[channel] += value;
+        ringSumSquares[channel] += value * value;
+    }
+
+    // 링 버퍼 표본 분산 (정수 합으로 누적하므로 오차 없음)
+    private double spread(int channel) {
+        int n = ringCount[channel];
+        double mean = (double) ringSum[channel] / n;
+        return Math.max(0.0, (ringSumSquares[channel] - n * mean * mean) / (n - 1));
+    }
+
+    private int allocate(long mac, long timestampMillis) {
+        if (freeCount == 0 && evictStale(timestampMillis) == 0) {
+            // 모두 최근에 수신된 경우 가장 오래전에 수신된 채널을 재사용
+            int oldest = 0;
+            for (int channel = 1; channel < maxChannels; channel++) {
+                if (lastHeard[channel] < lastHeard[oldest]) oldest = channel;
+            }
+            remove(oldest);
+        }
+        int channel = freeChannels[--freeCount];
+        used[channel] = true;
+        macs[channel] = mac;
+        ringCount[channel] = 0;
+        ringHead[channel] = 0;
+        ringSum[channel] = 0;
+        ringSumSquares[channel] = 0;
+
+        int slot = slot(mac);
+        while (tableChannels[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        tableKeys[slot] = mac;
+        tableChannels[slot] = channel;
+        return channel;
+    }
+
+    private int find(long mac) {
+        int slot = slot(mac);
+        while (tableChannels[slot] != EMPTY) {
+            if (tableKeys[slot] == mac) return tableChannels[slot];
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * 채널 해제와 해시 표 항목 삭제 (뒤 항목을 당겨 탐사 사슬을 유지하는 backward shift)
+     */
+    private void remove(int channel) {
+        int slot = slot(macs[channel]);
+        while (tableChannels[slot] != channel) {
+            slot = (slot + 1) & mask;
+        }
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (tableChannels[next] != EMPTY) {
+            int home = slot(tableKeys[next]);
+            // next 항목의 원래 위치가 (hole, next] 구간 밖이면 hole로 옮겨도 탐색된다
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                tableKeys[hole] = tableKeys[next];
+                tableChannels[hole] = tableChannels[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        tableChannels[hole] = EMPTY;
+
+        used[channel] = false;
+        freeChannels[freeCount++] = channel;
+    }
+
+    private int slot(long mac) {
+        // MAC 하위 비트는 제조사별로 치우치므로 섞어서 사용 (MurmurHash3 fmix64)
+        long h = mac;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.navermapapi.beaconModule.internal.positioning;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.navermapapi.beaconModule.internal.beacon.MacAddress;
+import com.example.navermapapi.beaconModule.model.BeaconData;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RSSI 핑거프린트 측위 (전파 지도에서 가중 k-최근접 이웃 검색)
+ * 다중 경로로 거리 모델이 맞지 않는 실내에서 삼변측량 대신 쓴다.
+ *
+ * <p>쿼리와 기준점의 거리는 RSSI 벡터의 유클리드 거리(dB)이고, 가까운 k개 기준점을
+ * 1 / 거리로 가중 평균해 위치를 구한다. 검색은 두 단계로 가지친다.</p>
+ * <ul>
+ *   <li>볼 가지치기: 볼을 하한(쿼리~중심 거리 - 반지름) 순으로 방문하고, 하한이 현재 k번째
+ *       거리 이상이면 나머지 볼을 모두 건너뛴다.</li>
+ *   <li>부분 거리 조기 종료: 기준점 거리를 쿼리에서 강한 비콘 열부터 더해 가다가 k번째 거리를
+ *       넘으면 멈춘다. 강한 비콘이 가장 잘 구별하므로 대부분 몇 열 만에 끝난다.</li>
+ * </ul>
+ *
+ * <p>검색 중 할당이 없으며 스레드 안전하지 않다 (스캔 스레드 하나에서 사용).</p>
+ */
+public class FingerprintLocator {
+    public static final int DEFAULT_K = 4;
+    private static final int MIN_MATCHED_BEACONS = 2;
+    private static final double DISTANCE_EPSILON = 0.1;  // 거리가 0인 기준점의 가중치 상한 (dB)
+
+    private final RadioMap map;
+    private final int k;
+    private final FingerprintResult result = new FingerprintResult();
+
+    // 스캔마다 재사용하는 작업 배열
+    private final float[] query;
+    private final int[] columnOrder;       // 부분 거리 계산 순서 (강한 비콘 먼저)
+    private final boolean[] observed;
+    private final long[] ballOrder;        // (하한 비트 << 32) | 볼 번호
+    private final float[] nearestDistances; // 제곱 거리 오름차순
+    private final int[] nearestPoints;
+    private final double[] floorWeights;
+
+    public FingerprintLocator(@NonNull RadioMap map) {
+        this(map, DEFAULT_K);
+    }
+
+    public FingerprintLocator(@NonNull RadioMap map, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        this.map = map;
+        this.k = k;
+        int dimension = map.getDimension();
+        this.query = new float[dimension];
+        this.columnOrder = new int[dimension];
+        this.observed = new boolean[dimension];
+        this.ballOrder = new long[map.ballCount()];
+        this.nearestDistances = new float[k];
+        this.nearestPoints = new int[k];
+        this.floorWeights = new double[k];
+    }
+
+    @NonNull
+    public RadioMap getRadioMap() {
+        return map;
+    }
+
+    /**
+     * 비콘 스캔 결과로 위치 계산
+     * @return 결과 (다음 계산 전까지만 유효), 전파 지도에 있는 비콘이 {@value #MIN_MATCHED_BEACONS}개 미만이면 null
+     */
+    @Nullable
+    public FingerprintResult locate(@NonNull List<BeaconData> beacons) {
+        Arrays.fill(query, RadioMap.MISSING_RSSI);
+        int matched = 0;
+        for (int i = 0, n = beacons.size(); i < n; i++) {
+            BeaconData beacon = beacons.get(i);
+            int column = map.indexOf(MacAddress.parse(beacon.getId()));
+            if (column < 0) continue;
+            float rssi = Math.max(RadioMap.MISSING_RSSI, beacon.getRssi());
+            if (query[column] == RadioMap.MISSING_RSSI) matched++;
+            query[column] = Math.max(query[column], rssi);
+        }
+        if (matched < MIN_MATCHED_BEACONS) {
+            return null;
+        }
+        return search();
+    }
+
+    /**
+     * 열 순서 RSSI 벡터로 위치 계산 (보이지 않은 비콘은 {@link RadioMap#MISSING_RSSI})
+     * @return 결과 (다음 계산 전까지만 유효)
+     */
+    @NonNull
+    public FingerprintResult locate(@NonNull float[] rssi) {
+        if (rssi.length != query.length) {
+            throw new IllegalArgumentException("Expected " + query.length + " RSSI values, got " + rssi.length);
+        }
+        for (int c = 0; c < query.length; c++) {
+            query[c] = Float.isNaN(rssi[c]) ? RadioMap.MISSING_RSSI : Math.max(RadioMap.MISSING_RSSI, rssi[c]);
+        }
+        return search();
+    }
+
+    private FingerprintResult search() {
+        int dimension = query.length;
+        orderColumns();
+
+        // 볼 하한 계산 후 하한 순으로 정렬 (음이 아닌 float은 비트 순서가 값 순서와 같음)
+        float[] centers = map.ballCenters();
+        float[] radii = map.ballRadii();
+        int balls = ballOrder.length;
+        for (int b = 0; b < balls; b++) {
+            int center = b * dimension;
+            float sum = 0;
+            for (int c = 0; c < dimension; c++) {
+                float diff = query[c] - centers[center + c];
+                sum += diff * diff;
+            }
+            float bound = Math.max(0f, (float) Math.sqrt(sum) - radii[b]);
+            ballOrder[b] = ((long) Float.floatToIntBits(bound) << 32) | b;
+        }
+        Arrays.sort(ballOrder);
+
+        float[] matrix = map.rssiMatrix();
+        int[] ballStart = map.ballStart();
+        int found = 0;
+        float worst = Float.POSITIVE_INFINITY;
+        int visited = 0;
+        for (int i = 0; i < balls; i++) {
+            float bound = Float.intBitsToFloat((int) (ballOrder[i] >>> 32));
+            if (found == k && bound * bound >= worst) break;  // 나머지 볼은 하한이 더 큼
+
+            int ball = (int) ballOrder[i];
+            int end = ballStart[ball + 1];
+            for (int point = ballStart[ball]; point < end; point++) {
+                visited++;
+                int row = point * dimension;
+                float sum = 0;
+                int c = 0;
+                while (c < dimension) {
+                    float diff = query[columnOrder[c]] - matrix[row + columnOrder[c]];
+                    sum += diff * diff;
+                    c++;
+                    if (sum >= worst) break;
+                }
+                if (sum >= worst) continue;
+
+                // 오름차순 삽입
+                int slot = found < k ? found++ : k - 1;
+                while (slot > 0 && nearestDistances[slot - 1] > sum) {
+                    nearestDistances[slot] = nearestDistances[slot - 1];
+                    nearestPoints[slot] = nearestPoints[slot - 1];
+                    slot--;
+                }
+                nearestDistances[slot] = sum;
+                nearestPoints[slot] = point;
+                if (found == k) worst = nearestDistances[k - 1];
+            }
+        }
+
+        return combine(found, visited);
+    }
+
+    /**
+     * 보인 비콘을 RSSI 내림차순으로 앞에, 보이지 않은 비콘을 뒤에 둔다
+     */
+    private void orderColumns() {
+        int dimension = query.length;
+        int count = 0;
+        for (int c = 0; c < dimension; c++) {
+            observed[c] = query[c] > RadioMap.MISSING_RSSI;
+            if (!observed[c]) continue;
+            // 보인 비콘은 몇 개뿐이므로 삽입 정렬
+            int slot = count++;
+            while (slot > 0 && query[columnOrder[slot - 1]] < query[c]) {
+                columnOrder[slot] = columnOrder[slot - 1];
+                slot--;
+            }
+            columnOrder[slot] = c;
+        }
+        for (int c = 0; c < dimension; c++) {
+            if (!observed[c]) columnOrder[count++] = c;
+        }
+    }
+
+    /**
+     * 이웃 가중치가 가장 큰 층을 고르고 그 층 이웃만 가중 평균
+     */
+    private FingerprintResult combine(int found, int visited) {
+        for (int i = 0; i < found; i++) {
+            floorWeights[i] = 1.0 / (Math.sqrt(nearestDistances[i]) + DISTANCE_EPSILON);
+        }
+        int floor = map.getFloor(nearestPoints[0]);
+        double bestFloorWeight = 0;
+        for (int i = 0; i < found; i++) {
+            int candidate = map.getFloor(nearestPoints[i]);
+            double weight = 0;
+            for (int j = 0; j < found; j++) {
+                if (map.getFloor(nearestPoints[j]) == candidate) weight += floorWeights[j];
+            }
+            if (weight > bestFloorWeight) {
+                bestFloorWeight = weight;
+                floor = candidate;
+            }
+        }
+
+        double sumX = 0;
+        double sumY = 0;
+        double sumWeights = 0;
+        int neighbors = 0;
+        for (int i = 0; i < found; i++) {
+            int point = nearestPoints[i];
+            if (map.getFloor(point) != floor) continue;
+            sumX += floorWeights[i] * map.getX(point);
+            sumY += floorWeights[i] * map.getY(point);
+            sumWeights += floorWeights[i];
+            neighbors++;
+        }
+        double x = sumX / sumWeights;
+        double y = sumY / sumWeights;
+
+        double spread = 0;
+        for (int i = 0; i < found; i++) {
+            int point = nearestPoints[i];
+            if (map.getFloor(point) != floor) continue;
+            double dx = map.getX(point) - x;
+            double dy = map.getY(point) - y;
+            spread += floorWeights[i] * (dx * dx + dy * dy);
+        }
+        spread = Math.sqrt(spread / sumWeights);
+
+        result.set(x, y, floor, spread, Math.sqrt(nearestDistances[0]), neighbors, visited);
+        return result;
+    }
+}
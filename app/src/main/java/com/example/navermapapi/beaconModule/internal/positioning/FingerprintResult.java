@@ -0,0 +1,77 @@
+package com.example.navermapapi.beaconModule.internal.positioning;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 핑거프린트 측위 결과 (이웃 기준점의 가중 평균 위치, 층, 이웃 분산)
+ * {@link FingerprintLocator}가 재사용하는 객체이므로 다음 계산 전까지만 유효하다.
+ */
+public final class FingerprintResult {
+    private double x;
+    private double y;
+    private int floor;
+    private double spread;
+    private double nearestDistance;
+    private int neighborCount;
+    private int visitedPoints;
+
+    void set(double x, double y, int floor, double spread, double nearestDistance,
+             int neighborCount, int visitedPoints) {
+        this.x = x;
+        this.y = y;
+        this.floor = floor;
+        this.spread = spread;
+        this.nearestDistance = nearestDistance;
+        this.neighborCount = neighborCount;
+        this.visitedPoints = visitedPoints;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * 이웃 가중치 합이 가장 큰 층
+     */
+    public int getFloor() {
+        return floor;
+    }
+
+    /**
+     * 이웃 기준점이 결과 위치 주변에 퍼진 정도 (미터, 가중 RMS 거리)
+     * 이웃이 한 곳에 모이면 0에 가까우므로 기준점 간격보다 작으면 간격으로 보는 편이 안전하다.
+     */
+    public double getSpread() {
+        return spread;
+    }
+
+    /**
+     * 가장 가까운 기준점과의 RSSI 벡터 거리 (dB)
+     * 크면 전파 지도에 없는 곳이거나 신호 환경이 바뀐 것이다.
+     */
+    public double getNearestDistance() {
+        return nearestDistance;
+    }
+
+    public int getNeighborCount() {
+        return neighborCount;
+    }
+
+    /**
+     * 가지치기 후 거리 계산을 시작한 기준점 수 (전체 기준점 수와 비교하는 진단용)
+     */
+    public int getVisitedPoints() {
+        return visitedPoints;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format("FingerprintResult{(%.2f, %.2f), floor=%d, spread=%.2f, nearest=%.1f dB, k=%d, visited=%d}",
+                x, y, floor, spread, nearestDistance, neighborCount, visitedPoints);
+    }
+}
@@ -5,44 +5,173 @@ import java.util.List;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+/**
+ * 비콘 RSSI로 위치 계산
+ * 가중 모드에서는 로그 거리 모델의 오차 전파로 거리마다 분산을 구해 가중 최소제곱으로 풀고,
+ * 정확도는 결과 위치 공분산에서 얻는다.
+ * 거리는 비콘마다 등록된 1m RSSI(measuredPower)를 기준으로 구한다.
+ * 거리 분산 = (d · ln10 / (10n))² · σ², σ² = 모델 오차 분산 + 해당 비콘의 최근 RSSI 분산
+ * (최근 RSSI 분산은 스캐너의 비콘별 필터({@link BeaconData#getRssiVariance})에서 받는다)
+ * 전파 지도가 있으면 핑거프린트 측위({@link FingerprintLocator})를 먼저 쓰고, 지도에 있는 비콘이
+ * 부족할 때만 삼변측량으로 넘어간다.
+ */
 public class PositionCalculator {
     private static final double PATH_LOSS_EXPONENT = 2.0;
-    private static final int RSSI_AT_1M = -69;
     private static final int MIN_BEACONS_FOR_TRILATERATION = 3;
 
+    private static final double MODEL_RSSI_VARIANCE = 9.0;     // 경로 손실 모델 자체의 오차 (3 dB)²
+    private static final double DEFAULT_SPREAD_VARIANCE = 16.0;  // RSSI 분산을 모를 때 가정하는 값 (4 dB)²
+    private static final double MIN_RANGE_VARIANCE = 0.01;      // 아주 가까운 비콘의 가중치 상한 (0.1 m)²
+    private static final double RANGE_ERROR_FACTOR = Math.log(10) / (10 * PATH_LOSS_EXPONENT);
+    private static final double MIN_FINGERPRINT_ACCURACY = 1.0;  // 기준점 간격보다 정확하다고 하지 않음 (미터)
+
     private final TrilaterationCalculator trilaterationCalculator;
+    @Nullable
+    private FingerprintLocator fingerprintLocator;
+    private boolean weighted = true;
+
+    // 스캔마다 재사용하는 입력 배열 (비콘 수가 늘면 키움)
+    private double[] beaconXs = new double[8];
+    private double[] beaconYs = new double[8];
+    private double[] distances = new double[8];
+    private double[] weights = new double[8];
+
+    // 마지막 계산 결과 (해당 방식으로 계산하지 않았으면 null)
+    @Nullable
+    private TrilaterationResult lastResult;
+    @Nullable
+    private FingerprintResult lastFingerprint;
+    private double lastAccuracy = Double.MAX_VALUE;
 
     public PositionCalculator() {
         this.trilaterationCalculator = new TrilaterationCalculator();
     }
 
+    /**
+     * 비콘 스캔 결과로 위치 계산 (스캔당 삼변측량 한 번)
+     * 정확도는 같은 계산에서 함께 구해 {@link #getLastAccuracy()}로 얻는다.
+     */
     @Nullable
     public double[] calculatePosition(@NonNull List<BeaconData> beacons) {
+        lastResult = null;
+        lastFingerprint = null;
+        lastAccuracy = Double.MAX_VALUE;
         if (beacons.isEmpty()) {
             return null;
         }
 
-        // 3개 이상의 비콘이 있으면 삼변측량 사용
-        if (beacons.size() >= MIN_BEACONS_FOR_TRILATERATION) {
-            double[][] beaconPositions = new double[beacons.size()][2];
-            double[] distances = new double[beacons.size()];
-
-            for (int i = 0; i < beacons.size(); i++) {
-                BeaconData beacon = beacons.get(i);
-                beaconPositions[i] = new double[]{beacon.getX(), beacon.getY()};
-                distances[i] = calculateDistance(beacon.getRssi());
+        // 전파 지도가 있으면 핑거프린트 측위 우선
+        if (fingerprintLocator != null) {
+            FingerprintResult fingerprint = fingerprintLocator.locate(beacons);
+            if (fingerprint != null) {
+                lastFingerprint = fingerprint;
+                lastAccuracy = Math.max(MIN_FINGERPRINT_ACCURACY, fingerprint.getSpread());
+                return new double[]{fingerprint.getX(), fingerprint.getY()};
             }
+        }
+
+        int count = beacons.size();
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            BeaconData beacon = beacons.get(i);
+            beaconXs[i] = beacon.getX();
+            beaconYs[i] = beacon.getY();
+            distances[i] = calculateDistance(beacon.getRssi(), beacon.getMeasuredPower());
+            double spread = beacon.getRssiVariance();
+            double rssiVariance = MODEL_RSSI_VARIANCE + (Double.isNaN(spread) ? DEFAULT_SPREAD_VARIANCE : spread);
+            weights[i] = 1.0 / calculateDistanceVariance(distances[i], rssiVariance);
+        }
 
-            try {
-                return trilaterationCalculator.calculatePosition(beaconPositions, distances);
-            } catch (Exception e) {
-                // 삼변측량 실패 시 가중 평균 방식으로 폴백
-                return calculateWeightedAveragePosition(beacons);
+        // 3개 이상의 비콘이 있으면 삼변측량 사용
+        if (count >= MIN_BEACONS_FOR_TRILATERATION) {
+            TrilaterationResult result = trilaterationCalculator.solve(
+                    beaconXs, beaconYs, distances, weighted ? weights : null, count);
+            if (result.isValid()) {
+                lastResult = result;
+                double accuracy = result.getHorizontalAccuracy();
+                // 비콘이 일직선이라 공분산이 없으면 비콘 거리로 추정
+                lastAccuracy = Double.isInfinite(accuracy) ? calculateRangeAccuracy(count) : accuracy;
+                return new double[]{result.getX(), result.getY()};
             }
+            // 삼변측량 실패 시 가중 평균 방식으로 폴백
         }
 
         // 비콘이 3개 미만이면 가중 평균 방식 사용
-        return calculateWeightedAveragePosition(beacons);
+        double[] position = calculateWeightedAveragePosition(beacons);
+        if (position != null) {
+            lastAccuracy = calculateRangeAccuracy(count);
+        }
+        return position;
+    }
+
+    /**
+     * 가중 최소제곱 사용 여부 (기본 true, false면 모든 거리를 같은 신뢰도로 취급)
+     */
+    public void setWeighted(boolean weighted) {
+        this.weighted = weighted;
+    }
+
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    /**
+     * 핑거프린트 측위에 쓸 전파 지도 (null이면 삼변측량만 사용)
+     */
+    public void setRadioMap(@Nullable RadioMap radioMap) {
+        this.fingerprintLocator = radioMap != null ? new FingerprintLocator(radioMap) : null;
+    }
+
+    /**
+     * 거리 추정값의 분산 (m²)
+     * 로그 거리 모델에서 RSSI 오차 σ(dB)는 거리에 곱으로 작용하므로 거리 오차는 거리에 비례해 커진다.
+     * @param rssiVariance RSSI 분산 (dB²)
+     */
+    public static double calculateDistanceVariance(double distance, double rssiVariance) {
+        double scale = distance * RANGE_ERROR_FACTOR;
+        return Math.max(MIN_RANGE_VARIANCE, scale * scale * rssiVariance);
+    }
+
+    /**
+     * 마지막 {@link #calculatePosition} 결과의 정확도 (미터, 위치가 없었으면 Double.MAX_VALUE)
+     */
+    public double getLastAccuracy() {
+        return lastAccuracy;
+    }
+
+    /**
+     * 마지막 삼변측량 결과 (다른 방식으로 계산했으면 null, 다음 계산 전까지만 유효)
+     */
+    @Nullable
+    public TrilaterationResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * 마지막 핑거프린트 측위 결과 (다른 방식으로 계산했으면 null, 다음 계산 전까지만 유효)
+     */
+    @Nullable
+    public FingerprintResult getLastFingerprint() {
+        return lastFingerprint;
+    }
+
+    /**
+     * 직전 위치를 잊음 (추적을 다시 시작할 때)
+     */
+    public void reset() {
+        trilaterationCalculator.reset();
+        lastResult = null;
+        lastFingerprint = null;
+        lastAccuracy = Double.MAX_VALUE;
+    }
+
+    private void ensureCapacity(int count) {
+        if (beaconXs.length >= count) return;
+        int capacity = Math.max(count, beaconXs.length * 2);
+        beaconXs = new double[capacity];
+        beaconYs = new double[capacity];
+        distances = new double[capacity];
+        weights = new double[capacity];
     }
 
     private double[] calculateWeightedAveragePosition(List<BeaconData> beacons) {
@@ -52,7 +181,7 @@ public class PositionCalculator {
         double sumWeights = 0;
 
         for (BeaconData beacon : beacons) {
-            double distance = calculateDistance(beacon.getRssi());
+            double distance = calculateDistance(beacon.getRssi(), beacon.getMeasuredPower());
             double weight = 1.0 / (distance * distance);
 
             sumX += beacon.getX() * weight;
@@ -69,40 +198,25 @@ public class PositionCalculator {
         return null;
     }
 
-    public double calculateDistance(int rssi) {
-        return Math.pow(10, ((double)(RSSI_AT_1M - rssi)) / (10 * PATH_LOSS_EXPONENT));
+    /**
+     * 로그 거리 모델로 RSSI를 거리로 변환
+     * @param measuredPower 비콘의 1m 거리 RSSI ({@link BeaconData#getMeasuredPower})
+     */
+    public double calculateDistance(int rssi, int measuredPower) {
+        return Math.pow(10, ((double)(measuredPower - rssi)) / (10 * PATH_LOSS_EXPONENT));
     }
 
-    public double calculateAccuracy(@NonNull List<BeaconData> beacons) {
-        if (beacons.isEmpty()) {
-            return Double.MAX_VALUE;
-        }
-
-        double[] position = calculatePosition(beacons);
-        if (position == null) {
-            return Double.MAX_VALUE;
-        }
-
-        if (beacons.size() >= MIN_BEACONS_FOR_TRILATERATION) {
-            double[][] beaconPositions = new double[beacons.size()][2];
-            double[] distances = new double[beacons.size()];
-
-            for (int i = 0; i < beacons.size(); i++) {
-                BeaconData beacon = beacons.get(i);
-                beaconPositions[i] = new double[]{beacon.getX(), beacon.getY()};
-                distances[i] = calculateDistance(beacon.getRssi());
-            }
-
-            return trilaterationCalculator.calculateAccuracy(position, beaconPositions, distances);
-        }
-
-        // 가중 평균 방식일 때의 정확도 계산
-        double sumAccuracy = 0;
-        for (BeaconData beacon : beacons) {
-            double distance = calculateDistance(beacon.getRssi());
-            sumAccuracy += 1.0 / distance;
+    /**
+     * 공분산이 없을 때의 정확도 (미터)
+     * 위치는 비콘마다 거리 원 위에 있으므로, 가중치로 평균한 (거리² + 거리 분산)의 제곱근으로 잡는다.
+     */
+    private double calculateRangeAccuracy(int count) {
+        double sum = 0;
+        double sumWeights = 0;
+        for (int i = 0; i < count; i++) {
+            sum += weights[i] * (distances[i] * distances[i] + 1.0 / weights[i]);
+            sumWeights += weights[i];
         }
-
-        return Math.min(10.0, 1.0 / (sumAccuracy / beacons.size()));
+        return Math.sqrt(sum / sumWeights);
     }
 }
\ No newline at end of file
@@ -0,0 +1,341 @@
+package com.example.navermapapi.beaconModule.internal.positioning;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.beaconModule.internal.beacon.MacAddress;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 핑거프린트 측위용 전파 지도 (기준점마다 측정한 비콘 RSSI 벡터)
+ * {@link FingerprintLocator}가 검색한다.
+ *
+ * <p>RSSI는 기준점 × 비콘 크기의 float 행렬 하나에 행 우선으로 담고, 비콘 MAC → 열 번호는
+ * 정렬된 MAC 배열의 이진 탐색으로 찾는다. 보이지 않은 비콘은 {@link #MISSING_RSSI}로 채운다.</p>
+ *
+ * <p>가지치기용으로 기준점을 같은 층의 가까운 격자 칸끼리 묶어(볼) 행을 볼 순서로 재배치하고,
+ * 볼마다 RSSI 공간의 중심과 반지름을 저장한다. 공간적으로 가까운 기준점은 RSSI도 비슷하므로
+ * 볼이 작고, 쿼리와 볼 중심의 거리 - 반지름이 볼 안 모든 기준점 거리의 하한이 된다.</p>
+ *
+ * <p>파일 형식 (assets/{@value #DEFAULT_ASSET}, '#'으로 시작하는 줄은 주석, 빈 칸은 보이지 않은 비콘):</p>
+ * <pre>
+ * x,y,floor,C3:00:00:19:2F:46,C3:00:00:19:2F:47
+ * 0.0,0.0,0,-61,-78
+ * 1.5,0.0,0,-64,
+ * </pre>
+ */
+public final class RadioMap {
+    public static final String DEFAULT_ASSET = "radio_map.txt";
+
+    /** 보이지 않은 비콘의 RSSI (dBm) */
+    public static final float MISSING_RSSI = -100f;
+
+    // 볼 하나에 담을 기준점 수 (격자 칸 크기를 정하는 목표값)
+    private static final int TARGET_BALL_SIZE = 48;
+    private static final long CELL_MASK = 0xFFFFFF;  // 격자 칸 번호 한 축 (24비트)
+
+    private final long[] beacons;        // 열 번호 순 MAC (오름차순)
+    private final int dimension;
+    private final int pointCount;
+    private final float[] rssi;          // [기준점 * dimension + 열], 볼 순서
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] floors;
+
+    private final int[] ballStart;       // 볼 i의 기준점은 [ballStart[i], ballStart[i + 1])
+    private final float[] ballCenters;   // [볼 * dimension + 열]
+    private final float[] ballRadii;
+
+    private RadioMap(long[] beacons, List<Point> points) {
+        this.beacons = beacons;
+        this.dimension = beacons.length;
+        this.pointCount = points.size();
+        this.rssi = new float[pointCount * dimension];
+        this.xs = new double[pointCount];
+        this.ys = new double[pointCount];
+        this.floors = new int[pointCount];
+
+        // 같은 (층, 격자 칸)의 기준점이 붙어 있도록 정렬
+        Point[] sorted = points.toArray(new Point[pointCount]);
+        assignCells(sorted);
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.cell, b.cell));
+
+        int balls = 0;
+        for (int i = 0; i < pointCount; i++) {
+            if (i == 0 || sorted[i].cell != sorted[i - 1].cell) balls++;
+        }
+        this.ballStart = new int[balls + 1];
+        this.ballCenters = new float[balls * dimension];
+        this.ballRadii = new float[balls];
+
+        int ball = -1;
+        for (int i = 0; i < pointCount; i++) {
+            Point point = sorted[i];
+            if (i == 0 || point.cell != sorted[i - 1].cell) {
+                ballStart[++ball] = i;
+            }
+            System.arraycopy(point.rssi, 0, rssi, i * dimension, dimension);
+            xs[i] = point.x;
+            ys[i] = point.y;
+            floors[i] = point.floor;
+        }
+        ballStart[balls] = pointCount;
+
+        for (int b = 0; b < balls; b++) {
+            buildBall(b);
+        }
+    }
+
+    /**
+     * 층마다 기준점이 칸당 평균 {@link #TARGET_BALL_SIZE}개가 되도록 정사각 격자 칸 번호를 매김
+     */
+    private static void assignCells(Point[] points) {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (Point point : points) {
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+        }
+        double perCell = (double) TARGET_BALL_SIZE / Math.max(1, points.length);
+        double longer = Math.max(maxX - minX, maxY - minY);
+        // 기준점이 한 줄(복도)에 늘어서 면적이 0에 가까우면 면적 기준 칸이 너무 작아지므로,
+        // 긴 변을 따라 칸당 목표 개수가 되는 크기보다 작아지지 않게 함
+        double cellSize = Math.max(Math.sqrt((maxX - minX) * (maxY - minY) * perCell), longer * perCell);
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) cellSize = 1;
+        for (Point point : points) {
+            long cellX = Math.min(CELL_MASK, (long) ((point.x - minX) / cellSize));
+            long cellY = Math.min(CELL_MASK, (long) ((point.y - minY) / cellSize));
+            // 층 16비트, x 24비트, y 24비트
+            point.cell = ((long) (point.floor & 0xFFFF) << 48) | (cellX << 24) | cellY;
+        }
+    }
+
+    private void buildBall(int ball) {
+        int start = ballStart[ball];
+        int end = ballStart[ball + 1];
+        int center = ball * dimension;
+        for (int p = start; p < end; p++) {
+            int row = p * dimension;
+            for (int c = 0; c < dimension; c++) {
+                ballCenters[center + c] += rssi[row + c];
+            }
+        }
+        for (int c = 0; c < dimension; c++) {
+            ballCenters[center + c] /= (end - start);
+        }
+        float radius = 0;
+        for (int p = start; p < end; p++) {
+            int row = p * dimension;
+            float sum = 0;
+            for (int c = 0; c < dimension; c++) {
+                float diff = rssi[row + c] - ballCenters[center + c];
+                sum += diff * diff;
+            }
+            radius = Math.max(radius, (float) Math.sqrt(sum));
+        }
+        // float 반올림으로 하한이 실제 거리보다 커지지 않도록 약간 키움
+        ballRadii[ball] = radius * 1.0001f + 1e-3f;
+    }
+
+    /**
+     * 전파 지도 파일 읽기
+     * @throws IOException 읽기 실패 또는 형식 오류 (줄 번호 포함)
+     */
+    @NonNull
+    public static RadioMap load(@NonNull Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        Builder builder = null;
+        float[] values = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);  // UTF-8 BOM
+            }
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] fields = line.split(",", -1);
+            try {
+                if (builder == null) {
+                    builder = parseHeader(fields);
+                    values = new float[fields.length - 3];
+                    continue;
+                }
+                if (fields.length != values.length + 3) {
+                    throw new IllegalArgumentException("Expected " + (values.length + 3) + " fields, got " + fields.length);
+                }
+                for (int c = 0; c < values.length; c++) {
+                    String field = fields[c + 3].trim();
+                    values[c] = field.isEmpty() ? MISSING_RSSI : Float.parseFloat(field);
+                }
+                builder.addPoint(Double.parseDouble(fields[0].trim()), Double.parseDouble(fields[1].trim()),
+                        Integer.parseInt(fields[2].trim()), values);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid radio map at line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        if (builder == null) {
+            throw new IOException("Radio map has no header");
+        }
+        try {
+            return builder.build();
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Builder parseHeader(String[] fields) {
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("Header needs x,y,floor and at least one beacon");
+        }
+        long[] macs = new long[fields.length - 3];
+        for (int c = 0; c < macs.length; c++) {
+            macs[c] = MacAddress.parse(fields[c + 3].trim());
+            if (macs[c] == MacAddress.INVALID) {
+                throw new IllegalArgumentException("Bad MAC address: " + fields[c + 3]);
+            }
+        }
+        return new Builder(macs);
+    }
+
+    /**
+     * 비콘의 열 번호
+     * @param mac {@link MacAddress#parse}로 압축한 주소
+     * @return 열 번호, 지도에 없는 비콘이면 -1
+     */
+    public int indexOf(long mac) {
+        int index = Arrays.binarySearch(beacons, mac);
+        return index >= 0 ? index : -1;
+    }
+
+    public long getBeacon(int column) {
+        return beacons[column];
+    }
+
+    /** 비콘 수 (RSSI 벡터 차원) */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /** 기준점 수 */
+    public int size() {
+        return pointCount;
+    }
+
+    public double getX(int point) {
+        return xs[point];
+    }
+
+    public double getY(int point) {
+        return ys[point];
+    }
+
+    public int getFloor(int point) {
+        return floors[point];
+    }
+
+    public float getRssi(int point, int column) {
+        return rssi[point * dimension + column];
+    }
+
+    // FingerprintLocator가 직접 읽는 배열
+
+    float[] rssiMatrix() {
+        return rssi;
+    }
+
+    int ballCount() {
+        return ballRadii.length;
+    }
+
+    int[] ballStart() {
+        return ballStart;
+    }
+
+    float[] ballCenters() {
+        return ballCenters;
+    }
+
+    float[] ballRadii() {
+        return ballRadii;
+    }
+
+    /**
+     * 기준점을 하나씩 추가해 전파 지도를 만듦 (기준점 순서는 보존되지 않음)
+     */
+    public static class Builder {
+        private final long[] beacons;
+        private final int[] columns;   // 입력 열 → 정렬된 열
+        private final List<Point> points = new ArrayList<>();
+
+        /**
+         * @param beacons 입력 RSSI 벡터의 열 순서대로 나열한 비콘 MAC
+         */
+        public Builder(@NonNull long[] beacons) {
+            int n = beacons.length;
+            if (n == 0) {
+                throw new IllegalArgumentException("Radio map needs at least one beacon");
+            }
+            this.beacons = beacons.clone();
+            Arrays.sort(this.beacons);
+            for (int i = 1; i < n; i++) {
+                if (this.beacons[i] == this.beacons[i - 1]) {
+                    throw new IllegalArgumentException("Duplicate beacon: " + MacAddress.format(this.beacons[i]));
+                }
+            }
+            this.columns = new int[n];
+            for (int i = 0; i < n; i++) {
+                columns[i] = Arrays.binarySearch(this.beacons, beacons[i]);
+            }
+        }
+
+        /**
+         * @param rssi 생성자에 준 비콘 순서의 RSSI (dBm, 보이지 않으면 {@link #MISSING_RSSI} 또는 NaN)
+         */
+        public Builder addPoint(double x, double y, int floor, @NonNull float[] rssi) {
+            if (rssi.length != columns.length) {
+                throw new IllegalArgumentException("Expected " + columns.length + " RSSI values, got " + rssi.length);
+            }
+            if (Double.isNaN(x) || Double.isInfinite(x) || Double.isNaN(y) || Double.isInfinite(y)) {
+                throw new IllegalArgumentException("Invalid position: (" + x + ", " + y + ")");
+            }
+            Point point = new Point();
+            point.x = x;
+            point.y = y;
+            point.floor = floor;
+            point.rssi = new float[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                float value = rssi[i];
+                point.rssi[columns[i]] = Float.isNaN(value) ? MISSING_RSSI : Math.max(MISSING_RSSI, value);
+            }
+            points.add(point);
+            return this;
+        }
+
+        public RadioMap build() {
+            if (points.isEmpty()) {
+                throw new IllegalStateException("Radio map has no reference points");
+            }
+            return new RadioMap(beacons, points);
+        }
+    }
+
+    // 빌드 중 기준점
+    private static final class Point {
+        double x;
+        double y;
+        int floor;
+        float[] rssi;
+        long cell;
+    }
+}
@@ -1,104 +1,206 @@
 package com.example.navermapapi.beaconModule.internal.positioning;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Levenberg-Marquardt 삼변측량 (2차원)
+ * 정규 방정식이 2×2라 행렬을 만들지 않고 누적값 다섯 개로 풀며, 결과 객체도 재사용하므로 계산 중 할당이 없다.
+ * 직전 위치가 있으면 비콘 중심점과 비교해 잔차가 더 작은 쪽에서 시작한다 (warm start).
+ * 거리마다 분산을 알면 가중치(1/분산)를 넘겨 가중 최소제곱으로 풀 수 있다.
+ * 인스턴스는 스캐너 하나가 쓰는 작업 공간이며 스레드 안전하지 않다.
+ */
 public class TrilaterationCalculator {
-    private static final int MAX_ITERATIONS = 100;
-    private static final double CONVERGENCE_THRESHOLD = 0.001;
+    private static final int MAX_ITERATIONS = 20;
+    private static final double CONVERGENCE_THRESHOLD = 0.001;  // 위치 변화 (미터)
+    private static final double INITIAL_DAMPING = 1e-3;
+    private static final double MIN_DAMPING = 1e-9;
+    private static final double MAX_DAMPING = 1e9;
+    private static final double MIN_DIAGONAL = 1e-6;    // 한 축의 정보가 없어도 감쇠가 작동하도록
+    private static final double MIN_DISTANCE = 1e-9;    // 비콘과 겹친 점은 방향을 정할 수 없음
+    private static final double SINGULAR_RATIO = 1e-10;  // det / 대각 곱이 이보다 작으면 특이 행렬로 봄 (가중치 크기와 무관)
+
+    private final TrilaterationResult result = new TrilaterationResult();
+    private boolean hasPrevious;
+    private double previousX;
+    private double previousY;
+
+    // 마지막으로 평가한 점의 정규 방정식 (JᵀJ, Jᵀr)
+    private double jtj00;
+    private double jtj01;
+    private double jtj11;
+    private double jtr0;
+    private double jtr1;
+    private double unweightedSum;   // 가중치 없는 잔차 제곱합 (RMS 보고용)
+
+    /**
+     * 비콘 위치와 추정 거리로 위치 계산 (모든 거리를 같은 신뢰도로 취급)
+     * @see #solve(double[], double[], double[], double[], int)
+     */
+    @NonNull
+    public TrilaterationResult solve(@NonNull double[] xs, @NonNull double[] ys,
+                                     @NonNull double[] ranges, int count) {
+        return solve(xs, ys, ranges, null, count);
+    }
 
-    public static double[] calculatePosition(double[][] beaconPositions, double[] distances) {
-        if (beaconPositions.length < 3 || distances.length < 3) {
+    /**
+     * 비콘 위치와 추정 거리로 위치 계산
+     * 가중치가 있으면 공분산은 (JᵀWJ)⁻¹이고, 잔차가 분산보다 크게 나오면(χ²/자유도 > 1) 그 비율만큼 키운다.
+     * 가중치가 없으면 잔차로 추정한 분산 σ²로 σ²(JᵀJ)⁻¹을 쓴다.
+     * @param xs 비콘 x 좌표 (미터)
+     * @param ys 비콘 y 좌표 (미터)
+     * @param ranges 비콘까지 추정 거리 (미터)
+     * @param weights 거리 가중치 (1 / 거리 분산(m²)), null이면 모두 1
+     * @param count 사용할 비콘 수 (배열 앞부분)
+     * @return 재사용되는 결과 객체 (다음 호출 전까지 유효)
+     * @throws IllegalArgumentException 비콘이 3개 미만인 경우
+     */
+    @NonNull
+    public TrilaterationResult solve(@NonNull double[] xs, @NonNull double[] ys,
+                                     @NonNull double[] ranges, @Nullable double[] weights, int count) {
+        if (count < 3) {
             throw new IllegalArgumentException("At least 3 beacons are required for trilateration");
         }
 
-        // 초기 추정 위치 (비콘들의 중심점)
-        double[] initialGuess = calculateInitialGuess(beaconPositions);
-        double[] position = initialGuess.clone();
-
-        // Gauss-Newton 알고리즘을 사용한 위치 최적화
-        for (int i = 0; i < MAX_ITERATIONS; i++) {
-            // Jacobian 행렬과 잔차 벡터 계산
-            double[][] jacobian = new double[beaconPositions.length][2];
-            double[] residuals = new double[beaconPositions.length];
-
-            for (int j = 0; j < beaconPositions.length; j++) {
-                double dx = position[0] - beaconPositions[j][0];
-                double dy = position[1] - beaconPositions[j][1];
-                double distance = Math.sqrt(dx * dx + dy * dy);
-
-                // Jacobian 행렬 업데이트
-                jacobian[j][0] = dx / distance;
-                jacobian[j][1] = dy / distance;
-
-                // 잔차 벡터 업데이트
-                residuals[j] = distance - distances[j];
-            }
-
-            // 정규 방정식 해결
-            double[] delta = solveNormalEquation(jacobian, residuals);
-
-            // 위치 업데이트
-            position[0] -= delta[0];
-            position[1] -= delta[1];
-
-            // 수렴 확인
-            if (Math.abs(delta[0]) < CONVERGENCE_THRESHOLD &&
-                    Math.abs(delta[1]) < CONVERGENCE_THRESHOLD) {
-                break;
-            }
-        }
-
-        return position;
-    }
-
-    private static double[] calculateInitialGuess(double[][] beaconPositions) {
+        // 시작점: 비콘 중심점과 직전 위치 중 잔차가 작은 쪽
         double sumX = 0;
         double sumY = 0;
-        for (double[] position : beaconPositions) {
-            sumX += position[0];
-            sumY += position[1];
+        for (int i = 0; i < count; i++) {
+            sumX += xs[i];
+            sumY += ys[i];
+        }
+        double x = sumX / count;
+        double y = sumY / count;
+        double cost = evaluate(xs, ys, ranges, weights, count, x, y);
+        if (hasPrevious) {
+            double previousCost = evaluate(xs, ys, ranges, weights, count, previousX, previousY);
+            if (previousCost < cost) {
+                x = previousX;
+                y = previousY;
+                cost = previousCost;
+            } else {
+                evaluate(xs, ys, ranges, weights, count, x, y);
+            }
         }
-        return new double[] {
-                sumX / beaconPositions.length,
-                sumY / beaconPositions.length
-        };
-    }
-
-    private static double[] solveNormalEquation(double[][] jacobian, double[] residuals) {
-        double[][] JTJ = new double[2][2];
-        double[] JTr = new double[2];
 
-        // JᵀJ 계산
-        for (int i = 0; i < jacobian.length; i++) {
-            for (int j = 0; j < 2; j++) {
-                for (int k = 0; k < 2; k++) {
-                    JTJ[j][k] += jacobian[i][j] * jacobian[i][k];
+        double lambda = INITIAL_DAMPING;
+        int iterations = 0;
+        boolean converged = false;
+        while (iterations < MAX_ITERATIONS) {
+            iterations++;
+            double a = jtj00 + lambda * Math.max(jtj00, MIN_DIAGONAL);
+            double c = jtj11 + lambda * Math.max(jtj11, MIN_DIAGONAL);
+            double det = a * c - jtj01 * jtj01;
+            if (!(det > SINGULAR_RATIO * a * c)) {
+                lambda *= 10;
+                if (lambda > MAX_DAMPING) break;
+                continue;
+            }
+            double dx = (c * jtr0 - jtj01 * jtr1) / det;
+            double dy = (a * jtr1 - jtj01 * jtr0) / det;
+            boolean small = dx * dx + dy * dy < CONVERGENCE_THRESHOLD * CONVERGENCE_THRESHOLD;
+
+            // 현재 점의 정규 방정식을 보존해야 하므로 후보는 잔차만 먼저 평가
+            double candidateCost = cost(xs, ys, ranges, weights, count, x - dx, y - dy);
+            if (candidateCost < cost) {
+                x -= dx;
+                y -= dy;
+                cost = evaluate(xs, ys, ranges, weights, count, x, y);
+                lambda = Math.max(lambda / 10, MIN_DAMPING);
+                if (small) {
+                    converged = true;
+                    break;
+                }
+            } else {
+                // 더 내려갈 곳이 없을 만큼 작은 걸음이면 최소점에 도달한 것으로 봄
+                if (small) {
+                    converged = true;
+                    break;
                 }
-                JTr[j] += jacobian[i][j] * residuals[i];
+                lambda *= 10;
+                if (lambda > MAX_DAMPING) break;
             }
         }
 
-        // (JᵀJ)⁻¹JᵀR 계산
-        double det = JTJ[0][0] * JTJ[1][1] - JTJ[0][1] * JTJ[1][0];
+        // 공분산 = σ²(JᵀJ)⁻¹, σ²는 자유도(n - 2)로 나눈 잔차 제곱합
+        double variance = cost / (count - 2);
+        if (weights != null) {
+            variance = Math.max(1.0, variance);
+        }
+        double det = jtj00 * jtj11 - jtj01 * jtj01;
+        double covarianceXX = Double.POSITIVE_INFINITY;
+        double covarianceXY = 0;
+        double covarianceYY = Double.POSITIVE_INFINITY;
+        if (det > SINGULAR_RATIO * jtj00 * jtj11) {
+            covarianceXX = variance * jtj11 / det;
+            covarianceXY = -variance * jtj01 / det;
+            covarianceYY = variance * jtj00 / det;
+        }
+        result.set(x, y, Math.sqrt(unweightedSum / count), covarianceXX, covarianceXY, covarianceYY,
+                iterations, converged);
 
-        return new double[] {
-                (JTJ[1][1] * JTr[0] - JTJ[0][1] * JTr[1]) / det,
-                (-JTJ[1][0] * JTr[0] + JTJ[0][0] * JTr[1]) / det
-        };
+        if (result.isValid()) {
+            hasPrevious = true;
+            previousX = x;
+            previousY = y;
+        }
+        return result;
     }
 
-    // 위치 추정의 정확도 계산
-    public static double calculateAccuracy(double[] position,
-                                           double[][] beaconPositions,
-                                           double[] distances) {
-        double sumSquaredError = 0;
+    /**
+     * 직전 위치를 잊음 (다음 계산은 비콘 중심점에서 시작)
+     */
+    public void reset() {
+        hasPrevious = false;
+    }
 
-        for (int i = 0; i < beaconPositions.length; i++) {
-            double dx = position[0] - beaconPositions[i][0];
-            double dy = position[1] - beaconPositions[i][1];
-            double calculatedDistance = Math.sqrt(dx * dx + dy * dy);
-            double error = calculatedDistance - distances[i];
-            sumSquaredError += error * error;
+    /**
+     * (x, y)의 가중 잔차 제곱합과 정규 방정식 누적
+     */
+    private double evaluate(double[] xs, double[] ys, double[] ranges, @Nullable double[] weights,
+                            int count, double x, double y) {
+        double a = 0;
+        double b = 0;
+        double c = 0;
+        double g0 = 0;
+        double g1 = 0;
+        double sum = 0;
+        double plain = 0;
+        for (int i = 0; i < count; i++) {
+            double dx = x - xs[i];
+            double dy = y - ys[i];
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            double residual = distance - ranges[i];
+            double weight = weights != null ? weights[i] : 1.0;
+            plain += residual * residual;
+            sum += weight * residual * residual;
+            if (distance < MIN_DISTANCE) continue;
+            double jx = dx / distance;
+            double jy = dy / distance;
+            a += weight * jx * jx;
+            b += weight * jx * jy;
+            c += weight * jy * jy;
+            g0 += weight * jx * residual;
+            g1 += weight * jy * residual;
         }
+        jtj00 = a;
+        jtj01 = b;
+        jtj11 = c;
+        jtr0 = g0;
+        jtr1 = g1;
+        unweightedSum = plain;
+        return sum;
+    }
 
-        return Math.sqrt(sumSquaredError / beaconPositions.length);
+    private static double cost(double[] xs, double[] ys, double[] ranges, @Nullable double[] weights,
+                               int count, double x, double y) {
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            double dx = x - xs[i];
+            double dy = y - ys[i];
+            double residual = Math.sqrt(dx * dx + dy * dy) - ranges[i];
+            sum += (weights != null ? weights[i] : 1.0) * residual * residual;
+        }
+        return sum;
     }
-}
\ No newline at end of file
+}
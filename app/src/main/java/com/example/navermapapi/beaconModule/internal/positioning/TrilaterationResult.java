@@ -0,0 +1,95 @@
+package com.example.navermapapi.beaconModule.internal.positioning;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 삼변측량 결과 (위치, 잔차 RMS, 위치 공분산, 반복 횟수)
+ * {@link TrilaterationCalculator}가 재사용하는 객체이므로 다음 계산 전까지만 유효하다.
+ */
+public final class TrilaterationResult {
+    private double x;
+    private double y;
+    private double rmsResidual;
+    private double covarianceXX;
+    private double covarianceXY;
+    private double covarianceYY;
+    private int iterations;
+    private boolean converged;
+
+    void set(double x, double y, double rmsResidual,
+             double covarianceXX, double covarianceXY, double covarianceYY,
+             int iterations, boolean converged) {
+        this.x = x;
+        this.y = y;
+        this.rmsResidual = rmsResidual;
+        this.covarianceXX = covarianceXX;
+        this.covarianceXY = covarianceXY;
+        this.covarianceYY = covarianceYY;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * 거리 잔차의 제곱 평균 제곱근 (미터)
+     */
+    public double getRmsResidual() {
+        return rmsResidual;
+    }
+
+    /**
+     * 위치 공분산 (m², 비콘 배치가 일직선이라 위치가 정해지지 않으면 무한대)
+     */
+    public double getCovarianceXX() {
+        return covarianceXX;
+    }
+
+    public double getCovarianceXY() {
+        return covarianceXY;
+    }
+
+    public double getCovarianceYY() {
+        return covarianceYY;
+    }
+
+    /**
+     * 수평 정확도 (미터, 공분산의 DRMS = √(σx² + σy²))
+     * 위치가 정해지지 않으면 무한대
+     */
+    public double getHorizontalAccuracy() {
+        return Math.sqrt(covarianceXX + covarianceYY);
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 반복 한도 안에 위치 변화가 수렴 기준 아래로 내려갔는지 여부
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * 위치가 유한한 값인지 여부 (거리 입력이 잘못되면 false)
+     */
+    public boolean isValid() {
+        return !Double.isNaN(x) && !Double.isInfinite(x) && !Double.isNaN(y) && !Double.isInfinite(y);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format("TrilaterationResult{(%.2f, %.2f), rms=%.2f, cov=[%.3f, %.3f, %.3f], iterations=%d%s}",
+                x, y, rmsResidual, covarianceXX, covarianceXY, covarianceYY, iterations,
+                converged ? "" : ", not converged");
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.navermapapi.beaconModule.model;
 
 public class BeaconData {
+    /** 비콘 정보에 1m RSSI가 없을 때 쓰는 값 (dBm) */
+    public static final int DEFAULT_MEASURED_POWER = -69;
+
     private final String id;
     private final String uuid;
     private final int major;
     private final int minor;
     private final int rssi;
+    private final double rssiVariance;
+    private final int measuredPower;
     private final double x;
     private final double y;
+    private final int floor;
     private final String color;
 
     private BeaconData(Builder builder) {
@@ -16,8 +22,11 @@ public class BeaconData {
         this.major = builder.major;
         this.minor = builder.minor;
         this.rssi = builder.rssi;
+        this.rssiVariance = builder.rssiVariance;
+        this.measuredPower = builder.measuredPower;
         this.x = builder.x;
         this.y = builder.y;
+        this.floor = builder.floor;
         this.color = builder.color;
     }
 
@@ -26,8 +35,13 @@ public class BeaconData {
     public int getMajor() { return major; }
     public int getMinor() { return minor; }
     public int getRssi() { return rssi; }
+    /** 최근 원시 RSSI의 분산 (dB², 모르면 NaN) */
+    public double getRssiVariance() { return rssiVariance; }
+    /** 1m 거리에서의 RSSI (dBm, 거리 모델 기준값) */
+    public int getMeasuredPower() { return measuredPower; }
     public double getX() { return x; }
     public double getY() { return y; }
+    public int getFloor() { return floor; }
     public String getColor() { return color; }
 
     public static class Builder {
@@ -36,8 +50,11 @@ public class BeaconData {
         private int major;
         private int minor;
         private int rssi;
+        private double rssiVariance = Double.NaN;
+        private int measuredPower = DEFAULT_MEASURED_POWER;
         private double x;
         private double y;
+        private int floor;
         private String color;
 
         public Builder setId(String id) {
@@ -65,6 +82,16 @@ public class BeaconData {
             return this;
         }
 
+        public Builder setRssiVariance(double rssiVariance) {
+            this.rssiVariance = rssiVariance;
+            return this;
+        }
+
+        public Builder setMeasuredPower(int measuredPower) {
+            this.measuredPower = measuredPower;
+            return this;
+        }
+
         public Builder setX(double x) {
             this.x = x;
             return this;
@@ -75,6 +102,11 @@ public class BeaconData {
             return this;
         }
 
+        public Builder setFloor(int floor) {
+            this.floor = floor;
+            return this;
+        }
+
         public Builder setColor(String color) {
             this.color = color;
             return this;
@@ -93,8 +125,11 @@ public class BeaconData {
                 ", major=" + major +
                 ", minor=" + minor +
                 ", rssi=" + rssi +
+                ", rssiVariance=" + rssiVariance +
+                ", measuredPower=" + measuredPower +
                 ", x=" + x +
                 ", y=" + y +
+                ", floor=" + floor +
                 ", color='" + color + '\'' +
                 '}';
     }
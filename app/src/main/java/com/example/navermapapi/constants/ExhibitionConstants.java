@@ -5,6 +5,7 @@ import com.naver.maps.geometry.LatLng;
 
 public class ExhibitionConstants {
     public static final float PDR_STEP_LENGTH = 0.7f;  // 평균 보폭
+    public static final double WALKING_SPEED = 1.11;  // 평균 보행 속도 (m/s, 4km/h)
     public static final float[] DEMO_BEARINGS = {  // 시연용 방향각
             0.0f,    // 북쪽
             45.0f,   // 북동쪽
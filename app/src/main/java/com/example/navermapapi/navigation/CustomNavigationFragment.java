@@ -13,13 +13,20 @@ import androidx.lifecycle.ViewModelProvider;
 
 import com.example.navermapapi.R;
 import com.example.navermapapi.appModule.accessibility.VoiceGuideManager;
+import com.example.navermapapi.appModule.main.ExhibitEta;
 import com.example.navermapapi.appModule.main.MainViewModel;
+import com.example.navermapapi.constants.ExhibitionConstants;
 import com.example.navermapapi.coreModule.api.environment.model.EnvironmentType;
 import com.example.navermapapi.coreModule.api.location.model.LocationData;
 import com.example.navermapapi.databinding.FragmentCustomNavigationBinding;
 import com.example.navermapapi.path.calculator.PathCalculator;
+import com.example.navermapapi.path.calculator.RoutePath;
 import com.example.navermapapi.path.drawer.PathDrawer;
+import com.example.navermapapi.path.graph.RoutingProfile;
 import com.example.navermapapi.path.manager.PathDataManager;
+import com.example.navermapapi.path.manager.RouteResult;
+import com.example.navermapapi.path.manager.RouteSession;
+import com.example.navermapapi.path.manager.TourPlan;
 import com.example.navermapapi.utils.FloorPlanConfig;
 import com.example.navermapapi.utils.FloorPlanManager;
 import com.naver.maps.geometry.LatLng;
@@ -34,6 +41,9 @@ import com.naver.maps.map.CameraPosition;
 import com.naver.maps.map.CameraUpdate;
 import com.naver.maps.map.util.FusedLocationSource;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Locale;
 
 import javax.inject.Inject;
@@ -43,6 +53,9 @@ import dagger.hilt.android.AndroidEntryPoint;
 public class CustomNavigationFragment extends Fragment implements OnMapReadyCallback {
     private static final String TAG = "CustomNavigationFragment";
     private static final int LOCATION_PERMISSION_REQUEST_CODE = 1000;
+    private static final String CONTRACTION_HIERARCHY_ASSET = "routing/venue.ch";
+    private static final double OFF_ROUTE_METERS = 3.0;  // 이 거리 이상 벗어나면 경로 재계획
+    private static final int ISOCHRONE_MINUTES = 5;      // 도보 가능 영역 버튼의 시간
 
     private FragmentCustomNavigationBinding binding;
     private MainViewModel viewModel;
@@ -51,7 +64,11 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
     private FusedLocationSource locationSource;
     private PathDrawer pathDrawer;
     private Marker destinationMarker;
+    private RouteSession routeSession;  // 목적지 안내 중 증분 재탐색 세션
+    private RoutePath routePath;  // 현재 안내 경로 (남은 거리, 다음 회전 질의용)
+    private double routeAlong;    // 현재 안내 경로에서 직전 위치의 경로상 거리
     private boolean isDestinationMode = false;
+    private int isochroneMinutes;  // 표시 중인 도보 가능 영역 (0이면 숨김)
     private FloorPlanManager floorPlanManager;
 
     @Inject
@@ -63,6 +80,23 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
         viewModel = new ViewModelProvider(requireActivity()).get(MainViewModel.class);
         locationSource = new FusedLocationSource(this, LOCATION_PERMISSION_REQUEST_CODE);
         destinationMarker = new Marker();
+        loadContractionHierarchy();
+    }
+
+    /**
+     * 배포된 축약 계층이 있으면 연결 (없으면 기본 탐색 사용)
+     */
+    private void loadContractionHierarchy() {
+        if (!PathDataManager.isVenueLoaded()) return;
+        if (PathDataManager.hasContractionHierarchy()) return;
+
+        try (InputStream input = requireContext().getAssets().open(CONTRACTION_HIERARCHY_ASSET)) {
+            PathDataManager.loadContractionHierarchy(input);
+            Log.d(TAG, "Contraction hierarchy loaded");
+        } catch (IOException e) {
+            Log.w(TAG, "Contraction hierarchy unavailable, using " +
+                    PathDataManager.DEFAULT_ROUTING_MODE, e);
+        }
     }
 
     @Nullable
@@ -91,6 +125,7 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
             updateNavigationInfo();  // 환경 변화 시에도 navigation_info 업데이트
         });
         viewModel.getDestination().observe(getViewLifecycleOwner(), this::updateDestinationUI);
+        viewModel.getExhibitEtas().observe(getViewLifecycleOwner(), etas -> updateNavigationInfo());
     }
 
     private void initializeMap() {
@@ -108,6 +143,9 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
     private void setupUI() {
         binding.setDestinationButton.setOnClickListener(v -> startDestinationMode());
         binding.startNavigationButton.setOnClickListener(v -> calculateAndShowPath());
+        binding.planTourButton.setOnClickListener(v -> planExhibitionTour());
+        binding.isochroneButton.setOnClickListener(v ->
+                showIsochrone(isochroneMinutes > 0 ? 0 : ISOCHRONE_MINUTES));
     }
 
     @Override
@@ -210,7 +248,11 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
             locationOverlay.setVisible(true);  // 이 줄 추가
 
             updateEnvironmentIcon(location.getEnvironment());  // 환경에 따른 아이콘 업데이트
+            updateRoute(position);
             updateNavigationInfo();
+            if (isochroneMinutes > 0) {
+                showIsochrone(isochroneMinutes);
+            }
 
             if (viewModel.isAutoTrackingEnabled()) {
                 naverMap.moveCamera(CameraUpdate.scrollTo(position));
@@ -246,15 +288,24 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
             info.append(String.format(Locale.getDefault(),
                     "시작 지점으로부터 %.1fm 이동\n", distance));
 
+            // 모든 전시 지점까지의 보행 거리와 예상 시간
+            appendExhibitEtas(info, viewModel.getExhibitEtas().getValue());
+
             // 목적지가 설정되어 있다면 목적지까지의 거리도 표시
             LatLng destination = viewModel.getDestination().getValue();
             if (destination != null) {
-                double remainingDistance = PathCalculator.calculatePathDistance(
-                        new LatLng(location.getLatitude(), location.getLongitude()),
-                        destination
-                );
-                info.append(String.format(Locale.getDefault(),
-                        "목적지까지 %.1fm 남음", remainingDistance));
+                LatLng position = new LatLng(location.getLatitude(), location.getLongitude());
+                if (routePath != null) {
+                    double along = locateOnRoute(position);
+                    info.append(String.format(Locale.getDefault(),
+                            "다음 회전까지 %.1fm\n", routePath.getNextTurnDistance(along)));
+                    info.append(String.format(Locale.getDefault(),
+                            "목적지까지 %.1fm 남음", routePath.getRemainingDistance(along)));
+                } else {
+                    double remainingDistance = PathCalculator.calculatePathDistance(position, destination);
+                    info.append(String.format(Locale.getDefault(),
+                            "목적지까지 %.1fm 남음", remainingDistance));
+                }
             }
         } else {
             // 실외 모드일 때는 기본 위치 정보만 표시
@@ -270,6 +321,22 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
         Log.d(TAG, "Navigation info updated: " + info.toString());
     }
 
+    /**
+     * 전시 지점마다 이름, 보행 거리, 예상 시간 한 줄씩 (전시 지점 순서)
+     */
+    private static void appendExhibitEtas(StringBuilder info, @Nullable List<ExhibitEta> etas) {
+        if (etas == null) return;
+        for (ExhibitEta eta : etas) {
+            if (eta.isReachable()) {
+                info.append(String.format(Locale.getDefault(), "%s까지 %.0fm (약 %d분)\n",
+                        eta.getName(), eta.getDistance(),
+                        Math.max(1, Math.round(eta.getEtaSeconds() / 60f))));
+            } else {
+                info.append(eta.getName()).append("까지 경로 없음\n");
+            }
+        }
+    }
+
     /**
      * 방위각을 시계 방향으로 변환
      */
@@ -332,10 +399,17 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
         }
 
         try {
-            LatLng startOnPath = PathCalculator.findNearestPointOnPath(currentLocation);
-            pathDrawer.drawPath(startOnPath, destination);
-
-            double distance = PathCalculator.calculatePathDistance(startOnPath, destination);
+            double distance;
+            RouteSession session = getRouteSession(destination);
+            if (session != null) {
+                RouteResult route = session.update(currentLocation);
+                showRoute(route);
+                distance = route.getDistance();
+            } else {
+                LatLng startOnPath = PathCalculator.findNearestPointOnPath(currentLocation);
+                pathDrawer.drawPath(startOnPath, destination);
+                distance = PathCalculator.calculatePathDistance(startOnPath, destination);
+            }
             String announcement = getString(R.string.distance_announcement, (int) distance);
             voiceGuideManager.announce(announcement);
 
@@ -346,9 +420,128 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
         }
     }
 
+    /**
+     * 경로 프로필 변경 (휠체어, 흰지팡이 등)
+     * 프로필별 간선 비용은 시설을 읽을 때 계산되어 있으므로 안내 중인 경로만 다시 계획한다.
+     */
+    public void setRoutingProfile(@NonNull RoutingProfile profile) {
+        if (PathDataManager.getRoutingProfile() == profile) return;
+
+        PathDataManager.setRoutingProfile(profile);
+        routeSession = null;  // 세션의 탐색 트리는 이전 프로필의 비용 기준
+        routePath = null;
+        if (viewModel.getDestination().getValue() != null) {
+            calculateAndShowPath();
+        }
+    }
+
+    /**
+     * 현재 위치에서 모든 전시 지점을 가장 짧게 도는 순서를 계획해 경로를 그리고 순서를 안내
+     * (목적지 안내 중이면 안내를 멈추고 관람 경로로 바꿈)
+     */
+    private void planExhibitionTour() {
+        if (locationOverlay == null || !locationOverlay.isVisible() || pathDrawer == null) {
+            voiceGuideManager.announce(getString(R.string.location_unavailable));
+            return;
+        }
+        if (!PathDataManager.isVenueLoaded()) {
+            voiceGuideManager.announce(getString(R.string.path_calculation_error));
+            return;
+        }
+
+        try {
+            TourPlan plan = PathDataManager.planTour(locationOverlay.getPosition(), ExhibitionConstants.DEMO_PATH);
+            if (Double.isInfinite(plan.getDistance())) {
+                voiceGuideManager.announce(getString(R.string.path_calculation_error));
+                return;
+            }
+            viewModel.setDestination(null);
+            pathDrawer.drawPath(plan.getPathPoints());
+
+            StringBuilder names = new StringBuilder();
+            for (int stop : plan.getOrder()) {
+                if (names.length() > 0) names.append(", ");
+                names.append(ExhibitionConstants.PATH_DESCRIPTIONS[stop]);
+            }
+            voiceGuideManager.announce(getString(R.string.tour_announcement,
+                    names.toString(), (int) plan.getDistance()));
+        } catch (IllegalStateException e) {
+            Log.e(TAG, "Error planning tour", e);
+            voiceGuideManager.announce(getString(R.string.path_calculation_error));
+        }
+    }
+
+    /**
+     * 현재 위치에서 minutes분 안에 걸어서 닿을 수 있는 영역 표시 (0 이하면 숨김)
+     * 표시 중에는 위치가 바뀔 때마다 다시 그린다 (영역은 가까운 노드와 시간별로 캐시됨).
+     */
+    public void showIsochrone(int minutes) {
+        if (pathDrawer == null) return;
+        isochroneMinutes = Math.max(0, minutes);
+        if (minutes <= 0 || locationOverlay == null || !PathDataManager.isVenueLoaded()) {
+            pathDrawer.clearIsochrone();
+            return;
+        }
+        double maxDistance = minutes * 60 * ExhibitionConstants.WALKING_SPEED;
+        pathDrawer.drawIsochrone(PathDataManager.getIsochroneHull(locationOverlay.getPosition(), maxDistance));
+    }
+
+    /**
+     * 목적지가 바뀌면 세션을 새로 만들고, 복도 통제 등으로 스냅샷만 바뀌면 바뀐 간선을 기존 세션에 반영
+     * (시설 그래프가 없으면 null)
+     */
+    @Nullable
+    private RouteSession getRouteSession(LatLng destination) {
+        if (!PathDataManager.isVenueLoaded()) {
+            routeSession = null;
+        } else if (routeSession == null || !routeSession.getDestination().equals(destination)) {
+            routeSession = PathDataManager.newRouteSession(destination);
+        } else if (routeSession.getSnapshotVersion() != PathDataManager.getSnapshotVersion()) {
+            routeSession = PathDataManager.updateRouteSession(routeSession);
+        }
+        return routeSession;
+    }
+
+    /**
+     * 위치가 경로를 벗어났을 때만 안내 경로를 다시 계획 (이전 탐색을 재사용하므로 바뀐 영역만 계산)
+     */
+    private void updateRoute(LatLng position) {
+        if (routeSession == null || pathDrawer == null) return;
+
+        if (routeSession.getSnapshotVersion() != PathDataManager.getSnapshotVersion()) {
+            // 복도 통제 등으로 그래프가 바뀌면 바뀐 간선을 세션에 반영하고 다시 계획 (영향받는 영역만 재계산)
+            getRouteSession(routeSession.getDestination());
+            routePath = null;
+            if (routeSession == null) return;
+        }
+        if (routePath != null) {
+            double along = locateOnRoute(position);
+            if (routePath.getDistanceFromRoute(position, along) < OFF_ROUTE_METERS) return;
+        }
+        showRoute(routeSession.update(position));
+    }
+
+    // 직전 위치 주변 구간만 검색 (경로를 벗어났으면 RoutePath가 전체를 다시 검색)
+    private double locateOnRoute(LatLng position) {
+        routeAlong = routePath.locate(position, routeAlong, OFF_ROUTE_METERS);
+        return routeAlong;
+    }
+
+    private void showRoute(RouteResult route) {
+        if (route.isFound()) {
+            List<LatLng> pathPoints = routeSession.getPathPoints();
+            routePath = RoutePath.of(pathPoints, PathDataManager.getVenue().getFrame());
+            routeAlong = 0;
+            pathDrawer.drawPath(pathPoints);
+        } else {
+            routePath = null;
+            pathDrawer.clearPath();
+        }
+    }
+
     private void updateDistanceTimeInfo(double distance) {
         // 평균 보행 속도를 기준으로 예상 시간 계산 (4km/h = 1.11m/s)
-        int estimatedSeconds = (int)(distance / 1.11);
+        int estimatedSeconds = (int)(distance / ExhibitionConstants.WALKING_SPEED);
         String timeString = String.format("%d분 %d초", estimatedSeconds / 60, estimatedSeconds % 60);
 
 //        String info = getString(R.string.distance_time_info_format,
@@ -368,6 +561,8 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
 
     private void clearDestinationMarker() {
         destinationMarker.setMap(null);
+        routeSession = null;
+        routePath = null;
         if (pathDrawer != null) {
             pathDrawer.clearPath();
         }
@@ -386,6 +581,9 @@ public class CustomNavigationFragment extends Fragment implements OnMapReadyCall
         if (pathDrawer != null) {
             pathDrawer.cleanup();
         }
+        routeSession = null;
+        routePath = null;
+        isochroneMinutes = 0;
         if (destinationMarker != null) {
             destinationMarker.setMap(null);
         }
@@ -11,9 +11,11 @@ public class PathCalculator {
         // Utility class
     }
 
+    /**
+     * 가장 가까운 복도(간선) 위의 점 (노드로 건너뛰지 않음)
+     */
     public static LatLng findNearestPointOnPath(LatLng point) {
-        int nearestNodeIndex = PathDataManager.findNearestNodeIndex(point);
-        return PathDataManager.getNodes().get(nearestNodeIndex);
+        return PathDataManager.findNearestPointOnPath(point);
     }
 
     public static double calculatePathDistance(LatLng start, LatLng end) {
@@ -24,22 +26,15 @@ public class PathCalculator {
                 end : findNearestPointOnPath(end);
 
         // 경로 상의 시작점부터 끝점까지의 실제 경로 거리 계산
-        List<LatLng> pathPoints = PathDataManager.calculatePathBetweenPoints(startOnPath, endOnPath);
-        double totalDistance = 0.0;
-
-        for (int i = 0; i < pathPoints.size() - 1; i++) {
-            LatLng pointA = pathPoints.get(i);
-            LatLng pointB = pathPoints.get(i + 1);
-
-            float[] results = new float[1];
-            android.location.Location.distanceBetween(
-                    pointA.latitude, pointA.longitude,
-                    pointB.latitude, pointB.longitude,
-                    results
-            );
-            totalDistance += results[0];
-        }
+        return createRoutePath(startOnPath, endOnPath).getTotalDistance();
+    }
 
-        return totalDistance;
+    /**
+     * 두 지점 사이 경로를 진행 상황 질의용 객체로 반환
+     * 안내 중에는 이 객체를 보관하고 {@link RoutePath#locate}로 남은 거리를 구한다.
+     */
+    public static RoutePath createRoutePath(LatLng start, LatLng end) {
+        List<LatLng> pathPoints = PathDataManager.calculatePathBetweenPoints(start, end);
+        return RoutePath.of(pathPoints, PathDataManager.getVenue().getFrame());
     }
 }
@@ -0,0 +1,264 @@
+package com.example.navermapapi.path.calculator;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.LocalFrame;
+import com.naver.maps.geometry.LatLng;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 안내 중 진행 상황 질의를 위한 불변 경로
+ * 만들 때 로컬 미터 좌표, 누적 거리(prefix), 구간 방위각, 회전 지점의 누적 거리를 한 번 계산해 둔다.
+ * 이후 남은 거리, 다음 회전까지 거리, 진행률은 경로를 따라간 거리(along)에 대한 이진 탐색 한 번으로,
+ * 현재 위치의 along은 직전 along 주변 구간에만 투영하므로 위치 갱신 비용이 경로 길이와 무관하다.
+ */
+public final class RoutePath {
+    /** 이 각도 이상 방향이 바뀌는 지점을 회전으로 본다 */
+    public static final double TURN_ANGLE_DEGREES = 30.0;
+
+    /** 직전 위치 기준 검색 창 (앞뒤 경로 거리, 미터) */
+    public static final double LOCATE_WINDOW_METERS = 20.0;
+
+    private final LocalFrame frame;
+    private final List<LatLng> points;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] prefix;      // prefix[i] = 0번 점부터 i번 점까지 경로 거리
+    private final double[] bearings;    // bearings[i] = i → i+1 구간 방위각 (북쪽 0, 시계 방향)
+    private final int[] turnPoints;     // 회전 지점의 점 번호 (오름차순)
+    private final double[] turnDistances;   // 회전 지점의 누적 거리
+
+    private RoutePath(LocalFrame frame, List<LatLng> points) {
+        int n = points.size();
+        this.frame = frame;
+        this.points = Collections.unmodifiableList(new ArrayList<>(points));
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.prefix = new double[n];
+        this.bearings = new double[Math.max(0, n - 1)];
+        for (int i = 0; i < n; i++) {
+            xs[i] = frame.toX(points.get(i).longitude);
+            ys[i] = frame.toY(points.get(i).latitude);
+            if (i > 0) {
+                double dx = xs[i] - xs[i - 1];
+                double dy = ys[i] - ys[i - 1];
+                double length = Math.sqrt(dx * dx + dy * dy);
+                prefix[i] = prefix[i - 1] + length;
+                // 길이 0인 구간은 앞 구간의 방향 유지
+                bearings[i - 1] = length > 0 || i == 1 ?
+                        normalize(Math.toDegrees(Math.atan2(dx, dy))) : bearings[i - 2];
+            }
+        }
+
+        int[] turns = new int[Math.max(0, n - 2)];
+        int turnCount = 0;
+        for (int i = 1; i + 1 < n; i++) {
+            if (Math.abs(signedAngle(bearings[i - 1], bearings[i])) >= TURN_ANGLE_DEGREES
+                    && prefix[i + 1] > prefix[i]) {
+                turns[turnCount++] = i;
+            }
+        }
+        this.turnPoints = Arrays.copyOf(turns, turnCount);
+        this.turnDistances = new double[turnCount];
+        for (int k = 0; k < turnCount; k++) {
+            turnDistances[k] = prefix[turnPoints[k]];
+        }
+    }
+
+    /**
+     * 경로 좌표로 생성
+     * @param frame 위경도 ↔ 미터 변환에 쓸 좌표계 (시설 그래프의 좌표계)
+     * @throws IllegalArgumentException 점이 2개 미만인 경우
+     */
+    @NonNull
+    public static RoutePath of(@NonNull List<LatLng> points, @NonNull LocalFrame frame) {
+        if (points.size() < 2) {
+            throw new IllegalArgumentException("Route needs at least two points");
+        }
+        return new RoutePath(frame, points);
+    }
+
+    @NonNull
+    public List<LatLng> getPoints() {
+        return points;
+    }
+
+    /**
+     * 경로 전체 거리 (미터)
+     */
+    public double getTotalDistance() {
+        return prefix[prefix.length - 1];
+    }
+
+    /**
+     * 현재 위치를 가장 가까운 구간에 투영한 경로상 거리 (미터, 전체 구간 검색)
+     */
+    public double locate(@NonNull LatLng position) {
+        return project(frame.toX(position.longitude), frame.toY(position.latitude), 0, xs.length - 1);
+    }
+
+    /**
+     * 직전 위치 주변 구간만 검색해 경로상 거리를 구함 (위치 갱신마다 쓰는 O(창 크기) 버전)
+     * 직전 along 앞뒤 {@value #LOCATE_WINDOW_METERS}m 안의 구간에 투영하고, 그 결과가 경로에서
+     * maxDistance 이상 떨어져 있으면 (경로 이탈, 위치 점프) 전체 구간을 다시 검색한다.
+     * @param previousAlong 직전에 구한 경로상 거리 (안내 시작 시 0)
+     * @param maxDistance 이보다 가까우면 창 안의 결과를 그대로 씀 (미터)
+     */
+    public double locate(@NonNull LatLng position, double previousAlong, double maxDistance) {
+        double x = frame.toX(position.longitude);
+        double y = frame.toY(position.latitude);
+        int first = segmentAt(previousAlong - LOCATE_WINDOW_METERS);
+        int last = segmentAt(previousAlong + LOCATE_WINDOW_METERS) + 1;
+        double along = project(x, y, first, last);
+        if (first == 0 && last == xs.length - 1) {
+            return along;
+        }
+        if (distanceAt(x, y, along) < maxDistance) {
+            return along;
+        }
+        return project(x, y, 0, xs.length - 1);
+    }
+
+    /**
+     * 위치와 경로상 거리 along 지점 사이의 거리 (경로 이탈 판단용)
+     */
+    public double getDistanceFromRoute(@NonNull LatLng position, double along) {
+        return distanceAt(frame.toX(position.longitude), frame.toY(position.latitude), along);
+    }
+
+    /**
+     * 남은 거리
+     * @param along 경로상 거리 ({@link #locate})
+     */
+    public double getRemainingDistance(double along) {
+        return Math.max(0, getTotalDistance() - along);
+    }
+
+    /**
+     * 진행률 (0 ~ 1)
+     */
+    public double getProgress(double along) {
+        double total = getTotalDistance();
+        return total > 0 ? Math.max(0, Math.min(1, along / total)) : 1;
+    }
+
+    /**
+     * 다음 회전 지점의 점 번호
+     * @return 점 번호, 남은 회전이 없으면 -1
+     */
+    public int getNextTurnPoint(double along) {
+        int k = firstTurnAfter(along);
+        return k < turnPoints.length ? turnPoints[k] : -1;
+    }
+
+    /**
+     * 다음 회전까지 거리, 남은 회전이 없으면 도착까지 거리
+     */
+    public double getNextTurnDistance(double along) {
+        int k = firstTurnAfter(along);
+        double target = k < turnDistances.length ? turnDistances[k] : getTotalDistance();
+        return Math.max(0, target - along);
+    }
+
+    /**
+     * 점에서의 회전 각도 (오른쪽 +, 왼쪽 -, -180 ~ 180)
+     */
+    public double getTurnAngle(int point) {
+        if (point <= 0 || point >= bearings.length) {
+            return 0;
+        }
+        return signedAngle(bearings[point - 1], bearings[point]);
+    }
+
+    /**
+     * 경로상 거리에서 진행 방향 방위각 (북쪽 0, 시계 방향)
+     */
+    public double getBearing(double along) {
+        return bearings[segmentAt(along)];
+    }
+
+    /**
+     * 경로상 거리의 좌표
+     */
+    @NonNull
+    public LatLng getPoint(double along) {
+        int i = segmentAt(along);
+        double length = prefix[i + 1] - prefix[i];
+        double t = length > 0 ? Math.max(0, Math.min(1, (along - prefix[i]) / length)) : 0;
+        return new LatLng(frame.toLatitude(ys[i] + t * (ys[i + 1] - ys[i])),
+                frame.toLongitude(xs[i] + t * (xs[i + 1] - xs[i])));
+    }
+
+    // 점 first ~ last 사이 구간 중 (x, y)에 가장 가까운 구간에 투영한 경로상 거리
+    private double project(double x, double y, int first, int last) {
+        double bestDistance = Double.POSITIVE_INFINITY;
+        double bestAlong = prefix[first];
+        for (int i = first; i < last; i++) {
+            double dx = xs[i + 1] - xs[i];
+            double dy = ys[i + 1] - ys[i];
+            double lengthSquared = dx * dx + dy * dy;
+            double t = lengthSquared > 0 ? ((x - xs[i]) * dx + (y - ys[i]) * dy) / lengthSquared : 0;
+            t = Math.max(0, Math.min(1, t));
+            double px = xs[i] + t * dx - x;
+            double py = ys[i] + t * dy - y;
+            double distance = px * px + py * py;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                bestAlong = prefix[i] + t * (prefix[i + 1] - prefix[i]);
+            }
+        }
+        return bestAlong;
+    }
+
+    // (x, y)와 경로상 거리 along 지점 사이의 거리
+    private double distanceAt(double x, double y, double along) {
+        int i = segmentAt(along);
+        double length = prefix[i + 1] - prefix[i];
+        double t = length > 0 ? Math.max(0, Math.min(1, (along - prefix[i]) / length)) : 0;
+        double dx = xs[i] + t * (xs[i + 1] - xs[i]) - x;
+        double dy = ys[i] + t * (ys[i + 1] - ys[i]) - y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    // along이 속한 구간 번호 (prefix[i] <= along인 마지막 i, 0 ~ n-2)
+    private int segmentAt(double along) {
+        int lo = 0;
+        int hi = prefix.length - 2;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (prefix[mid] <= along) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    // along보다 뒤에 있는 첫 회전의 위치
+    private int firstTurnAfter(double along) {
+        int index = Arrays.binarySearch(turnDistances, along);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // 같은 거리의 회전이 여러 개면 모두 지난 것으로 봄
+        while (index < turnDistances.length && turnDistances[index] <= along) {
+            index++;
+        }
+        return index;
+    }
+
+    private static double normalize(double degrees) {
+        double value = degrees % 360.0;
+        return value < 0 ? value + 360.0 : value;
+    }
+
+    private static double signedAngle(double from, double to) {
+        double delta = normalize(to - from);
+        return delta > 180.0 ? delta - 360.0 : delta;
+    }
+}
@@ -22,12 +22,19 @@ public class PathDrawer {
     private static final int PATH_COLOR_INDOOR = Color.GREEN;  // 실내 경로 색상
     private static final int PATH_COLOR_OUTDOOR = Color.BLUE;  // 실외 경로 색상
     private static final int BOUNDARY_COLOR = Color.argb(50, 0, 255, 0);  // 경계선 색상
+    private static final int ISOCHRONE_COLOR = Color.argb(60, 255, 165, 0);  // 도달 가능 영역 색상
 
     private final NaverMap naverMap;
     private final PathOverlay pathOverlay;
     private final PolygonOverlay boundaryOverlay;
+    private final PolygonOverlay isochroneOverlay;
     private EnvironmentType currentEnvironment = EnvironmentType.OUTDOOR;
 
+    // 줌 구간별 단순화 경로 (구간이 바뀔 때만 오버레이 좌표를 교체)
+    private final PolylineLod pathLod = new PolylineLod();
+    private int drawnBand = -1;
+    private final NaverMap.OnCameraChangeListener zoomListener = (reason, animated) -> refreshPathLevel();
+
     public PathDrawer(@NonNull NaverMap naverMap) {
         this.naverMap = naverMap;
 
@@ -40,6 +47,14 @@ public class PathDrawer {
         // 경계 오버레이 초기화
         this.boundaryOverlay = new PolygonOverlay();
         initializeBoundaryOverlay();
+
+        // 도달 가능 영역 오버레이 (좌표는 그릴 때 설정)
+        this.isochroneOverlay = new PolygonOverlay();
+        isochroneOverlay.setColor(ISOCHRONE_COLOR);
+        isochroneOverlay.setOutlineWidth(3);
+        isochroneOverlay.setOutlineColor(Color.rgb(255, 140, 0));
+
+        naverMap.addOnCameraChangeListener(zoomListener);
     }
 
     /**
@@ -72,16 +87,60 @@ public class PathDrawer {
             List<LatLng> pathPoints = PathDataManager.calculatePathBetweenPoints(start, destination);
 
             if (pathPoints == null || pathPoints.isEmpty()) {
-                pathOverlay.setMap(null);
+                clearPath();
                 return;
             }
 
             // 경로 표시
-            pathOverlay.setCoords(pathPoints);
-            pathOverlay.setMap(naverMap);
+            pathLod.setPoints(pathPoints);
+            showPath();
 
         } catch (Exception e) {
+            clearPath();
+        }
+    }
+
+    /**
+     * 이미 계산된 경로를 그림 (안내 중 재탐색 결과)
+     * @param pathPoints 경로 좌표 (2개 미만이면 경로 제거)
+     */
+    public void drawPath(@NonNull List<LatLng> pathPoints) {
+        if (pathPoints.size() < 2) {
+            clearPath();
+            return;
+        }
+        pathLod.setPoints(pathPoints);
+        showPath();
+    }
+
+    /**
+     * 그려진 경로 끝에 점 추가 (맵 매칭 궤적처럼 점이 하나씩 늘어나는 경로)
+     */
+    public void appendPathPoint(@NonNull LatLng point) {
+        pathLod.append(point);
+        showPath();
+    }
+
+    /**
+     * 현재 카메라 줌 구간의 단순화 경로를 오버레이에 설정
+     */
+    private void showPath() {
+        int band = PolylineLod.bandFor(naverMap.getCameraPosition().zoom);
+        List<LatLng> points = pathLod.getPoints(band);
+        if (points.size() < 2) {
             pathOverlay.setMap(null);
+            drawnBand = -1;
+            return;
+        }
+        pathOverlay.setCoords(points);
+        pathOverlay.setMap(naverMap);
+        drawnBand = band;
+    }
+
+    private void refreshPathLevel() {
+        if (drawnBand < 0) return;
+        if (PolylineLod.bandFor(naverMap.getCameraPosition().zoom) != drawnBand) {
+            showPath();
         }
     }
 
@@ -103,10 +162,29 @@ public class PathDrawer {
         boundaryOverlay.setMap(show ? naverMap : null);
     }
 
+    /**
+     * N분 안에 걸어서 닿을 수 있는 영역 표시
+     * @param hull 영역 외곽선 ({@link PathDataManager#getIsochroneHull}, 3개 미만이면 제거)
+     */
+    public void drawIsochrone(@NonNull List<LatLng> hull) {
+        if (hull.size() < 3) {
+            isochroneOverlay.setMap(null);
+            return;
+        }
+        isochroneOverlay.setCoords(hull);
+        isochroneOverlay.setMap(naverMap);
+    }
+
+    public void clearIsochrone() {
+        isochroneOverlay.setMap(null);
+    }
+
     /**
      * 경로 표시 제거
      */
     public void clearPath() {
+        pathLod.clear();
+        drawnBand = -1;
         pathOverlay.setMap(null);
     }
 
@@ -115,6 +193,8 @@ public class PathDrawer {
      */
     public void cleanup() {
         clearPath();
+        clearIsochrone();
         boundaryOverlay.setMap(null);
+        naverMap.removeOnCameraChangeListener(zoomListener);
     }
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.example.navermapapi.path.drawer;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.LocalFrame;
+import com.naver.maps.geometry.LatLng;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 줌 구간별로 단순화한 경로선 (점을 하나씩 추가하는 스트리밍 방식)
+ * 구간마다 화면 {@link #TOLERANCE_DP}에 해당하는 미터 허용 오차로 부채꼴 단순화를 하므로,
+ * 버려진 점은 모두 해당 구간의 출력 선분에서 허용 오차 안에 있다.
+ * 점 하나를 추가하는 비용은 구간마다 상수 시간이며, 구간별 결과 목록은 요청할 때 한 번만 만든다.
+ */
+public final class PolylineLod {
+    public static final int MIN_ZOOM = 12;
+    public static final int MAX_ZOOM = 21;
+    private static final double TOLERANCE_DP = 1.0;           // 화면상 허용 오차
+    private static final double METERS_PER_DP_AT_ZOOM_0 = 156543.034;  // 적도 기준 (256dp 타일)
+
+    private final Band[] bands = new Band[MAX_ZOOM - MIN_ZOOM + 1];
+    private LocalFrame frame;
+    private int pointCount;
+
+    public PolylineLod() {
+        for (int i = 0; i < bands.length; i++) {
+            bands[i] = new Band();
+        }
+    }
+
+    /**
+     * 지도 줌 레벨에 해당하는 구간 번호
+     */
+    public static int bandFor(double zoom) {
+        int level = (int) Math.floor(zoom);
+        return Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, level)) - MIN_ZOOM;
+    }
+
+    /**
+     * 기존 점을 지우고 경로 전체를 다시 설정
+     */
+    public void setPoints(@NonNull List<LatLng> points) {
+        clear();
+        for (int i = 0; i < points.size(); i++) {
+            append(points.get(i));
+        }
+    }
+
+    /**
+     * 경로 끝에 점 추가
+     */
+    public void append(@NonNull LatLng point) {
+        if (frame == null) {
+            frame = new LocalFrame(point.latitude, point.longitude);
+            // 구간 허용 오차는 첫 점의 위도에서 줌 레벨의 dp당 미터로 정한다
+            double metersPerDp = METERS_PER_DP_AT_ZOOM_0 * Math.cos(Math.toRadians(point.latitude));
+            for (int i = 0; i < bands.length; i++) {
+                double tolerance = TOLERANCE_DP * metersPerDp / (1 << (MIN_ZOOM + i));
+                bands[i].reset(tolerance);
+            }
+        }
+        double x = frame.toX(point.longitude);
+        double y = frame.toY(point.latitude);
+        for (Band band : bands) {
+            band.append(point, x, y);
+        }
+        pointCount++;
+    }
+
+    public void clear() {
+        frame = null;
+        pointCount = 0;
+        for (Band band : bands) {
+            band.reset(0.0);
+        }
+    }
+
+    /**
+     * 추가된 원본 점 수
+     */
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * 구간의 단순화된 경로 (변경이 없으면 같은 목록을 돌려줌)
+     * @param band {@link #bandFor}의 결과
+     */
+    @NonNull
+    public List<LatLng> getPoints(int band) {
+        return bands[band].points();
+    }
+
+    /**
+     * 한 허용 오차의 부채꼴(sector) 단순화 (Zhao-Saalfeld)
+     * 고정점에서 본 각 점의 허용 방향 범위(±asin(허용 오차 / 거리))를 교집합으로 좁혀 가며,
+     * 새 점의 방향이 범위 밖이거나 고정점에서 더 가까워지면 마지막 점을 확정해 새 고정점으로 삼는다.
+     * 범위는 삼각함수 없이 경계 단위 벡터 두 개로 관리한다 (폭은 항상 π 이하).
+     */
+    private static final class Band {
+        private final ArrayList<LatLng> kept = new ArrayList<>();
+        private double tolerance;
+        private double anchorX;
+        private double anchorY;
+        private boolean constrained;   // 고정점에서 허용 오차보다 먼 점이 있었는지 여부
+        private double lowerX;         // 허용 방향 범위의 시계 방향 경계
+        private double lowerY;
+        private double upperX;         // 반시계 방향 경계
+        private double upperY;
+        private double maxDistance;    // 고정점 이후 점들의 최대 거리
+        private LatLng tail;           // 아직 확정되지 않은 마지막 점
+        private double tailX;
+        private double tailY;
+        private List<LatLng> view;     // 캐시된 결과 (변경 시 null)
+
+        void reset(double tolerance) {
+            this.tolerance = tolerance;
+            kept.clear();
+            tail = null;
+            view = null;
+        }
+
+        void append(LatLng point, double x, double y) {
+            view = null;
+            if (tail == null && kept.isEmpty()) {
+                kept.add(point);
+                setAnchor(x, y);
+                return;
+            }
+            if (tail != null && !accepts(x - anchorX, y - anchorY)) {
+                kept.add(tail);
+                setAnchor(tailX, tailY);
+            }
+            narrow(x - anchorX, y - anchorY);
+            tail = point;
+            tailX = x;
+            tailY = y;
+        }
+
+        private void setAnchor(double x, double y) {
+            anchorX = x;
+            anchorY = y;
+            constrained = false;
+            maxDistance = 0.0;
+        }
+
+        /**
+         * 고정점에서 (dx, dy)까지의 선분이 지금까지의 점을 모두 허용 오차 안에 두는지 여부
+         * 방향이 범위 안이면 각 점과 직선 사이 거리가 허용 오차 이하이고,
+         * 거리가 가장 먼 점 이상이면 모든 점의 투영이 선분 안에 들어간다.
+         */
+        private boolean accepts(double dx, double dy) {
+            if (dx * dx + dy * dy < maxDistance * maxDistance) return false;
+            if (!constrained) return true;
+            return cross(lowerX, lowerY, dx, dy) >= 0.0 && cross(dx, dy, upperX, upperY) >= 0.0;
+        }
+
+        private void narrow(double dx, double dy) {
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            maxDistance = Math.max(maxDistance, distance);
+            if (distance <= tolerance) return;
+
+            double ux = dx / distance;
+            double uy = dy / distance;
+            double sin = tolerance / distance;
+            double cos = Math.sqrt(1.0 - sin * sin);
+            double lx = ux * cos + uy * sin;    // -asin(sin) 회전
+            double ly = uy * cos - ux * sin;
+            double hx = ux * cos - uy * sin;    // +asin(sin) 회전
+            double hy = uy * cos + ux * sin;
+            if (!constrained) {
+                lowerX = lx;
+                lowerY = ly;
+                upperX = hx;
+                upperY = hy;
+                constrained = true;
+                return;
+            }
+            if (cross(lowerX, lowerY, lx, ly) > 0.0) {
+                lowerX = lx;
+                lowerY = ly;
+            }
+            if (cross(hx, hy, upperX, upperY) > 0.0) {
+                upperX = hx;
+                upperY = hy;
+            }
+        }
+
+        private static double cross(double ax, double ay, double bx, double by) {
+            return ax * by - ay * bx;
+        }
+
+        List<LatLng> points() {
+            if (view == null) {
+                ArrayList<LatLng> points = new ArrayList<>(kept.size() + 1);
+                points.addAll(kept);
+                if (tail != null) points.add(tail);
+                view = Collections.unmodifiableList(points);
+            }
+            return view;
+        }
+    }
+}
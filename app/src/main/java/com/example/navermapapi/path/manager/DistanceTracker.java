@@ -0,0 +1,72 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.LocalFrame;
+import com.example.navermapapi.path.graph.VenueGraph;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+import com.naver.maps.geometry.LatLng;
+
+import java.util.Arrays;
+
+/**
+ * 현재 위치에서 여러 지점(전시물 등)까지의 경로 거리를 위치 갱신마다 유지
+ * {@link OneToManyRouter}를 지도 좌표로 감싼 것으로, 복도 위 위치의 끝 노드가 바뀔 때만 탐색한다.
+ * {@link PathDataManager#newDistanceTracker}로 만들고, 위치 갱신을 받는 한 스레드에서만 사용한다.
+ */
+public final class DistanceTracker {
+    private final VenueGraph venue;
+    private final RouteSession.Snapper snapper;
+    private final OneToManyRouter router;
+    private final EdgeSnap position = new EdgeSnap();
+    private final double[] distances;
+
+    DistanceTracker(@NonNull VenueGraph venue, @NonNull RouteSession.Snapper snapper,
+                    @NonNull OneToManyRouter router) {
+        this.venue = venue;
+        this.snapper = snapper;
+        this.router = router;
+        this.distances = new double[router.getTargetCount()];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+    }
+
+    public int getTargetCount() {
+        return distances.length;
+    }
+
+    /**
+     * 현재 위치로 거리 갱신
+     * @return 위치를 복도 위로 투영했는지 여부 (실패하면 이전 거리 유지)
+     */
+    public boolean update(@NonNull LatLng current) {
+        return update(current, PathDataManager.ANY_FLOOR);
+    }
+
+    /**
+     * 지정한 층에서의 현재 위치로 거리 갱신
+     */
+    public boolean update(@NonNull LatLng current, int floor) {
+        LocalFrame frame = venue.getFrame();
+        if (!snapper.snap(frame.toX(current.longitude), frame.toY(current.latitude), floor,
+                router.getGraph(), position)) {
+            return false;
+        }
+        router.distances(position, distances);
+        return true;
+    }
+
+    /**
+     * 지점까지의 경로 거리 (미터), 도달할 수 없거나 아직 갱신하지 않았으면 {@link Double#POSITIVE_INFINITY}
+     * 복도 위로 투영한 위치에서 잰 거리이며, 복도까지의 수직 거리는 포함하지 않는다.
+     */
+    public double getDistance(int target) {
+        return distances[target];
+    }
+
+    /**
+     * 지금까지 실행한 탐색 횟수
+     */
+    public int getSearchCount() {
+        return router.getSearchCount();
+    }
+}
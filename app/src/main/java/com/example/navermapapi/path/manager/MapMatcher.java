@@ -0,0 +1,268 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.LocalFrame;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.graph.VenueGraph;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+import com.naver.maps.geometry.LatLng;
+
+/**
+ * PDR 궤적을 복도 그래프 위로 맞추는 온라인 HMM 지도 매칭
+ * 관측마다 주변 간선들을 후보 상태로 두고, 관측 확률은 간선까지의 거리(가우시안),
+ * 전이 확률은 후보 사이 경로 거리와 관측 이동 거리의 차이(지수 분포)로 계산해 Viterbi로 디코딩한다.
+ * 최근 lag 걸음만 고정 크기 버퍼에 보관하므로 오래 안내해도 걸음당 계산량과 메모리가 일정하고,
+ * lag 걸음 전 위치는 현재 최적 상태에서 역추적해 확정한다.
+ * {@link PathDataManager#newMapMatcher}로 만들고, 위치 갱신을 받는 한 스레드에서만 사용한다.
+ */
+public final class MapMatcher {
+    /** 확정까지 지연되는 걸음 수 */
+    public static final int DEFAULT_LAG = 4;
+    /** 관측마다 보관하는 후보 간선 수 */
+    public static final int DEFAULT_CANDIDATES = 4;
+    /** 후보 간선 검색 반경 (m) */
+    public static final double DEFAULT_SEARCH_RADIUS = 8.0;
+    /** PDR 위치 오차 표준편차 (m) */
+    public static final double DEFAULT_SIGMA = 2.0;
+    /** 경로 거리와 이동 거리 차이의 척도 (m) */
+    public static final double DEFAULT_BETA = 1.5;
+
+    /**
+     * 관측 위치 주변 후보 간선 검색 (세션을 만든 시설의 공간 색인 사용)
+     */
+    interface CandidateQuery {
+        int nearest(double x, double y, double radius, EdgeSnap[] out);
+    }
+
+    private final VenueGraph venue;
+    private final CandidateQuery query;
+    private final int lag;
+    private final double searchRadius;
+    private final double sigma;
+    private final double beta;
+
+    // 최근 lag + 1 걸음의 후보와 역추적 정보 (원형 버퍼)
+    private final EdgeSnap[][] candidates;
+    private final int[] counts;
+    private final int[][] back;
+    private double[] scores;
+    private double[] nextScores;
+
+    // 관측마다 재사용
+    private final EdgeSnap[] found;
+    private final int[] startNodes = new int[2];
+    private final double[] startCosts = new double[2];
+    private final int[] endNodes = new int[2];
+    private final double[] endCosts = new double[2];
+
+    private int slot = -1;
+    private int chainLength;
+    private double lastX;
+    private double lastY;
+    private int best = -1;
+
+    MapMatcher(@NonNull VenueGraph venue, @NonNull CandidateQuery query, int lag, int candidateCount,
+               double searchRadius, double sigma, double beta) {
+        if (lag < 0 || candidateCount < 1) {
+            throw new IllegalArgumentException("Invalid lag or candidate count");
+        }
+        if (!(searchRadius > 0) || !(sigma > 0) || !(beta > 0)) {
+            throw new IllegalArgumentException("Radius, sigma and beta must be positive");
+        }
+        this.venue = venue;
+        this.query = query;
+        this.lag = lag;
+        this.searchRadius = searchRadius;
+        this.sigma = sigma;
+        this.beta = beta;
+
+        candidates = new EdgeSnap[lag + 1][candidateCount];
+        for (EdgeSnap[] step : candidates) {
+            for (int k = 0; k < candidateCount; k++) {
+                step[k] = new EdgeSnap();
+            }
+        }
+        counts = new int[lag + 1];
+        back = new int[lag + 1][candidateCount];
+        scores = new double[candidateCount];
+        nextScores = new double[candidateCount];
+        found = new EdgeSnap[candidateCount];
+        for (int k = 0; k < candidateCount; k++) {
+            found[k] = new EdgeSnap();
+        }
+    }
+
+    public int getLag() {
+        return lag;
+    }
+
+    /**
+     * 새 관측 위치 반영
+     * @return 매칭되었는지 여부 (주변에 복도가 없으면 관측을 건너뛰고 false)
+     */
+    public boolean update(@NonNull LatLng position) {
+        LocalFrame frame = venue.getFrame();
+        return update(frame.toX(position.longitude), frame.toY(position.latitude));
+    }
+
+    /**
+     * 로컬 좌표(m)의 관측 위치 반영
+     */
+    public boolean update(double x, double y) {
+        int count = query.nearest(x, y, searchRadius, found);
+        if (count == 0) {
+            return false;
+        }
+
+        int previous = slot;
+        int current = (slot + 1) % candidates.length;
+        EdgeSnap[] step = candidates[current];
+        for (int k = 0; k < count; k++) {
+            step[k].copyFrom(found[k]);
+        }
+        counts[current] = count;
+
+        boolean connected = chainLength > 0
+                && transition(candidates[previous], counts[previous], step, count,
+                Math.hypot(x - lastX, y - lastY), back[current]);
+        if (!connected) {
+            // 첫 관측이거나 이전 후보에서 도달할 수 없으면 연결을 끊고 새로 시작
+            chainLength = 0;
+            for (int k = 0; k < count; k++) {
+                nextScores[k] = 0;
+                back[current][k] = -1;
+            }
+        }
+
+        // 관측 확률 반영 후 최솟값을 0으로 맞춰 긴 세션에서도 값이 커지지 않게 함
+        double min = Double.POSITIVE_INFINITY;
+        best = -1;
+        for (int k = 0; k < count; k++) {
+            double z = step[k].getDistance() / sigma;
+            nextScores[k] += 0.5 * z * z;
+            if (nextScores[k] < min) {
+                min = nextScores[k];
+                best = k;
+            }
+        }
+        for (int k = 0; k < count; k++) {
+            nextScores[k] -= min;
+        }
+        double[] swap = scores;
+        scores = nextScores;
+        nextScores = swap;
+
+        slot = current;
+        chainLength = Math.min(chainLength + 1, candidates.length);
+        lastX = x;
+        lastY = y;
+        return true;
+    }
+
+    // 이전 후보 → 현재 후보 전이 (음의 로그 확률), 하나라도 연결되면 true
+    private boolean transition(EdgeSnap[] from, int fromCount, EdgeSnap[] to, int toCount,
+                               double stepDistance, int[] backPointers) {
+        CsrGraph graph = venue.getGraph();
+        double maxRoute = stepDistance + 2 * searchRadius;
+        for (int c = 0; c < toCount; c++) {
+            nextScores[c] = Double.POSITIVE_INFINITY;
+            backPointers[c] = -1;
+        }
+
+        boolean connected = false;
+        for (int p = 0; p < fromCount; p++) {
+            if (Double.isInfinite(scores[p])) continue;
+            SearchWorkspace workspace = SearchWorkspace.get(graph.getNodeCount());
+            int startCount = PathRouter.startCandidates(graph, from[p], startNodes, startCosts);
+            for (int k = 0; k < startCount; k++) {
+                DijkstraAlgorithm.seed(startNodes[k], startCosts[k], workspace);
+            }
+            DijkstraAlgorithm.searchSeededUntil(graph, maxRoute, workspace);
+
+            for (int c = 0; c < toCount; c++) {
+                double route = PathRouter.directDistance(graph, from[p], to[c]);
+                int endCount = PathRouter.endCandidates(graph, to[c], endNodes, endCosts);
+                for (int k = 0; k < endCount; k++) {
+                    if (workspace.isSettled(endNodes[k])) {
+                        route = Math.min(route, workspace.distance(endNodes[k]) + endCosts[k]);
+                    }
+                }
+                if (route > maxRoute) continue;
+
+                double score = scores[p] + Math.abs(route - stepDistance) / beta;
+                if (score < nextScores[c]) {
+                    nextScores[c] = score;
+                    backPointers[c] = p;
+                    connected = true;
+                }
+            }
+        }
+        return connected;
+    }
+
+    /**
+     * 현재 관측의 최적 위치 (이후 관측에 따라 바뀔 수 있음)
+     * @return 아직 매칭된 관측이 없으면 false
+     */
+    public boolean getCurrent(@NonNull EdgeSnap out) {
+        if (best < 0) {
+            out.reset();
+            return false;
+        }
+        out.copyFrom(candidates[slot][best]);
+        return true;
+    }
+
+    /**
+     * lag 걸음 전 관측의 확정 위치 (연결이 끊긴 직후에는 끊긴 지점 이후의 가장 오래된 관측)
+     * @return 아직 매칭된 관측이 없으면 false
+     */
+    public boolean getLagged(@NonNull EdgeSnap out) {
+        if (best < 0) {
+            out.reset();
+            return false;
+        }
+        int s = slot;
+        int k = best;
+        for (int i = 1; i < chainLength; i++) {
+            k = back[s][k];
+            s = (s + candidates.length - 1) % candidates.length;
+        }
+        out.copyFrom(candidates[s][k]);
+        return true;
+    }
+
+    /**
+     * 현재 관측의 최적 위치를 지도 좌표로, 매칭된 관측이 없으면 null
+     */
+    @Nullable
+    public LatLng getMatchedPosition() {
+        return best < 0 ? null : toLatLng(candidates[slot][best]);
+    }
+
+    /**
+     * {@link #getLagged}의 지도 좌표, 매칭된 관측이 없으면 null
+     */
+    @Nullable
+    public LatLng getLaggedPosition() {
+        EdgeSnap snap = new EdgeSnap();
+        return getLagged(snap) ? toLatLng(snap) : null;
+    }
+
+    /**
+     * 궤적 초기화 (위치 재설정 시)
+     */
+    public void reset() {
+        slot = -1;
+        chainLength = 0;
+        best = -1;
+    }
+
+    private LatLng toLatLng(EdgeSnap snap) {
+        LocalFrame frame = venue.getFrame();
+        return new LatLng(frame.toLatitude(snap.getY()), frame.toLongitude(snap.getX()));
+    }
+}
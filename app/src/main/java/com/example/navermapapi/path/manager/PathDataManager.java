@@ -1,35 +1,40 @@
 package com.example.navermapapi.path.manager;
 
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.EdgeOverlay;
+import com.example.navermapapi.path.graph.FloorPartition;
+import com.example.navermapapi.path.graph.LocalFrame;
+import com.example.navermapapi.path.graph.RoutingProfile;
+import com.example.navermapapi.path.graph.VenueGraph;
+import com.example.navermapapi.path.graph.VenueGraphFile;
+import com.example.navermapapi.path.spatial.EdgeRTree;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+import com.example.navermapapi.path.spatial.KdTree;
 import com.naver.maps.geometry.LatLng;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 public class PathDataManager {
-    // 노드 리스트
-    private static final List<LatLng> NODES;
-    // 간선 리스트 (인접 리스트)
-    private static final Map<Integer, List<Edge>> EDGES;
-
-    static {
-        NODES = new ArrayList<>();
-        EDGES = new HashMap<>();
-
-        // 실제 정보문학관 경로의 주요 노드들 추가
-        NODES.add(new LatLng(37.558414, 127.048783)); // 노드 0: 시작점
-        NODES.add(new LatLng(37.558500, 127.049097)); // 노드 1: 엘베앞
-        NODES.add(new LatLng(37.558372, 127.049145)); // 노드 2: 캡스톤 강의실 반대편
-        NODES.add(new LatLng(37.558368, 127.049108)); // 노드 3: 캡스톤 강의실
-        NODES.add(new LatLng(37.558465, 127.049065)); // 노드 4: 엘베앞보다 안쪽
-        NODES.add(new LatLng(37.558391, 127.048789)); // 노드 5: 시작점의 반대편
-
-        // 실제 경로에 맞게 간선 추가 (양방향)
-        addEdge(0, 1); // 시작점 - 엘베앞
-        addEdge(1, 2); // 엘베앞 - 캡스톤 강의실 반대편
-        addEdge(2, 3); // 캡스톤 강의실 반대편 - 캡스톤 강의실
-        addEdge(3, 4); // 캡스톤 강의실 - 엘베앞보다 안쪽
-        addEdge(4, 5); // 엘베앞보다 안쪽 - 시작점의 반대편
-        addEdge(5, 0); // 시작점의 반대편 - 시작점
-    }
+    // 기본 시설 그래프 (assets, 비압축 저장 후 메모리 매핑)
+    public static final String DEFAULT_VENUE_ASSET = "routing/venue" + VenueGraphFile.EXTENSION;
+    // 기본 탐색 방식
+    public static final RoutingMode DEFAULT_ROUTING_MODE = RoutingMode.DIJKSTRA;
+    // 층을 지정하지 않은 질의 (모든 층의 복도에서 찾음)
+    public static final int ANY_FLOOR = Integer.MIN_VALUE;
 
+    // 현재 시설 스냅샷 (그래프, 간선 변경, 탐색기를 한 번에 교체, 질의는 읽은 스냅샷만 사용)
+    private static volatile Venue venue;
+    // 스냅샷 교체는 한 번에 하나씩 (질의 스레드는 잠그지 않음)
+    private static final Object SNAPSHOT_LOCK = new Object();
+    private static long snapshotVersion;
+    // 현재 경로 프로필 (프로필별 탐색기는 시설을 읽을 때 준비됨)
+    private static volatile RoutingProfile routingProfile = RoutingProfile.DEFAULT;
 
     // 범위 내에 있는지 확인하는 메서드 추가
     public static boolean isPointInBoundary(LatLng point) {
@@ -64,74 +69,690 @@ public class PathDataManager {
         // Utility class
     }
 
-    private static void addEdge(int from, int to) {
-        double distance = calculateDistance(NODES.get(from), NODES.get(to));
-        EDGES.computeIfAbsent(from, k -> new ArrayList<>()).add(new Edge(to, distance));
-        EDGES.computeIfAbsent(to, k -> new ArrayList<>()).add(new Edge(from, distance));
+    /**
+     * APK assets의 시설 그래프를 매핑해 현재 시설로 교체
+     * 파일은 압축되지 않은 상태여야 한다 (build.gradle의 noCompress 참고).
+     * 프로세스마다 한 번 읽으므로 본문 체크섬과 간선 구조도 이때 검사한다.
+     */
+    public static void loadVenueAsset(AssetManager assets, String assetName) throws IOException {
+        try (AssetFileDescriptor descriptor = assets.openFd(assetName);
+             FileInputStream input = descriptor.createInputStream()) {
+            loadVenue(VenueGraphFile.map(input.getChannel(),
+                    descriptor.getStartOffset(), descriptor.getLength(), true));
+        }
+    }
+
+    /**
+     * 현재 시설 교체 (이전 시설의 축약 계층은 함께 해제됨)
+     * 프로필마다 간선 비용 배열과 A* 휴리스틱, ALT 랜드마크 표를 이때 한 번 계산하므로
+     * 프로필을 바꿔도 질의 비용은 같고 첫 질의가 전처리 비용을 떠안지 않는다.
+     */
+    public static void loadVenue(VenueGraph graph) {
+        RoutingProfile[] profiles = RoutingProfile.values();
+        PathRouter[] routers = new PathRouter[profiles.length];
+        for (RoutingProfile profile : profiles) {
+            PathRouter router = new PathRouter(profile.applyTo(graph.getGraph()));
+            router.precompute();
+            routers[profile.ordinal()] = router;
+        }
+        RouteCache[] routeCaches = new RouteCache[profiles.length];
+        for (int i = 0; i < routeCaches.length; i++) {
+            routeCaches[i] = new RouteCache(RouteCache.DEFAULT_CAPACITY);
+        }
+        synchronized (SNAPSHOT_LOCK) {
+            venue = new Venue(new VenueIndex(graph, routers[RoutingProfile.DEFAULT.ordinal()]), routers,
+                    EdgeOverlay.EMPTY, routers, routeCaches, ++snapshotVersion);
+        }
+    }
+
+    /**
+     * 두 노드 사이 복도 통제 (양방향, 행사 등으로 막힌 통로)
+     * 새 스냅샷을 만들어 교체하므로 진행 중인 질의는 이전 그래프로 끝까지 계산된다.
+     * @throws IllegalArgumentException 두 노드 사이에 간선이 없는 경우
+     */
+    public static void closeCorridor(int fromNode, int toNode) {
+        updateOverlay(fromNode, toNode, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * 두 노드 사이 복도 비용에 배율 적용 (양방향, 혼잡 구역 우회 유도)
+     * @param factor 1 이상의 배율 (1이면 해제)
+     */
+    public static void penalizeCorridor(int fromNode, int toNode, double factor) {
+        if (!(factor >= 1)) {
+            throw new IllegalArgumentException("Penalty factor must be at least 1: " + factor);
+        }
+        updateOverlay(fromNode, toNode, factor);
+    }
+
+    /**
+     * 두 노드 사이 복도의 통제나 배율 해제
+     */
+    public static void reopenCorridor(int fromNode, int toNode) {
+        updateOverlay(fromNode, toNode, 1);
+    }
+
+    /**
+     * 모든 통제와 배율 해제 (축약 계층 탐색도 다시 사용 가능)
+     */
+    public static void clearCorridorChanges() {
+        synchronized (SNAPSHOT_LOCK) {
+            publish(requireVenue(), EdgeOverlay.EMPTY);
+        }
+    }
+
+    public static boolean isCorridorClosed(int fromNode, int toNode) {
+        Venue current = requireVenue();
+        int edge = current.graph.getGraph().findEdge(fromNode, toNode);
+        return edge >= 0 && current.overlay.isClosed(edge);
+    }
+
+    /**
+     * 현재 프로필의 경로 캐시 (적중률 확인용)
+     */
+    public static RouteCache getRouteCache() {
+        return requireVenue().routeCache(routingProfile);
+    }
+
+    /**
+     * 현재 스냅샷 버전 (시설을 읽거나 복도 변경이 반영될 때마다 증가, 캐시 무효화 확인용)
+     */
+    public static long getSnapshotVersion() {
+        return requireVenue().version;
+    }
+
+    private static void updateOverlay(int fromNode, int toNode, double factor) {
+        synchronized (SNAPSHOT_LOCK) {
+            Venue current = requireVenue();
+            CsrGraph graph = current.graph.getGraph();
+            graph.checkNode(fromNode);
+            graph.checkNode(toNode);
+            int forward = graph.findEdge(fromNode, toNode);
+            int backward = graph.findEdge(toNode, fromNode);
+            if (forward < 0 && backward < 0) {
+                throw new IllegalArgumentException("No corridor between " + fromNode + " and " + toNode);
+            }
+
+            EdgeOverlay overlay = current.overlay;
+            for (int edge : new int[]{forward, backward}) {
+                if (edge < 0) continue;
+                if (factor == 1) {
+                    overlay = overlay.clear(edge);
+                } else if (Double.isInfinite(factor)) {
+                    overlay = overlay.close(edge);
+                } else {
+                    overlay = overlay.penalize(edge, factor);
+                }
+            }
+            publish(current, overlay);
+        }
+    }
+
+    // 간선 변경을 반영한 새 스냅샷을 만들어 교체 (SNAPSHOT_LOCK 안에서 호출)
+    private static void publish(Venue current, EdgeOverlay overlay) {
+        if (overlay == current.overlay) return;
+        int[] changed = EdgeOverlay.changedEdges(current.overlay, overlay);
+        boolean raisedOnly = true;
+        for (int edge : changed) {
+            raisedOnly &= overlay.factor(edge) > current.overlay.factor(edge);
+        }
+        PathRouter[] routers = new PathRouter[current.baseRouters.length];
+        for (int i = 0; i < routers.length; i++) {
+            PathRouter base = current.baseRouters[i];
+            routers[i] = overlay.isEmpty() ? base : base.withRaisedWeights(overlay.applyTo(base.getGraph()));
+            routers[i].retainCachedResults(current.routers[i], changed);
+        }
+        long version = ++snapshotVersion;
+        for (RouteCache cache : current.routeCaches) {
+            cache.advance(current.version, version, current.graph.getGraph(), changed, raisedOnly);
+        }
+        venue = new Venue(current.index, current.baseRouters, overlay, routers, current.routeCaches, version);
+    }
+
+    /**
+     * 경로 프로필 변경 (다음 질의부터 적용)
+     */
+    public static void setRoutingProfile(RoutingProfile profile) {
+        routingProfile = profile;
     }
 
-    private static double calculateDistance(LatLng pointA, LatLng pointB) {
-        float[] results = new float[1];
-        android.location.Location.distanceBetween(
-                pointA.latitude, pointA.longitude,
-                pointB.latitude, pointB.longitude,
-                results
-        );
-        return results[0];
+    public static RoutingProfile getRoutingProfile() {
+        return routingProfile;
+    }
+
+    public static boolean isVenueLoaded() {
+        return venue != null;
+    }
+
+    private static Venue requireVenue() {
+        Venue current = venue;
+        if (current == null) {
+            throw new IllegalStateException("Venue graph not loaded");
+        }
+        return current;
+    }
+
+    public static LatLng getNode(int index) {
+        VenueGraph graph = requireVenue().graph;
+        return new LatLng(graph.latitude(index), graph.longitude(index));
     }
 
     public static List<LatLng> getNodes() {
-        return new ArrayList<>(NODES);
+        VenueGraph graph = requireVenue().graph;
+        int count = graph.getGraph().getNodeCount();
+        List<LatLng> nodes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            nodes.add(new LatLng(graph.latitude(i), graph.longitude(i)));
+        }
+        return nodes;
     }
 
+    /**
+     * 현재 스냅샷의 인접 목록 (배율 반영, 통제된 복도 제외)
+     */
     public static Map<Integer, List<Edge>> getEdges() {
-        return new HashMap<>(EDGES);
+        CsrGraph graph = requireVenue().router(RoutingProfile.DEFAULT).getGraph();
+        Map<Integer, List<Edge>> edges = new HashMap<>();
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            List<Edge> list = new ArrayList<>(graph.degree(node));
+            for (int e = graph.firstEdge(node); e < graph.endEdge(node); e++) {
+                if (Double.isInfinite(graph.weight(e))) continue;
+                list.add(new Edge(graph.target(e), graph.weight(e)));
+            }
+            edges.put(node, list);
+        }
+        return edges;
     }
 
+    public static VenueGraph getVenue() {
+        return requireVenue().graph;
+    }
+
+    public static CsrGraph getGraph() {
+        return requireVenue().graph.getGraph();
+    }
+
+    /**
+     * 현재 프로필의 탐색기
+     */
+    public static PathRouter getRouter() {
+        return requireVenue().router(routingProfile);
+    }
+
+    public static PathRouter getRouter(RoutingProfile profile) {
+        return requireVenue().router(profile);
+    }
+
+    /**
+     * 복도(간선)에서 허용 오차 안에 있는지
+     */
     public static boolean isPointOnPath(LatLng point, double toleranceMeters) {
-        for (int i = 0; i < NODES.size(); i++) {
-            LatLng node = NODES.get(i);
-            double distance = calculateDistance(point, node);
-            if (distance <= toleranceMeters) {
-                return true;
-            }
+        Venue current = requireVenue();
+        LocalFrame frame = current.graph.getFrame();
+        EdgeSnap snap = new EdgeSnap();
+        return current.edgeIndex().nearest(
+                frame.toX(point.longitude), frame.toY(point.latitude), toleranceMeters, snap);
+    }
+
+    /**
+     * 가장 가까운 간선 위로 투영 (안내 중 센서 주기로 호출하므로 out을 재사용)
+     * @return 간선을 찾았는지 여부
+     */
+    public static boolean snapToPath(LatLng point, EdgeSnap out) {
+        return snapToPath(requireVenue(), point, ANY_FLOOR, out);
+    }
+
+    /**
+     * 지정한 층의 가장 가까운 간선 위로 투영
+     * @param floor 층 번호 ({@link #ANY_FLOOR}이면 모든 층)
+     */
+    public static boolean snapToPath(LatLng point, int floor, EdgeSnap out) {
+        return snapToPath(requireVenue(), point, floor, out);
+    }
+
+    /**
+     * 가장 가까운 간선 위의 점
+     */
+    public static LatLng findNearestPointOnPath(LatLng point) {
+        Venue current = requireVenue();
+        EdgeSnap snap = new EdgeSnap();
+        if (!snapToPath(current, point, ANY_FLOOR, snap)) {
+            return getNode(findNearestNode(current, point));
         }
-        return false;
+        return toLatLng(current.graph, snap);
+    }
+
+    // 현재 프로필 비용으로 지나갈 수 있는 복도에만 투영 (통제된 복도 제외)
+    private static boolean snapToPath(Venue current, LatLng point, int floor, EdgeSnap out) {
+        LocalFrame frame = current.graph.getFrame();
+        return current.edgeIndex(floor).nearest(frame.toX(point.longitude), frame.toY(point.latitude),
+                Double.POSITIVE_INFINITY, current.router(routingProfile).getGraph(), out);
+    }
+
+    private static LatLng toLatLng(VenueGraph graph, EdgeSnap snap) {
+        LocalFrame frame = graph.getFrame();
+        return new LatLng(frame.toLatitude(snap.getY()), frame.toLongitude(snap.getX()));
     }
 
     public static int findNearestNodeIndex(LatLng point) {
-        double minDistance = Double.MAX_VALUE;
-        int nearestNodeIndex = -1;
-
-        for (int i = 0; i < NODES.size(); i++) {
-            LatLng node = NODES.get(i);
-            double distance = calculateDistance(point, node);
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearestNodeIndex = i;
-            }
+        return findNearestNode(requireVenue(), point);
+    }
+
+    /**
+     * 가까운 순서로 최대 k개의 노드 번호
+     */
+    public static int[] findNearestNodeIndices(LatLng point, int k) {
+        Venue current = requireVenue();
+        LocalFrame frame = current.graph.getFrame();
+        int[] nodes = new int[k];
+        int count = current.nodeIndex().nearest(
+                frame.toX(point.longitude), frame.toY(point.latitude), nodes, new double[k]);
+        return count == k ? nodes : Arrays.copyOf(nodes, count);
+    }
+
+    /**
+     * 반경(m) 안의 노드 번호 (순서 없음)
+     */
+    public static int[] findNodesWithinRadius(LatLng point, double radiusMeters) {
+        Venue current = requireVenue();
+        LocalFrame frame = current.graph.getFrame();
+        double x = frame.toX(point.longitude);
+        double y = frame.toY(point.latitude);
+        int[] nodes = new int[16];
+        int count = current.nodeIndex().withinRadius(x, y, radiusMeters, nodes);
+        if (count > nodes.length) {
+            nodes = new int[count];
+            current.nodeIndex().withinRadius(x, y, radiusMeters, nodes);
+        }
+        return count == nodes.length ? nodes : Arrays.copyOf(nodes, count);
+    }
+
+    private static int findNearestNode(Venue current, LatLng point) {
+        LocalFrame frame = current.graph.getFrame();
+        return current.nodeIndex().nearest(frame.toX(point.longitude), frame.toY(point.latitude));
+    }
+
+    /**
+     * 오프라인에서 만든 축약 계층을 읽어 기본 프로필에 연결 (단말에서는 빌드하지 않음)
+     * 복도 변경이 있는 동안에는 계층이 맞지 않으므로, 변경을 모두 해제한 스냅샷부터 사용된다.
+     * @throws IOException 파일이 손상되었거나 현재 그래프와 맞지 않는 경우
+     */
+    public static void loadContractionHierarchy(InputStream input) throws IOException {
+        ContractionHierarchy hierarchy = ContractionHierarchy.readFrom(input);
+        PathRouter router = requireVenue().baseRouters[RoutingProfile.DEFAULT.ordinal()];
+        if (!hierarchy.matches(router.getGraph())) {
+            throw new IOException("Contraction hierarchy was built for a different graph");
         }
-        return nearestNodeIndex;
+        router.setContractionHierarchy(hierarchy);
+    }
+
+    /**
+     * 기본 프로필에 축약 계층이 연결되어 있는지 (복도 변경 중이라 쓰지 않는 경우도 포함)
+     */
+    public static boolean hasContractionHierarchy() {
+        return requireVenue().baseRouters[RoutingProfile.DEFAULT.ordinal()].hasContractionHierarchy();
+    }
+
+    /**
+     * 축약 계층이 있으면 계층 탐색, 없으면 기본 탐색 방식
+     */
+    public static RoutingMode getPreferredRoutingMode() {
+        return getRouter().hasContractionHierarchy() ?
+                RoutingMode.CONTRACTION_HIERARCHY : DEFAULT_ROUTING_MODE;
     }
 
     public static List<LatLng> calculatePathBetweenPoints(LatLng start, LatLng end) {
-        int startNodeIndex = findNearestNodeIndex(start);
-        int endNodeIndex = findNearestNodeIndex(end);
+        return calculatePathBetweenPoints(start, end, getPreferredRoutingMode());
+    }
+
+    public static List<LatLng> calculatePathBetweenPoints(LatLng start, LatLng end,
+                                                          RoutingMode mode) {
+        return calculatePathBetweenPoints(start, ANY_FLOOR, end, ANY_FLOOR, mode);
+    }
 
-        List<Integer> pathNodeIndices = DijkstraAlgorithm.findShortestPath(
-                EDGES, startNodeIndex, endNodeIndex);
+    /**
+     * 층이 다른 두 지점 사이 경로 (각 지점은 해당 층의 복도로 투영)
+     */
+    public static List<LatLng> calculatePathBetweenPoints(LatLng start, int startFloor,
+                                                          LatLng end, int endFloor,
+                                                          RoutingMode mode) {
+        Venue current = requireVenue();
+        EdgeSnap from = new EdgeSnap();
+        EdgeSnap to = new EdgeSnap();
+        RouteResult route = findRoute(current, start, startFloor, end, endFloor, mode, from, to);
 
         List<LatLng> pathPoints = new ArrayList<>();
         pathPoints.add(start); // 시작점 추가
+        if (route.isFound() && from.isValid()) {
+            pathPoints.add(toLatLng(current.graph, from)); // 복도 위 출발 지점
+        }
 
-        for (int nodeIndex : pathNodeIndices) {
-            pathPoints.add(NODES.get(nodeIndex));
+        for (int i = 0; i < route.getNodeCount(); i++) {
+            int node = route.getNode(i);
+            pathPoints.add(new LatLng(current.graph.latitude(node), current.graph.longitude(node)));
         }
 
+        if (route.isFound() && to.isValid()) {
+            pathPoints.add(toLatLng(current.graph, to)); // 복도 위 도착 지점
+        }
         pathPoints.add(end); // 끝점 추가
         return pathPoints;
     }
 
+    /**
+     * 두 지점을 가장 가까운 간선 위로 투영한 가상 노드 사이의 경로 탐색
+     * 결과 노드는 두 지점 사이의 실제 노드만 포함한다.
+     * @param mode 탐색 방식 (질의마다 선택 가능)
+     */
+    public static RouteResult findRoute(LatLng start, LatLng end, RoutingMode mode) {
+        return findRoute(start, ANY_FLOOR, end, ANY_FLOOR, mode);
+    }
+
+    /**
+     * 층을 지정한 두 지점 사이 경로 탐색
+     * 지정한 층은 각 지점을 그 층의 복도로 투영할 때만 쓰고 ({@link FloorPartition}별 공간 색인),
+     * 탐색은 다른 층을 거쳐 가는 경로도 찾도록 항상 전체 그래프에서 한다.
+     */
+    public static RouteResult findRoute(LatLng start, int startFloor, LatLng end, int endFloor,
+                                        RoutingMode mode) {
+        return findRoute(requireVenue(), start, startFloor, end, endFloor, mode,
+                new EdgeSnap(), new EdgeSnap());
+    }
+
+    // 탐색 도중 시설이 교체되어도 한 시설의 그래프와 탐색기만 사용
+    // 투영한 간선 쌍이 같은 이전 질의가 있으면 경로 캐시에서 바로 계산
+    private static RouteResult findRoute(Venue current, LatLng start, int startFloor,
+                                         LatLng end, int endFloor, RoutingMode mode,
+                                         EdgeSnap from, EdgeSnap to) {
+        if (snapToPath(current, start, startFloor, from) && snapToPath(current, end, endFloor, to)) {
+            RoutingProfile profile = routingProfile;
+            return current.routeCache(profile).route(current.router(profile), current.version, from, to, mode);
+        }
+        // 간선이 없는 그래프
+        from.reset();
+        to.reset();
+        int startNodeIndex = findNearestNode(current, start);
+        int endNodeIndex = findNearestNode(current, end);
+        return current.router(routingProfile).route(startNodeIndex, endNodeIndex, mode);
+    }
+
+    /**
+     * 여러 방문지를 가장 짧게 도는 순서 계획 (마지막 방문지에서 끝남)
+     */
+    public static TourPlan planTour(LatLng start, LatLng[] stops) {
+        return planTour(start, stops, false, TourPlanner.DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * 여러 방문지를 도는 순서 계획
+     * @param returnToStart 출발지로 돌아오는 경로인지 여부
+     * @param timeBudgetMillis 순서 개선 시간 예산
+     */
+    public static TourPlan planTour(LatLng start, LatLng[] stops, boolean returnToStart,
+                                    long timeBudgetMillis) {
+        Venue current = requireVenue();
+        LatLng[] points = new LatLng[stops.length + 1];
+        points[0] = start;
+        System.arraycopy(stops, 0, points, 1, stops.length);
+        EdgeSnap[] snaps = new EdgeSnap[points.length];
+        for (int i = 0; i < points.length; i++) {
+            snaps[i] = new EdgeSnap();
+            if (!snapToPath(current, points[i], ANY_FLOOR, snaps[i])) {
+                throw new IllegalStateException("Venue graph has no edges");
+            }
+        }
+
+        TourPlanner.Tour tour = new TourPlanner(current.router(routingProfile)).plan(snaps, returnToStart,
+                timeBudgetMillis, getPreferredRoutingMode());
+        int[] order = tour.getOrder();
+
+        // 구간마다 복도 위 출발 지점 → 노드 → 복도 위 도착 지점 → 방문지
+        List<LatLng> pathPoints = new ArrayList<>();
+        pathPoints.add(start);
+        for (int k = 0; k < tour.getLegCount(); k++) {
+            int from = order[k];
+            int to = order[(k + 1) % order.length];
+            RouteResult leg = tour.getLeg(k);
+            pathPoints.add(toLatLng(current.graph, snaps[from]));
+            for (int i = 0; i < leg.getNodeCount(); i++) {
+                int node = leg.getNode(i);
+                pathPoints.add(new LatLng(current.graph.latitude(node), current.graph.longitude(node)));
+            }
+            pathPoints.add(toLatLng(current.graph, snaps[to]));
+            pathPoints.add(points[to]);
+        }
+
+        int[] stopOrder = new int[stops.length];
+        for (int k = 1; k < order.length; k++) {
+            stopOrder[k - 1] = order[k] - 1;
+        }
+        return new TourPlan(stops, stopOrder, tour.getDistance(), pathPoints);
+    }
+
+    /**
+     * 목적지로 안내하는 증분 재탐색 세션 (위치 갱신마다 {@link RouteSession#update} 호출)
+     */
+    public static RouteSession newRouteSession(LatLng destination) {
+        return newRouteSession(destination, ANY_FLOOR);
+    }
+
+    /**
+     * 지정한 층의 목적지로 안내하는 세션
+     * @throws IllegalStateException 시설에 복도(간선)가 없는 경우
+     */
+    public static RouteSession newRouteSession(LatLng destination, int floor) {
+        return newRouteSession(requireVenue(), routingProfile, destination, floor);
+    }
+
+    /**
+     * 세션을 현재 스냅샷에 맞춤
+     * 같은 시설과 프로필에서 복도 통제나 배율만 바뀌었으면 바뀐 간선만 세션에 넘겨 다음 갱신 때
+     * 영향받는 영역만 다시 계획하고, 시설이나 프로필, 목적지 간선 비용이 바뀌었으면 새 세션을 만든다.
+     * @return 현재 스냅샷 기준 세션 (같은 세션일 수 있음)
+     */
+    public static RouteSession updateRouteSession(RouteSession session) {
+        Venue current = requireVenue();
+        RoutingProfile profile = routingProfile;
+        if (session.getVenue() == current.graph && session.getProfile() == profile) {
+            if (session.getSnapshotVersion() == current.version) return session;
+            if (session.applySnapshot(current.router(profile).getGraph(), current.overlay, current.version)) {
+                return session;
+            }
+        }
+        return newRouteSession(current, profile, session.getDestination(), session.getDestinationFloor());
+    }
+
+    private static RouteSession newRouteSession(Venue current, RoutingProfile profile,
+                                                LatLng destination, int floor) {
+        EdgeSnap target = new EdgeSnap();
+        if (!snapToPath(current, destination, floor, target)) {
+            throw new IllegalStateException("Venue graph has no edges");
+        }
+        return new RouteSession(current.graph, current.router(profile), profile, current.overlay, current.version,
+                (x, y, positionFloor, weights, out) ->
+                        current.edgeIndex(positionFloor).nearest(x, y, Double.POSITIVE_INFINITY, weights, out),
+                destination, floor, target);
+    }
+
+    /**
+     * 현재 위치에서 거리 예산 안에 걸어서 닿을 수 있는 영역의 외곽선 (지도 오버레이용)
+     * @param maxDistance 거리 예산 (미터, 보행 시간 × {@code ExhibitionConstants.WALKING_SPEED})
+     * @return 볼록 껍질 좌표 (복도 위로 투영할 수 없거나 영역이 선분이면 3개 미만)
+     */
+    public static List<LatLng> getIsochroneHull(LatLng position, double maxDistance) {
+        Venue current = requireVenue();
+        List<LatLng> hull = new ArrayList<>();
+        EdgeSnap from = new EdgeSnap();
+        if (!snapToPath(current, position, ANY_FLOOR, from)) {
+            return hull;
+        }
+        Isochrone isochrone = current.router(routingProfile).isochrone(from, maxDistance);
+        LocalFrame frame = current.graph.getFrame();
+        for (int i = 0; i < isochrone.getHullSize(); i++) {
+            hull.add(new LatLng(frame.toLatitude(isochrone.getHullY(i)),
+                    frame.toLongitude(isochrone.getHullX(i))));
+        }
+        return hull;
+    }
+
+    /**
+     * 현재 위치에서 여러 지점까지의 거리 추적 (지점은 같은 층 제한 없이 가장 가까운 복도로 투영)
+     * @throws IllegalStateException 시설에 복도(간선)가 없는 경우
+     */
+    public static DistanceTracker newDistanceTracker(LatLng[] targets) {
+        return newDistanceTracker(targets, ANY_FLOOR);
+    }
+
+    /**
+     * 지정한 층의 지점까지의 거리 추적
+     */
+    public static DistanceTracker newDistanceTracker(LatLng[] targets, int floor) {
+        Venue current = requireVenue();
+        EdgeSnap[] snaps = new EdgeSnap[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            snaps[i] = new EdgeSnap();
+            if (!snapToPath(current, targets[i], floor, snaps[i])) {
+                throw new IllegalStateException("Venue graph has no edges");
+            }
+        }
+        PathRouter router = current.router(routingProfile);
+        return new DistanceTracker(current.graph,
+                (x, y, positionFloor, weights, out) ->
+                        current.edgeIndex(positionFloor).nearest(x, y, Double.POSITIVE_INFINITY, weights, out),
+                new OneToManyRouter(router.getGraph(), snaps));
+    }
+
+    /**
+     * PDR 궤적을 복도 위로 맞추는 지도 매칭 (모든 층)
+     */
+    public static MapMatcher newMapMatcher() {
+        return newMapMatcher(ANY_FLOOR);
+    }
+
+    /**
+     * 지정한 층의 복도로 맞추는 지도 매칭 (기본 지연, 후보 수, 오차 모델)
+     */
+    public static MapMatcher newMapMatcher(int floor) {
+        Venue current = requireVenue();
+        return new MapMatcher(current.graph,
+                (x, y, radius, out) -> current.edgeIndex(floor).nearest(x, y, radius, out),
+                MapMatcher.DEFAULT_LAG, MapMatcher.DEFAULT_CANDIDATES, MapMatcher.DEFAULT_SEARCH_RADIUS,
+                MapMatcher.DEFAULT_SIGMA, MapMatcher.DEFAULT_BETA);
+    }
+
+    /**
+     * 한 시점의 시설 스냅샷 (불변, 복도 변경마다 새로 만들어 교체)
+     * 공간 색인은 간선 비용과 무관하므로 같은 시설의 모든 스냅샷이 공유한다.
+     */
+    private static final class Venue {
+        final VenueGraph graph;
+        final VenueIndex index;
+        final PathRouter[] baseRouters;   // 변경 전 프로필별 탐색기 (프로필 순서)
+        final EdgeOverlay overlay;
+        final long version;
+        private final PathRouter[] routers;   // 변경을 반영한 탐색기 (프로필 순서)
+        private final RouteCache[] routeCaches;   // 프로필별 경로 캐시 (스냅샷 사이에 공유, 항목은 버전으로 구분)
+
+        Venue(VenueIndex index, PathRouter[] baseRouters, EdgeOverlay overlay, PathRouter[] routers,
+              RouteCache[] routeCaches, long version) {
+            this.graph = index.graph;
+            this.index = index;
+            this.baseRouters = baseRouters;
+            this.overlay = overlay;
+            this.routers = routers;
+            this.routeCaches = routeCaches;
+            this.version = version;
+        }
+
+        PathRouter router(RoutingProfile profile) {
+            return routers[profile.ordinal()];
+        }
+
+        RouteCache routeCache(RoutingProfile profile) {
+            return routeCaches[profile.ordinal()];
+        }
+
+        KdTree nodeIndex() {
+            return index.nodeIndex();
+        }
+
+        EdgeRTree edgeIndex(int floor) {
+            return index.edgeIndex(floor);
+        }
+
+        EdgeRTree edgeIndex() {
+            return index.edgeIndex();
+        }
+    }
+
+    /**
+     * 시설 좌표에 대한 공간 색인 (첫 위치 질의 때 생성, 로드 시점 비용 없음)
+     */
+    private static final class VenueIndex {
+        final VenueGraph graph;
+        private final PathRouter router;   // 층 구간 확인용
+        private volatile KdTree nodeIndex;
+        private volatile EdgeRTree edgeIndex;
+        private volatile EdgeRTree[] floorEdgeIndices;
+
+        VenueIndex(VenueGraph graph, PathRouter router) {
+            this.graph = graph;
+            this.router = router;
+        }
+
+        KdTree nodeIndex() {
+            KdTree current = nodeIndex;
+            if (current == null) {
+                synchronized (this) {
+                    current = nodeIndex;
+                    if (current == null) {
+                        current = KdTree.build(graph.getGraph());
+                        nodeIndex = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        // 층별 복도 색인 (층 순서로 정렬되지 않았거나 없는 층이면 전체 색인)
+        EdgeRTree edgeIndex(int floor) {
+            if (floor == ANY_FLOOR) return edgeIndex();
+            FloorPartition partition = router.getFloorPartition();
+            int index = partition.isContiguous() ? partition.indexOf(floor) : -1;
+            if (index < 0) return edgeIndex();
+
+            EdgeRTree[] current = floorEdgeIndices;
+            if (current == null) {
+                synchronized (this) {
+                    current = floorEdgeIndices;
+                    if (current == null) {
+                        current = new EdgeRTree[partition.getFloorCount()];
+                        for (int i = 0; i < current.length; i++) {
+                            current[i] = EdgeRTree.build(graph.getGraph(),
+                                    partition.firstNode(i), partition.endNode(i));
+                        }
+                        floorEdgeIndices = current;
+                    }
+                }
+            }
+            return current[index];
+        }
+
+        EdgeRTree edgeIndex() {
+            EdgeRTree current = edgeIndex;
+            if (current == null) {
+                synchronized (this) {
+                    current = edgeIndex;
+                    if (current == null) {
+                        current = EdgeRTree.build(graph.getGraph());
+                        edgeIndex = current;
+                    }
+                }
+            }
+            return current;
+        }
+    }
+
     // 내부 클래스 정의
     public static class Edge {
         public final int to;
@@ -0,0 +1,200 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.EdgeOverlay;
+import com.example.navermapapi.path.graph.LocalFrame;
+import com.example.navermapapi.path.graph.RoutingProfile;
+import com.example.navermapapi.path.graph.VenueGraph;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+import com.naver.maps.geometry.LatLng;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 목적지로 안내하는 동안 유지하는 경로 세션
+ * 목적지에서 거꾸로 만든 {@link DStarLite} 탐색 트리를 위치 갱신마다 재사용하므로,
+ * PDR 오차로 경로를 벗어나도 처음부터 다시 탐색하지 않고 바뀐 영역만 다시 계산한다.
+ * 간선 비용은 세션을 만든 탐색기의 그래프(프로필과 복도 변경을 반영한 비용)를 따르고, 복도 통제 등으로
+ * 스냅샷이 바뀌면 {@link PathDataManager#updateRouteSession}이 바뀐 간선만 계획기에 넘긴다.
+ * {@link PathDataManager#newRouteSession}으로 만들고, 위치 갱신을 받는 한 스레드에서만 사용한다.
+ */
+public final class RouteSession {
+    /**
+     * 현재 위치를 복도 위로 투영 (세션을 만든 시설의 공간 색인 사용)
+     * weights에서 비용이 POSITIVE_INFINITY인 통제 복도에는 투영하지 않는다.
+     */
+    interface Snapper {
+        boolean snap(double x, double y, int floor, CsrGraph weights, EdgeSnap out);
+    }
+
+    private final VenueGraph venue;
+    private final RoutingProfile profile;
+    private final Snapper snapper;
+    private final LatLng destination;
+    private final int destinationFloor;
+    private final EdgeSnap target = new EdgeSnap();
+    private final DStarLite planner;
+
+    // 위치 갱신마다 재사용
+    private final EdgeSnap position = new EdgeSnap();
+    private final int[] startNodes = new int[2];
+    private final double[] startCosts = new double[2];
+
+    // 현재 반영된 스냅샷
+    private CsrGraph graph;   // 프로필 비용 그래프 (좌표는 venue와 같음)
+    private EdgeOverlay overlay;
+    private long snapshotVersion;
+
+    private LatLng lastPosition;
+    private RouteResult lastRoute;
+
+    RouteSession(@NonNull VenueGraph venue, @NonNull PathRouter router, @NonNull RoutingProfile profile,
+                 @NonNull EdgeOverlay overlay, long snapshotVersion, @NonNull Snapper snapper,
+                 @NonNull LatLng destination, int destinationFloor, @NonNull EdgeSnap target) {
+        if (!target.isValid()) {
+            throw new IllegalArgumentException("Destination is not on an edge");
+        }
+        this.venue = venue;
+        this.profile = profile;
+        this.graph = router.getGraph();
+        this.overlay = overlay;
+        this.snapshotVersion = snapshotVersion;
+        this.snapper = snapper;
+        this.destination = destination;
+        this.destinationFloor = destinationFloor;
+        this.target.copyFrom(target);
+
+        int[] goalNodes = new int[2];
+        double[] goalCosts = new double[2];
+        int goalCount = PathRouter.endCandidates(graph, target, goalNodes, goalCosts);
+        this.planner = new DStarLite(graph, router.getReverseAdjacency(),
+                router.getEuclideanScale(), goalNodes, goalCosts, goalCount);
+    }
+
+    @NonNull
+    public LatLng getDestination() {
+        return destination;
+    }
+
+    int getDestinationFloor() {
+        return destinationFloor;
+    }
+
+    VenueGraph getVenue() {
+        return venue;
+    }
+
+    RoutingProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * 세션 비용이 반영한 스냅샷 버전 ({@link PathDataManager#getSnapshotVersion}과 다르면 갱신 필요)
+     */
+    public long getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    /**
+     * 같은 시설과 프로필의 새 스냅샷 반영 (이전 복도 변경과 달라진 간선만 계획기에 전달)
+     * @param raised 새 스냅샷의 프로필 비용 그래프
+     * @return 목적지 간선의 비용이 바뀌어 도착 후보 비용을 다시 만들어야 하면 false (새 세션 필요)
+     */
+    boolean applySnapshot(@NonNull CsrGraph raised, @NonNull EdgeOverlay next, long version) {
+        int[] changed = EdgeOverlay.changedEdges(overlay, next);
+        int targetReverse = raised.findEdge(target.getToNode(), target.getFromNode());
+        for (int edge : changed) {
+            if (edge == target.getEdge() || edge == targetReverse) return false;
+        }
+        for (int edge : changed) {
+            planner.updateEdgeWeight(edge, raised.weight(edge));
+        }
+        graph = raised;
+        overlay = next;
+        snapshotVersion = version;
+        return true;
+    }
+
+    /**
+     * 현재 위치에서 목적지까지 다시 계획
+     * @return 경로 결과 (확정 노드 수 대신 이번 갱신에서 확장한 노드 수)
+     */
+    @NonNull
+    public RouteResult update(@NonNull LatLng current) {
+        return update(current, PathDataManager.ANY_FLOOR);
+    }
+
+    /**
+     * 지정한 층에서의 현재 위치로 다시 계획
+     * @param floor 층 번호 ({@link PathDataManager#ANY_FLOOR}이면 모든 층)
+     */
+    @NonNull
+    public RouteResult update(@NonNull LatLng current, int floor) {
+        LocalFrame frame = venue.getFrame();
+        lastPosition = current;
+        if (!snapper.snap(frame.toX(current.longitude), frame.toY(current.latitude), floor, graph, position)) {
+            lastRoute = new RouteResult(RoutingMode.D_STAR_LITE, new int[0], Double.POSITIVE_INFINITY, 0);
+            return lastRoute;
+        }
+
+        int count = PathRouter.startCandidates(graph, position, startNodes, startCosts);
+        if (count == 0) {
+            // 투영한 복도의 양방향이 모두 통제됨
+            lastRoute = new RouteResult(RoutingMode.D_STAR_LITE, new int[0], Double.POSITIVE_INFINITY, 0);
+            return lastRoute;
+        }
+        double distance = planner.plan(position.getX(), position.getY(), startNodes, startCosts, count);
+        double direct = PathRouter.directDistance(graph, position, target);
+
+        int[] nodes = direct <= distance ? new int[0] : planner.extractPath();
+        lastRoute = new RouteResult(RoutingMode.D_STAR_LITE, nodes, Math.min(direct, distance),
+                planner.getLastExpansions());
+        return lastRoute;
+    }
+
+    /**
+     * 간선 비용 변경 (통제 구역은 {@link Double#POSITIVE_INFINITY}), 다음 {@link #update}에 반영
+     */
+    public void setEdgeWeight(int edge, double weight) {
+        planner.updateEdgeWeight(edge, weight);
+    }
+
+    /**
+     * 마지막 갱신 결과, 아직 갱신하지 않았으면 null
+     */
+    @Nullable
+    public RouteResult getLastRoute() {
+        return lastRoute;
+    }
+
+    /**
+     * 마지막 갱신 경로를 지도 좌표로 (현재 위치 → 복도 위 위치 → 노드 → 복도 위 목적지 → 목적지)
+     */
+    @NonNull
+    public List<LatLng> getPathPoints() {
+        List<LatLng> pathPoints = new ArrayList<>();
+        if (lastRoute == null) {
+            return pathPoints;
+        }
+        pathPoints.add(lastPosition);
+        if (lastRoute.isFound()) {
+            pathPoints.add(toLatLng(position));
+            for (int i = 0; i < lastRoute.getNodeCount(); i++) {
+                int node = lastRoute.getNode(i);
+                pathPoints.add(new LatLng(venue.latitude(node), venue.longitude(node)));
+            }
+            pathPoints.add(toLatLng(target));
+        }
+        pathPoints.add(destination);
+        return pathPoints;
+    }
+
+    private LatLng toLatLng(EdgeSnap snap) {
+        LocalFrame frame = venue.getFrame();
+        return new LatLng(frame.toLatitude(snap.getY()), frame.toLongitude(snap.getX()));
+    }
+}
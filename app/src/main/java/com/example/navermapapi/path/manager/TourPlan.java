@@ -0,0 +1,61 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.naver.maps.geometry.LatLng;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 관람 순서 계획 결과 ({@link PathDataManager#planTour})
+ * 방문 순서와 함께, 구간 경로를 이어 붙인 좌표 목록을 PathDrawer에 바로 넘길 수 있게 담는다.
+ */
+public final class TourPlan {
+    private final LatLng[] stops;
+    private final int[] order;
+    private final double distance;
+    private final List<LatLng> pathPoints;
+
+    TourPlan(LatLng[] stops, int[] order, double distance, List<LatLng> pathPoints) {
+        this.stops = stops;
+        this.order = order;
+        this.distance = distance;
+        this.pathPoints = Collections.unmodifiableList(pathPoints);
+    }
+
+    /**
+     * 방문 순서 (planTour에 넘긴 방문지 배열의 번호, 출발지 제외)
+     */
+    @NonNull
+    public int[] getOrder() {
+        return order.clone();
+    }
+
+    /**
+     * 방문 순서대로 정렬한 방문지 좌표
+     */
+    @NonNull
+    public LatLng[] getOrderedStops() {
+        LatLng[] ordered = new LatLng[order.length];
+        for (int i = 0; i < order.length; i++) {
+            ordered[i] = stops[order[i]];
+        }
+        return ordered;
+    }
+
+    /**
+     * 총 거리 (미터), 도달할 수 없는 방문지가 있으면 {@link Double#POSITIVE_INFINITY}
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * 출발지부터 모든 구간을 이어 붙인 경로 좌표
+     */
+    @NonNull
+    public List<LatLng> getPathPoints() {
+        return pathPoints;
+    }
+}
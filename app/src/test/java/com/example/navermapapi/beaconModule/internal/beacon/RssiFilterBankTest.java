@@ -0,0 +1,113 @@
+package com.example.navermapapi.beaconModule.internal.beacon;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 비콘별 필터 채널의 만료, 가득 찼을 때의 재사용, 해시 표 삭제 후 조회
+ */
+public class RssiFilterBankTest {
+    private static final long EVICT_AFTER = 1_000L;
+
+    @Test
+    public void evictsChannelsNotHeardRecently() {
+        RssiFilterBank bank = new RssiFilterBank(8, EVICT_AFTER);
+        bank.update(1L, -60, 0);
+        bank.update(2L, -70, 500);
+        assertEquals(2, bank.size());
+
+        assertEquals(0, bank.evictStale(1_000));
+        assertEquals(1, bank.evictStale(1_200));
+        assertFalse(bank.contains(1L));
+        assertTrue(bank.contains(2L));
+        assertTrue(Double.isNaN(bank.getEstimate(1L)));
+        assertEquals(-1, bank.getLastHeard(1L));
+        assertEquals(1, bank.size());
+    }
+
+    @Test
+    public void reusesOldestChannelWhenFull() {
+        RssiFilterBank bank = new RssiFilterBank(3, EVICT_AFTER);
+        bank.update(10L, -60, 100);
+        bank.update(11L, -61, 200);
+        bank.update(12L, -62, 300);
+        bank.update(10L, -60, 400);  // 10은 다시 수신되어 11이 가장 오래됨
+
+        bank.update(13L, -63, 500);
+        assertEquals(3, bank.size());
+        assertFalse(bank.contains(11L));
+        assertTrue(bank.contains(10L));
+        assertTrue(bank.contains(12L));
+        assertTrue(bank.contains(13L));
+        assertEquals(-63, bank.getEstimate(13L), 0);
+    }
+
+    @Test
+    public void freshStateAfterReuse() {
+        RssiFilterBank bank = new RssiFilterBank(1, EVICT_AFTER);
+        for (int i = 0; i < 10; i++) {
+            bank.update(1L, -60 - (i % 3) * 5, i * 100L);
+        }
+        assertFalse(Double.isNaN(bank.getSpreadVariance(1L)));
+
+        // 같은 채널을 다른 비콘이 재사용하면 이전 비콘의 링 버퍼와 추정값을 물려받지 않음
+        bank.update(2L, -80, 2_000);
+        assertFalse(bank.contains(1L));
+        assertEquals(-80, bank.getEstimate(2L), 0);
+        assertEquals(-80, bank.getDecayedMean(2L), 0);
+        assertTrue(Double.isNaN(bank.getSpreadVariance(2L)));
+
+        bank.update(1L, -50, 2_100);
+        assertEquals(-50, bank.getEstimate(1L), 0);
+        assertFalse(bank.contains(2L));
+    }
+
+    @Test
+    public void lookupsSurviveRandomEvictions() {
+        // 작은 표에서 삽입과 삭제를 반복해 탐사 사슬이 끊기지 않는지 확인
+        int maxChannels = 16;
+        RssiFilterBank bank = new RssiFilterBank(maxChannels, EVICT_AFTER);
+        Map<Long, Long> lastHeard = new HashMap<>();
+        Random random = new Random(9);
+        long now = 0;
+        for (int step = 0; step < 20_000; step++) {
+            now += 1 + random.nextInt(50);  // 수신 시각이 겹치지 않게 (가장 오래된 채널이 하나로 정해짐)
+            long mac = random.nextInt(64);
+            if (!lastHeard.containsKey(mac) && lastHeard.size() == maxChannels) {
+                expireOrDropOldest(lastHeard, now);
+            }
+            bank.update(mac, -40 - random.nextInt(50), now);
+            lastHeard.put(mac, now);
+
+            if (step % 97 == 0) {
+                bank.evictStale(now);
+                final long evictAt = now;
+                lastHeard.values().removeIf(heard -> evictAt - heard > EVICT_AFTER);
+            }
+            assertEquals(lastHeard.size(), bank.size());
+        }
+        for (long mac = 0; mac < 64; mac++) {
+            assertEquals(Long.toString(mac), lastHeard.containsKey(mac), bank.contains(mac));
+            if (lastHeard.containsKey(mac)) {
+                assertEquals((long) lastHeard.get(mac), bank.getLastHeard(mac));
+            }
+        }
+    }
+
+    // 뱅크와 같은 규칙: 만료된 채널이 있으면 모두 지우고, 없으면 가장 오래된 채널 하나를 지움
+    private static void expireOrDropOldest(Map<Long, Long> lastHeard, long now) {
+        if (lastHeard.values().removeIf(heard -> now - heard > EVICT_AFTER)) return;
+        long oldest = -1;
+        for (Map.Entry<Long, Long> entry : lastHeard.entrySet()) {
+            if (oldest < 0 || entry.getValue() < lastHeard.get(oldest)) oldest = entry.getKey();
+        }
+        lastHeard.remove(oldest);
+    }
+}
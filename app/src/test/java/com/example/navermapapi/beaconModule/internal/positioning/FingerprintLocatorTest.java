@@ -0,0 +1,140 @@
+package com.example.navermapapi.beaconModule.internal.positioning;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 볼 가지치기 k-최근접 이웃 검색을 모든 기준점을 훑는 검색과 비교
+ */
+public class FingerprintLocatorTest {
+    private static final int BEACONS = 12;
+    private static final int FLOORS = 2;
+    private static final int QUERIES = 300;
+    private static final double EPSILON = 1e-4;
+
+    @Test
+    public void areaMapMatchesBruteForce() {
+        checkAgainstBruteForce(buildMap(40, 30, 1), 4);
+        checkAgainstBruteForce(buildMap(40, 30, 2), 1);
+    }
+
+    @Test
+    public void corridorMapMatchesBruteForce() {
+        // 기준점이 한 줄이라 면적이 0인 지도 (격자 칸 크기가 긴 변 기준으로 정해져야 함)
+        RadioMap map = buildMap(1500, 1, 3);
+        assertTrue("balls " + map.ballCount(), map.ballCount() < map.size() / 10);
+        checkAgainstBruteForce(map, 4);
+    }
+
+    private static void checkAgainstBruteForce(RadioMap map, int k) {
+        FingerprintLocator locator = new FingerprintLocator(map, k);
+        Random random = new Random(17);
+        float[] query = new float[BEACONS];
+        int visited = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            // 임의 기준점의 RSSI에 잡음을 더하고 일부 비콘은 보이지 않게 함
+            int origin = random.nextInt(map.size());
+            for (int c = 0; c < BEACONS; c++) {
+                float value = map.getRssi(origin, c) + (float) (4 * random.nextGaussian());
+                query[c] = random.nextInt(6) == 0 ? RadioMap.MISSING_RSSI : value;
+            }
+
+            FingerprintResult actual = locator.locate(query);
+            double[] expected = bruteForce(map, query, k);
+            String message = "query " + q + " " + actual;
+            assertEquals(message, expected[0], actual.getNearestDistance(), EPSILON);
+            assertEquals(message, expected[1], actual.getX(), EPSILON);
+            assertEquals(message, expected[2], actual.getY(), EPSILON);
+            assertEquals(message, (int) expected[3], actual.getFloor());
+            visited += actual.getVisitedPoints();
+        }
+        assertTrue("no pruning: " + visited, visited < QUERIES * map.size());
+    }
+
+    /**
+     * 모든 기준점과 거리를 계산해 k개 이웃을 고르고, 이웃 가중치 합이 가장 큰 층의 이웃만 1 / (거리 + 0.1)로 평균
+     * @return {가장 가까운 거리, x, y, 층}
+     */
+    private static double[] bruteForce(RadioMap map, float[] query, int k) {
+        int n = map.size();
+        Integer[] order = new Integer[n];
+        final double[] distances = new double[n];
+        for (int point = 0; point < n; point++) {
+            order[point] = point;
+            double sum = 0;
+            for (int c = 0; c < BEACONS; c++) {
+                double diff = Math.max(RadioMap.MISSING_RSSI, query[c]) - map.getRssi(point, c);
+                sum += diff * diff;
+            }
+            distances[point] = Math.sqrt(sum);
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(distances[a], distances[b]));
+
+        int count = Math.min(k, n);
+        int bestFloor = map.getFloor(order[0]);
+        double bestWeight = 0;
+        for (int i = 0; i < count; i++) {
+            int floor = map.getFloor(order[i]);
+            double weight = 0;
+            for (int j = 0; j < count; j++) {
+                if (map.getFloor(order[j]) == floor) weight += 1 / (distances[order[j]] + 0.1);
+            }
+            if (weight > bestWeight) {
+                bestWeight = weight;
+                bestFloor = floor;
+            }
+        }
+        double sumX = 0;
+        double sumY = 0;
+        double sumWeights = 0;
+        for (int i = 0; i < count; i++) {
+            int point = order[i];
+            if (map.getFloor(point) != bestFloor) continue;
+            double weight = 1 / (distances[point] + 0.1);
+            sumX += weight * map.getX(point);
+            sumY += weight * map.getY(point);
+            sumWeights += weight;
+        }
+        return new double[]{distances[order[0]], sumX / sumWeights, sumY / sumWeights, bestFloor};
+    }
+
+    /**
+     * columns × rows 격자 (1.5m 간격), 층마다 같은 격자, 로그 거리 모델 RSSI
+     */
+    private static RadioMap buildMap(int columns, int rows, long seed) {
+        Random random = new Random(seed);
+        long[] macs = new long[BEACONS];
+        double[][] beacons = new double[BEACONS][3];
+        for (int b = 0; b < BEACONS; b++) {
+            // 일부러 내림차순으로 넣어 열 번호 재배치를 거치게 함
+            macs[b] = 0xC30000192F00L + (BEACONS - b);
+            beacons[b][0] = random.nextDouble() * columns * 1.5;
+            beacons[b][1] = random.nextDouble() * rows * 1.5;
+            beacons[b][2] = random.nextInt(FLOORS);
+        }
+
+        RadioMap.Builder builder = new RadioMap.Builder(macs);
+        float[] rssi = new float[BEACONS];
+        for (int floor = 0; floor < FLOORS; floor++) {
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    double x = column * 1.5;
+                    double y = row * 1.5;
+                    for (int b = 0; b < BEACONS; b++) {
+                        double distance = Math.max(1, Math.hypot(beacons[b][0] - x, beacons[b][1] - y));
+                        double value = -59 - 20 * Math.log10(distance) - 15 * Math.abs(beacons[b][2] - floor)
+                                + 3 * random.nextGaussian();
+                        rssi[b] = value < -95 ? Float.NaN : (float) value;
+                    }
+                    builder.addPoint(x, y, floor, rssi);
+                }
+            }
+        }
+        return builder.build();
+    }
+}
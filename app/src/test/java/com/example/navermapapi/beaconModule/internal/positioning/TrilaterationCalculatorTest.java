@@ -0,0 +1,107 @@
+package com.example.navermapapi.beaconModule.internal.positioning;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Levenberg-Marquardt 삼변측량의 수렴과 위치 공분산
+ */
+public class TrilaterationCalculatorTest {
+    private static final double[] XS = {0, 20, 20, 0, 10};
+    private static final double[] YS = {0, 0, 15, 15, 7};
+
+    @Test
+    public void convergesToExactPosition() {
+        TrilaterationCalculator calculator = new TrilaterationCalculator();
+        Random random = new Random(1);
+        double[] ranges = new double[XS.length];
+        for (int trial = 0; trial < 200; trial++) {
+            double x = random.nextDouble() * 30 - 5;
+            double y = random.nextDouble() * 25 - 5;
+            for (int i = 0; i < XS.length; i++) {
+                ranges[i] = Math.hypot(XS[i] - x, YS[i] - y);
+            }
+            TrilaterationResult result = calculator.solve(XS, YS, ranges, XS.length);
+            assertTrue(result.toString(), result.isConverged());
+            assertEquals(x, result.getX(), 1e-3);
+            assertEquals(y, result.getY(), 1e-3);
+            assertEquals(0, result.getRmsResidual(), 1e-3);
+        }
+    }
+
+    @Test
+    public void weightedCovarianceMatchesScatter() {
+        // 비콘마다 거리 잡음이 다를 때, 보고한 공분산의 평균이 추정 위치의 실제 분산과 맞는지 확인
+        double[] sigmas = {0.3, 0.5, 1.0, 2.0, 0.8};
+        double[] weights = new double[XS.length];
+        for (int i = 0; i < XS.length; i++) {
+            weights[i] = 1 / (sigmas[i] * sigmas[i]);
+        }
+        double x = 6;
+        double y = 4;
+
+        TrilaterationCalculator calculator = new TrilaterationCalculator();
+        Random random = new Random(2);
+        double[] ranges = new double[XS.length];
+        int trials = 4000;
+        double sumX = 0, sumY = 0, sumXX = 0, sumYY = 0, sumXY = 0;
+        double reportedXX = 0, reportedYY = 0, reportedXY = 0;
+        for (int trial = 0; trial < trials; trial++) {
+            for (int i = 0; i < XS.length; i++) {
+                ranges[i] = Math.hypot(XS[i] - x, YS[i] - y) + sigmas[i] * random.nextGaussian();
+            }
+            TrilaterationResult result = calculator.solve(XS, YS, ranges, weights, XS.length);
+            assertTrue(result.isValid());
+            double dx = result.getX() - x;
+            double dy = result.getY() - y;
+            sumX += dx;
+            sumY += dy;
+            sumXX += dx * dx;
+            sumYY += dy * dy;
+            sumXY += dx * dy;
+            reportedXX += result.getCovarianceXX();
+            reportedYY += result.getCovarianceYY();
+            reportedXY += result.getCovarianceXY();
+        }
+        double meanX = sumX / trials;
+        double meanY = sumY / trials;
+        double scatterXX = sumXX / trials - meanX * meanX;
+        double scatterYY = sumYY / trials - meanY * meanY;
+        double scatterXY = sumXY / trials - meanX * meanY;
+        reportedXX /= trials;
+        reportedYY /= trials;
+        reportedXY /= trials;
+
+        // 공분산은 χ²/자유도가 1보다 크면 그만큼 키우고 작으면 그대로 두므로 (보수적) 평균은 실제 분산보다
+        // 조금 크다 (자유도 3이면 약 1.3배). 모양(축별 비율과 상관)은 실제 분산과 같아야 한다.
+        double ratioXX = reportedXX / scatterXX;
+        double ratioYY = reportedYY / scatterYY;
+        assertTrue("xx ratio " + ratioXX, ratioXX > 1.0 && ratioXX < 1.6);
+        assertTrue("yy ratio " + ratioYY, ratioYY > 1.0 && ratioYY < 1.6);
+        assertEquals(1.0, ratioXX / ratioYY, 0.15);
+        assertEquals(scatterXY / Math.sqrt(scatterXX * scatterYY),
+                reportedXY / Math.sqrt(reportedXX * reportedYY), 0.1);
+        assertEquals(0, meanX, 0.05);
+        assertEquals(0, meanY, 0.05);
+    }
+
+    @Test
+    public void collinearBeaconsLeavePositionUndetermined() {
+        double[] xs = {0, 10, 20};
+        double[] ys = {0, 0, 0};
+        double[] ranges = {5, 5, 15};
+        TrilaterationResult result = new TrilaterationCalculator().solve(xs, ys, ranges, 3);
+        assertTrue(result.isValid());
+        assertEquals(5, result.getX(), 1e-3);
+        assertTrue(Double.isInfinite(result.getHorizontalAccuracy()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void needsThreeBeacons() {
+        new TrilaterationCalculator().solve(XS, YS, new double[]{1, 1}, 2);
+    }
+}
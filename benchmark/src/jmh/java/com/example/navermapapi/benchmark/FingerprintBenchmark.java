@@ -0,0 +1,166 @@
+package com.example.navermapapi.benchmark;
+
+import com.example.navermapapi.beaconModule.internal.positioning.FingerprintLocator;
+import com.example.navermapapi.beaconModule.internal.positioning.FingerprintResult;
+import com.example.navermapapi.beaconModule.internal.positioning.RadioMap;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핑거프린트 측위 한 번의 지연 시간과 가지치기 효과
+ * 합성 전파 지도 (로그 거리 경로 손실 + 층 감쇠 + 잡음)에서 볼 가지치기 검색과 전체 기준점을 훑는
+ * k-최근접 이웃을 비교한다. 기준점당 방문 수는 보조 카운터 visitedPoints / queries로 구한다.
+ * CORRIDOR는 기준점이 한 줄로 늘어선 지도로, 면적이 0인 경우의 격자 칸 크기를 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FingerprintBenchmark {
+    private static final int QUERY_COUNT = 1024;
+    private static final int BEACON_COUNT = 32;
+    private static final int FLOORS = 3;
+    private static final double SPACING = 1.5;          // 기준점 간격 (미터)
+    private static final double FLOOR_LOSS = 15.0;      // 층당 감쇠 (dB)
+    private static final double NOISE = 4.0;            // RSSI 잡음 표준편차 (dB)
+
+    public enum Layout { AREA, CORRIDOR }
+
+    @Param({"1000", "10000", "100000"})
+    public int points;
+
+    @Param({"AREA", "CORRIDOR"})
+    public Layout layout;
+
+    private FingerprintLocator locator;
+    private RadioMap map;
+    private float[][] queries;
+    private final float[] nearest = new float[FingerprintLocator.DEFAULT_K];  // 전체 검색용 제곱 거리
+    private int next;
+
+    /**
+     * 거리 계산을 시작한 기준점 수 (반복 구간마다 초기화)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SearchCounters {
+        public long visitedPoints;
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            visitedPoints = 0;
+            queries = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int perFloor = points / FLOORS;
+        int columns = layout == Layout.CORRIDOR ? perFloor : (int) Math.ceil(Math.sqrt(perFloor));
+        double width = columns * SPACING;
+        double height = layout == Layout.CORRIDOR ? 0 : Math.ceil((double) perFloor / columns) * SPACING;
+
+        long[] macs = new long[BEACON_COUNT];
+        double[][] beacons = new double[BEACON_COUNT][];
+        for (int b = 0; b < BEACON_COUNT; b++) {
+            macs[b] = 0xC30000192F00L + b;  // 오름차순이라 지도 열 번호 = b
+            beacons[b] = new double[]{random.nextDouble() * width, random.nextDouble() * height,
+                    random.nextInt(FLOORS)};
+        }
+
+        RadioMap.Builder builder = new RadioMap.Builder(macs);
+        float[] rssi = new float[BEACON_COUNT];
+        for (int floor = 0; floor < FLOORS; floor++) {
+            for (int i = 0; i < perFloor; i++) {
+                double x = (i % columns) * SPACING;
+                double y = (i / columns) * SPACING;
+                measure(beacons, x, y, floor, random, rssi);
+                builder.addPoint(x, y, floor, rssi);
+            }
+        }
+        map = builder.build();
+        locator = new FingerprintLocator(map);
+
+        queries = new float[QUERY_COUNT][BEACON_COUNT];
+        for (int q = 0; q < QUERY_COUNT; q++) {
+            measure(beacons, random.nextDouble() * width, random.nextDouble() * height,
+                    random.nextInt(FLOORS), random, queries[q]);
+        }
+    }
+
+    // 로그 거리 경로 손실 모델 (1m에서 -59 dBm, 지수 2)
+    private static void measure(double[][] beacons, double x, double y, int floor,
+                                Random random, float[] out) {
+        for (int b = 0; b < beacons.length; b++) {
+            double dx = beacons[b][0] - x;
+            double dy = beacons[b][1] - y;
+            double distance = Math.max(1.0, Math.sqrt(dx * dx + dy * dy));
+            double value = -59 - 20 * Math.log10(distance) - FLOOR_LOSS * Math.abs(beacons[b][2] - floor)
+                    + NOISE * random.nextGaussian();
+            out[b] = value < -95 ? RadioMap.MISSING_RSSI : (float) value;
+        }
+    }
+
+    @Benchmark
+    public FingerprintResult ballTree(SearchCounters counters) {
+        FingerprintResult result = locator.locate(nextQuery());
+        counters.visitedPoints += result.getVisitedPoints();
+        counters.queries++;
+        return result;
+    }
+
+    /**
+     * 가지치기 없이 모든 기준점과 거리를 계산하는 k-최근접 이웃 (비교 기준)
+     */
+    @Benchmark
+    public int bruteForce(SearchCounters counters) {
+        float[] query = nextQuery();
+        int k = nearest.length;
+        Arrays.fill(nearest, Float.POSITIVE_INFINITY);
+        int best = -1;
+        for (int point = 0, n = map.size(); point < n; point++) {
+            float sum = 0;
+            for (int c = 0; c < BEACON_COUNT; c++) {
+                float diff = query[c] - map.getRssi(point, c);
+                sum += diff * diff;
+            }
+            if (sum >= nearest[k - 1]) continue;
+            int slot = k - 1;
+            while (slot > 0 && nearest[slot - 1] > sum) {
+                nearest[slot] = nearest[slot - 1];
+                slot--;
+            }
+            nearest[slot] = sum;
+            if (slot == 0) best = point;
+        }
+        counters.visitedPoints += map.size();
+        counters.queries++;
+        return best;
+    }
+
+    private float[] nextQuery() {
+        float[] query = queries[next];
+        next = (next + 1) % QUERY_COUNT;
+        return query;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.navermapapi.benchmark;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+import com.example.navermapapi.path.manager.AStarAlgorithm;
+import com.example.navermapapi.path.manager.DStarLite;
+import com.example.navermapapi.path.manager.PathRouter;
+import com.example.navermapapi.path.manager.RouteResult;
+import com.example.navermapapi.path.manager.RoutingMode;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 안내 중 재탐색 비용: 목적지를 고정하고 출발점이 경로를 따라 한 노드씩 움직일 때
+ * D* Lite 증분 재탐색과 매번 처음부터 하는 다익스트라를 비교한다.
+ * 출발점은 최단 경로 위를 왕복하므로 반복 구간이 길어도 같은 분포를 유지한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteSessionBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int nodes;
+
+    @Param({"GRID", "MULTI_FLOOR", "PLANAR"})
+    public SyntheticVenue.Shape shape;
+
+    private CsrGraph graph;
+    private PathRouter router;
+    private DStarLite planner;
+    private int goal;
+    private int[] walk;
+    private int position;
+    private int direction = 1;
+    private int closedEdge = -1;
+
+    /**
+     * 확장(확정) 노드 수 (반복 구간마다 초기화)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SearchCounters {
+        public long settledNodes;
+        public long routes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            settledNodes = 0;
+            routes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = SyntheticVenue.create(shape, nodes, 42);
+        router = new PathRouter(graph);
+
+        // 임의 쌍 중 가장 먼 쌍을 골라 그 최단 경로를 걷는다
+        int[] pairs = SyntheticVenue.randomPairs(graph, 64, 11);
+        RouteResult longest = null;
+        for (int i = 0; i < pairs.length; i += 2) {
+            RouteResult route = router.route(pairs[i], pairs[i + 1], RoutingMode.DIJKSTRA);
+            if (route.isFound() && (longest == null || route.getDistance() > longest.getDistance())) {
+                longest = route;
+            }
+        }
+        if (longest == null || longest.getNodeCount() < 2) {
+            throw new IllegalStateException("No reachable pair in synthetic graph");
+        }
+        walk = longest.getNodes();
+        goal = walk[walk.length - 1];
+        // 목적지 앞 절반만 왕복 (목적지에 닿으면 탐색이 자명해짐)
+        walk = Arrays.copyOf(walk, Math.max(2, walk.length / 2));
+
+        planner = new DStarLite(graph, router.getReverseAdjacency(),
+                AStarAlgorithm.euclideanScale(graph), new int[]{goal}, new double[]{0}, 1);
+        planner.plan(walk[0]);
+    }
+
+    @Benchmark
+    public double dStarLiteStep(SearchCounters counters) {
+        double distance = planner.plan(walk[advance()]);
+        counters.settledNodes += planner.getLastExpansions();
+        counters.routes++;
+        return distance;
+    }
+
+    /**
+     * 출발점 바로 앞 간선을 막았다 풀기를 번갈아 하며 재계획 (통제 구역 반영 비용)
+     */
+    @Benchmark
+    public double dStarLiteClosure(SearchCounters counters) {
+        if (closedEdge >= 0) {
+            planner.updateEdgeWeight(closedEdge, graph.weight(closedEdge));
+            closedEdge = -1;
+        } else {
+            closedEdge = graph.findEdge(walk[0], walk[1]);
+            planner.updateEdgeWeight(closedEdge, Double.POSITIVE_INFINITY);
+        }
+        double distance = planner.plan(walk[0]);
+        counters.settledNodes += planner.getLastExpansions();
+        counters.routes++;
+        return distance;
+    }
+
+    @Benchmark
+    public RouteResult dijkstraFromScratch(SearchCounters counters) {
+        RouteResult result = router.route(walk[advance()], goal, RoutingMode.DIJKSTRA);
+        counters.settledNodes += result.getSettledNodes();
+        counters.routes++;
+        return result;
+    }
+
+    // 경로 위를 한 노드씩 왕복
+    private int advance() {
+        if (position + direction < 0 || position + direction >= walk.length) {
+            direction = -direction;
+        }
+        position += direction;
+        return position;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.navermapapi.benchmark;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+import com.example.navermapapi.path.manager.ContractionHierarchyBuilder;
+import com.example.navermapapi.path.manager.PathRouter;
+import com.example.navermapapi.path.manager.RouteResult;
+import com.example.navermapapi.path.manager.RoutingMode;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 간 단일 경로 질의 지연 시간, 할당률(-prof gc), 확정 노드 수
+ * 확정 노드 수는 보조 카운터 settledNodes / routes로 질의당 값을 구한다.
+ * D* Lite는 목적지 고정 재탐색 전용이라 {@link RouteSessionBenchmark}에서 측정한다.
+ * 축약 계층은 시행(trial)마다 전처리하므로 10^5 노드에서 30초, 10^6 노드에서는 수 분이 걸린다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int nodes;
+
+    @Param({"GRID", "MULTI_FLOOR", "PLANAR"})
+    public SyntheticVenue.Shape shape;
+
+    @Param({"DIJKSTRA", "BIDIRECTIONAL_DIJKSTRA", "A_STAR", "ALT", "CONTRACTION_HIERARCHY"})
+    public RoutingMode mode;
+
+    private PathRouter router;
+    private int[] queries;
+    private int next;
+
+    /**
+     * 확정 노드 수 (반복 구간마다 초기화)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SearchCounters {
+        public long settledNodes;
+        public long routes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            settledNodes = 0;
+            routes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CsrGraph graph = SyntheticVenue.create(shape, nodes, 42);
+        router = new PathRouter(graph);
+        if (mode == RoutingMode.CONTRACTION_HIERARCHY) {
+            router.setContractionHierarchy(ContractionHierarchyBuilder.build(graph));
+        }
+        queries = SyntheticVenue.randomPairs(graph, QUERY_COUNT, 7);
+
+        // 휴리스틱, 랜드마크, 역방향 인접 목록 등 지연 생성 비용을 측정에서 제외
+        router.route(queries[0], queries[1], mode);
+    }
+
+    @Benchmark
+    public RouteResult route(SearchCounters counters) {
+        int i = next;
+        next = (i + 2) % queries.length;
+        RouteResult result = router.route(queries[i], queries[i + 1], mode);
+        counters.settledNodes += result.getSettledNodes();
+        counters.routes++;
+        return result;
+    }
+}
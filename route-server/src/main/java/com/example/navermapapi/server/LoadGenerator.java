@@ -0,0 +1,216 @@
+package com.example.navermapapi.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RouteServer} 부하 생성기
+ * 동시 연결 수를 단계별로 늘려 가며 시설 범위 안의 임의 두 지점 경로를 질의하고,
+ * 단계마다 지연 시간 p50/p99와 처리량을 표로 출력한다.
+ *
+ * <pre>
+ * --url http://127.0.0.1:8080 --duration 10 --warmup 3 --concurrency 1,2,4,8 --mode A_STAR
+ * </pre>
+ */
+public final class LoadGenerator {
+    private static final Pattern BOUNDS = Pattern.compile(
+            "\"bounds\":\\[([-0-9.eE]+),([-0-9.eE]+),([-0-9.eE]+),([-0-9.eE]+)]");
+    private static final int INITIAL_SAMPLES = 1 << 14;
+
+    private LoadGenerator() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = RouteServer.parseOptions(args);
+        String url = RouteServer.option(options, "url", "http://127.0.0.1:8080");
+        double duration = Double.parseDouble(RouteServer.option(options, "duration", "10"));
+        double warmup = Double.parseDouble(RouteServer.option(options, "warmup", "3"));
+        String mode = RouteServer.option(options, "mode", "A_STAR");
+        long seed = Long.parseLong(RouteServer.option(options, "seed", "1"));
+        int[] levels = parseLevels(RouteServer.option(options, "concurrency",
+                defaultLevels(Runtime.getRuntime().availableProcessors())));
+
+        double[] bounds = fetchBounds(url);
+        System.out.printf(Locale.US, "Target %s, bounds [%.1f, %.1f] - [%.1f, %.1f], mode %s%n",
+                url, bounds[0], bounds[1], bounds[2], bounds[3], mode);
+
+        run(url, mode, bounds, levels[levels.length - 1], warmup, seed, null);
+        System.out.println(" clients   requests   errors     req/s   p50 (ms)   p99 (ms)   max (ms)");
+        for (int clients : levels) {
+            Stage stage = new Stage();
+            run(url, mode, bounds, clients, duration, seed + clients, stage);
+            System.out.printf(Locale.US, "%8d %10d %8d %9.1f %10.3f %10.3f %10.3f%n",
+                    clients, stage.count, stage.errors, stage.count / stage.seconds,
+                    stage.percentile(0.50), stage.percentile(0.99), stage.percentile(1.0));
+        }
+    }
+
+    /**
+     * 한 단계 실행 결과 (모든 클라이언트의 지연 시간 합본)
+     */
+    private static final class Stage {
+        long[] latencies = new long[0];
+        int count;
+        int errors;
+        double seconds;
+
+        synchronized void add(long[] samples, int sampleCount, int errorCount) {
+            if (count + sampleCount > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + sampleCount));
+            }
+            System.arraycopy(samples, 0, latencies, count, sampleCount);
+            count += sampleCount;
+            errors += errorCount;
+        }
+
+        void finish(double elapsedSeconds) {
+            seconds = elapsedSeconds;
+            Arrays.sort(latencies, 0, count);
+        }
+
+        double percentile(double p) {
+            if (count == 0) return Double.NaN;
+            int index = (int) Math.ceil(p * count) - 1;
+            return latencies[Math.max(0, Math.min(count - 1, index))] / 1e6;
+        }
+    }
+
+    /**
+     * 클라이언트 스레드 {@code clients}개로 {@code seconds}초 동안 질의
+     * @param stage 결과를 모을 단계 (워밍업이면 null)
+     */
+    private static void run(final String url, final String mode, final double[] bounds, int clients,
+                            double seconds, long seed, final Stage stage) throws InterruptedException {
+        final long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        final CountDownLatch done = new CountDownLatch(clients);
+        long started = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            final Random random = new Random(seed * 31 + i);
+            Thread client = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        long[] samples = new long[INITIAL_SAMPLES];
+                        int sampleCount = 0;
+                        int errorCount = 0;
+                        while (System.nanoTime() < deadline) {
+                            String query = randomQuery(url, mode, bounds, random);
+                            long begin = System.nanoTime();
+                            boolean ok = get(query);
+                            long latency = System.nanoTime() - begin;
+                            if (!ok) {
+                                errorCount++;
+                                continue;
+                            }
+                            if (sampleCount == samples.length) {
+                                samples = Arrays.copyOf(samples, samples.length * 2);
+                            }
+                            samples[sampleCount++] = latency;
+                        }
+                        if (stage != null) stage.add(samples, sampleCount, errorCount);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }, "load-client-" + i);
+            client.setDaemon(true);
+            client.start();
+        }
+        done.await();
+        if (stage != null) stage.finish((System.nanoTime() - started) / 1e9);
+    }
+
+    private static String randomQuery(String url, String mode, double[] bounds, Random random) {
+        double width = bounds[2] - bounds[0];
+        double height = bounds[3] - bounds[1];
+        return String.format(Locale.US, "%s/route?from=%.2f,%.2f&to=%.2f,%.2f&mode=%s", url,
+                bounds[0] + random.nextDouble() * width, bounds[1] + random.nextDouble() * height,
+                bounds[0] + random.nextDouble() * width, bounds[1] + random.nextDouble() * height, mode);
+    }
+
+    /**
+     * GET 요청 후 응답 본문을 끝까지 읽음 (연결 재사용을 위해)
+     * @return 200 응답인지 여부
+     */
+    private static boolean get(String address) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(address).openConnection();
+            int status = connection.getResponseCode();
+            InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+            if (body != null) {
+                readFully(body);
+            }
+            return status == 200;
+        } catch (IOException e) {
+            if (connection != null) connection.disconnect();
+            return false;
+        }
+    }
+
+    private static byte[] readFully(InputStream input) throws IOException {
+        try (InputStream in = input) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    private static double[] fetchBounds(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url + "/info").openConnection();
+        if (connection.getResponseCode() != 200) {
+            throw new IOException("GET /info failed: " + connection.getResponseCode());
+        }
+        String info = new String(readFully(connection.getInputStream()), StandardCharsets.UTF_8);
+        Matcher matcher = BOUNDS.matcher(info);
+        if (!matcher.find()) {
+            throw new IOException("Venue has no bounds: " + info);
+        }
+        return new double[]{
+                Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2)),
+                Double.parseDouble(matcher.group(3)), Double.parseDouble(matcher.group(4))
+        };
+    }
+
+    private static int[] parseLevels(String value) {
+        String[] parts = value.split(",");
+        int[] levels = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            levels[i] = Integer.parseInt(parts[i].trim());
+            if (levels[i] <= 0) {
+                throw new IllegalArgumentException("Concurrency must be positive: " + value);
+            }
+        }
+        return levels;
+    }
+
+    /**
+     * 1, 2, 4, ... 코어 수까지 (코어 수가 2의 거듭제곱이 아니면 마지막에 코어 수 추가)
+     */
+    private static String defaultLevels(int cores) {
+        StringBuilder levels = new StringBuilder("1");
+        int level = 2;
+        while (level <= cores) {
+            levels.append(',').append(level);
+            level *= 2;
+        }
+        if (level / 2 != cores) levels.append(',').append(cores);
+        return levels.toString();
+    }
+}
@@ -0,0 +1,342 @@
+package com.example.navermapapi.server;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.GeoJsonVenueConverter;
+import com.example.navermapapi.path.graph.LocalFrame;
+import com.example.navermapapi.path.graph.NodeAttributes;
+import com.example.navermapapi.path.graph.RoutingProfile;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+import com.example.navermapapi.path.graph.VenueGraph;
+import com.example.navermapapi.path.graph.VenueGraphFile;
+import com.example.navermapapi.path.manager.RouteResult;
+import com.example.navermapapi.path.manager.RoutingMode;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 로컬 경로 질의 HTTP 서버 (JDK 내장 HttpServer)
+ * 모든 요청이 하나의 불변 {@link RouteSnapshot}을 공유하고, 고정 크기 스레드 풀에서 동시에 처리된다.
+ *
+ * <pre>
+ * GET /info
+ * GET /route?from=x,y[,floor]&amp;to=x,y[,floor][&amp;mode=A_STAR][&amp;profile=DEFAULT]
+ * </pre>
+ * 좌표는 시설 로컬 좌표(m, 동/북 방향)이다.
+ */
+public final class RouteServer {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_SYNTHETIC_NODES = 10_000;
+    private static final double SYNTHETIC_LATITUDE = 37.5665;
+    private static final double SYNTHETIC_LONGITUDE = 126.9780;
+
+    static {
+        // 응답 헤더와 본문이 따로 쓰이므로 Nagle 알고리즘을 끄지 않으면 요청마다 지연 ACK(~40 ms)를 기다린다
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private volatile RouteSnapshot snapshot;
+
+    public RouteServer(RouteSnapshot snapshot, int port, int threads) throws IOException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.snapshot = snapshot;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.executor = Executors.newFixedThreadPool(threads);
+        server.createContext("/route", new RouteHandler());
+        server.createContext("/info", new InfoHandler());
+        server.createContext("/", new NotFoundHandler());
+        server.setExecutor(executor);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        int port = Integer.parseInt(option(options, "port", String.valueOf(DEFAULT_PORT)));
+        int threads = Integer.parseInt(option(options, "threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        long started = System.nanoTime();
+        VenueGraph venue = loadVenue(options);
+        RouteSnapshot snapshot = RouteSnapshot.build(venue);
+        CsrGraph graph = venue.getGraph();
+        System.out.printf("Loaded %d nodes, %d edges in %.1f ms%n",
+                graph.getNodeCount(), graph.getEdgeCount(), (System.nanoTime() - started) / 1e6);
+
+        RouteServer server = new RouteServer(snapshot, port, threads);
+        server.start();
+        System.out.printf("Listening on http://127.0.0.1:%d with %d threads%n", server.getPort(), threads);
+    }
+
+    private static VenueGraph loadVenue(Map<String, String> options) throws IOException {
+        String path = options.get("venue");
+        if (path == null) {
+            int nodes = Integer.parseInt(option(options, "synthetic", String.valueOf(DEFAULT_SYNTHETIC_NODES)));
+            SyntheticVenue.Shape shape = SyntheticVenue.Shape.valueOf(option(options, "shape", "GRID"));
+            CsrGraph graph = SyntheticVenue.create(shape, nodes, 42L);
+            return new VenueGraph(graph, new LocalFrame(SYNTHETIC_LATITUDE, SYNTHETIC_LONGITUDE));
+        }
+
+        File file = new File(path);
+        if (path.endsWith(VenueGraphFile.EXTENSION)) {
+            return VenueGraphFile.map(file, true);
+        }
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            return GeoJsonVenueConverter.fromGeoJson(reader);
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public RouteSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 시설 스냅샷 교체 (진행 중인 요청은 이전 스냅샷으로 끝까지 계산)
+     */
+    public void setSnapshot(RouteSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    private final class RouteHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, error("Method not allowed"));
+                return;
+            }
+            try {
+                respond(exchange, 200, route(exchange.getRequestURI().getRawQuery()));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                respond(exchange, 400, error(e.getMessage()));
+            } catch (RuntimeException e) {
+                respond(exchange, 500, error(e.toString()));
+            }
+        }
+    }
+
+    private final class InfoHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, error("Method not allowed"));
+                return;
+            }
+            respond(exchange, 200, info(snapshot));
+        }
+    }
+
+    private static final class NotFoundHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            respond(exchange, 404, error("Not found"));
+        }
+    }
+
+    private String route(String rawQuery) {
+        Map<String, String> query = parseQuery(rawQuery);
+        RoutingMode mode = RoutingMode.valueOf(option(query, "mode", RoutingMode.A_STAR.name()));
+        RoutingProfile profile = RoutingProfile.valueOf(option(query, "profile", RoutingProfile.DEFAULT.name()));
+
+        // 요청 하나는 처음 읽은 스냅샷만 사용
+        RouteSnapshot current = snapshot;
+        EdgeSnap from = snapPoint(current, required(query, "from"));
+        EdgeSnap to = snapPoint(current, required(query, "to"));
+        RouteResult result = current.route(from, to, mode, profile);
+        return routeJson(current.getVenue().getGraph(), from, to, result);
+    }
+
+    private static EdgeSnap snapPoint(RouteSnapshot snapshot, String value) {
+        String[] parts = value.split(",");
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("Point must be x,y[,floor]: " + value);
+        }
+        double x = Double.parseDouble(parts[0]);
+        double y = Double.parseDouble(parts[1]);
+        int floor = parts.length == 3 ? Integer.parseInt(parts[2]) : RouteSnapshot.ANY_FLOOR;
+
+        EdgeSnap snap = new EdgeSnap();
+        if (!snapshot.snap(x, y, floor, snap)) {
+            throw new IllegalArgumentException("No corridor near " + value);
+        }
+        return snap;
+    }
+
+    private static String routeJson(CsrGraph graph, EdgeSnap from, EdgeSnap to, RouteResult result) {
+        StringBuilder json = new StringBuilder(64 + result.getNodeCount() * 40);
+        json.append("{\"found\":").append(result.isFound());
+        json.append(",\"mode\":\"").append(result.getMode().name()).append('"');
+        json.append(",\"distance\":");
+        appendNumber(json, result.getDistance());
+        json.append(",\"settledNodes\":").append(result.getSettledNodes());
+        json.append(",\"nodes\":[");
+        for (int i = 0; i < result.getNodeCount(); i++) {
+            if (i > 0) json.append(',');
+            json.append(result.getNode(i));
+        }
+        json.append("],\"points\":[");
+        if (result.isFound()) {
+            appendPoint(json, from.getX(), from.getY());
+            for (int i = 0; i < result.getNodeCount(); i++) {
+                int node = result.getNode(i);
+                json.append(',');
+                appendPoint(json, graph.x(node), graph.y(node));
+            }
+            json.append(',');
+            appendPoint(json, to.getX(), to.getY());
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String info(RouteSnapshot snapshot) {
+        CsrGraph graph = snapshot.getVenue().getGraph();
+        LocalFrame frame = snapshot.getVenue().getFrame();
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        int minFloor = Integer.MAX_VALUE;
+        int maxFloor = Integer.MIN_VALUE;
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            minX = Math.min(minX, graph.x(node));
+            minY = Math.min(minY, graph.y(node));
+            maxX = Math.max(maxX, graph.x(node));
+            maxY = Math.max(maxY, graph.y(node));
+            int floor = NodeAttributes.floor(graph.nodeAttributes(node));
+            minFloor = Math.min(minFloor, floor);
+            maxFloor = Math.max(maxFloor, floor);
+        }
+
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"nodes\":").append(graph.getNodeCount());
+        json.append(",\"edges\":").append(graph.getEdgeCount());
+        json.append(",\"origin\":");
+        appendPoint(json, frame.getOriginLatitude(), frame.getOriginLongitude());
+        if (graph.getNodeCount() > 0) {
+            json.append(",\"bounds\":[");
+            appendNumber(json, minX);
+            json.append(',');
+            appendNumber(json, minY);
+            json.append(',');
+            appendNumber(json, maxX);
+            json.append(',');
+            appendNumber(json, maxY);
+            json.append("],\"floors\":[").append(minFloor).append(',').append(maxFloor).append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendPoint(StringBuilder json, double a, double b) {
+        json.append('[');
+        appendNumber(json, a);
+        json.append(',');
+        appendNumber(json, b);
+        json.append(']');
+    }
+
+    private static void appendNumber(StringBuilder json, double value) {
+        // JSON에는 무한대가 없으므로 null로 표기
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            json.append("null");
+        } else {
+            json.append(Math.round(value * 1000.0) / 1000.0);
+        }
+    }
+
+    private static String error(String message) {
+        String text = message != null ? message : "";
+        StringBuilder json = new StringBuilder(text.length() + 16).append("{\"error\":\"");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append("\"}").toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+        try {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq <= 0) continue;
+                query.put(URLDecoder.decode(pair.substring(0, eq), "UTF-8"),
+                        URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        return query;
+    }
+
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return value;
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    static String option(Map<String, String> options, String name, String defaultValue) {
+        String value = options.get(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.navermapapi.server;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.FloorPartition;
+import com.example.navermapapi.path.graph.RoutingProfile;
+import com.example.navermapapi.path.graph.VenueGraph;
+import com.example.navermapapi.path.manager.PathRouter;
+import com.example.navermapapi.path.manager.RouteResult;
+import com.example.navermapapi.path.manager.RoutingMode;
+import com.example.navermapapi.path.spatial.EdgeRTree;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+/**
+ * 서버 요청들이 공유하는 불변 시설 스냅샷 (그래프, 프로필별 탐색기, 공간 색인)
+ * 생성 시점에 색인과 직선 거리 휴리스틱, ALT 랜드마크 표를 준비해 두므로, 요청 스레드는 잠금 없이 읽기만 한다.
+ * 탐색 작업 공간은 스레드마다 따로 쓰므로 같은 스냅샷에서 여러 요청을 동시에 계산할 수 있다.
+ */
+public final class RouteSnapshot {
+    public static final int ANY_FLOOR = Integer.MIN_VALUE;
+
+    private final VenueGraph venue;
+    private final PathRouter[] routers;   // 프로필 순서
+    private final EdgeRTree edgeIndex;
+    private final EdgeRTree[] floorEdgeIndices;   // 층 순서로 정렬되지 않은 그래프면 null
+    private final FloorPartition floors;
+
+    private RouteSnapshot(VenueGraph venue, PathRouter[] routers, EdgeRTree edgeIndex,
+                          EdgeRTree[] floorEdgeIndices, FloorPartition floors) {
+        this.venue = venue;
+        this.routers = routers;
+        this.edgeIndex = edgeIndex;
+        this.floorEdgeIndices = floorEdgeIndices;
+        this.floors = floors;
+    }
+
+    /**
+     * 스냅샷 생성 (프로필별 비용, 공간 색인, A* 휴리스틱과 랜드마크 표를 미리 계산)
+     */
+    @NonNull
+    public static RouteSnapshot build(@NonNull VenueGraph venue) {
+        CsrGraph graph = venue.getGraph();
+        RoutingProfile[] profiles = RoutingProfile.values();
+        PathRouter[] routers = new PathRouter[profiles.length];
+        for (RoutingProfile profile : profiles) {
+            PathRouter router = new PathRouter(profile.applyTo(graph));
+            router.precompute();
+            routers[profile.ordinal()] = router;
+        }
+
+        FloorPartition floors = routers[RoutingProfile.DEFAULT.ordinal()].getFloorPartition();
+        EdgeRTree[] floorIndices = null;
+        if (floors.isContiguous() && floors.getFloorCount() > 1) {
+            floorIndices = new EdgeRTree[floors.getFloorCount()];
+            for (int i = 0; i < floorIndices.length; i++) {
+                floorIndices[i] = EdgeRTree.build(graph, floors.firstNode(i), floors.endNode(i));
+            }
+        }
+        return new RouteSnapshot(venue, routers, EdgeRTree.build(graph), floorIndices, floors);
+    }
+
+    @NonNull
+    public VenueGraph getVenue() {
+        return venue;
+    }
+
+    @NonNull
+    public PathRouter getRouter(@NonNull RoutingProfile profile) {
+        return routers[profile.ordinal()];
+    }
+
+    /**
+     * 로컬 좌표(m)의 지점을 지정한 층의 가장 가까운 복도로 투영
+     * @param floor 층 번호 ({@link #ANY_FLOOR}이면 모든 층)
+     * @return 간선을 찾았는지 여부
+     */
+    public boolean snap(double x, double y, int floor, @NonNull EdgeSnap out) {
+        return edgeIndex(floor).nearest(x, y, out);
+    }
+
+    private EdgeRTree edgeIndex(int floor) {
+        if (floor == ANY_FLOOR || floorEdgeIndices == null) return edgeIndex;
+        int index = floors.indexOf(floor);
+        return index >= 0 ? floorEdgeIndices[index] : edgeIndex;
+    }
+
+    /**
+     * 복도 위 두 지점 사이 경로
+     * @throws IllegalArgumentException 지점이 간선 위에 있지 않은 경우
+     */
+    @NonNull
+    public RouteResult route(@NonNull EdgeSnap from, @NonNull EdgeSnap to,
+                             @NonNull RoutingMode mode, @NonNull RoutingProfile profile) {
+        return getRouter(profile).route(from, to, mode);
+    }
+}
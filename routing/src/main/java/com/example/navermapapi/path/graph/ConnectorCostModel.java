@@ -0,0 +1,54 @@
+package com.example.navermapapi.path.graph;
+
+/**
+ * 층 연결 간선의 비용 모델
+ * 모든 비용은 평지를 걷는 거리(m)로 환산한 값이며, 항상 수평 이동 거리 이상이므로
+ * 직선 거리 휴리스틱의 허용 가능성을 해치지 않는다.
+ */
+public final class ConnectorCostModel {
+    /** 엘리베이터 대기 30 m, 층당 5 m, 계단 층당 15 m, 경사로는 길이의 1.5배 */
+    public static final ConnectorCostModel DEFAULT = new ConnectorCostModel(30, 5, 15, 1.5);
+
+    private final double elevatorWait;
+    private final double elevatorPerFloor;
+    private final double stairsPerFloor;
+    private final double rampFactor;
+
+    /**
+     * @param elevatorWait 엘리베이터 대기 비용 (층 수와 무관한 고정 비용)
+     * @param elevatorPerFloor 엘리베이터 층당 비용
+     * @param stairsPerFloor 계단 층당 비용
+     * @param rampFactor 경사로 길이 배율 (1 이상)
+     */
+    public ConnectorCostModel(double elevatorWait, double elevatorPerFloor,
+                              double stairsPerFloor, double rampFactor) {
+        if (elevatorWait < 0 || elevatorPerFloor < 0 || stairsPerFloor < 0 || rampFactor < 1) {
+            throw new IllegalArgumentException("Invalid connector cost parameters");
+        }
+        this.elevatorWait = elevatorWait;
+        this.elevatorPerFloor = elevatorPerFloor;
+        this.stairsPerFloor = stairsPerFloor;
+        this.rampFactor = rampFactor;
+    }
+
+    /**
+     * 간선 비용 계산
+     * @param type 간선 유형 ({@link EdgeAttributes})
+     * @param horizontalLength 수평 이동 거리 (m)
+     * @param floorDelta 이동하는 층 수 (부호 무관)
+     */
+    public double cost(int type, double horizontalLength, int floorDelta) {
+        int floors = Math.abs(floorDelta);
+        switch (type) {
+            case EdgeAttributes.TYPE_ELEVATOR:
+                return horizontalLength + elevatorWait + elevatorPerFloor * floors;
+            case EdgeAttributes.TYPE_STAIRS:
+                return horizontalLength + stairsPerFloor * floors;
+            case EdgeAttributes.TYPE_RAMP:
+                return horizontalLength * rampFactor;
+            case EdgeAttributes.TYPE_CORRIDOR:
+            default:
+                return horizontalLength;
+        }
+    }
+}
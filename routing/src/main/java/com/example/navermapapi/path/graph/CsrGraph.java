@@ -0,0 +1,305 @@
+package com.example.navermapapi.path.graph;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * 압축 희소 행(CSR) 형식의 경로 그래프
+ * 노드 v의 진출 간선은 targets/weights 배열의 [offsets[v], offsets[v + 1]) 구간에 연속으로 저장된다.
+ * 노드 좌표는 로컬 미터 좌표계(동쪽 x, 북쪽 y)로 저장되어 거리 기반 휴리스틱에 쓰인다.
+ * 배열은 버퍼로 보관되므로 힙 배열({@link Builder})과 메모리 매핑 파일({@link VenueGraphFile})을 똑같이 다룬다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 동시에 탐색해도 안전하다.
+ */
+public final class CsrGraph {
+    private final int nodeCount;
+    private final int edgeCount;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final DoubleBuffer weights;
+    private final DoubleBuffer xs;        // 노드 x 좌표 (미터), 좌표가 없으면 null
+    private final DoubleBuffer ys;        // 노드 y 좌표 (미터), 좌표가 없으면 null
+    private final IntBuffer attributes;   // 노드 속성 ({@link NodeAttributes}), 없으면 null
+    private final IntBuffer edgeAttributes;   // 간선 속성 ({@link EdgeAttributes}), 없으면 null
+
+    CsrGraph(int nodeCount, IntBuffer offsets, IntBuffer targets, DoubleBuffer weights,
+             DoubleBuffer xs, DoubleBuffer ys, IntBuffer attributes, IntBuffer edgeAttributes) {
+        this.nodeCount = nodeCount;
+        this.edgeCount = targets.limit();
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.xs = xs;
+        this.ys = ys;
+        this.attributes = attributes;
+        this.edgeAttributes = edgeAttributes;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * 노드의 첫 번째 간선 인덱스
+     */
+    public int firstEdge(int node) {
+        return offsets.get(node);
+    }
+
+    /**
+     * 노드의 마지막 간선 다음 인덱스 (exclusive)
+     */
+    public int endEdge(int node) {
+        return offsets.get(node + 1);
+    }
+
+    /**
+     * 간선의 출발 노드 (오프셋 이진 탐색, O(log n))
+     */
+    public int source(int edge) {
+        int lo = 0;
+        int hi = nodeCount - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (offsets.get(mid) <= edge) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    public int target(int edge) {
+        return targets.get(edge);
+    }
+
+    public double weight(int edge) {
+        return weights.get(edge);
+    }
+
+    public int degree(int node) {
+        return offsets.get(node + 1) - offsets.get(node);
+    }
+
+    public boolean hasCoordinates() {
+        return xs != null;
+    }
+
+    public double x(int node) {
+        return xs.get(node);
+    }
+
+    public double y(int node) {
+        return ys.get(node);
+    }
+
+    /**
+     * 노드 속성 (층, 유형 플래그), 속성이 없는 그래프는 0
+     */
+    public int nodeAttributes(int node) {
+        return attributes != null ? attributes.get(node) : 0;
+    }
+
+    /**
+     * 간선 속성 (유형), 속성이 없는 그래프는 0 (복도)
+     */
+    public int edgeAttributes(int edge) {
+        return edgeAttributes != null ? edgeAttributes.get(edge) : 0;
+    }
+
+    public boolean hasEdgeAttributes() {
+        return edgeAttributes != null;
+    }
+
+    /**
+     * 두 노드 사이의 직선 거리 (미터)
+     */
+    public double straightLineDistance(int a, int b) {
+        double dx = xs.get(a) - xs.get(b);
+        double dy = ys.get(a) - ys.get(b);
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * 모든 간선의 방향을 뒤집은 그래프 생성 (좌표는 공유)
+     */
+    public CsrGraph reverse() {
+        Builder builder = new Builder(nodeCount);
+        for (int v = 0; v < nodeCount; v++) {
+            for (int e = firstEdge(v); e < endEdge(v); e++) {
+                builder.addEdge(target(e), v, weight(e), edgeAttributes(e));
+            }
+        }
+        CsrGraph reversed = builder.build();
+        return new CsrGraph(nodeCount, reversed.offsets, reversed.targets, reversed.weights,
+                xs, ys, attributes, edgeAttributes != null ? reversed.edgeAttributes : null);
+    }
+
+    /**
+     * 구조, 좌표, 속성은 공유하고 간선 비용만 바꾼 그래프 (경로 프로필별 비용)
+     * @param weights 간선 순서의 새 비용 (통행 불가는 {@link Double#POSITIVE_INFINITY})
+     */
+    public CsrGraph withWeights(double[] weights) {
+        if (weights.length != edgeCount) {
+            throw new IllegalArgumentException("Expected " + edgeCount + " weights: " + weights.length);
+        }
+        return new CsrGraph(nodeCount, offsets, targets, DoubleBuffer.wrap(weights),
+                xs, ys, attributes, edgeAttributes);
+    }
+
+    /**
+     * from → to 간선의 인덱스를 찾음
+     * @return 간선 인덱스, 없으면 -1
+     */
+    public int findEdge(int from, int to) {
+        for (int e = firstEdge(from); e < endEdge(from); e++) {
+            if (targets.get(e) == to) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    public void checkNode(int node) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IllegalArgumentException("Invalid node index: " + node);
+        }
+    }
+
+    /**
+     * 간선을 임의 순서로 받아 CSR 배열로 정렬하는 빌더
+     */
+    public static class Builder {
+        private final int nodeCount;
+        private int[] sources = new int[16];
+        private int[] targets = new int[16];
+        private double[] weights = new double[16];
+        private int[] edgeAttributes;
+        private int edgeCount;
+        private double[] xs;
+        private double[] ys;
+        private int[] attributes;
+
+        public Builder(int nodeCount) {
+            if (nodeCount < 0) {
+                throw new IllegalArgumentException("Node count must not be negative");
+            }
+            this.nodeCount = nodeCount;
+        }
+
+        /**
+         * 노드의 로컬 미터 좌표 설정
+         */
+        public Builder setCoordinates(int node, double x, double y) {
+            checkIndex(node);
+            if (xs == null) {
+                xs = new double[nodeCount];
+                ys = new double[nodeCount];
+            }
+            xs[node] = x;
+            ys[node] = y;
+            return this;
+        }
+
+        /**
+         * 노드 속성 설정 ({@link NodeAttributes#pack})
+         */
+        public Builder setNodeAttributes(int node, int value) {
+            checkIndex(node);
+            if (attributes == null) {
+                attributes = new int[nodeCount];
+            }
+            attributes[node] = value;
+            return this;
+        }
+
+        public Builder addEdge(int from, int to, double weight) {
+            return addEdge(from, to, weight, 0);
+        }
+
+        /**
+         * 속성이 있는 간선 추가 ({@link EdgeAttributes})
+         */
+        public Builder addEdge(int from, int to, double weight, int attributes) {
+            checkIndex(from);
+            checkIndex(to);
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid edge weight: " + weight);
+            }
+            if (edgeCount == sources.length) {
+                int capacity = edgeCount * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                if (edgeAttributes != null) {
+                    edgeAttributes = Arrays.copyOf(edgeAttributes, capacity);
+                }
+            }
+            if (attributes != 0 && edgeAttributes == null) {
+                edgeAttributes = new int[sources.length];
+            }
+            sources[edgeCount] = from;
+            targets[edgeCount] = to;
+            weights[edgeCount] = weight;
+            if (edgeAttributes != null) {
+                edgeAttributes[edgeCount] = attributes;
+            }
+            edgeCount++;
+            return this;
+        }
+
+        /**
+         * 양방향 간선 추가 (두 개의 방향 간선으로 저장)
+         */
+        public Builder addUndirectedEdge(int a, int b, double weight) {
+            return addUndirectedEdge(a, b, weight, 0);
+        }
+
+        public Builder addUndirectedEdge(int a, int b, double weight, int attributes) {
+            addEdge(a, b, weight, attributes);
+            return addEdge(b, a, weight, attributes);
+        }
+
+        private void checkIndex(int node) {
+            if (node < 0 || node >= nodeCount) {
+                throw new IllegalArgumentException("Invalid node index: " + node);
+            }
+        }
+
+        public CsrGraph build() {
+            // 출발 노드별 간선 수를 세어 오프셋을 만든 뒤 안정적으로 배치 (counting sort)
+            int[] offsets = new int[nodeCount + 1];
+            for (int i = 0; i < edgeCount; i++) {
+                offsets[sources[i] + 1]++;
+            }
+            for (int v = 0; v < nodeCount; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            int[] cursor = Arrays.copyOf(offsets, nodeCount);
+            int[] sortedTargets = new int[edgeCount];
+            double[] sortedWeights = new double[edgeCount];
+            int[] sortedAttributes = edgeAttributes != null ? new int[edgeCount] : null;
+            for (int i = 0; i < edgeCount; i++) {
+                int slot = cursor[sources[i]]++;
+                sortedTargets[slot] = targets[i];
+                sortedWeights[slot] = weights[i];
+                if (sortedAttributes != null) {
+                    sortedAttributes[slot] = edgeAttributes[i];
+                }
+            }
+
+            return new CsrGraph(nodeCount, IntBuffer.wrap(offsets), IntBuffer.wrap(sortedTargets),
+                    DoubleBuffer.wrap(sortedWeights),
+                    xs != null ? DoubleBuffer.wrap(xs.clone()) : null,
+                    ys != null ? DoubleBuffer.wrap(ys.clone()) : null,
+                    attributes != null ? IntBuffer.wrap(attributes.clone()) : null,
+                    sortedAttributes != null ? IntBuffer.wrap(sortedAttributes) : null);
+        }
+    }
+}
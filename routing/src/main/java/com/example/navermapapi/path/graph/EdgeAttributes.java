@@ -0,0 +1,69 @@
+package com.example.navermapapi.path.graph;
+
+/**
+ * 간선 속성 비트 필드
+ * 하위 4비트는 간선 유형이다. 층을 잇는 유형(엘리베이터, 계단, 경사로)을 연결 간선이라 한다.
+ * 그 위의 비트는 접근성 플래그로, 경로 프로필({@link RoutingProfile})이 비용 배율을 정할 때 쓴다.
+ */
+public final class EdgeAttributes {
+    public static final int TYPE_CORRIDOR = 0;   // 같은 층 복도
+    public static final int TYPE_ELEVATOR = 1;   // 엘리베이터
+    public static final int TYPE_STAIRS = 2;     // 계단
+    public static final int TYPE_RAMP = 3;       // 경사로
+
+    public static final int FLAG_TACTILE_PAVING = 1 << 4;   // 점자 블록이 깔린 통로
+    public static final int FLAG_NARROW = 1 << 5;           // 좁은 통로 (휠체어 통과 곤란)
+    public static final int FLAG_CROWDED = 1 << 6;          // 혼잡한 구역
+
+    private static final int TYPE_MASK = 0xF;
+
+    private EdgeAttributes() {
+        // Utility class
+    }
+
+    public static int type(int attributes) {
+        return attributes & TYPE_MASK;
+    }
+
+    /**
+     * 유형과 접근성 플래그를 하나의 int로 묶음
+     * @param type TYPE_* 값
+     * @param flags FLAG_* 조합
+     */
+    public static int pack(int type, int flags) {
+        return (type & TYPE_MASK) | (flags & ~TYPE_MASK);
+    }
+
+    public static boolean hasFlag(int attributes, int flag) {
+        return (attributes & flag) != 0;
+    }
+
+    /**
+     * 층을 잇는 연결 간선인지 여부
+     */
+    public static boolean isConnector(int attributes) {
+        return type(attributes) != TYPE_CORRIDOR;
+    }
+
+    /**
+     * GeoJSON 등 편집용 유형 이름을 간선 유형으로 변환
+     * @throws IllegalArgumentException 알 수 없는 유형인 경우
+     */
+    public static int typeForName(String name) {
+        if (name == null) {
+            return TYPE_CORRIDOR;
+        }
+        switch (name) {
+            case "corridor":
+                return TYPE_CORRIDOR;
+            case "elevator":
+                return TYPE_ELEVATOR;
+            case "stairs":
+                return TYPE_STAIRS;
+            case "ramp":
+                return TYPE_RAMP;
+            default:
+                throw new IllegalArgumentException("Unknown edge type: " + name);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.navermapapi.path.graph;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * 그래프 위에 덧씌우는 간선 변경 목록 (통제된 복도, 혼잡 가중치)
+ * 변경할 때마다 새 객체를 돌려주는 불변 객체라, 한 번 만든 그래프 스냅샷은 다른 스레드에서 읽는 동안 바뀌지 않는다.
+ * 가중 배율은 1 이상만 허용하므로 적용한 그래프의 비용은 항상 원래 비용 이상이다 (하한 휴리스틱 재사용 가능).
+ */
+public final class EdgeOverlay {
+    public static final EdgeOverlay EMPTY = new EdgeOverlay(new int[0], new double[0]);
+
+    private final int[] edges;       // 간선 번호 오름차순
+    private final double[] factors;  // 비용 배율, 통제는 POSITIVE_INFINITY
+
+    private EdgeOverlay(int[] edges, double[] factors) {
+        this.edges = edges;
+        this.factors = factors;
+    }
+
+    /**
+     * 간선 통제 (통행 불가)
+     */
+    @NonNull
+    public EdgeOverlay close(int edge) {
+        return with(edge, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * 간선 비용에 배율 적용 (이미 있는 변경은 덮어씀)
+     * @param factor 1 이상의 배율
+     * @throws IllegalArgumentException 배율이 1보다 작거나 NaN인 경우
+     */
+    @NonNull
+    public EdgeOverlay penalize(int edge, double factor) {
+        if (!(factor >= 1)) {
+            throw new IllegalArgumentException("Penalty factor must be at least 1: " + factor);
+        }
+        return with(edge, factor);
+    }
+
+    /**
+     * 간선 변경 해제 (원래 비용으로)
+     */
+    @NonNull
+    public EdgeOverlay clear(int edge) {
+        int index = Arrays.binarySearch(edges, edge);
+        if (index < 0) return this;
+        if (edges.length == 1) return EMPTY;
+
+        int[] nextEdges = new int[edges.length - 1];
+        double[] nextFactors = new double[edges.length - 1];
+        System.arraycopy(edges, 0, nextEdges, 0, index);
+        System.arraycopy(factors, 0, nextFactors, 0, index);
+        System.arraycopy(edges, index + 1, nextEdges, index, edges.length - index - 1);
+        System.arraycopy(factors, index + 1, nextFactors, index, edges.length - index - 1);
+        return new EdgeOverlay(nextEdges, nextFactors);
+    }
+
+    private EdgeOverlay with(int edge, double factor) {
+        if (edge < 0) {
+            throw new IllegalArgumentException("Invalid edge index: " + edge);
+        }
+        if (factor == 1) return clear(edge);
+
+        int index = Arrays.binarySearch(edges, edge);
+        if (index >= 0) {
+            if (factors[index] == factor) return this;
+            double[] nextFactors = factors.clone();
+            nextFactors[index] = factor;
+            return new EdgeOverlay(edges, nextFactors);
+        }
+
+        int insert = -index - 1;
+        int[] nextEdges = new int[edges.length + 1];
+        double[] nextFactors = new double[edges.length + 1];
+        System.arraycopy(edges, 0, nextEdges, 0, insert);
+        System.arraycopy(factors, 0, nextFactors, 0, insert);
+        nextEdges[insert] = edge;
+        nextFactors[insert] = factor;
+        System.arraycopy(edges, insert, nextEdges, insert + 1, edges.length - insert);
+        System.arraycopy(factors, insert, nextFactors, insert + 1, edges.length - insert);
+        return new EdgeOverlay(nextEdges, nextFactors);
+    }
+
+    public boolean isEmpty() {
+        return edges.length == 0;
+    }
+
+    /**
+     * 변경된 간선 수
+     */
+    public int size() {
+        return edges.length;
+    }
+
+    /**
+     * i번째 변경 간선 (간선 번호 오름차순)
+     */
+    public int getEdge(int index) {
+        return edges[index];
+    }
+
+    /**
+     * 간선 비용 배율 (변경이 없으면 1, 통제면 POSITIVE_INFINITY)
+     */
+    public double factor(int edge) {
+        int index = Arrays.binarySearch(edges, edge);
+        return index >= 0 ? factors[index] : 1;
+    }
+
+    public boolean isClosed(int edge) {
+        return Double.isInfinite(factor(edge));
+    }
+
+    /**
+     * 변경을 적용한 그래프 (구조, 좌표, 속성은 공유하고 비용 배열만 새로 만듦)
+     * @throws IllegalArgumentException 그래프에 없는 간선을 변경한 경우
+     */
+    @NonNull
+    public CsrGraph applyTo(@NonNull CsrGraph graph) {
+        if (isEmpty()) return graph;
+        if (edges[edges.length - 1] >= graph.getEdgeCount()) {
+            throw new IllegalArgumentException("Overlay edge out of range: " + edges[edges.length - 1]);
+        }
+        double[] weights = new double[graph.getEdgeCount()];
+        for (int e = 0; e < weights.length; e++) {
+            weights[e] = graph.weight(e);
+        }
+        for (int i = 0; i < edges.length; i++) {
+            // 비용 0인 간선도 통제되도록 곱하지 않고 대입 (0 × ∞ = NaN)
+            weights[edges[i]] = Double.isInfinite(factors[i]) ?
+                    Double.POSITIVE_INFINITY : weights[edges[i]] * factors[i];
+        }
+        return graph.withWeights(weights);
+    }
+
+    /**
+     * 두 변경 목록 사이에 배율이 달라진 간선 (오름차순)
+     */
+    @NonNull
+    public static int[] changedEdges(@NonNull EdgeOverlay before, @NonNull EdgeOverlay after) {
+        int[] changed = new int[before.edges.length + after.edges.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < before.edges.length || j < after.edges.length) {
+            int a = i < before.edges.length ? before.edges[i] : Integer.MAX_VALUE;
+            int b = j < after.edges.length ? after.edges[j] : Integer.MAX_VALUE;
+            if (a == b) {
+                if (before.factors[i] != after.factors[j]) changed[count++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                changed[count++] = a;
+                i++;
+            } else {
+                changed[count++] = b;
+                j++;
+            }
+        }
+        return Arrays.copyOf(changed, count);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.navermapapi.path.graph;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * 층별 노드 구간
+ * 변환기({@link GeoJsonVenueConverter})는 노드를 층 순서로 번호를 매기므로, 각 층은 연속된 노드 번호
+ * 구간 [firstNode, endNode)이 된다. 층별 복도 색인은 이 구간의 간선만 담는다.
+ * 층 순서로 정렬되지 않은 그래프는 {@link #isContiguous()}가 false이며 층별 색인을 쓰지 않는다.
+ */
+public final class FloorPartition {
+    private final int[] floors;       // 오름차순 층 번호
+    private final int[] firstNodes;   // 층별 첫 노드
+    private final int[] endNodes;     // 층별 마지막 노드 다음
+    private final boolean contiguous;
+
+    private FloorPartition(int[] floors, int[] firstNodes, int[] endNodes, boolean contiguous) {
+        this.floors = floors;
+        this.firstNodes = firstNodes;
+        this.endNodes = endNodes;
+        this.contiguous = contiguous;
+    }
+
+    /**
+     * 노드 속성의 층 값으로 구간 계산 (O(n))
+     */
+    @NonNull
+    public static FloorPartition of(@NonNull CsrGraph graph) {
+        int n = graph.getNodeCount();
+        int[] floors = new int[Math.min(n, 256)];
+        int[] firstNodes = new int[floors.length];
+        int[] endNodes = new int[floors.length];
+        int count = 0;
+        boolean contiguous = true;
+        for (int v = 0; v < n; v++) {
+            int floor = NodeAttributes.floor(graph.nodeAttributes(v));
+            if (count > 0 && floors[count - 1] == floor) {
+                endNodes[count - 1] = v + 1;
+                continue;
+            }
+            if (count > 0 && floor < floors[count - 1]) {
+                contiguous = false;
+                break;
+            }
+            floors[count] = floor;
+            firstNodes[count] = v;
+            endNodes[count] = v + 1;
+            count++;
+        }
+        if (!contiguous) {
+            return new FloorPartition(new int[0], new int[0], new int[0], false);
+        }
+        return new FloorPartition(Arrays.copyOf(floors, count), Arrays.copyOf(firstNodes, count),
+                Arrays.copyOf(endNodes, count), true);
+    }
+
+    /**
+     * 층마다 노드 번호가 연속인지 여부
+     */
+    public boolean isContiguous() {
+        return contiguous;
+    }
+
+    public int getFloorCount() {
+        return floors.length;
+    }
+
+    public int getFloor(int index) {
+        return floors[index];
+    }
+
+    public int firstNode(int index) {
+        return firstNodes[index];
+    }
+
+    public int endNode(int index) {
+        return endNodes[index];
+    }
+
+    /**
+     * 층 번호의 위치
+     * @return 위치, 없는 층이면 -1
+     */
+    public int indexOf(int floor) {
+        int index = Arrays.binarySearch(floors, floor);
+        return index >= 0 ? index : -1;
+    }
+}
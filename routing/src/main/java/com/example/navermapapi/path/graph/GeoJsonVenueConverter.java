@@ -0,0 +1,233 @@
+package com.example.navermapapi.path.graph;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편집용 GeoJSON을 시설 그래프로 변환
+ *
+ * <ul>
+ *   <li>Point: 노드. properties {@code id}(필수), {@code floor}(기본 0), {@code type}
+ *       (entrance / elevator / stairs / exhibit)</li>
+ *   <li>LineString: 간선. properties {@code from}/{@code to}가 없으면 양 끝 좌표가 같은 노드를 찾는다.
+ *       {@code type}(corridor / elevator / stairs / ramp)이 층 연결이면 {@link ConnectorCostModel}로
+ *       비용을 계산한다. {@code weight}가 있으면 그 값을 쓰고, {@code oneway}가 true면 단방향.
+ *       접근성 속성 {@code tactile}(점자 블록), {@code narrow}(좁은 통로), {@code crowded}(혼잡)는
+ *       true일 때 {@link EdgeAttributes} 플래그로 저장</li>
+ *   <li>최상위 {@code origin} [경도, 위도]가 없으면 첫 노드를 로컬 좌표계 원점으로 사용</li>
+ * </ul>
+ *
+ * 노드는 층 순서로 번호를 매겨 층마다 연속 구간이 되게 한다 ({@link FloorPartition}).
+ * 빌드 머신에서 {@code java ... GeoJsonVenueConverter venue.geojson venue.vgr}로 실행해
+ * 앱에는 바이너리 파일만 넣는다.
+ */
+public final class GeoJsonVenueConverter {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private GeoJsonVenueConverter() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: GeoJsonVenueConverter <input.geojson> <output.vgr>");
+            System.exit(2);
+        }
+        VenueGraph venue;
+        try (Reader reader = new InputStreamReader(new FileInputStream(args[0]), UTF_8)) {
+            venue = fromGeoJson(reader);
+        }
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(args[1]))) {
+            VenueGraphFile.write(venue, output);
+        }
+        System.out.println("Wrote " + venue.getGraph().getNodeCount() + " nodes, "
+                + venue.getGraph().getEdgeCount() + " edges to " + args[1]);
+    }
+
+    /**
+     * GeoJSON FeatureCollection 파싱
+     * @throws IllegalArgumentException 필수 속성이 없거나 간선 끝점을 노드와 연결할 수 없는 경우
+     */
+    @NonNull
+    public static VenueGraph fromGeoJson(@NonNull Reader reader) {
+        return fromGeoJson(reader, ConnectorCostModel.DEFAULT);
+    }
+
+    /**
+     * 지정한 연결 간선 비용 모델로 파싱
+     */
+    @NonNull
+    public static VenueGraph fromGeoJson(@NonNull Reader reader, @NonNull ConnectorCostModel costModel) {
+        JsonObject root = new Gson().fromJson(reader, JsonObject.class);
+        if (root == null || !root.has("features")) {
+            throw new IllegalArgumentException("Not a GeoJSON FeatureCollection");
+        }
+        JsonArray features = root.getAsJsonArray("features");
+
+        // 1단계: 노드 수집
+        List<double[]> positions = new ArrayList<>();
+        List<Integer> attributes = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (JsonElement element : features) {
+            JsonObject feature = element.getAsJsonObject();
+            JsonObject geometry = feature.getAsJsonObject("geometry");
+            if (!"Point".equals(geometry.get("type").getAsString())) continue;
+
+            JsonObject properties = properties(feature);
+            if (!properties.has("id")) {
+                throw new IllegalArgumentException("Point feature without id");
+            }
+            String id = properties.get("id").getAsString();
+            double[] position = lngLat(geometry.getAsJsonArray("coordinates"));
+            int floor = properties.has("floor") ? properties.get("floor").getAsInt() : 0;
+            String type = properties.has("type") ? properties.get("type").getAsString() : null;
+
+            positions.add(position);
+            attributes.add(NodeAttributes.pack(floor, NodeAttributes.flagForType(type)));
+            ids.add(id);
+        }
+        if (positions.isEmpty()) {
+            throw new IllegalArgumentException("GeoJSON contains no nodes");
+        }
+
+        // 층 순서로 번호 부여 (같은 층 안에서는 파일 순서 유지)
+        Integer[] order = new Integer[positions.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(
+                NodeAttributes.floor(attributes.get(a)), NodeAttributes.floor(attributes.get(b))));
+
+        Map<String, Integer> idToNode = new HashMap<>();
+        Map<String, Integer> positionToNode = new HashMap<>();
+        for (int node = 0; node < order.length; node++) {
+            int source = order[node];
+            if (idToNode.put(ids.get(source), node) != null) {
+                throw new IllegalArgumentException("Duplicate node id: " + ids.get(source));
+            }
+            // 여러 층에서 같은 좌표를 쓰는 노드는 좌표로 찾을 수 없음 (-1)
+            String key = positionKey(positions.get(source));
+            positionToNode.put(key, positionToNode.containsKey(key) ? -1 : node);
+        }
+
+        double[] origin = root.has("origin") ?
+                lngLat(root.getAsJsonArray("origin")) : positions.get(0);
+        LocalFrame frame = new LocalFrame(origin[1], origin[0]);
+
+        CsrGraph.Builder builder = new CsrGraph.Builder(positions.size());
+        int[] floors = new int[positions.size()];
+        for (int node = 0; node < order.length; node++) {
+            double[] position = positions.get(order[node]);
+            builder.setCoordinates(node, frame.toX(position[0]), frame.toY(position[1]));
+            builder.setNodeAttributes(node, attributes.get(order[node]));
+            floors[node] = NodeAttributes.floor(attributes.get(order[node]));
+        }
+
+        // 2단계: 간선
+        for (JsonElement element : features) {
+            JsonObject feature = element.getAsJsonObject();
+            JsonObject geometry = feature.getAsJsonObject("geometry");
+            if (!"LineString".equals(geometry.get("type").getAsString())) continue;
+
+            JsonObject properties = properties(feature);
+            JsonArray line = geometry.getAsJsonArray("coordinates");
+            if (line.size() < 2) {
+                throw new IllegalArgumentException("LineString needs at least two points");
+            }
+            int from = endpoint(properties, "from", lngLat(line.get(0).getAsJsonArray()),
+                    idToNode, positionToNode);
+            int to = endpoint(properties, "to", lngLat(line.get(line.size() - 1).getAsJsonArray()),
+                    idToNode, positionToNode);
+
+            int type = EdgeAttributes.typeForName(
+                    properties.has("type") ? properties.get("type").getAsString() : null);
+            if (type == EdgeAttributes.TYPE_CORRIDOR && floors[from] != floors[to]) {
+                throw new IllegalArgumentException("Corridor edge between floors "
+                        + floors[from] + " and " + floors[to] + "; set a connector type");
+            }
+            double weight = properties.has("weight") ? properties.get("weight").getAsDouble()
+                    : costModel.cost(type, lineLength(line, frame), floors[to] - floors[from]);
+            int edgeAttributes = EdgeAttributes.pack(type, accessibilityFlags(properties));
+            boolean oneway = properties.has("oneway") && properties.get("oneway").getAsBoolean();
+            if (oneway) {
+                builder.addEdge(from, to, weight, edgeAttributes);
+            } else {
+                builder.addUndirectedEdge(from, to, weight, edgeAttributes);
+            }
+        }
+
+        return new VenueGraph(builder.build(), frame);
+    }
+
+    private static JsonObject properties(JsonObject feature) {
+        JsonElement properties = feature.get("properties");
+        return properties != null && properties.isJsonObject() ?
+                properties.getAsJsonObject() : new JsonObject();
+    }
+
+    private static int accessibilityFlags(JsonObject properties) {
+        int flags = 0;
+        if (isTrue(properties, "tactile")) flags |= EdgeAttributes.FLAG_TACTILE_PAVING;
+        if (isTrue(properties, "narrow")) flags |= EdgeAttributes.FLAG_NARROW;
+        if (isTrue(properties, "crowded")) flags |= EdgeAttributes.FLAG_CROWDED;
+        return flags;
+    }
+
+    private static boolean isTrue(JsonObject properties, String key) {
+        return properties.has(key) && properties.get(key).getAsBoolean();
+    }
+
+    private static int endpoint(JsonObject properties, String key, double[] position,
+                                Map<String, Integer> idToNode, Map<String, Integer> positionToNode) {
+        Integer node = properties.has(key) ?
+                idToNode.get(properties.get(key).getAsString()) : positionToNode.get(positionKey(position));
+        if (node != null && node < 0) {
+            throw new IllegalArgumentException("Edge endpoint '" + key
+                    + "' matches nodes on several floors; set from/to ids");
+        }
+        if (node == null) {
+            throw new IllegalArgumentException("Edge endpoint '" + key + "' does not match any node"
+                    + (properties.has(key) ? ": " + properties.get(key).getAsString() : ""));
+        }
+        return node;
+    }
+
+    private static double lineLength(JsonArray line, LocalFrame frame) {
+        double length = 0;
+        double[] previous = lngLat(line.get(0).getAsJsonArray());
+        for (int i = 1; i < line.size(); i++) {
+            double[] current = lngLat(line.get(i).getAsJsonArray());
+            double dx = frame.toX(current[0]) - frame.toX(previous[0]);
+            double dy = frame.toY(current[1]) - frame.toY(previous[1]);
+            length += Math.sqrt(dx * dx + dy * dy);
+            previous = current;
+        }
+        return length;
+    }
+
+    private static double[] lngLat(JsonArray coordinates) {
+        return new double[]{coordinates.get(0).getAsDouble(), coordinates.get(1).getAsDouble()};
+    }
+
+    private static String positionKey(double[] position) {
+        return position[0] + "," + position[1];
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.navermapapi.path.graph;
+
+import java.util.Arrays;
+
+/**
+ * 노드 인덱스로 위치를 추적하는 이진 최소 힙
+ * decrease-key를 지원하므로 노드당 항목이 하나만 유지되고, 삽입 시 객체를 생성하지 않는다.
+ */
+public final class IndexedMinHeap {
+    private int[] heap;        // 힙 배열 (노드 인덱스)
+    private int[] positions;   // 노드 → 힙 위치, 힙에 없으면 -1
+    private double[] keys;     // 노드별 키
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[Math.max(1, capacity)];
+        positions = new int[heap.length];
+        keys = new double[heap.length];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * 노드 수만큼 용량 확보 (기존 내용은 유지)
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= positions.length) {
+            return;
+        }
+        int oldLength = positions.length;
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        Arrays.fill(positions, oldLength, capacity, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int node) {
+        return positions[node] >= 0;
+    }
+
+    public double key(int node) {
+        return keys[node];
+    }
+
+    public double peekKey() {
+        return keys[heap[0]];
+    }
+
+    public int peek() {
+        return heap[0];
+    }
+
+    /**
+     * 노드를 삽입하거나 더 작은 키로 갱신
+     * @return 힙이 변경되었으면 true
+     */
+    public boolean insertOrDecrease(int node, double key) {
+        int position = positions[node];
+        if (position < 0) {
+            keys[node] = key;
+            heap[size] = node;
+            positions[node] = size;
+            siftUp(size++);
+            return true;
+        }
+        if (key < keys[node]) {
+            keys[node] = key;
+            siftUp(position);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 노드의 키를 임의 값으로 변경 (증가/감소 모두 가능), 힙에 없으면 삽입
+     */
+    public void update(int node, double key) {
+        int position = positions[node];
+        if (position < 0) {
+            insertOrDecrease(node, key);
+            return;
+        }
+        double oldKey = keys[node];
+        keys[node] = key;
+        if (key < oldKey) {
+            siftUp(position);
+        } else if (key > oldKey) {
+            siftDown(position);
+        }
+    }
+
+    /**
+     * 최소 키 노드를 꺼냄
+     */
+    public int poll() {
+        int top = heap[0];
+        positions[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * 힙에서 노드 제거 (없으면 무시)
+     */
+    public void remove(int node) {
+        int position = positions[node];
+        if (position < 0) {
+            return;
+        }
+        positions[node] = -1;
+        size--;
+        if (position == size) {
+            return;
+        }
+        int last = heap[size];
+        heap[position] = last;
+        positions[last] = position;
+        if (keys[last] < keys[node]) {
+            siftUp(position);
+        } else {
+            siftDown(position);
+        }
+    }
+
+    /**
+     * 힙을 비움 (남아있는 노드만 정리하므로 O(size))
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        int node = heap[index];
+        double key = keys[node];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            int parentNode = heap[parent];
+            if (keys[parentNode] <= key) {
+                break;
+            }
+            heap[index] = parentNode;
+            positions[parentNode] = index;
+            index = parent;
+        }
+        heap[index] = node;
+        positions[node] = index;
+    }
+
+    private void siftDown(int index) {
+        int node = heap[index];
+        double key = keys[node];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            int childNode = heap[child];
+            if (key <= keys[childNode]) {
+                break;
+            }
+            heap[index] = childNode;
+            positions[childNode] = index;
+            index = child;
+        }
+        heap[index] = node;
+        positions[node] = index;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.navermapapi.path.graph;
+
+/**
+ * 위경도와 로컬 미터 좌표(동쪽 x, 북쪽 y) 사이의 등장방형 투영
+ * 건물/캠퍼스 규모(수 km 이내)에서는 오차가 무시할 수준이며, 삼각함수 없이 곱셈만으로 변환된다.
+ */
+public final class LocalFrame {
+    private static final double EARTH_RADIUS = 6371000.0;  // 지구 반지름 (미터)
+
+    private final double originLatitude;
+    private final double originLongitude;
+    private final double metersPerLatitude;
+    private final double metersPerLongitude;
+
+    public LocalFrame(double originLatitude, double originLongitude) {
+        this.originLatitude = originLatitude;
+        this.originLongitude = originLongitude;
+        this.metersPerLatitude = EARTH_RADIUS * Math.PI / 180.0;
+        this.metersPerLongitude = metersPerLatitude * Math.cos(Math.toRadians(originLatitude));
+    }
+
+    public double getOriginLatitude() {
+        return originLatitude;
+    }
+
+    public double getOriginLongitude() {
+        return originLongitude;
+    }
+
+    public double toX(double longitude) {
+        return (longitude - originLongitude) * metersPerLongitude;
+    }
+
+    public double toY(double latitude) {
+        return (latitude - originLatitude) * metersPerLatitude;
+    }
+
+    public double toLongitude(double x) {
+        return originLongitude + x / metersPerLongitude;
+    }
+
+    public double toLatitude(double y) {
+        return originLatitude + y / metersPerLatitude;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.navermapapi.path.graph;
+
+/**
+ * 노드 속성 비트 필드
+ * 하위 8비트는 층(부호 있는 값), 그 위 비트는 노드 유형 플래그이다.
+ */
+public final class NodeAttributes {
+    public static final int FLAG_ENTRANCE = 1 << 8;   // 건물 출입구
+    public static final int FLAG_ELEVATOR = 1 << 9;   // 엘리베이터 앞
+    public static final int FLAG_STAIRS = 1 << 10;    // 계단 앞
+    public static final int FLAG_EXHIBIT = 1 << 11;   // 전시 지점
+
+    private static final int FLOOR_MASK = 0xFF;
+
+    private NodeAttributes() {
+        // Utility class
+    }
+
+    /**
+     * 층과 플래그를 하나의 int로 묶음
+     * @param floor 층 (-128 ~ 127, 지하층은 음수)
+     * @param flags FLAG_* 조합
+     */
+    public static int pack(int floor, int flags) {
+        if (floor < Byte.MIN_VALUE || floor > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Floor out of range: " + floor);
+        }
+        return (flags & ~FLOOR_MASK) | (floor & FLOOR_MASK);
+    }
+
+    public static int floor(int attributes) {
+        return (byte) (attributes & FLOOR_MASK);
+    }
+
+    public static boolean hasFlag(int attributes, int flag) {
+        return (attributes & flag) != 0;
+    }
+
+    /**
+     * GeoJSON 등 편집용 유형 이름을 플래그로 변환
+     */
+    public static int flagForType(String type) {
+        if (type == null) {
+            return 0;
+        }
+        switch (type) {
+            case "entrance":
+                return FLAG_ENTRANCE;
+            case "elevator":
+                return FLAG_ELEVATOR;
+            case "stairs":
+                return FLAG_STAIRS;
+            case "exhibit":
+                return FLAG_EXHIBIT;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.navermapapi.path.graph;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 노드별 진입 간선 목록 (역방향 CSR)
+ * 원래 그래프의 간선 번호를 함께 저장하므로, 목적지 쪽에서 거꾸로 탐색하는 알고리즘이
+ * 간선 가중치와 간선별 변경 값을 원래 간선 번호로 조회할 수 있다.
+ */
+public final class ReverseAdjacency {
+    private final int[] offsets;
+    private final int[] sources;
+    private final int[] edges;
+
+    private ReverseAdjacency(int[] offsets, int[] sources, int[] edges) {
+        this.offsets = offsets;
+        this.sources = sources;
+        this.edges = edges;
+    }
+
+    /**
+     * 그래프의 진입 간선 목록 생성 (O(n + m))
+     */
+    @NonNull
+    public static ReverseAdjacency of(@NonNull CsrGraph graph) {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            offsets[graph.target(e) + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] cursor = new int[n];
+        System.arraycopy(offsets, 0, cursor, 0, n);
+        int[] sources = new int[m];
+        int[] edges = new int[m];
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int slot = cursor[graph.target(e)]++;
+                sources[slot] = u;
+                edges[slot] = e;
+            }
+        }
+        return new ReverseAdjacency(offsets, sources, edges);
+    }
+
+    /**
+     * 노드의 첫 번째 진입 간선 위치
+     */
+    public int first(int node) {
+        return offsets[node];
+    }
+
+    /**
+     * 노드의 마지막 진입 간선 다음 위치 (exclusive)
+     */
+    public int end(int node) {
+        return offsets[node + 1];
+    }
+
+    /**
+     * 진입 간선의 출발 노드
+     */
+    public int source(int index) {
+        return sources[index];
+    }
+
+    /**
+     * 진입 간선의 원래 그래프 간선 번호
+     */
+    public int edge(int index) {
+        return edges[index];
+    }
+}
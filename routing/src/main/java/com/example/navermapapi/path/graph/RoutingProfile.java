@@ -0,0 +1,89 @@
+package com.example.navermapapi.path.graph;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 이용자 유형별 경로 프로필
+ * 간선 유형과 접근성 플래그({@link EdgeAttributes})마다 비용 배율을 두며, 여러 조건에 해당하면 배율을 곱한다.
+ * 통행할 수 없는 유형은 {@link Double#POSITIVE_INFINITY}로 막는다 (층 연결 간선에만 허용).
+ * 프로필별 비용 배열은 그래프를 읽을 때 {@link #applyTo}로 한 번만 만들어 두고 질의마다 다시 계산하지 않는다.
+ */
+public enum RoutingProfile {
+    // 배율 순서: 계단, 엘리베이터, 경사로, 점자 블록 통로, 블록 없는 통로, 좁은 통로, 혼잡 구역
+    DEFAULT(1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0),
+    // 휠체어: 계단 불가, 좁은 통로와 혼잡 구역은 크게 돌아가더라도 피함
+    WHEELCHAIR(Double.POSITIVE_INFINITY, 1.0, 1.0, 1.0, 1.0, 4.0, 2.0),
+    // 흰지팡이: 점자 블록을 따라가는 경로 선호, 계단과 혼잡 구역 회피
+    WHITE_CANE(2.0, 1.0, 1.2, 1.0, 1.5, 1.2, 2.5);
+
+    private final double stairs;
+    private final double elevator;
+    private final double ramp;
+    private final double tactile;
+    private final double noTactile;
+    private final double narrow;
+    private final double crowded;
+
+    RoutingProfile(double stairs, double elevator, double ramp, double tactile, double noTactile,
+                   double narrow, double crowded) {
+        this.stairs = stairs;
+        this.elevator = elevator;
+        this.ramp = ramp;
+        this.tactile = tactile;
+        this.noTactile = noTactile;
+        this.narrow = narrow;
+        this.crowded = crowded;
+    }
+
+    /**
+     * 간선 하나의 프로필 비용
+     * @param weight 기본 비용 (평지 보행 거리로 환산한 값)
+     * @param attributes 간선 속성
+     */
+    public double weight(double weight, int attributes) {
+        double factor;
+        switch (EdgeAttributes.type(attributes)) {
+            case EdgeAttributes.TYPE_STAIRS:
+                factor = stairs;
+                break;
+            case EdgeAttributes.TYPE_ELEVATOR:
+                factor = elevator;
+                break;
+            case EdgeAttributes.TYPE_RAMP:
+                factor = ramp;
+                break;
+            case EdgeAttributes.TYPE_CORRIDOR:
+            default:
+                factor = EdgeAttributes.hasFlag(attributes, EdgeAttributes.FLAG_TACTILE_PAVING) ?
+                        tactile : noTactile;
+                break;
+        }
+        if (EdgeAttributes.hasFlag(attributes, EdgeAttributes.FLAG_NARROW)) factor *= narrow;
+        if (EdgeAttributes.hasFlag(attributes, EdgeAttributes.FLAG_CROWDED)) factor *= crowded;
+        // 비용 0인 간선도 막히도록 곱하지 않고 대입 (0 × ∞ = NaN)
+        return Double.isInfinite(factor) ? Double.POSITIVE_INFINITY : weight * factor;
+    }
+
+    /**
+     * 모든 간선의 프로필 비용 배열
+     */
+    @NonNull
+    public double[] computeWeights(@NonNull CsrGraph graph) {
+        double[] weights = new double[graph.getEdgeCount()];
+        for (int e = 0; e < weights.length; e++) {
+            weights[e] = weight(graph.weight(e), graph.edgeAttributes(e));
+        }
+        return weights;
+    }
+
+    /**
+     * 프로필 비용을 쓰는 그래프 (기본 프로필이나 간선 속성이 없는 그래프는 원본 그대로)
+     */
+    @NonNull
+    public CsrGraph applyTo(@NonNull CsrGraph graph) {
+        if (this == DEFAULT || !graph.hasEdgeAttributes()) {
+            return graph;
+        }
+        return graph.withWeights(computeWeights(graph));
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.navermapapi.path.graph;
+
+import java.util.Arrays;
+
+/**
+ * 최단 경로 탐색에 쓰이는 재사용 작업 공간
+ * 거리/이전 노드 배열은 세대(generation) 번호로 무효화되므로 탐색마다 배열을 다시 채우지 않는다.
+ * 스레드마다 하나씩 유지되며, 가장 큰 그래프 크기로 한 번 커진 뒤에는 추가 할당이 없다.
+ */
+public final class SearchWorkspace {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final ThreadLocal<SearchWorkspace> LOCAL = new ThreadLocal<SearchWorkspace>() {
+        @Override
+        protected SearchWorkspace initialValue() {
+            return new SearchWorkspace(INITIAL_CAPACITY);
+        }
+    };
+
+    // 양방향 탐색의 역방향 탐색용
+    private static final ThreadLocal<SearchWorkspace> LOCAL_REVERSE = new ThreadLocal<SearchWorkspace>() {
+        @Override
+        protected SearchWorkspace initialValue() {
+            return new SearchWorkspace(INITIAL_CAPACITY);
+        }
+    };
+
+    private double[] distances;
+    private int[] previous;
+    private int[] stamps;      // stamps[v] == generation 이면 distances/previous 가 유효
+    private int[] settled;     // settled[v] == generation 이면 확정된 노드
+    private int generation;
+    private int settledCount;
+    private final IndexedMinHeap heap;
+
+    public SearchWorkspace(int capacity) {
+        capacity = Math.max(1, capacity);
+        distances = new double[capacity];
+        previous = new int[capacity];
+        stamps = new int[capacity];
+        settled = new int[capacity];
+        heap = new IndexedMinHeap(capacity);
+    }
+
+    /**
+     * 현재 스레드의 작업 공간을 탐색 준비 상태로 반환
+     * @param nodeCount 탐색할 그래프의 노드 수
+     */
+    public static SearchWorkspace get(int nodeCount) {
+        SearchWorkspace workspace = LOCAL.get();
+        workspace.prepare(nodeCount);
+        return workspace;
+    }
+
+    /**
+     * 현재 스레드의 역방향 탐색용 작업 공간 ({@link #get(int)}과 동시에 사용 가능)
+     */
+    public static SearchWorkspace getReverse(int nodeCount) {
+        SearchWorkspace workspace = LOCAL_REVERSE.get();
+        workspace.prepare(nodeCount);
+        return workspace;
+    }
+
+    /**
+     * 새 탐색을 시작 (이전 탐색 결과를 O(1)에 무효화)
+     */
+    public void prepare(int nodeCount) {
+        ensureCapacity(nodeCount);
+        heap.clear();
+        settledCount = 0;
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            Arrays.fill(settled, 0);
+            generation = 1;
+        }
+    }
+
+    private void ensureCapacity(int nodeCount) {
+        if (nodeCount <= stamps.length) {
+            return;
+        }
+        int capacity = Math.max(nodeCount, stamps.length + (stamps.length >> 1));
+        distances = new double[capacity];
+        previous = new int[capacity];
+        stamps = new int[capacity];
+        settled = new int[capacity];
+        generation = 0;
+        heap.ensureCapacity(capacity);
+    }
+
+    public IndexedMinHeap heap() {
+        return heap;
+    }
+
+    public double distance(int node) {
+        return stamps[node] == generation ? distances[node] : Double.POSITIVE_INFINITY;
+    }
+
+    public int previous(int node) {
+        return stamps[node] == generation ? previous[node] : -1;
+    }
+
+    public boolean isReached(int node) {
+        return stamps[node] == generation;
+    }
+
+    /**
+     * 노드의 거리와 이전 노드 갱신
+     */
+    public void update(int node, double distance, int previousNode) {
+        stamps[node] = generation;
+        distances[node] = distance;
+        previous[node] = previousNode;
+    }
+
+    public void markSettled(int node) {
+        settled[node] = generation;
+        settledCount++;
+    }
+
+    public boolean isSettled(int node) {
+        return settled[node] == generation;
+    }
+
+    /**
+     * 이번 탐색에서 확정된 노드 수
+     */
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    /**
+     * 이전 노드를 따라 출발점 → target 경로를 out 배열에 복사
+     * @return 경로의 노드 수, out이 부족하면 필요한 길이의 음수값
+     */
+    public int copyPath(int target, int[] out) {
+        if (!isReached(target)) {
+            return 0;
+        }
+        int length = 0;
+        for (int at = target; at != -1; at = previous(at)) {
+            length++;
+        }
+        if (length > out.length) {
+            return -length;
+        }
+        int index = length;
+        for (int at = target; at != -1; at = previous(at)) {
+            out[--index] = at;
+        }
+        return length;
+    }
+
+    /**
+     * 출발점 → target 경로를 새 배열로 반환
+     */
+    public int[] extractPath(int target) {
+        if (!isReached(target)) {
+            return new int[0];
+        }
+        int length = 0;
+        for (int at = target; at != -1; at = previous(at)) {
+            length++;
+        }
+        int[] path = new int[length];
+        copyPath(target, path);
+        return path;
+    }
+}
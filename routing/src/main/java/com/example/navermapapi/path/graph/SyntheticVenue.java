@@ -0,0 +1,154 @@
+package com.example.navermapapi.path.graph;
+
+import java.util.Random;
+
+/**
+ * 벤치마크, 경로 서버(--synthetic), 시험용 합성 실내 그래프
+ * 모든 형태는 같은 시드에서 같은 그래프를 만들고, 간선 비용은 직선 거리 이상이라 A* 휴리스틱이 허용 가능하다.
+ * 노드 수는 정사각 격자에 맞춰 요청 값에 가깝게 반올림된다.
+ */
+public final class SyntheticVenue {
+    public enum Shape {
+        GRID,           // 격자 복도
+        MULTI_FLOOR,    // 층마다 격자, 엘리베이터/계단으로 연결
+        PLANAR          // 흔들린 격자 + 임의 대각선 (평면 그래프)
+    }
+
+    private static final double SPACING = 3.0;          // 복도 교차점 간격 (m)
+    private static final double REMOVAL_RATE = 0.15;    // 세로 복도 제거 비율 (막힌 통로)
+    private static final int FLOORS = 5;
+    private static final double ELEVATOR_COST = 20.0;
+    private static final double STAIRS_COST = 12.0;
+
+    private SyntheticVenue() {
+        // Utility class
+    }
+
+    public static CsrGraph create(Shape shape, int nodeCount, long seed) {
+        switch (shape) {
+            case GRID:
+                return grid(nodeCount, seed);
+            case MULTI_FLOOR:
+                return multiFloor(nodeCount, seed);
+            case PLANAR:
+                return planar(nodeCount, seed);
+            default:
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+    }
+
+    /**
+     * 격자 복도: 가로 복도는 모두 두고 세로 복도 일부를 막는다 (0열은 남겨 연결성 유지)
+     */
+    public static CsrGraph grid(int nodeCount, long seed) {
+        int side = side(nodeCount);
+        CsrGraph.Builder builder = new CsrGraph.Builder(side * side);
+        addFloor(builder, side, 0, 0, false, new Random(seed));
+        return builder.build();
+    }
+
+    /**
+     * 층마다 격자를 두고 네 모서리 근처의 엘리베이터 2개, 계단 2개로 위아래 층을 연결
+     * 노드는 층 순서로 번호가 매겨지므로 층별 복도 색인이 동작한다.
+     */
+    public static CsrGraph multiFloor(int nodeCount, long seed) {
+        int side = side(nodeCount / FLOORS);
+        int perFloor = side * side;
+        CsrGraph.Builder builder = new CsrGraph.Builder(perFloor * FLOORS);
+        Random random = new Random(seed);
+        for (int floor = 0; floor < FLOORS; floor++) {
+            addFloor(builder, side, floor * perFloor, floor, false, random);
+        }
+
+        int elevator = EdgeAttributes.pack(EdgeAttributes.TYPE_ELEVATOR, 0);
+        int stairs = EdgeAttributes.pack(EdgeAttributes.TYPE_STAIRS, 0);
+        int near = side / 4;
+        int far = side - 1 - side / 4;
+        int[] elevators = {near * side + near, far * side + far};
+        int[] staircases = {near * side + far, far * side + near};
+        for (int floor = 0; floor + 1 < FLOORS; floor++) {
+            int lower = floor * perFloor;
+            int upper = lower + perFloor;
+            for (int node : elevators) {
+                builder.addUndirectedEdge(lower + node, upper + node, ELEVATOR_COST, elevator);
+            }
+            for (int node : staircases) {
+                builder.addUndirectedEdge(lower + node, upper + node, STAIRS_COST, stairs);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 흔들린 격자에 칸마다 절반 확률로 대각선 하나를 추가 (한 칸에 하나라 교차하지 않음)
+     */
+    public static CsrGraph planar(int nodeCount, long seed) {
+        int side = side(nodeCount);
+        CsrGraph.Builder builder = new CsrGraph.Builder(side * side);
+        addFloor(builder, side, 0, 0, true, new Random(seed));
+        return builder.build();
+    }
+
+    /**
+     * 서로 다른 임의 노드 쌍 (출발, 도착 순으로 교대로 담음)
+     */
+    public static int[] randomPairs(CsrGraph graph, int count, long seed) {
+        Random random = new Random(seed);
+        int n = graph.getNodeCount();
+        int[] pairs = new int[count * 2];
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(n);
+            int end = random.nextInt(n - 1);
+            pairs[i * 2] = start;
+            pairs[i * 2 + 1] = end >= start ? end + 1 : end;
+        }
+        return pairs;
+    }
+
+    private static void addFloor(CsrGraph.Builder builder, int side, int offset, int floor,
+                                 boolean jitter, Random random) {
+        double[] xs = new double[side * side];
+        double[] ys = new double[side * side];
+        int attributes = NodeAttributes.pack(floor, 0);
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int v = row * side + col;
+                xs[v] = col * SPACING + (jitter ? (random.nextDouble() - 0.5) * SPACING * 0.6 : 0);
+                ys[v] = row * SPACING + (jitter ? (random.nextDouble() - 0.5) * SPACING * 0.6 : 0);
+                builder.setCoordinates(offset + v, xs[v], ys[v]);
+                builder.setNodeAttributes(offset + v, attributes);
+            }
+        }
+
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int v = row * side + col;
+                if (col + 1 < side) {
+                    connect(builder, offset, xs, ys, v, v + 1, random);
+                }
+                if (row + 1 < side && (col == 0 || random.nextDouble() >= REMOVAL_RATE)) {
+                    connect(builder, offset, xs, ys, v, v + side, random);
+                }
+                if (jitter && row + 1 < side && col + 1 < side && random.nextBoolean()) {
+                    // 칸의 두 대각선 중 하나만 선택
+                    if (random.nextBoolean()) {
+                        connect(builder, offset, xs, ys, v, v + side + 1, random);
+                    } else {
+                        connect(builder, offset, xs, ys, v + 1, v + side, random);
+                    }
+                }
+            }
+        }
+    }
+
+    // 비용 = 직선 거리 × (1 ~ 1.2), 혼잡도 차이를 흉내 냄
+    private static void connect(CsrGraph.Builder builder, int offset, double[] xs, double[] ys,
+                                int a, int b, Random random) {
+        double length = Math.hypot(xs[a] - xs[b], ys[a] - ys[b]);
+        builder.addUndirectedEdge(offset + a, offset + b, length * (1 + random.nextDouble() * 0.2));
+    }
+
+    private static int side(int nodeCount) {
+        return Math.max(2, (int) Math.round(Math.sqrt(nodeCount)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.navermapapi.path.graph;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 하나의 시설(venue) 경로 그래프와 그 로컬 좌표계
+ */
+public final class VenueGraph {
+    private final CsrGraph graph;
+    private final LocalFrame frame;
+
+    public VenueGraph(@NonNull CsrGraph graph, @NonNull LocalFrame frame) {
+        if (!graph.hasCoordinates()) {
+            throw new IllegalArgumentException("Venue graph requires node coordinates");
+        }
+        this.graph = graph;
+        this.frame = frame;
+    }
+
+    @NonNull
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    @NonNull
+    public LocalFrame getFrame() {
+        return frame;
+    }
+
+    public double latitude(int node) {
+        return frame.toLatitude(graph.y(node));
+    }
+
+    public double longitude(int node) {
+        return frame.toLongitude(graph.x(node));
+    }
+}
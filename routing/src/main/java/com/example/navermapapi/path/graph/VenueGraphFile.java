@@ -0,0 +1,254 @@
+package com.example.navermapapi.path.graph;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * 시설 경로 그래프 바이너리 파일 형식 (.vgr)
+ *
+ * <pre>
+ * 헤더 (48 bytes, little-endian)
+ *   0  int    MAGIC "VGR1"
+ *   4  int    VERSION
+ *   8  int    노드 수 n
+ *  12  int    간선 수 m
+ *  16  double 원점 위도
+ *  24  double 원점 경도
+ *  32  int    플래그 (예약)
+ *  36  int    본문 CRC32
+ *  40  int    헤더 CRC32 (0 ~ 39 바이트)
+ *  44  int    예약
+ * 본문 (double 구간을 먼저 두어 8바이트 정렬 유지)
+ *  double x[n], y[n], weights[m]
+ *  int    offsets[n + 1], targets[m], attributes[n]
+ *  int    edgeAttributes[m]   (버전 2부터)
+ * </pre>
+ *
+ * 읽을 때는 읽기 전용 메모리 매핑 위에 버퍼 뷰만 만들기 때문에, 시설 크기와 무관하게
+ * 힙 할당 없이 바로 탐색할 수 있고 여러 시설을 교체해도 GC 부담이 없다.
+ */
+public final class VenueGraphFile {
+    public static final String EXTENSION = ".vgr";
+
+    private static final int MAGIC = 0x56475231;  // "VGR1"
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_EDGE_ATTRIBUTES = 1;
+    private static final int HEADER_SIZE = 48;
+    private static final int HEADER_CHECKSUM_OFFSET = 40;
+    private static final int PAYLOAD_CHECKSUM_OFFSET = 36;
+
+    private VenueGraphFile() {
+        // Utility class
+    }
+
+    /**
+     * 파일 전체를 읽기 전용으로 매핑
+     * @param verifyPayload true면 본문 체크섬과 간선 구조(오프셋 순서, 도착 노드 범위, 간선 비용)까지 검사
+     *                      (파일 크기에 비례하므로 내려받은 직후나 프로세스에서 처음 읽을 때 한 번만 권장)
+     */
+    @NonNull
+    public static VenueGraph map(@NonNull File file, boolean verifyPayload) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            return map(channel, 0, channel.size(), verifyPayload);
+        } finally {
+            // 매핑은 채널을 닫아도 유지된다
+            raf.close();
+        }
+    }
+
+    /**
+     * 채널의 일부 구간을 매핑 (APK에 비압축으로 들어있는 asset 등)
+     */
+    @NonNull
+    public static VenueGraph map(@NonNull FileChannel channel, long offset, long length,
+                                 boolean verifyPayload) throws IOException {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        return read(buffer, verifyPayload);
+    }
+
+    /**
+     * 버퍼(매핑 또는 힙)에서 그래프 뷰 생성
+     * @throws IOException 형식, 버전, 크기, 체크섬이 맞지 않는 경우
+     */
+    @NonNull
+    public static VenueGraph read(@NonNull ByteBuffer source, boolean verifyPayload) throws IOException {
+        ByteBuffer buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.clear();
+        if (buffer.capacity() < HEADER_SIZE) {
+            throw new IOException("Venue graph file too small");
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a venue graph file");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION && version != VERSION_WITHOUT_EDGE_ATTRIBUTES) {
+            throw new IOException("Unsupported venue graph version: " + version);
+        }
+        if (crc(buffer, 0, HEADER_CHECKSUM_OFFSET) != buffer.getInt(HEADER_CHECKSUM_OFFSET)) {
+            throw new IOException("Venue graph header checksum mismatch");
+        }
+
+        int n = buffer.getInt(8);
+        int m = buffer.getInt(12);
+        if (n < 0 || m < 0) {
+            throw new IOException("Corrupted venue graph header");
+        }
+        boolean hasEdgeAttributes = version >= VERSION;
+        long expectedSize = payloadSize(n, m, hasEdgeAttributes) + HEADER_SIZE;
+        if (buffer.capacity() != expectedSize) {
+            throw new IOException("Venue graph size mismatch: " + buffer.capacity()
+                    + " != " + expectedSize);
+        }
+        if (verifyPayload && crc(buffer, HEADER_SIZE, buffer.capacity() - HEADER_SIZE)
+                != buffer.getInt(PAYLOAD_CHECKSUM_OFFSET)) {
+            throw new IOException("Venue graph payload checksum mismatch");
+        }
+
+        LocalFrame frame = new LocalFrame(buffer.getDouble(16), buffer.getDouble(24));
+
+        int position = HEADER_SIZE;
+        DoubleBuffer xs = slice(buffer, position, n * 8).asDoubleBuffer();
+        position += n * 8;
+        DoubleBuffer ys = slice(buffer, position, n * 8).asDoubleBuffer();
+        position += n * 8;
+        DoubleBuffer weights = slice(buffer, position, m * 8).asDoubleBuffer();
+        position += m * 8;
+        IntBuffer offsets = slice(buffer, position, (n + 1) * 4).asIntBuffer();
+        position += (n + 1) * 4;
+        IntBuffer targets = slice(buffer, position, m * 4).asIntBuffer();
+        position += m * 4;
+        IntBuffer attributes = slice(buffer, position, n * 4).asIntBuffer();
+        position += n * 4;
+        IntBuffer edgeAttributes = hasEdgeAttributes ?
+                slice(buffer, position, m * 4).asIntBuffer() : null;
+
+        if (offsets.get(0) != 0 || offsets.get(n) != m) {
+            throw new IOException("Corrupted venue graph offsets");
+        }
+        if (verifyPayload) {
+            verifyStructure(n, offsets, targets, weights);
+        }
+
+        CsrGraph graph = new CsrGraph(n, offsets, targets, weights, xs, ys, attributes,
+                edgeAttributes);
+        return new VenueGraph(graph, frame);
+    }
+
+    // 체크섬이 맞아도 잘못 기록된 파일이면 탐색 중 범위를 벗어나므로 미리 확인
+    // 간선 비용도 빌더와 같이 유한한 0 이상 값만 허용 (통제용 무한대는 덧씌우는 변경에만 허용)
+    private static void verifyStructure(int n, IntBuffer offsets, IntBuffer targets,
+                                        DoubleBuffer weights) throws IOException {
+        for (int v = 0; v < n; v++) {
+            if (offsets.get(v) > offsets.get(v + 1)) {
+                throw new IOException("Corrupted venue graph offsets at node " + v);
+            }
+        }
+        for (int e = 0, m = targets.limit(); e < m; e++) {
+            int target = targets.get(e);
+            if (target < 0 || target >= n) {
+                throw new IOException("Edge " + e + " targets missing node " + target);
+            }
+            double weight = weights.get(e);
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IOException("Edge " + e + " has invalid weight " + weight);
+            }
+        }
+    }
+
+    /**
+     * 그래프를 바이너리 형식으로 기록
+     */
+    public static void write(@NonNull VenueGraph venue, @NonNull OutputStream output) throws IOException {
+        CsrGraph graph = venue.getGraph();
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
+        long size = payloadSize(n, m, true) + HEADER_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Venue graph too large: " + size + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(HEADER_SIZE);
+        for (int v = 0; v < n; v++) {
+            buffer.putDouble(graph.x(v));
+        }
+        for (int v = 0; v < n; v++) {
+            buffer.putDouble(graph.y(v));
+        }
+        for (int e = 0; e < m; e++) {
+            buffer.putDouble(graph.weight(e));
+        }
+        for (int v = 0; v < n; v++) {
+            buffer.putInt(graph.firstEdge(v));
+        }
+        buffer.putInt(m);
+        for (int e = 0; e < m; e++) {
+            buffer.putInt(graph.target(e));
+        }
+        for (int v = 0; v < n; v++) {
+            buffer.putInt(graph.nodeAttributes(v));
+        }
+        for (int e = 0; e < m; e++) {
+            buffer.putInt(graph.edgeAttributes(e));
+        }
+
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, n);
+        buffer.putInt(12, m);
+        buffer.putDouble(16, venue.getFrame().getOriginLatitude());
+        buffer.putDouble(24, venue.getFrame().getOriginLongitude());
+        buffer.putInt(32, 0);
+        buffer.putInt(PAYLOAD_CHECKSUM_OFFSET, crc(buffer, HEADER_SIZE, (int) size - HEADER_SIZE));
+        buffer.putInt(HEADER_CHECKSUM_OFFSET, crc(buffer, 0, HEADER_CHECKSUM_OFFSET));
+        buffer.putInt(44, 0);
+
+        output.write(buffer.array(), 0, (int) size);
+        output.flush();
+    }
+
+    private static long payloadSize(int n, int m, boolean hasEdgeAttributes) {
+        return 8L * (2L * n + m) + 4L * ((n + 1L) + m + n + (hasEdgeAttributes ? m : 0));
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int position, int length) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.limit(position + length);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 버퍼 구간의 CRC32 (API 26 미만에서도 동작하도록 byte[] 단위로 계산)
+     */
+    private static int crc(ByteBuffer buffer, int position, int length) {
+        CRC32 crc = new CRC32();
+        if (buffer.hasArray()) {
+            crc.update(buffer.array(), buffer.arrayOffset() + position, length);
+            return (int) crc.getValue();
+        }
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        byte[] chunk = new byte[8192];
+        int remaining = length;
+        while (remaining > 0) {
+            int count = Math.min(chunk.length, remaining);
+            view.get(chunk, 0, count);
+            crc.update(chunk, 0, count);
+            remaining -= count;
+        }
+        return (int) crc.getValue();
+    }
+}
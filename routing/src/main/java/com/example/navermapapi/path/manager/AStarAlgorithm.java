@@ -0,0 +1,160 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.IndexedMinHeap;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+
+/**
+ * 목표 지향 A* 탐색
+ * 휴리스틱이 일관적(consistent)이면 Dijkstra와 같은 최단 거리를 더 적은 확정 노드로 찾는다.
+ */
+public class AStarAlgorithm {
+
+    /**
+     * node → target 거리의 하한 추정
+     * 허용 가능(admissible)하고 일관적이어야 최단 경로가 보장된다.
+     */
+    public interface Heuristic {
+        double estimate(int node, int target);
+    }
+
+    private AStarAlgorithm() {
+        // Utility class
+    }
+
+    /**
+     * A* 단일 쌍 탐색
+     * @return 최단 거리, 도달할 수 없으면 {@link Double#POSITIVE_INFINITY}
+     */
+    public static double search(CsrGraph graph, int startNode, int endNode,
+                                Heuristic heuristic, SearchWorkspace workspace) {
+        graph.checkNode(startNode);
+        graph.checkNode(endNode);
+
+        IndexedMinHeap queue = workspace.heap();
+        workspace.update(startNode, 0, -1);
+        queue.insertOrDecrease(startNode, heuristic.estimate(startNode, endNode));
+
+        while (!queue.isEmpty()) {
+            int currentNode = queue.poll();
+            workspace.markSettled(currentNode);
+
+            if (currentNode == endNode) {
+                break;
+            }
+
+            double currentDistance = workspace.distance(currentNode);
+            for (int e = graph.firstEdge(currentNode), end = graph.endEdge(currentNode); e < end; e++) {
+                int next = graph.target(e);
+                if (workspace.isSettled(next)) {
+                    continue;
+                }
+                double newDist = currentDistance + graph.weight(e);
+                if (newDist < workspace.distance(next)) {
+                    workspace.update(next, newDist, currentNode);
+                    queue.insertOrDecrease(next, newDist + heuristic.estimate(next, endNode));
+                }
+            }
+        }
+
+        return workspace.distance(endNode);
+    }
+
+    /**
+     * 여러 출발 후보에서 여러 도착 후보 중 하나를 거쳐 도착점까지 가는 A* 탐색 (간선 위 가상 노드 사이)
+     * 휴리스틱은 min_j(h(v, 도착 후보 j) + 후보 j에서 도착점까지 남은 비용)이라 일관성이 유지되고,
+     * 큐의 최소 키가 지금까지 찾은 전체 거리 이상이 되면 중단한다.
+     * @param sourceCosts 출발점에서 각 출발 후보까지의 비용
+     * @param targetCosts 각 도착 후보에서 도착점까지의 비용
+     * @param bound 이미 아는 거리 (같은 간선 위 직진 등, 없으면 {@link Double#POSITIVE_INFINITY}), 이보다 긴 경로는 찾지 않음
+     * @return 최단 경로가 지나는 도착 후보의 위치, bound보다 짧은 경로가 없으면 -1
+     */
+    public static int searchSeeded(CsrGraph graph, int[] sources, double[] sourceCosts, int sourceCount,
+                                   int[] targets, double[] targetCosts, int targetCount, double bound,
+                                   Heuristic heuristic, SearchWorkspace workspace) {
+        IndexedMinHeap queue = workspace.heap();
+        for (int i = 0; i < sourceCount; i++) {
+            int source = sources[i];
+            graph.checkNode(source);
+            if (sourceCosts[i] < workspace.distance(source)) {
+                workspace.update(source, sourceCosts[i], -1);
+                queue.insertOrDecrease(source, sourceCosts[i]
+                        + estimate(heuristic, source, targets, targetCosts, targetCount));
+            }
+        }
+
+        double best = bound;
+        int bestTarget = -1;
+        while (!queue.isEmpty() && queue.peekKey() < best) {
+            int currentNode = queue.poll();
+            workspace.markSettled(currentNode);
+
+            double currentDistance = workspace.distance(currentNode);
+            for (int j = 0; j < targetCount; j++) {
+                if (targets[j] == currentNode && currentDistance + targetCosts[j] < best) {
+                    best = currentDistance + targetCosts[j];
+                    bestTarget = j;
+                }
+            }
+
+            for (int e = graph.firstEdge(currentNode), end = graph.endEdge(currentNode); e < end; e++) {
+                int next = graph.target(e);
+                if (workspace.isSettled(next)) {
+                    continue;
+                }
+                double newDist = currentDistance + graph.weight(e);
+                if (newDist < workspace.distance(next)) {
+                    workspace.update(next, newDist, currentNode);
+                    queue.insertOrDecrease(next, newDist
+                            + estimate(heuristic, next, targets, targetCosts, targetCount));
+                }
+            }
+        }
+        return bestTarget;
+    }
+
+    // 가장 유리한 도착 후보까지의 추정
+    private static double estimate(Heuristic heuristic, int node,
+                                   int[] targets, double[] targetCosts, int targetCount) {
+        double estimate = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < targetCount; j++) {
+            estimate = Math.min(estimate, heuristic.estimate(node, targets[j]) + targetCosts[j]);
+        }
+        return estimate;
+    }
+
+    /**
+     * 노드 좌표 기반 직선 거리 휴리스틱 생성
+     * 간선 가중치가 다른 거리 공식(측지 거리 등)으로 계산되었을 수 있으므로,
+     * 모든 간선에서 weight / 직선거리 의 최솟값을 배율로 곱해 허용 가능성을 보장한다.
+     */
+    public static Heuristic euclidean(final CsrGraph graph) {
+        final double scale = euclideanScale(graph);
+        return new Heuristic() {
+            @Override
+            public double estimate(int node, int target) {
+                return scale * graph.straightLineDistance(node, target);
+            }
+        };
+    }
+
+    /**
+     * 직선 거리에 곱하면 실제 최단 거리의 하한이 되는 배율 (1 이하)
+     */
+    public static double euclideanScale(CsrGraph graph) {
+        if (!graph.hasCoordinates()) {
+            throw new IllegalArgumentException("Graph has no node coordinates");
+        }
+
+        double minRatio = 1.0;
+        for (int v = 0; v < graph.getNodeCount(); v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                double straight = graph.straightLineDistance(v, graph.target(e));
+                if (straight > 0) {
+                    minRatio = Math.min(minRatio, graph.weight(e) / straight);
+                }
+            }
+        }
+        return minRatio;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.IndexedMinHeap;
+import com.example.navermapapi.path.graph.ReverseAdjacency;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 양방향 다익스트라 (전처리 없는 단일 쌍 탐색)
+ * 출발점에서 정방향, 도착점에서 진입 간선({@link ReverseAdjacency})을 따라 역방향으로 동시에 탐색한다.
+ * 두 탐색이 모두 닿은 노드 v의 df(v) + db(v) 최솟값을 μ로 유지하고, 두 큐의 최소 키 합이 μ 이상이
+ * 되면 중단한다. 처음 만난 노드에서 멈추는 것은 최단 경로를 보장하지 않는다.
+ * 매 단계 최소 키가 작은 쪽을 확장하므로 두 탐색 반경이 비슷하게 자란다.
+ * 양방향 간선(addUndirectedEdge)은 CSR에 두 방향 간선으로 저장되므로 별도 처리 없이 동작한다.
+ */
+public class BidirectionalDijkstra {
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    private BidirectionalDijkstra() {
+        // Utility class
+    }
+
+    /**
+     * 단일 쌍 최단 경로 탐색
+     * 결과는 두 작업 공간에 남으며 {@link #distance}와 {@link #extractPath}로 조회한다.
+     * @param forward 정방향 작업 공간 ({@link SearchWorkspace#get(int)})
+     * @param backward 역방향 작업 공간 ({@link SearchWorkspace#getReverse(int)})
+     * @return 두 탐색이 만난 노드, 도달할 수 없으면 -1
+     */
+    public static int search(CsrGraph graph, ReverseAdjacency reverse, int startNode, int endNode,
+                             SearchWorkspace forward, SearchWorkspace backward) {
+        graph.checkNode(startNode);
+        graph.checkNode(endNode);
+        DijkstraAlgorithm.seed(startNode, 0, forward);
+        DijkstraAlgorithm.seed(endNode, 0, backward);
+        return searchSeeded(graph, reverse, forward, backward);
+    }
+
+    /**
+     * {@link DijkstraAlgorithm#seed}로 양쪽 작업 공간에 넣은 출발/도착 후보 사이 탐색
+     * 간선 위 가상 노드처럼 양 끝이 여러 노드에 초기 거리를 두는 경우에 쓴다.
+     * @return 두 탐색이 만난 노드, 도달할 수 없으면 -1
+     */
+    public static int searchSeeded(CsrGraph graph, ReverseAdjacency reverse,
+                                   SearchWorkspace forward, SearchWorkspace backward) {
+        IndexedMinHeap forwardQueue = forward.heap();
+        IndexedMinHeap backwardQueue = backward.heap();
+        double best = INF;
+        int meeting = -1;
+
+        while (true) {
+            double forwardKey = forwardQueue.isEmpty() ? INF : forwardQueue.peekKey();
+            double backwardKey = backwardQueue.isEmpty() ? INF : backwardQueue.peekKey();
+            // 남은 어떤 경로도 μ보다 짧을 수 없음
+            if (forwardKey + backwardKey >= best) {
+                break;
+            }
+
+            if (forwardKey <= backwardKey) {
+                int u = forwardQueue.poll();
+                forward.markSettled(u);
+                double du = forward.distance(u);
+                if (du + backward.distance(u) < best) {
+                    best = du + backward.distance(u);
+                    meeting = u;
+                }
+                for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                    int v = graph.target(e);
+                    if (forward.isSettled(v)) {
+                        continue;
+                    }
+                    double nd = du + graph.weight(e);
+                    if (nd < forward.distance(v)) {
+                        forward.update(v, nd, u);
+                        forwardQueue.insertOrDecrease(v, nd);
+                        if (nd + backward.distance(v) < best) {
+                            best = nd + backward.distance(v);
+                            meeting = v;
+                        }
+                    }
+                }
+            } else {
+                int u = backwardQueue.poll();
+                backward.markSettled(u);
+                double du = backward.distance(u);
+                if (du + forward.distance(u) < best) {
+                    best = du + forward.distance(u);
+                    meeting = u;
+                }
+                for (int i = reverse.first(u), end = reverse.end(u); i < end; i++) {
+                    int v = reverse.source(i);
+                    if (backward.isSettled(v)) {
+                        continue;
+                    }
+                    double nd = du + graph.weight(reverse.edge(i));
+                    if (nd < backward.distance(v)) {
+                        backward.update(v, nd, u);
+                        backwardQueue.insertOrDecrease(v, nd);
+                        if (nd + forward.distance(v) < best) {
+                            best = nd + forward.distance(v);
+                            meeting = v;
+                        }
+                    }
+                }
+            }
+        }
+        return meeting;
+    }
+
+    /**
+     * 만난 노드를 지나는 경로 거리
+     */
+    public static double distance(int meeting, SearchWorkspace forward, SearchWorkspace backward) {
+        return meeting < 0 ? INF : forward.distance(meeting) + backward.distance(meeting);
+    }
+
+    /**
+     * 출발 → 만난 노드 → 도착 노드 경로 (역방향 작업 공간의 이전 노드는 도착 쪽을 가리킴)
+     * @return 경로 노드, 도달할 수 없으면 빈 배열
+     */
+    @NonNull
+    public static int[] extractPath(int meeting, SearchWorkspace forward, SearchWorkspace backward) {
+        if (meeting < 0) {
+            return new int[0];
+        }
+        int tail = 0;
+        for (int at = backward.previous(meeting); at != -1; at = backward.previous(at)) {
+            tail++;
+        }
+        int[] head = forward.extractPath(meeting);
+        int[] path = new int[head.length + tail];
+        System.arraycopy(head, 0, path, 0, head.length);
+        int index = head.length;
+        for (int at = backward.previous(meeting); at != -1; at = backward.previous(at)) {
+            path[index++] = at;
+        }
+        return path;
+    }
+
+    /**
+     * 최단 경로의 노드 인덱스 목록 반환 ({@link DijkstraAlgorithm#findShortestPath}의 양방향 버전)
+     * @return 출발 → 도착 노드 목록, 도달할 수 없으면 빈 리스트
+     */
+    public static List<Integer> findShortestPath(CsrGraph graph, ReverseAdjacency reverse,
+                                                 int startNode, int endNode) {
+        SearchWorkspace forward = SearchWorkspace.get(graph.getNodeCount());
+        SearchWorkspace backward = SearchWorkspace.getReverse(graph.getNodeCount());
+        int meeting = search(graph, reverse, startNode, endNode, forward, backward);
+        if (meeting < 0) {
+            return Collections.emptyList();
+        }
+
+        int[] nodes = extractPath(meeting, forward, backward);
+        List<Integer> path = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            path.add(node);
+        }
+        return path;
+    }
+}
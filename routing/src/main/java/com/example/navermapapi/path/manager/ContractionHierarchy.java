@@ -0,0 +1,414 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.IndexedMinHeap;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 전처리된 축약 계층과 양방향 상향 탐색 질의
+ * 정방향은 순위가 높아지는 간선만, 역방향은 순위가 높아지는 간선을 거꾸로만 따라가므로
+ * 큰 그래프에서도 탐색 범위가 작다. 지름길은 중간 노드를 따라 원래 경로로 풀어서 반환한다.
+ */
+public final class ContractionHierarchy {
+    private static final int MAGIC = 0x56434831;  // "VCH1"
+    private static final int VERSION = 1;
+
+    private final int nodeCount;
+    private final int graphEdgeCount;
+    private final int[] ranks;
+
+    // 상향 간선: v → w (rank[w] > rank[v]), v에 저장
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final int[] upMiddles;
+
+    // 하향 간선: w → v (rank[w] > rank[v]), 역방향 탐색을 위해 v에 w를 저장
+    private final int[] downOffsets;
+    private final int[] downTargets;
+    private final double[] downWeights;
+    private final int[] downMiddles;
+
+    private ContractionHierarchy(int nodeCount, int graphEdgeCount, int[] ranks,
+                                 int[] upOffsets, int[] upTargets, double[] upWeights, int[] upMiddles,
+                                 int[] downOffsets, int[] downTargets, double[] downWeights,
+                                 int[] downMiddles) {
+        this.nodeCount = nodeCount;
+        this.graphEdgeCount = graphEdgeCount;
+        this.ranks = ranks;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downTargets = downTargets;
+        this.downWeights = downWeights;
+        this.downMiddles = downMiddles;
+    }
+
+    /**
+     * 빌더가 기록한 간선 목록을 상향/하향 CSR 배열로 나눈다
+     */
+    static ContractionHierarchy fromArcs(int nodeCount, int graphEdgeCount, int[] ranks,
+                                         int[] from, int[] to, double[] weight, int[] middle,
+                                         int arcCount) {
+        int[] upOffsets = new int[nodeCount + 1];
+        int[] downOffsets = new int[nodeCount + 1];
+        for (int i = 0; i < arcCount; i++) {
+            if (ranks[from[i]] < ranks[to[i]]) {
+                upOffsets[from[i] + 1]++;
+            } else {
+                downOffsets[to[i] + 1]++;
+            }
+        }
+        for (int v = 0; v < nodeCount; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+
+        int upCount = upOffsets[nodeCount];
+        int downCount = downOffsets[nodeCount];
+        int[] upTargets = new int[upCount];
+        double[] upWeights = new double[upCount];
+        int[] upMiddles = new int[upCount];
+        int[] downTargets = new int[downCount];
+        double[] downWeights = new double[downCount];
+        int[] downMiddles = new int[downCount];
+
+        int[] upCursor = Arrays.copyOf(upOffsets, nodeCount);
+        int[] downCursor = Arrays.copyOf(downOffsets, nodeCount);
+        for (int i = 0; i < arcCount; i++) {
+            if (ranks[from[i]] < ranks[to[i]]) {
+                int slot = upCursor[from[i]]++;
+                upTargets[slot] = to[i];
+                upWeights[slot] = weight[i];
+                upMiddles[slot] = middle[i];
+            } else {
+                int slot = downCursor[to[i]]++;
+                downTargets[slot] = from[i];
+                downWeights[slot] = weight[i];
+                downMiddles[slot] = middle[i];
+            }
+        }
+
+        return new ContractionHierarchy(nodeCount, graphEdgeCount, ranks,
+                upOffsets, upTargets, upWeights, upMiddles,
+                downOffsets, downTargets, downWeights, downMiddles);
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * 지름길을 포함한 계층 간선 수
+     */
+    public int getArcCount() {
+        return upTargets.length + downTargets.length;
+    }
+
+    /**
+     * 이 계층이 주어진 그래프로부터 만들어졌는지 (노드/간선 수로) 확인
+     */
+    public boolean matches(@NonNull CsrGraph graph) {
+        return graph.getNodeCount() == nodeCount && graph.getEdgeCount() == graphEdgeCount;
+    }
+
+    /**
+     * 양방향 상향 탐색
+     * @return 정/역방향 탐색이 만나는 노드, 도달할 수 없으면 -1.
+     *         최단 거리는 forward.distance(m) + backward.distance(m)
+     */
+    public int search(int startNode, int endNode,
+                      @NonNull SearchWorkspace forward, @NonNull SearchWorkspace backward) {
+        checkNode(startNode);
+        checkNode(endNode);
+
+        IndexedMinHeap forwardQueue = forward.heap();
+        IndexedMinHeap backwardQueue = backward.heap();
+        forward.update(startNode, 0, -1);
+        forwardQueue.insertOrDecrease(startNode, 0);
+        backward.update(endNode, 0, -1);
+        backwardQueue.insertOrDecrease(endNode, 0);
+
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = -1;
+
+        while (true) {
+            boolean forwardActive = !forwardQueue.isEmpty() && forwardQueue.peekKey() < best;
+            boolean backwardActive = !backwardQueue.isEmpty() && backwardQueue.peekKey() < best;
+            if (!forwardActive && !backwardActive) {
+                break;
+            }
+
+            if (forwardActive) {
+                int v = forwardQueue.poll();
+                forward.markSettled(v);
+                double dv = forward.distance(v);
+                double total = dv + backward.distance(v);
+                if (total < best) {
+                    best = total;
+                    meeting = v;
+                }
+                relax(v, dv, upOffsets, upTargets, upWeights, forward);
+            }
+
+            if (backwardActive) {
+                int v = backwardQueue.poll();
+                backward.markSettled(v);
+                double dv = backward.distance(v);
+                double total = dv + forward.distance(v);
+                if (total < best) {
+                    best = total;
+                    meeting = v;
+                }
+                relax(v, dv, downOffsets, downTargets, downWeights, backward);
+            }
+        }
+
+        return meeting;
+    }
+
+    private static void relax(int v, double dv, int[] offsets, int[] targets, double[] weights,
+                              SearchWorkspace workspace) {
+        IndexedMinHeap queue = workspace.heap();
+        for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+            int w = targets[e];
+            double nd = dv + weights[e];
+            if (nd < workspace.distance(w)) {
+                workspace.update(w, nd, v);
+                queue.insertOrDecrease(w, nd);
+            }
+        }
+    }
+
+    /**
+     * 최단 경로 탐색 후 지름길을 풀어 원래 그래프의 노드 경로로 반환
+     */
+    @NonNull
+    public RouteResult route(int startNode, int endNode) {
+        SearchWorkspace forward = SearchWorkspace.get(nodeCount);
+        SearchWorkspace backward = SearchWorkspace.getReverse(nodeCount);
+        int meeting = search(startNode, endNode, forward, backward);
+        int settled = forward.getSettledCount() + backward.getSettledCount();
+
+        if (meeting < 0) {
+            return new RouteResult(RoutingMode.CONTRACTION_HIERARCHY, new int[0],
+                    Double.POSITIVE_INFINITY, settled);
+        }
+
+        double distance = forward.distance(meeting) + backward.distance(meeting);
+        IntStack path = new IntStack();
+        IntStack pending = new IntStack();
+        path.push(startNode);
+
+        // 정방향: start → meeting (상향 간선들)
+        int[] upChain = forward.extractPath(meeting);
+        for (int i = 0; i + 1 < upChain.length; i++) {
+            unpack(upChain[i], upChain[i + 1], path, pending);
+        }
+        // 역방향: meeting → end (하향 간선들, previous가 end 쪽을 가리킴)
+        for (int at = meeting, next = backward.previous(at); next != -1;
+             at = next, next = backward.previous(at)) {
+            unpack(at, next, path, pending);
+        }
+
+        return new RouteResult(RoutingMode.CONTRACTION_HIERARCHY, path.toArray(), distance, settled);
+    }
+
+    /**
+     * from → to 계층 간선을 원래 간선들로 풀어 path에 (from 제외) 추가
+     */
+    private void unpack(int from, int to, IntStack path, IntStack pending) {
+        pending.push(from);
+        pending.push(to);
+        while (pending.size > 0) {
+            int y = pending.pop();
+            int x = pending.pop();
+            int middle = middleOf(x, y);
+            if (middle < 0) {
+                path.push(y);
+            } else {
+                // x → middle 을 먼저 처리하도록 나중에 넣는다
+                pending.push(middle);
+                pending.push(y);
+                pending.push(x);
+                pending.push(middle);
+            }
+        }
+    }
+
+    private int middleOf(int from, int to) {
+        int best = -1;
+        double bestWeight = Double.POSITIVE_INFINITY;
+        if (ranks[from] < ranks[to]) {
+            for (int e = upOffsets[from]; e < upOffsets[from + 1]; e++) {
+                if (upTargets[e] == to && upWeights[e] < bestWeight) {
+                    bestWeight = upWeights[e];
+                    best = upMiddles[e];
+                }
+            }
+        } else {
+            for (int e = downOffsets[to]; e < downOffsets[to + 1]; e++) {
+                if (downTargets[e] == from && downWeights[e] < bestWeight) {
+                    bestWeight = downWeights[e];
+                    best = downMiddles[e];
+                }
+            }
+        }
+        return best;
+    }
+
+    private void checkNode(int node) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IllegalArgumentException("Invalid node index: " + node);
+        }
+    }
+
+    /**
+     * 바이너리 형식으로 직렬화 (CRC32 체크섬 포함)
+     */
+    public void writeTo(@NonNull OutputStream output) throws IOException {
+        CheckedOutputStream checked = new CheckedOutputStream(
+                new BufferedOutputStream(output), new CRC32());
+        DataOutputStream out = new DataOutputStream(checked);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(nodeCount);
+        out.writeInt(graphEdgeCount);
+        writeInts(out, ranks);
+        writeInts(out, upOffsets);
+        writeInts(out, upTargets);
+        writeDoubles(out, upWeights);
+        writeInts(out, upMiddles);
+        writeInts(out, downOffsets);
+        writeInts(out, downTargets);
+        writeDoubles(out, downWeights);
+        writeInts(out, downMiddles);
+        out.flush();
+        // 체크섬 자체는 체크섬 계산에서 제외
+        long checksum = checked.getChecksum().getValue();
+        DataOutputStream tail = new DataOutputStream(output);
+        tail.writeLong(checksum);
+        tail.flush();
+    }
+
+    /**
+     * {@link #writeTo}로 저장한 계층을 읽음
+     * @throws IOException 형식/버전이 맞지 않거나 체크섬이 다른 경우
+     */
+    @NonNull
+    public static ContractionHierarchy readFrom(@NonNull InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        CheckedInputStream checked = new CheckedInputStream(buffered, new CRC32());
+        DataInputStream in = new DataInputStream(checked);
+
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a contraction hierarchy file");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported contraction hierarchy version: " + version);
+        }
+        int nodeCount = in.readInt();
+        int graphEdgeCount = in.readInt();
+        int[] ranks = readInts(in);
+        int[] upOffsets = readInts(in);
+        int[] upTargets = readInts(in);
+        double[] upWeights = readDoubles(in);
+        int[] upMiddles = readInts(in);
+        int[] downOffsets = readInts(in);
+        int[] downTargets = readInts(in);
+        double[] downWeights = readDoubles(in);
+        int[] downMiddles = readInts(in);
+
+        long expected = checked.getChecksum().getValue();
+        long actual = new DataInputStream(buffered).readLong();
+        if (expected != actual) {
+            throw new IOException("Contraction hierarchy checksum mismatch");
+        }
+        if (ranks.length != nodeCount || upOffsets.length != nodeCount + 1
+                || downOffsets.length != nodeCount + 1) {
+            throw new IOException("Corrupted contraction hierarchy");
+        }
+
+        return new ContractionHierarchy(nodeCount, graphEdgeCount, ranks,
+                upOffsets, upTargets, upWeights, upMiddles,
+                downOffsets, downTargets, downWeights, downMiddles);
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        out.writeInt(values.length);
+        for (double value : values) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[readLength(in)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(DataInputStream in) throws IOException {
+        double[] values = new double[readLength(in)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readDouble();
+        }
+        return values;
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Corrupted contraction hierarchy");
+        }
+        return length;
+    }
+
+    /**
+     * 경로 복원용 int 스택
+     */
+    private static final class IntStack {
+        int[] values = new int[16];
+        int size;
+
+        void push(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int pop() {
+            return values[--size];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.IndexedMinHeap;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.graph.VenueGraph;
+import com.example.navermapapi.path.graph.VenueGraphFile;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * 축약 계층(Contraction Hierarchy) 오프라인 전처리기
+ * 노드를 중요도 순으로 하나씩 축약하면서, 축약된 노드를 지나는 최단 경로를 지름길(shortcut) 간선으로 보존한다.
+ * 결과는 {@link ContractionHierarchy#writeTo}로 직렬화해 배포하며, 단말에서는 빌드하지 않는다.
+ * 빌드 머신에서 {@code java ... ContractionHierarchyBuilder venue.vgr venue.ch}로 실행해
+ * 시설 그래프와 함께 앱 assets에 넣는다 (시설 그래프를 다시 변환하면 계층도 다시 만든다).
+ */
+public final class ContractionHierarchyBuilder {
+    // 목격 경로(witness) 탐색에서 확정할 최대 노드 수 (넘으면 지름길을 보수적으로 추가)
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    // 우선순위 계산용 모의 축약에서는 더 작은 한도를 사용
+    private static final int SIMULATION_SETTLE_LIMIT = 50;
+
+    private final int nodeCount;
+    private final ArcList[] outArcs;
+    private final ArcList[] inArcs;
+    private final int[] contractedNeighbours;
+    private final int[] levels;
+    private final int[] targetStamps;  // 목격 탐색에서 찾아야 하는 노드 표시
+    private int targetGeneration;
+    private final SearchWorkspace witnessWorkspace;
+
+    // 계층에 남는 간선 (원본 + 지름길)
+    private int[] arcFrom = new int[16];
+    private int[] arcTo = new int[16];
+    private double[] arcWeight = new double[16];
+    private int[] arcMiddle = new int[16];
+    private int arcCount;
+
+    private ContractionHierarchyBuilder(CsrGraph graph) {
+        nodeCount = graph.getNodeCount();
+        outArcs = new ArcList[nodeCount];
+        inArcs = new ArcList[nodeCount];
+        for (int v = 0; v < nodeCount; v++) {
+            outArcs[v] = new ArcList();
+            inArcs[v] = new ArcList();
+        }
+        for (int v = 0; v < nodeCount; v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                int w = graph.target(e);
+                if (w != v) {
+                    addArc(v, w, graph.weight(e), -1);
+                }
+            }
+        }
+        contractedNeighbours = new int[nodeCount];
+        levels = new int[nodeCount];
+        targetStamps = new int[nodeCount];
+        witnessWorkspace = new SearchWorkspace(nodeCount);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ContractionHierarchyBuilder <input.vgr> <output.ch>");
+            System.exit(2);
+        }
+        VenueGraph venue = VenueGraphFile.map(new File(args[0]), true);
+        long started = System.nanoTime();
+        ContractionHierarchy hierarchy = build(venue.getGraph());
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(args[1]))) {
+            hierarchy.writeTo(output);
+        }
+        System.out.println("Contracted " + venue.getGraph().getNodeCount() + " nodes in "
+                + elapsedMillis + " ms, wrote " + args[1]);
+    }
+
+    /**
+     * 그래프 전체를 축약해 계층 생성
+     */
+    @NonNull
+    public static ContractionHierarchy build(@NonNull CsrGraph graph) {
+        return new ContractionHierarchyBuilder(graph).contractAll(graph.getEdgeCount());
+    }
+
+    private ContractionHierarchy contractAll(int graphEdgeCount) {
+        IndexedMinHeap order = new IndexedMinHeap(nodeCount);
+        for (int v = 0; v < nodeCount; v++) {
+            order.insertOrDecrease(v, priority(v));
+        }
+
+        int[] ranks = new int[nodeCount];
+        int rank = 0;
+        while (!order.isEmpty()) {
+            int v = order.poll();
+
+            // 지연 갱신: 우선순위가 바뀌어 더 이상 최소가 아니면 다시 넣는다
+            double current = priority(v);
+            if (!order.isEmpty() && current > order.peekKey()) {
+                order.insertOrDecrease(v, current);
+                continue;
+            }
+
+            contract(v);
+            ranks[v] = rank++;
+
+            // 이웃 노드의 축약 이웃 수/깊이만 갱신하고, 우선순위는 꺼낼 때 지연 재계산한다
+            // (고차수 코어에서 이웃마다 목격 탐색을 다시 돌리면 전처리 시간이 급격히 늘어난다)
+            ArcList out = outArcs[v];
+            for (int i = 0; i < out.size; i++) {
+                int w = out.nodes[i];
+                contractedNeighbours[w]++;
+                levels[w] = Math.max(levels[w], levels[v] + 1);
+            }
+            ArcList in = inArcs[v];
+            for (int i = 0; i < in.size; i++) {
+                int u = in.nodes[i];
+                contractedNeighbours[u]++;
+                levels[u] = Math.max(levels[u], levels[v] + 1);
+            }
+            out.size = 0;
+            in.size = 0;
+        }
+
+        return ContractionHierarchy.fromArcs(nodeCount, graphEdgeCount, ranks,
+                arcFrom, arcTo, arcWeight, arcMiddle, arcCount);
+    }
+
+    /**
+     * 우선순위 = 2 × 간선 차이(추가될 지름길 수 - 제거될 간선 수) + 축약된 이웃 수 + 계층 깊이
+     * 이웃 수와 깊이 항은 축약이 그래프 전체에 고르게 퍼지도록 한다.
+     */
+    private double priority(int v) {
+        int shortcuts = processShortcuts(v, false);
+        int edgeDifference = shortcuts - (outArcs[v].size + inArcs[v].size);
+        return 2.0 * edgeDifference + contractedNeighbours[v] + levels[v];
+    }
+
+    private void contract(int v) {
+        // 남아있는 이웃과의 간선은 계층에 그대로 남는다
+        ArcList out = outArcs[v];
+        for (int i = 0; i < out.size; i++) {
+            recordArc(v, out.nodes[i], out.weights[i], out.middles[i]);
+        }
+        ArcList in = inArcs[v];
+        for (int i = 0; i < in.size; i++) {
+            recordArc(in.nodes[i], v, in.weights[i], in.middles[i]);
+        }
+
+        processShortcuts(v, true);
+
+        for (int i = 0; i < out.size; i++) {
+            inArcs[out.nodes[i]].remove(v);
+        }
+        for (int i = 0; i < in.size; i++) {
+            outArcs[in.nodes[i]].remove(v);
+        }
+    }
+
+    /**
+     * v를 축약할 때 필요한 지름길을 계산
+     * @param apply true면 지름길을 실제로 추가, false면 개수만 센다
+     */
+    private int processShortcuts(int v, boolean apply) {
+        ArcList in = inArcs[v];
+        ArcList out = outArcs[v];
+        if (in.size == 0 || out.size == 0) {
+            return 0;
+        }
+
+        double maxOut = 0;
+        targetGeneration++;
+        for (int j = 0; j < out.size; j++) {
+            maxOut = Math.max(maxOut, out.weights[j]);
+            targetStamps[out.nodes[j]] = targetGeneration;
+        }
+
+        int shortcuts = 0;
+        for (int i = 0; i < in.size; i++) {
+            int u = in.nodes[i];
+            double toV = in.weights[i];
+            witnessSearch(u, v, toV + maxOut, out.size,
+                    apply ? WITNESS_SETTLE_LIMIT : SIMULATION_SETTLE_LIMIT);
+
+            for (int j = 0; j < out.size; j++) {
+                int w = out.nodes[j];
+                if (w == u) {
+                    continue;
+                }
+                double viaV = toV + out.weights[j];
+                if (witnessWorkspace.distance(w) > viaV) {
+                    shortcuts++;
+                    if (apply) {
+                        addArc(u, w, viaV, v);
+                    }
+                }
+            }
+        }
+        return shortcuts;
+    }
+
+    /**
+     * v를 거치지 않는 u → * 최단 거리를 제한된 범위에서 탐색
+     * 표시된 대상 노드가 모두 확정되면 일찍 멈춘다.
+     */
+    private void witnessSearch(int source, int excluded, double maxDistance,
+                               int targetCount, int settleLimit) {
+        SearchWorkspace workspace = witnessWorkspace;
+        workspace.prepare(nodeCount);
+        IndexedMinHeap queue = workspace.heap();
+        workspace.update(source, 0, -1);
+        queue.insertOrDecrease(source, 0);
+
+        while (!queue.isEmpty()) {
+            if (queue.peekKey() > maxDistance || workspace.getSettledCount() >= settleLimit) {
+                break;
+            }
+            int x = queue.poll();
+            workspace.markSettled(x);
+            if (targetStamps[x] == targetGeneration && --targetCount == 0) {
+                break;
+            }
+            double dx = workspace.distance(x);
+
+            ArcList arcs = outArcs[x];
+            for (int i = 0; i < arcs.size; i++) {
+                int y = arcs.nodes[i];
+                if (y == excluded || workspace.isSettled(y)) {
+                    continue;
+                }
+                double nd = dx + arcs.weights[i];
+                if (nd < workspace.distance(y)) {
+                    workspace.update(y, nd, x);
+                    queue.insertOrDecrease(y, nd);
+                }
+            }
+        }
+    }
+
+    private void addArc(int from, int to, double weight, int middle) {
+        outArcs[from].put(to, weight, middle);
+        inArcs[to].put(from, weight, middle);
+    }
+
+    private void recordArc(int from, int to, double weight, int middle) {
+        if (arcCount == arcFrom.length) {
+            int capacity = arcCount * 2;
+            arcFrom = Arrays.copyOf(arcFrom, capacity);
+            arcTo = Arrays.copyOf(arcTo, capacity);
+            arcWeight = Arrays.copyOf(arcWeight, capacity);
+            arcMiddle = Arrays.copyOf(arcMiddle, capacity);
+        }
+        arcFrom[arcCount] = from;
+        arcTo[arcCount] = to;
+        arcWeight[arcCount] = weight;
+        arcMiddle[arcCount] = middle;
+        arcCount++;
+    }
+
+    /**
+     * 축약 중 변하는 인접 목록 (이웃당 최소 가중치 간선 하나만 유지)
+     */
+    private static final class ArcList {
+        int[] nodes = new int[4];
+        double[] weights = new double[4];
+        int[] middles = new int[4];
+        int size;
+
+        void put(int node, double weight, int middle) {
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    if (weight < weights[i]) {
+                        weights[i] = weight;
+                        middles[i] = middle;
+                    }
+                    return;
+                }
+            }
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+            nodes[size] = node;
+            weights[size] = weight;
+            middles[size] = middle;
+            size++;
+        }
+
+        void remove(int node) {
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    size--;
+                    nodes[i] = nodes[size];
+                    weights[i] = weights[size];
+                    middles[i] = middles[size];
+                    return;
+                }
+            }
+        }
+    }
+}
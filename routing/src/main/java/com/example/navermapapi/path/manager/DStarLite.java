@@ -0,0 +1,310 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.IndexedMinHeap;
+import com.example.navermapapi.path.graph.ReverseAdjacency;
+
+import java.util.Arrays;
+
+/**
+ * D* Lite 증분 경로 계획기 (Koenig &amp; Likhachev)
+ * 목적지에서 거꾸로 탐색 트리(g, rhs)를 만들어 두고, 출발 위치가 움직이거나 간선 비용이 바뀌면
+ * 일관성이 깨진 노드만 다시 계산한다. 이미 계산된 영역 안에서 이동하면 재계획은 노드 몇 개로 끝난다.
+ *
+ * 출발점은 간선 위 가상 노드일 수 있으므로 최대 두 개의 후보 노드와 후보까지의 비용으로 주어지며,
+ * 휴리스틱은 현재 위치에서의 직선 거리 × 배율이다. 위치가 이동하면 이동한 직선 거리만큼 km을 늘려
+ * 기존 큐의 키를 다시 계산하지 않고 재사용한다.
+ *
+ * 목적지 하나당 하나씩 만들며, 한 스레드에서만 사용한다.
+ */
+public final class DStarLite {
+    private static final double INF = Double.POSITIVE_INFINITY;
+    private static final int MAX_START_CANDIDATES = 2;
+
+    private final CsrGraph graph;
+    private final ReverseAdjacency reverse;
+    private final double heuristicScale;
+    private final double[] g;
+    private final double[] rhs;
+    private final double[] goalCosts;    // 목적지 후보 노드에서 목적지까지 비용, 후보가 아니면 INF
+    private final IndexedMinHeap open;
+    private double[] weightOverrides;    // 간선별 변경 비용, 변경이 없으면 NaN
+
+    private final int[] startNodes = new int[MAX_START_CANDIDATES];
+    private final double[] startCosts = new double[MAX_START_CANDIDATES];
+    private int startCount;
+    private double startX;
+    private double startY;
+    private boolean hasStart;
+    private double km;
+    private int lastExpansions;
+
+    /**
+     * @param reverse 그래프의 진입 간선 목록
+     * @param heuristicScale 직선 거리 배율 ({@link AStarAlgorithm#euclideanScale}), 좌표가 없으면 0
+     * @param goalNodes 목적지 후보 노드 (간선 위 목적지라면 간선의 두 끝)
+     * @param goalNodeCosts 각 후보에서 목적지까지의 비용
+     */
+    public DStarLite(@NonNull CsrGraph graph, @NonNull ReverseAdjacency reverse, double heuristicScale,
+                     @NonNull int[] goalNodes, @NonNull double[] goalNodeCosts, int goalCount) {
+        if (heuristicScale > 0 && !graph.hasCoordinates()) {
+            throw new IllegalArgumentException("Heuristic requires node coordinates");
+        }
+        int n = graph.getNodeCount();
+        this.graph = graph;
+        this.reverse = reverse;
+        this.heuristicScale = heuristicScale;
+        this.g = new double[n];
+        this.rhs = new double[n];
+        this.goalCosts = new double[n];
+        this.open = new IndexedMinHeap(n);
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        Arrays.fill(goalCosts, INF);
+
+        if (goalCount <= 0) {
+            throw new IllegalArgumentException("At least one goal node is required");
+        }
+        for (int i = 0; i < goalCount; i++) {
+            graph.checkNode(goalNodes[i]);
+            if (!(goalNodeCosts[i] >= 0)) {
+                throw new IllegalArgumentException("Invalid goal cost: " + goalNodeCosts[i]);
+            }
+            int goal = goalNodes[i];
+            goalCosts[goal] = Math.min(goalCosts[goal], goalNodeCosts[i]);
+            rhs[goal] = goalCosts[goal];
+        }
+        // 출발점이 정해지기 전의 키는 휴리스틱이 빠진 하한이므로, 꺼낼 때 다시 계산된다
+        for (int i = 0; i < goalCount; i++) {
+            open.update(goalNodes[i], rhs[goalNodes[i]]);
+        }
+    }
+
+    /**
+     * 노드에서 출발하는 경로 계획
+     * @return 목적지까지의 거리, 도달할 수 없으면 {@link Double#POSITIVE_INFINITY}
+     */
+    public double plan(int startNode) {
+        graph.checkNode(startNode);
+        startNodes[0] = startNode;
+        startCosts[0] = 0;
+        return plan(heuristicScale > 0 ? graph.x(startNode) : 0,
+                heuristicScale > 0 ? graph.y(startNode) : 0, startNodes, startCosts, 1);
+    }
+
+    /**
+     * 현재 위치(로컬 좌표)와 출발 후보 노드로 경로 계획
+     * 이전 계획의 탐색 트리를 재사용하므로, 앞선 호출과 가까운 위치라면 거의 비용이 들지 않는다.
+     * @param nodes 출발 후보 노드 (최대 2개)
+     * @param costs 현재 위치에서 각 후보까지의 비용
+     * @return 목적지까지의 거리, 도달할 수 없으면 {@link Double#POSITIVE_INFINITY}
+     */
+    public double plan(double x, double y, @NonNull int[] nodes, @NonNull double[] costs, int count) {
+        if (count <= 0 || count > MAX_START_CANDIDATES) {
+            throw new IllegalArgumentException("Invalid start candidate count: " + count);
+        }
+        if (hasStart && heuristicScale > 0) {
+            double dx = x - startX;
+            double dy = y - startY;
+            km += heuristicScale * Math.sqrt(dx * dx + dy * dy);
+        }
+        for (int i = 0; i < count; i++) {
+            graph.checkNode(nodes[i]);
+            startNodes[i] = nodes[i];
+            startCosts[i] = costs[i];
+        }
+        startCount = count;
+        startX = x;
+        startY = y;
+        hasStart = true;
+
+        computeShortestPath();
+        return getDistance();
+    }
+
+    /**
+     * 간선 비용 변경 (통제, 혼잡 등). 다음 {@link #plan} 호출 때 영향받은 영역만 다시 계산된다.
+     * @param weight 새 비용, 통행 불가는 {@link Double#POSITIVE_INFINITY}
+     */
+    public void updateEdgeWeight(int edge, double weight) {
+        if (!(weight >= 0)) {
+            throw new IllegalArgumentException("Invalid edge weight: " + weight);
+        }
+        if (weightOverrides == null) {
+            weightOverrides = new double[graph.getEdgeCount()];
+            Arrays.fill(weightOverrides, Double.NaN);
+        }
+        weightOverrides[edge] = weight;
+        updateVertex(sourceOf(edge));
+    }
+
+    /**
+     * 마지막 계획 결과의 거리
+     */
+    public double getDistance() {
+        double best = INF;
+        for (int i = 0; i < startCount; i++) {
+            best = Math.min(best, startCosts[i] + g[startNodes[i]]);
+        }
+        return best;
+    }
+
+    /**
+     * 마지막 계획의 경로 노드 (첫 출발 후보 → 목적지 후보)
+     * @return 경로 노드, 도달할 수 없으면 빈 배열
+     */
+    @NonNull
+    public int[] extractPath() {
+        int current = -1;
+        double best = INF;
+        for (int i = 0; i < startCount; i++) {
+            double cost = startCosts[i] + g[startNodes[i]];
+            if (cost < best) {
+                best = cost;
+                current = startNodes[i];
+            }
+        }
+        if (current < 0) {
+            return new int[0];
+        }
+
+        int[] path = new int[16];
+        int length = 0;
+        int limit = graph.getNodeCount();
+        while (current >= 0 && length <= limit) {
+            if (length == path.length) {
+                path = Arrays.copyOf(path, length * 2);
+            }
+            path[length++] = current;
+
+            // 목적지에서 끝나는 비용과 다음 노드를 거치는 비용 중 작은 쪽을 따라감
+            int next = -1;
+            double nextCost = goalCosts[current];
+            for (int e = graph.firstEdge(current); e < graph.endEdge(current); e++) {
+                double cost = weight(e) + g[graph.target(e)];
+                if (cost < nextCost) {
+                    nextCost = cost;
+                    next = graph.target(e);
+                }
+            }
+            current = next;
+        }
+        return Arrays.copyOf(path, length);
+    }
+
+    /**
+     * 마지막 {@link #plan}에서 확장한 노드 수
+     */
+    public int getLastExpansions() {
+        return lastExpansions;
+    }
+
+    private void computeShortestPath() {
+        int expansions = 0;
+        while (!open.isEmpty() && !startConsistent()) {
+            int u = open.peek();
+            double oldKey = open.peekKey();
+            double newKey = key(u);
+            expansions++;
+            if (oldKey < newKey) {
+                // 출발점 이동으로 낡은 키: 갱신 후 다시 비교
+                open.update(u, newKey);
+            } else if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                open.remove(u);
+                for (int i = reverse.first(u), end = reverse.end(u); i < end; i++) {
+                    int p = reverse.source(i);
+                    double cost = weight(reverse.edge(i)) + g[u];
+                    if (cost < rhs[p]) {
+                        rhs[p] = cost;
+                        updateQueue(p);
+                    }
+                }
+            } else {
+                double oldG = g[u];
+                g[u] = INF;
+                updateVertex(u);
+                for (int i = reverse.first(u), end = reverse.end(u); i < end; i++) {
+                    int p = reverse.source(i);
+                    if (rhs[p] == weight(reverse.edge(i)) + oldG) {
+                        updateVertex(p);
+                    }
+                }
+            }
+        }
+        lastExpansions = expansions;
+    }
+
+    // 모든 출발 후보가 일관되고, 큐의 최소 키가 후보의 키 이상이면 종료
+    private boolean startConsistent() {
+        double topKey = open.peekKey();
+        for (int i = 0; i < startCount; i++) {
+            int s = startNodes[i];
+            if (g[s] != rhs[s] || topKey < key(s)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void updateVertex(int u) {
+        double best = goalCosts[u];
+        for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+            best = Math.min(best, weight(e) + g[graph.target(e)]);
+        }
+        rhs[u] = best;
+        updateQueue(u);
+    }
+
+    private void updateQueue(int u) {
+        if (g[u] != rhs[u]) {
+            open.update(u, key(u));
+        } else {
+            open.remove(u);
+        }
+    }
+
+    private double key(int u) {
+        double value = Math.min(g[u], rhs[u]);
+        if (heuristicScale > 0 && hasStart) {
+            value += heuristicScale * distanceTo(u, startX, startY) + km;
+        }
+        return value;
+    }
+
+    private double distanceTo(int node, double x, double y) {
+        double dx = graph.x(node) - x;
+        double dy = graph.y(node) - y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private double weight(int edge) {
+        if (weightOverrides != null) {
+            double override = weightOverrides[edge];
+            if (override == override) {   // NaN이 아니면 변경된 비용
+                return override;
+            }
+        }
+        return graph.weight(edge);
+    }
+
+    // CSR 오프셋에서 간선의 출발 노드를 이진 탐색
+    private int sourceOf(int edge) {
+        if (edge < 0 || edge >= graph.getEdgeCount()) {
+            throw new IllegalArgumentException("Invalid edge index: " + edge);
+        }
+        int lo = 0;
+        int hi = graph.getNodeCount() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (graph.firstEdge(mid) <= edge) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.IndexedMinHeap;
+import com.example.navermapapi.path.graph.ReverseAdjacency;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class DijkstraAlgorithm {
+
+    private DijkstraAlgorithm() {
+        // Utility class
+    }
+
+    /**
+     * CSR 그래프에서 단일 쌍 최단 경로 탐색
+     * 결과(거리, 이전 노드)는 workspace에 남으며, 탐색 중에는 객체를 생성하지 않는다.
+     * @param graph 탐색할 그래프
+     * @param startNode 출발 노드
+     * @param endNode 도착 노드
+     * @param workspace 준비된 작업 공간 ({@link SearchWorkspace#get(int)})
+     * @return 최단 거리, 도달할 수 없으면 {@link Double#POSITIVE_INFINITY}
+     */
+    public static double search(CsrGraph graph, int startNode, int endNode,
+                                SearchWorkspace workspace) {
+        graph.checkNode(startNode);
+        graph.checkNode(endNode);
+        seed(startNode, 0, workspace);
+        run(graph, endNode, endNode, workspace);
+        return workspace.distance(endNode);
+    }
+
+    /**
+     * 출발 노드에서 도달 가능한 모든 노드까지의 최단 거리 계산 (one-to-all)
+     * 결과는 workspace의 {@link SearchWorkspace#distance(int)}로 조회한다.
+     */
+    public static void searchAll(CsrGraph graph, int startNode, SearchWorkspace workspace) {
+        graph.checkNode(startNode);
+        seed(startNode, 0, workspace);
+        run(graph, -1, -1, workspace);
+    }
+
+    /**
+     * 출발 후보 추가 (간선 위 가상 노드처럼 출발점이 여러 노드에 초기 거리를 두는 경우)
+     * 모든 후보를 추가한 뒤 {@link #searchSeeded}를 호출한다.
+     */
+    public static void seed(int node, double distance, SearchWorkspace workspace) {
+        if (distance < workspace.distance(node)) {
+            workspace.update(node, distance, -1);
+            workspace.heap().insertOrDecrease(node, distance);
+        }
+    }
+
+    /**
+     * {@link #seed}로 넣은 출발 후보들에서 탐색하고 두 도착 후보가 모두 확정되면 중단
+     * @param endNodeA 도착 후보 (-1이면 없음)
+     * @param endNodeB 도착 후보 (-1이면 없음)
+     */
+    public static void searchSeeded(CsrGraph graph, int endNodeA, int endNodeB,
+                                    SearchWorkspace workspace) {
+        run(graph, endNodeA, endNodeB, workspace);
+    }
+
+    /**
+     * {@link #seed}로 넣은 출발 후보들에서 탐색하고 모든 도착 후보가 확정되면 중단 (one-to-many)
+     * 거리 행렬의 한 행을 만들 때 전체 그래프 대신 가장 먼 후보까지만 탐색한다.
+     */
+    public static void searchSeededToAll(CsrGraph graph, int[] endNodes, int endCount,
+                                         SearchWorkspace workspace) {
+        int[] targets = Arrays.copyOf(endNodes, endCount);
+        Arrays.sort(targets);
+        int remaining = 0;
+        for (int i = 0; i < endCount; i++) {
+            graph.checkNode(targets[i]);
+            if (i == 0 || targets[i] != targets[i - 1]) {
+                remaining++;
+            }
+        }
+        IndexedMinHeap queue = workspace.heap();
+
+        while (!queue.isEmpty() && remaining > 0) {
+            int currentNode = queue.poll();
+            workspace.markSettled(currentNode);
+            if (Arrays.binarySearch(targets, currentNode) >= 0) {
+                remaining--;
+            }
+
+            double currentDistance = workspace.distance(currentNode);
+            for (int e = graph.firstEdge(currentNode), end = graph.endEdge(currentNode); e < end; e++) {
+                int next = graph.target(e);
+                if (workspace.isSettled(next)) {
+                    continue;
+                }
+                double newDist = currentDistance + graph.weight(e);
+                if (newDist < workspace.distance(next)) {
+                    workspace.update(next, newDist, currentNode);
+                    queue.insertOrDecrease(next, newDist);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link #seed}로 넣은 도착 후보들에서 진입 간선을 따라 거꾸로 탐색하고 두 출발 후보가 모두 확정되면 중단
+     * 작업 공간의 거리는 노드에서 도착 후보까지의 거리이고, 이전 노드는 도착 쪽 다음 노드를 가리킨다.
+     * @param startNodeA 출발 후보 (-1이면 없음)
+     * @param startNodeB 출발 후보 (-1이면 없음)
+     */
+    public static void searchSeededBackward(CsrGraph graph, ReverseAdjacency reverse,
+                                            int startNodeA, int startNodeB, SearchWorkspace workspace) {
+        IndexedMinHeap queue = workspace.heap();
+
+        while (!queue.isEmpty()) {
+            int currentNode = queue.poll();
+            workspace.markSettled(currentNode);
+
+            if ((currentNode == startNodeA || currentNode == startNodeB)
+                    && (startNodeA < 0 || workspace.isSettled(startNodeA))
+                    && (startNodeB < 0 || workspace.isSettled(startNodeB))) {
+                break;
+            }
+
+            double currentDistance = workspace.distance(currentNode);
+            for (int i = reverse.first(currentNode), end = reverse.end(currentNode); i < end; i++) {
+                int previous = reverse.source(i);
+                if (workspace.isSettled(previous)) {
+                    continue;
+                }
+                double newDist = currentDistance + graph.weight(reverse.edge(i));
+                if (newDist < workspace.distance(previous)) {
+                    workspace.update(previous, newDist, currentNode);
+                    queue.insertOrDecrease(previous, newDist);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link #seed}로 넣은 출발 후보들에서 거리 maxDistance까지만 탐색 (반경 제한 one-to-all)
+     * 확정된 노드({@link SearchWorkspace#isSettled})의 거리만 최단 거리이다.
+     */
+    public static void searchSeededUntil(CsrGraph graph, double maxDistance, SearchWorkspace workspace) {
+        IndexedMinHeap queue = workspace.heap();
+
+        while (!queue.isEmpty() && queue.peekKey() <= maxDistance) {
+            int currentNode = queue.poll();
+            workspace.markSettled(currentNode);
+
+            double currentDistance = workspace.distance(currentNode);
+            for (int e = graph.firstEdge(currentNode), end = graph.endEdge(currentNode); e < end; e++) {
+                int next = graph.target(e);
+                if (workspace.isSettled(next)) {
+                    continue;
+                }
+                double newDist = currentDistance + graph.weight(e);
+                if (newDist < workspace.distance(next)) {
+                    workspace.update(next, newDist, currentNode);
+                    queue.insertOrDecrease(next, newDist);
+                }
+            }
+        }
+    }
+
+    private static void run(CsrGraph graph, int endNodeA, int endNodeB, SearchWorkspace workspace) {
+        IndexedMinHeap queue = workspace.heap();
+
+        while (!queue.isEmpty()) {
+            int currentNode = queue.poll();
+            workspace.markSettled(currentNode);
+
+            if ((currentNode == endNodeA || currentNode == endNodeB)
+                    && (endNodeA < 0 || workspace.isSettled(endNodeA))
+                    && (endNodeB < 0 || workspace.isSettled(endNodeB))) {
+                break;
+            }
+
+            double currentDistance = workspace.distance(currentNode);
+            for (int e = graph.firstEdge(currentNode), end = graph.endEdge(currentNode); e < end; e++) {
+                int next = graph.target(e);
+                if (workspace.isSettled(next)) {
+                    continue;
+                }
+                double newDist = currentDistance + graph.weight(e);
+                if (newDist < workspace.distance(next)) {
+                    workspace.update(next, newDist, currentNode);
+                    queue.insertOrDecrease(next, newDist);
+                }
+            }
+        }
+    }
+
+    /**
+     * 최단 경로의 노드 인덱스 목록 반환
+     * @return 출발 → 도착 노드 목록, 도달할 수 없으면 빈 리스트
+     */
+    public static List<Integer> findShortestPath(CsrGraph graph, int startNode, int endNode) {
+        SearchWorkspace workspace = SearchWorkspace.get(graph.getNodeCount());
+        double distance = search(graph, startNode, endNode, workspace);
+
+        // 시작 노드에서 도달할 수 없는 경우 빈 리스트 반환
+        if (Double.isInfinite(distance)) {
+            return Collections.emptyList();
+        }
+
+        // 경로 복원
+        List<Integer> path = new ArrayList<>();
+        for (int at = endNode; at != -1; at = workspace.previous(at)) {
+            path.add(at);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.EdgeAttributes;
+import com.example.navermapapi.path.graph.IndexedMinHeap;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+import java.util.Arrays;
+
+/**
+ * 한 위치에서 거리 예산 안에 도달할 수 있는 영역 (등시선)
+ * 간선 위 출발점의 양 끝 노드를 시드로 한 다익스트라를 예산에 닿는 순간 멈추므로,
+ * 그래프 크기와 무관하게 예산 안쪽만 탐색한다.
+ * 결과는 도달 가능한 간선 구간 목록(간선 방향 기준 시작/끝 비율)과, 구간 끝점들의 볼록 껍질이다.
+ * 층 연결 간선은 탐색에는 쓰지만 평면 구간이 아니므로 목록과 껍질에서 제외한다.
+ */
+public final class Isochrone {
+    private final double maxDistance;
+    private final int[] edges;
+    private final double[] startFractions;
+    private final double[] endFractions;
+    private final double[] hullX;
+    private final double[] hullY;
+    private final int[] settledNodes;   // 오름차순
+    private final int startEdge;
+    private final int reverseStartEdge;  // 없으면 -1
+
+    private Isochrone(double maxDistance, int[] edges, double[] startFractions, double[] endFractions,
+                      double[] hullX, double[] hullY, int[] settledNodes, int startEdge, int reverseStartEdge) {
+        this.maxDistance = maxDistance;
+        this.edges = edges;
+        this.startFractions = startFractions;
+        this.endFractions = endFractions;
+        this.hullX = hullX;
+        this.hullY = hullY;
+        this.settledNodes = settledNodes;
+        this.startEdge = startEdge;
+        this.reverseStartEdge = reverseStartEdge;
+    }
+
+    /**
+     * 간선 위 지점에서 maxDistance 안에 도달할 수 있는 영역 계산
+     * @param maxDistance 거리 예산 (간선 비용 단위, 보통 미터)
+     * @throws IllegalArgumentException 출발점이 간선 위에 있지 않거나 예산이 음수인 경우
+     */
+    @NonNull
+    public static Isochrone compute(@NonNull CsrGraph graph, @NonNull EdgeSnap from, double maxDistance) {
+        if (!from.isValid()) {
+            throw new IllegalArgumentException("Start is not on an edge");
+        }
+        if (!(maxDistance >= 0)) {
+            throw new IllegalArgumentException("Invalid distance budget: " + maxDistance);
+        }
+
+        SearchWorkspace workspace = SearchWorkspace.get(graph.getNodeCount());
+        int[] startNodes = new int[2];
+        double[] startCosts = new double[2];
+        int startCount = PathRouter.startCandidates(graph, from, startNodes, startCosts);
+        for (int k = 0; k < startCount; k++) {
+            DijkstraAlgorithm.seed(startNodes[k], startCosts[k], workspace);
+        }
+
+        // 예산 안에서 확정된 노드만 기록
+        int[] settled = new int[16];
+        int settledCount = 0;
+        IndexedMinHeap queue = workspace.heap();
+        while (!queue.isEmpty() && queue.peekKey() <= maxDistance) {
+            int u = queue.poll();
+            workspace.markSettled(u);
+            if (settledCount == settled.length) {
+                settled = Arrays.copyOf(settled, settledCount * 2);
+            }
+            settled[settledCount++] = u;
+
+            double du = workspace.distance(u);
+            for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                int v = graph.target(e);
+                double dv = du + graph.weight(e);
+                if (!workspace.isSettled(v) && dv < workspace.distance(v)) {
+                    workspace.update(v, dv, u);
+                    queue.insertOrDecrease(v, dv);
+                }
+            }
+        }
+
+        int[] settledNodes = Arrays.copyOf(settled, settledCount);
+        Arrays.sort(settledNodes);
+        Builder builder = new Builder(graph, maxDistance, settledNodes);
+        if (graph.hasCoordinates()) {
+            builder.addPoint(from.getX(), from.getY());
+            for (int i = 0; i < settledCount; i++) {
+                builder.addPoint(graph.x(settled[i]), graph.y(settled[i]));
+            }
+        }
+        // 출발 간선: 출발점에서 양방향으로 예산만큼
+        int edge = from.getEdge();
+        double fraction = from.getFraction();
+        builder.add(edge, fraction, fraction + reach(maxDistance, graph.weight(edge)));
+        int reverse = graph.findEdge(from.getToNode(), from.getFromNode());
+        if (reverse >= 0) {
+            builder.add(reverse, 1 - fraction, 1 - fraction + reach(maxDistance, graph.weight(reverse)));
+        }
+        builder.startEdges(edge, reverse);
+        // 확정된 노드에서 나가는 간선: 남은 예산만큼
+        for (int i = 0; i < settledCount; i++) {
+            int u = settled[i];
+            double remaining = maxDistance - workspace.distance(u);
+            for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                builder.add(e, 0, reach(remaining, graph.weight(e)));
+            }
+        }
+        return builder.build();
+    }
+
+    // 남은 예산으로 간선을 따라갈 수 있는 비율
+    private static double reach(double remaining, double weight) {
+        if (Double.isInfinite(weight)) return 0;
+        return weight > 0 ? remaining / weight : 1;
+    }
+
+    public double getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * 도달 가능한 간선 구간 수
+     */
+    public int getSegmentCount() {
+        return edges.length;
+    }
+
+    /**
+     * 구간의 간선 번호 (CSR 간선 방향 기준)
+     */
+    public int getEdge(int index) {
+        return edges[index];
+    }
+
+    /**
+     * 구간 시작 비율 (간선 출발 노드 0 ~ 도착 노드 1)
+     */
+    public double getStartFraction(int index) {
+        return startFractions[index];
+    }
+
+    public double getEndFraction(int index) {
+        return endFractions[index];
+    }
+
+    /**
+     * 볼록 껍질 꼭짓점 수 (반시계 방향, 구간이 없으면 0)
+     */
+    public int getHullSize() {
+        return hullX.length;
+    }
+
+    /**
+     * 볼록 껍질 꼭짓점의 로컬 좌표 (m)
+     */
+    public double getHullX(int index) {
+        return hullX[index];
+    }
+
+    public double getHullY(int index) {
+        return hullY[index];
+    }
+
+    /**
+     * 탐색에서 확정한 노드 수
+     */
+    public int getSettledNodes() {
+        return settledNodes.length;
+    }
+
+    /**
+     * 간선 비용이 바뀌면 결과가 달라질 수 있는지
+     * 결과는 출발 간선과 확정된 노드에서 나가는 간선의 비용에만 의존하므로, 그 밖의 간선 변경은 영향이 없다.
+     * @param changedEdges 비용이 바뀐 간선
+     */
+    public boolean dependsOnAny(@NonNull CsrGraph graph, @NonNull int[] changedEdges) {
+        for (int edge : changedEdges) {
+            if (edge == startEdge || edge == reverseStartEdge
+                    || Arrays.binarySearch(settledNodes, graph.source(edge)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 구간과 껍질 점을 모으는 도우미
+     */
+    private static final class Builder {
+        private final CsrGraph graph;
+        private final double maxDistance;
+        private final int[] settledNodes;
+        private int startEdge;
+        private int reverseStartEdge = -1;
+        private int[] edges = new int[16];
+        private double[] starts = new double[16];
+        private double[] ends = new double[16];
+        private double[] pointsX = new double[32];   // 껍질 후보 점
+        private double[] pointsY = new double[32];
+        private int count;
+        private int pointCount;
+
+        Builder(CsrGraph graph, double maxDistance, int[] settledNodes) {
+            this.graph = graph;
+            this.maxDistance = maxDistance;
+            this.settledNodes = settledNodes;
+        }
+
+        void add(int edge, double start, double end) {
+            end = Math.min(1, end);
+            if (!(end > start) || EdgeAttributes.isConnector(graph.edgeAttributes(edge))) return;
+            if (count == edges.length) {
+                edges = Arrays.copyOf(edges, count * 2);
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            edges[count] = edge;
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+            // 끝까지 닿는 구간의 끝 노드는 확정 노드로 따로 들어가므로 중간에서 멈춘 끝점만 추가
+            if (end < 1 && graph.hasCoordinates()) {
+                int u = graph.source(edge);
+                int v = graph.target(edge);
+                addPoint(graph.x(u) + end * (graph.x(v) - graph.x(u)),
+                        graph.y(u) + end * (graph.y(v) - graph.y(u)));
+            }
+        }
+
+        void startEdges(int edge, int reverse) {
+            startEdge = edge;
+            reverseStartEdge = reverse;
+        }
+
+        void addPoint(double x, double y) {
+            if (pointCount == pointsX.length) {
+                pointsX = Arrays.copyOf(pointsX, pointCount * 2);
+                pointsY = Arrays.copyOf(pointsY, pointCount * 2);
+            }
+            pointsX[pointCount] = x;
+            pointsY[pointCount] = y;
+            pointCount++;
+        }
+
+        Isochrone build() {
+            double[][] hull = graph.hasCoordinates() ?
+                    convexHull(pointsX, pointsY, pointCount) : new double[][]{new double[0], new double[0]};
+            return new Isochrone(maxDistance, Arrays.copyOf(edges, count), Arrays.copyOf(starts, count),
+                    Arrays.copyOf(ends, count), hull[0], hull[1], settledNodes, startEdge, reverseStartEdge);
+        }
+    }
+
+    /**
+     * Andrew 단조 사슬 볼록 껍질 (반시계 방향, 마지막 점은 첫 점과 다름)
+     */
+    static double[][] convexHull(double[] xs, double[] ys, int n) {
+        // 네 극점이 이루는 사각형 안쪽 점은 껍질이 될 수 없으므로 정렬 전에 제외 (Akl-Toussaint)
+        int left = 0, bottom = 0, right = 0, top = 0;
+        for (int i = 1; i < n; i++) {
+            if (xs[i] < xs[left]) left = i;
+            if (xs[i] > xs[right]) right = i;
+            if (ys[i] < ys[bottom]) bottom = i;
+            if (ys[i] > ys[top]) top = i;
+        }
+        int candidates = 0;
+        int[] kept = new int[n];
+        for (int i = 0; i < n; i++) {
+            boolean inside = cross(xs, ys, left, bottom, i) > 0 && cross(xs, ys, bottom, right, i) > 0
+                    && cross(xs, ys, right, top, i) > 0 && cross(xs, ys, top, left, i) > 0;
+            if (!inside) {
+                kept[candidates++] = i;
+            }
+        }
+
+        Integer[] order = new Integer[candidates];
+        for (int i = 0; i < candidates; i++) {
+            order[i] = kept[i];
+        }
+        n = candidates;
+        Arrays.sort(order, (a, b) -> xs[a] != xs[b] ? Double.compare(xs[a], xs[b]) : Double.compare(ys[a], ys[b]));
+
+        int[] hull = new int[2 * n];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            while (size >= 2 && cross(xs, ys, hull[size - 2], hull[size - 1], order[i]) <= 0) size--;
+            hull[size++] = order[i];
+        }
+        for (int i = n - 2, lower = size + 1; i >= 0; i--) {
+            while (size >= lower && cross(xs, ys, hull[size - 2], hull[size - 1], order[i]) <= 0) size--;
+            hull[size++] = order[i];
+        }
+        size = Math.max(0, Math.min(size - 1, n));
+
+        double[][] result = {new double[size], new double[size]};
+        for (int i = 0; i < size; i++) {
+            result[0][i] = xs[hull[i]];
+            result[1][i] = ys[hull[i]];
+        }
+        return result;
+    }
+
+    private static double cross(double[] xs, double[] ys, int o, int a, int b) {
+        return (xs[a] - xs[o]) * (ys[b] - ys[o]) - (ys[a] - ys[o]) * (xs[b] - xs[o]);
+    }
+}
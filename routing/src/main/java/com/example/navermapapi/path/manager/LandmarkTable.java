@@ -0,0 +1,123 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+
+import java.util.Arrays;
+
+/**
+ * ALT(A*, Landmarks, Triangle inequality) 휴리스틱용 랜드마크 거리 표
+ * 그래프 로드 시 몇 개의 랜드마크에서 모든 노드까지의 거리를 미리 계산해 두고,
+ * 삼각 부등식 |d(L, t) - d(L, v)| 으로 v → t 거리의 하한을 구한다.
+ */
+public final class LandmarkTable implements AStarAlgorithm.Heuristic {
+    public static final int DEFAULT_LANDMARK_COUNT = 4;
+
+    private final int nodeCount;
+    private final int[] landmarks;
+    private final double[] fromLandmark;  // [l * n + v] = d(L, v)
+    private final double[] toLandmark;    // [l * n + v] = d(v, L)
+
+    private LandmarkTable(int nodeCount, int[] landmarks,
+                          double[] fromLandmark, double[] toLandmark) {
+        this.nodeCount = nodeCount;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /**
+     * 가장 먼 지점 선택(farthest selection) 방식으로 랜드마크를 고르고 거리 표를 만든다.
+     * @param graph 대상 그래프
+     * @param landmarkCount 랜드마크 수 (노드 수보다 크면 노드 수로 제한)
+     */
+    public static LandmarkTable build(CsrGraph graph, int landmarkCount) {
+        int n = graph.getNodeCount();
+        int count = Math.max(0, Math.min(landmarkCount, n));
+        CsrGraph reversed = graph.reverse();
+
+        int[] landmarks = new int[count];
+        double[] fromLandmark = new double[count * n];
+        double[] toLandmark = new double[count * n];
+        double[] minToChosen = new double[n];
+        Arrays.fill(minToChosen, Double.POSITIVE_INFINITY);
+
+        SearchWorkspace workspace = new SearchWorkspace(n);
+        int candidate = count > 0 ? farthestFrom(graph, 0, workspace) : -1;
+
+        for (int l = 0; l < count; l++) {
+            landmarks[l] = candidate;
+
+            workspace.prepare(n);
+            DijkstraAlgorithm.searchAll(graph, candidate, workspace);
+            for (int v = 0; v < n; v++) {
+                fromLandmark[l * n + v] = workspace.distance(v);
+            }
+
+            workspace.prepare(n);
+            DijkstraAlgorithm.searchAll(reversed, candidate, workspace);
+            for (int v = 0; v < n; v++) {
+                toLandmark[l * n + v] = workspace.distance(v);
+            }
+
+            // 다음 랜드마크: 기존 랜드마크들로부터 가장 멀리 떨어진 (도달 가능한) 노드
+            int best = -1;
+            double bestDistance = -1;
+            for (int v = 0; v < n; v++) {
+                double d = fromLandmark[l * n + v];
+                if (d < minToChosen[v]) {
+                    minToChosen[v] = d;
+                }
+                if (!Double.isInfinite(minToChosen[v]) && minToChosen[v] > bestDistance) {
+                    bestDistance = minToChosen[v];
+                    best = v;
+                }
+            }
+            candidate = best >= 0 ? best : candidate;
+        }
+
+        return new LandmarkTable(n, landmarks, fromLandmark, toLandmark);
+    }
+
+    private static int farthestFrom(CsrGraph graph, int start, SearchWorkspace workspace) {
+        workspace.prepare(graph.getNodeCount());
+        DijkstraAlgorithm.searchAll(graph, start, workspace);
+        int farthest = start;
+        double farthestDistance = 0;
+        for (int v = 0; v < graph.getNodeCount(); v++) {
+            double d = workspace.distance(v);
+            if (!Double.isInfinite(d) && d > farthestDistance) {
+                farthestDistance = d;
+                farthest = v;
+            }
+        }
+        return farthest;
+    }
+
+    @Override
+    public double estimate(int node, int target) {
+        double bound = 0;
+        for (int l = 0, base = 0; l < landmarks.length; l++, base += nodeCount) {
+            // d(v, t) >= d(L, t) - d(L, v)
+            double forward = fromLandmark[base + target] - fromLandmark[base + node];
+            // d(v, t) >= d(v, L) - d(t, L)
+            double backward = toLandmark[base + node] - toLandmark[base + target];
+            // 도달 불가(무한대)가 섞이면 NaN/무한대가 되므로 하한으로 쓰지 않는다
+            if (forward > bound && !Double.isInfinite(forward)) {
+                bound = forward;
+            }
+            if (backward > bound && !Double.isInfinite(backward)) {
+                bound = backward;
+            }
+        }
+        return bound;
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    public int getLandmark(int index) {
+        return landmarks[index];
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+import java.util.Arrays;
+
+/**
+ * 현재 위치에서 고정된 여러 목표 지점까지의 거리 (one-to-many)
+ * 위치가 놓인 간선의 끝 노드마다 다익스트라 한 번으로 모든 목표까지의 거리 행을 구해 두고,
+ * 같은 간선 위에서 움직이는 동안에는 끝 노드까지의 남은 비용만 바꿔 O(목표 수)로 다시 계산한다.
+ * 간선을 옮겨도 공유하는 끝 노드의 행은 재사용하므로, 탐색은 새로 닿은 노드에 대해서만 한다.
+ * 위치 갱신을 받는 한 스레드에서만 사용한다.
+ */
+public final class OneToManyRouter {
+    private static final int CACHED_ROWS = 2;
+
+    private final CsrGraph graph;
+    private final EdgeSnap[] targets;
+    private final int[] targetNodes;     // 목표 j의 도착 후보 노드 (j * 2 + k), 없으면 -1
+    private final double[] targetCosts;
+    private final int[] allTargetNodes;
+    private final int allTargetCount;
+
+    // 끝 노드별 거리 행 캐시 (노드 → 모든 목표)
+    private final int[] rowNodes = new int[CACHED_ROWS];
+    private final double[][] rows;
+    private final long[] rowUsed = new long[CACHED_ROWS];
+    private long clock;
+    private int searchCount;
+
+    // 갱신마다 재사용
+    private final int[] startNodes = new int[2];
+    private final double[] startCosts = new double[2];
+
+    /**
+     * @param targets 간선 위로 투영한 목표 지점
+     * @throws IllegalArgumentException 간선 위에 있지 않은 목표가 있는 경우
+     */
+    public OneToManyRouter(@NonNull CsrGraph graph, @NonNull EdgeSnap[] targets) {
+        this.graph = graph;
+        this.targets = new EdgeSnap[targets.length];
+        this.targetNodes = new int[targets.length * 2];
+        this.targetCosts = new double[targets.length * 2];
+        this.allTargetNodes = new int[targets.length * 2];
+        Arrays.fill(targetNodes, -1);
+
+        int[] nodes = new int[2];
+        double[] costs = new double[2];
+        int count = 0;
+        for (int j = 0; j < targets.length; j++) {
+            if (!targets[j].isValid()) {
+                throw new IllegalArgumentException("Target is not on an edge");
+            }
+            this.targets[j] = new EdgeSnap();
+            this.targets[j].copyFrom(targets[j]);
+            int endCount = PathRouter.endCandidates(graph, targets[j], nodes, costs);
+            for (int k = 0; k < endCount; k++) {
+                targetNodes[j * 2 + k] = nodes[k];
+                targetCosts[j * 2 + k] = costs[k];
+                allTargetNodes[count++] = nodes[k];
+            }
+        }
+        this.allTargetCount = count;
+
+        rows = new double[CACHED_ROWS][targets.length];
+        Arrays.fill(rowNodes, -1);
+    }
+
+    /**
+     * 거리를 재는 비용 그래프
+     */
+    @NonNull
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public int getTargetCount() {
+        return targets.length;
+    }
+
+    /**
+     * 현재 위치에서 모든 목표까지의 거리
+     * @param out 목표 순서대로 거리 (도달할 수 없으면 {@link Double#POSITIVE_INFINITY}), 길이는 목표 수 이상
+     */
+    public void distances(@NonNull EdgeSnap position, @NonNull double[] out) {
+        if (!position.isValid()) {
+            throw new IllegalArgumentException("Position is not on an edge");
+        }
+        int startCount = PathRouter.startCandidates(graph, position, startNodes, startCosts);
+        for (int j = 0; j < targets.length; j++) {
+            out[j] = PathRouter.directDistance(graph, position, targets[j]);
+        }
+        for (int k = 0; k < startCount; k++) {
+            double[] row = row(startNodes[k]);
+            for (int j = 0; j < targets.length; j++) {
+                out[j] = Math.min(out[j], startCosts[k] + row[j]);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 실행한 다익스트라 횟수 (캐시 효과 확인용)
+     */
+    public int getSearchCount() {
+        return searchCount;
+    }
+
+    // 노드에서 모든 목표까지의 거리 행 (캐시에 없으면 가장 오래 쓰지 않은 행을 다시 계산)
+    private double[] row(int node) {
+        int slot = -1;
+        for (int i = 0; i < CACHED_ROWS; i++) {
+            if (rowNodes[i] == node) {
+                slot = i;
+                break;
+            }
+            if (slot < 0 || rowUsed[i] < rowUsed[slot]) {
+                slot = i;
+            }
+        }
+        rowUsed[slot] = ++clock;
+        if (rowNodes[slot] == node) {
+            return rows[slot];
+        }
+
+        SearchWorkspace workspace = SearchWorkspace.get(graph.getNodeCount());
+        DijkstraAlgorithm.seed(node, 0, workspace);
+        DijkstraAlgorithm.searchSeededToAll(graph, allTargetNodes, allTargetCount, workspace);
+        searchCount++;
+
+        double[] row = rows[slot];
+        for (int j = 0; j < targets.length; j++) {
+            double best = Double.POSITIVE_INFINITY;
+            for (int k = 0; k < 2; k++) {
+                int target = targetNodes[j * 2 + k];
+                if (target >= 0) {
+                    best = Math.min(best, workspace.distance(target) + targetCosts[j * 2 + k]);
+                }
+            }
+            row[j] = best;
+        }
+        rowNodes[slot] = node;
+        return row;
+    }
+}
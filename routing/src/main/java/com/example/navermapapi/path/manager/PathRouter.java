@@ -0,0 +1,467 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.FloorPartition;
+import com.example.navermapapi.path.graph.ReverseAdjacency;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 그래프에 대한 경로 탐색기
+ * A* 휴리스틱과 ALT 랜드마크 표는 그래프를 읽을 때 {@link #precompute}로 미리 만들고 (첫 질의가 전처리 비용을
+ * 떠안지 않도록), 호출하지 않았으면 처음 필요할 때 한 번 만든다.
+ * 질의마다 {@link RoutingMode}를 골라 같은 {@link RouteResult} 형식으로 결과를 돌려준다.
+ * 축약 계층은 오프라인에서 만들어 내려받은 경우에만 {@link #setContractionHierarchy}로 연결한다.
+ * 탐색은 항상 전체 그래프에서 한다. 출발 층과 도착 층 사이만 탐색하면 다른 층을 거쳐 돌아오는
+ * 더 짧은 경로를 놓칠 수 있고, 그렇지 않음을 증명하려면 대부분 다시 탐색해야 하기 때문이다.
+ * 통제 구역처럼 비용만 올린 그래프는 {@link #withRaisedWeights}로 만들어, 원래 탐색기의 하한 휴리스틱과
+ * 층 구간, 진입 간선 목록을 그대로 공유한다.
+ */
+public class PathRouter {
+    private static final int ISOCHRONE_CACHE_SIZE = 16;
+
+    private final CsrGraph graph;
+    private final int landmarkCount;
+    private final PathRouter base;   // 비용을 올리기 전 탐색기, 원래 탐색기면 null
+    private volatile AStarAlgorithm.Heuristic euclidean;
+    private volatile LandmarkTable landmarks;
+    private volatile FloorPartition floors;
+    private volatile ReverseAdjacency reverse;
+    private volatile double euclideanScale = Double.NaN;
+    private volatile ContractionHierarchy hierarchy;
+
+    // (출발 노드, 예산) → 등시선, 가장 오래 쓰지 않은 항목부터 제거
+    private final Map<Long, Isochrone> isochrones =
+            new LinkedHashMap<Long, Isochrone>(ISOCHRONE_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Isochrone> eldest) {
+                    return size() > ISOCHRONE_CACHE_SIZE;
+                }
+            };
+
+    public PathRouter(@NonNull CsrGraph graph) {
+        this(graph, LandmarkTable.DEFAULT_LANDMARK_COUNT);
+    }
+
+    public PathRouter(@NonNull CsrGraph graph, int landmarkCount) {
+        this(graph, landmarkCount, null);
+    }
+
+    private PathRouter(CsrGraph graph, int landmarkCount, PathRouter base) {
+        this.graph = graph;
+        this.landmarkCount = landmarkCount;
+        this.base = base;
+    }
+
+    /**
+     * 같은 구조에서 간선 비용만 올린 그래프의 탐색기 (통제 구역, 혼잡 가중치)
+     * 모든 비용이 이 그래프 이상이므로 랜드마크 표와 직선 거리 배율은 그대로 하한이 되어 다시 만들지 않는다.
+     * 축약 계층은 비용이 바뀌면 맞지 않으므로 넘기지 않는다.
+     * @param raised {@link com.example.navermapapi.path.graph.EdgeOverlay#applyTo}로 만든 그래프
+     * @throws IllegalArgumentException 구조가 다른 그래프인 경우
+     */
+    @NonNull
+    public PathRouter withRaisedWeights(@NonNull CsrGraph raised) {
+        if (raised.getNodeCount() != graph.getNodeCount() || raised.getEdgeCount() != graph.getEdgeCount()) {
+            throw new IllegalArgumentException("Raised graph does not match router graph");
+        }
+        PathRouter root = base != null ? base : this;
+        return new PathRouter(raised, landmarkCount, root);
+    }
+
+    /**
+     * 이전 스냅샷 탐색기의 캐시 중 바뀐 간선에 영향을 받지 않는 결과만 가져옴
+     * @param changedEdges 두 그래프 사이에 비용이 달라진 간선
+     */
+    public void retainCachedResults(@NonNull PathRouter previous, @NonNull int[] changedEdges) {
+        if (previous == this) return;
+        Map<Long, Isochrone> retained = new LinkedHashMap<>();
+        synchronized (previous.isochrones) {
+            for (Map.Entry<Long, Isochrone> entry : previous.isochrones.entrySet()) {
+                if (!entry.getValue().dependsOnAny(graph, changedEdges)) {
+                    retained.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        synchronized (isochrones) {
+            isochrones.putAll(retained);
+        }
+    }
+
+    @NonNull
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * 탐색에 필요한 전처리를 지금 모두 수행 (층 구간, 진입 간선 목록, 직선 거리 휴리스틱, ALT 랜드마크 표)
+     * 비용을 올린 탐색기는 원래 탐색기의 결과를 공유하므로 원래 탐색기에서 한 번만 호출하면 된다.
+     */
+    public void precompute() {
+        if (base != null) {
+            base.precompute();
+            return;
+        }
+        getFloorPartition();
+        getReverseAdjacency();
+        getEuclideanScale();
+        if (graph.hasCoordinates()) {
+            euclidean();
+        }
+        landmarks();
+    }
+
+    /**
+     * 전처리된 축약 계층 연결
+     * @throws IllegalArgumentException 다른 그래프로 만든 계층인 경우
+     */
+    public void setContractionHierarchy(@Nullable ContractionHierarchy hierarchy) {
+        if (base != null) {
+            throw new IllegalStateException("Contraction hierarchy cannot be used with raised weights");
+        }
+        if (hierarchy != null && !hierarchy.matches(graph)) {
+            throw new IllegalArgumentException("Contraction hierarchy does not match graph");
+        }
+        this.hierarchy = hierarchy;
+    }
+
+    public boolean hasContractionHierarchy() {
+        return hierarchy != null;
+    }
+
+    /**
+     * 지정한 방식으로 최단 경로 탐색
+     * @param startNode 출발 노드
+     * @param endNode 도착 노드
+     * @param mode 탐색 방식 (좌표가 없는 그래프에서 A_STAR는 ALT로 대체)
+     * @throws IllegalStateException 축약 계층 없이 CONTRACTION_HIERARCHY를 요청한 경우
+     */
+    @NonNull
+    public RouteResult route(int startNode, int endNode, @NonNull RoutingMode mode) {
+        if (mode == RoutingMode.CONTRACTION_HIERARCHY) {
+            return requireHierarchy().route(startNode, endNode);
+        }
+
+        if (mode == RoutingMode.BIDIRECTIONAL_DIJKSTRA) {
+            graph.checkNode(startNode);
+            graph.checkNode(endNode);
+            int[] sources = {startNode};
+            int[] targets = {endNode};
+            double[] zero = {0};
+            return routeBidirectional(sources, zero, 1, targets, zero, 1, Double.POSITIVE_INFINITY);
+        }
+
+        SearchWorkspace workspace = SearchWorkspace.get(graph.getNodeCount());
+        double distance = search(startNode, endNode, mode, workspace);
+        int settled = workspace.getSettledCount();
+        int[] nodes = Double.isInfinite(distance) ? new int[0] : workspace.extractPath(endNode);
+        return new RouteResult(mode, nodes, distance, settled);
+    }
+
+    /**
+     * 간선 위 두 지점(가상 노드) 사이 경로 탐색
+     * 결과 노드는 두 지점 사이의 실제 노드만 담고, 거리는 양 끝 간선의 일부 길이를 포함한다.
+     * 축약 계층은 양 끝 노드 조합(최대 4회)으로 질의하고, 양방향 탐색은 두 지점의 간선 끝 노드를
+     * 정방향/역방향 출발 후보로 둔다. 다익스트라, A*, ALT는 가상 노드의 양 끝을 출발/도착 후보로 두고
+     * 요청한 방식 그대로 탐색한다.
+     * @throws IllegalArgumentException D_STAR_LITE를 요청한 경우 (증분 재탐색 세션 사용)
+     */
+    @NonNull
+    public RouteResult route(@NonNull EdgeSnap from, @NonNull EdgeSnap to, @NonNull RoutingMode mode) {
+        if (!from.isValid() || !to.isValid()) {
+            throw new IllegalArgumentException("Snap is not on an edge");
+        }
+
+        int[] sources = new int[2];
+        double[] sourceCosts = new double[2];
+        int sourceCount = startCandidates(graph, from, sources, sourceCosts);
+        int[] targets = new int[2];
+        double[] targetCosts = new double[2];
+        int targetCount = endCandidates(graph, to, targets, targetCosts);
+        double direct = directDistance(graph, from, to);
+
+        if (mode == RoutingMode.CONTRACTION_HIERARCHY) {
+            ContractionHierarchy current = requireHierarchy();
+            RouteResult best = null;
+            double bestDistance = direct;
+            int settled = 0;
+            for (int i = 0; i < sourceCount; i++) {
+                for (int j = 0; j < targetCount; j++) {
+                    RouteResult candidate = current.route(sources[i], targets[j]);
+                    settled += candidate.getSettledNodes();
+                    double total = sourceCosts[i] + candidate.getDistance() + targetCosts[j];
+                    if (total < bestDistance) {
+                        bestDistance = total;
+                        best = candidate;
+                    }
+                }
+            }
+            int[] nodes = best != null ? best.getNodes() : new int[0];
+            return new RouteResult(mode, nodes, bestDistance, settled);
+        }
+
+        if (mode == RoutingMode.BIDIRECTIONAL_DIJKSTRA) {
+            return routeBidirectional(sources, sourceCosts, sourceCount,
+                    targets, targetCosts, targetCount, direct);
+        }
+        if (mode == RoutingMode.A_STAR || mode == RoutingMode.ALT) {
+            SearchWorkspace workspace = SearchWorkspace.get(graph.getNodeCount());
+            int best = AStarAlgorithm.searchSeeded(graph, sources, sourceCosts, sourceCount,
+                    targets, targetCosts, targetCount, direct, heuristic(mode), workspace);
+            if (best < 0) {
+                return new RouteResult(mode, new int[0], direct, workspace.getSettledCount());
+            }
+            return new RouteResult(mode, workspace.extractPath(targets[best]),
+                    workspace.distance(targets[best]) + targetCosts[best], workspace.getSettledCount());
+        }
+        if (mode == RoutingMode.D_STAR_LITE) {
+            throw new IllegalArgumentException("Use a RouteSession for incremental replanning");
+        }
+        SearchWorkspace workspace = SearchWorkspace.get(graph.getNodeCount());
+        for (int i = 0; i < sourceCount; i++) {
+            DijkstraAlgorithm.seed(sources[i], sourceCosts[i], workspace);
+        }
+        if (targetCount > 0) {
+            DijkstraAlgorithm.searchSeeded(graph, targets[0], targetCount > 1 ? targets[1] : -1, workspace);
+        }
+
+        int bestTarget = -1;
+        double bestDistance = direct;
+        for (int j = 0; j < targetCount; j++) {
+            double total = workspace.distance(targets[j]) + targetCosts[j];
+            if (total < bestDistance) {
+                bestDistance = total;
+                bestTarget = targets[j];
+            }
+        }
+        int[] nodes = bestTarget >= 0 ? workspace.extractPath(bestTarget) : new int[0];
+        return new RouteResult(RoutingMode.DIJKSTRA, nodes, bestDistance, workspace.getSettledCount());
+    }
+
+    // 출발/도착 후보를 양쪽 작업 공간에 넣은 양방향 탐색
+    private RouteResult routeBidirectional(int[] sources, double[] sourceCosts, int sourceCount,
+                                           int[] targets, double[] targetCosts, int targetCount,
+                                           double direct) {
+        int n = graph.getNodeCount();
+        SearchWorkspace forward = SearchWorkspace.get(n);
+        SearchWorkspace backward = SearchWorkspace.getReverse(n);
+        for (int i = 0; i < sourceCount; i++) {
+            DijkstraAlgorithm.seed(sources[i], sourceCosts[i], forward);
+        }
+        for (int j = 0; j < targetCount; j++) {
+            DijkstraAlgorithm.seed(targets[j], targetCosts[j], backward);
+        }
+        int meeting = BidirectionalDijkstra.searchSeeded(graph, getReverseAdjacency(), forward, backward);
+        int settled = forward.getSettledCount() + backward.getSettledCount();
+
+        double distance = BidirectionalDijkstra.distance(meeting, forward, backward);
+        if (direct <= distance) {
+            return new RouteResult(RoutingMode.BIDIRECTIONAL_DIJKSTRA, new int[0], direct, settled);
+        }
+        return new RouteResult(RoutingMode.BIDIRECTIONAL_DIJKSTRA,
+                BidirectionalDijkstra.extractPath(meeting, forward, backward), distance, settled);
+    }
+
+    /**
+     * 층별 노드 구간 (처음 필요할 때 계산)
+     */
+    @NonNull
+    public FloorPartition getFloorPartition() {
+        if (base != null) return base.getFloorPartition();
+        FloorPartition current = floors;
+        if (current == null) {
+            synchronized (this) {
+                current = floors;
+                if (current == null) {
+                    current = FloorPartition.of(graph);
+                    floors = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 출발 후보: 지점 → 간선 끝 노드 (역방향 간선이 있으면 두 개)
+     * 비용이 POSITIVE_INFINITY인 방향(통제된 복도)은 후보에서 뺀다 (끝점에서 0 × 무한대가 NaN이 되지 않도록).
+     * @return 후보 수 (양방향이 모두 통제되면 0), nodes/costs는 길이 2 이상
+     */
+    public static int startCandidates(CsrGraph graph, EdgeSnap from, int[] nodes, double[] costs) {
+        int count = 0;
+        double weight = graph.weight(from.getEdge());
+        if (!Double.isInfinite(weight)) {
+            nodes[count] = from.getToNode();
+            costs[count++] = (1 - from.getFraction()) * weight;
+        }
+        int reverse = graph.findEdge(from.getToNode(), from.getFromNode());
+        if (reverse >= 0 && !Double.isInfinite(graph.weight(reverse))) {
+            nodes[count] = from.getFromNode();
+            costs[count++] = from.getFraction() * graph.weight(reverse);
+        }
+        return count;
+    }
+
+    /**
+     * 도착 후보: 간선 끝 노드 → 지점 (통제된 방향은 제외)
+     */
+    public static int endCandidates(CsrGraph graph, EdgeSnap to, int[] nodes, double[] costs) {
+        int count = 0;
+        double weight = graph.weight(to.getEdge());
+        if (!Double.isInfinite(weight)) {
+            nodes[count] = to.getFromNode();
+            costs[count++] = to.getFraction() * weight;
+        }
+        int reverse = graph.findEdge(to.getToNode(), to.getFromNode());
+        if (reverse >= 0 && !Double.isInfinite(graph.weight(reverse))) {
+            nodes[count] = to.getToNode();
+            costs[count++] = (1 - to.getFraction()) * graph.weight(reverse);
+        }
+        return count;
+    }
+
+    /**
+     * 두 지점이 같은 복도 위에 있을 때 간선을 따라 바로 가는 거리
+     * (다른 복도이거나 가는 방향이 통제되었으면 POSITIVE_INFINITY)
+     */
+    public static double directDistance(CsrGraph graph, EdgeSnap from, EdgeSnap to) {
+        int fromReverse = graph.findEdge(from.getToNode(), from.getFromNode());
+        double target;
+        if (to.getEdge() == from.getEdge()) {
+            target = to.getFraction();
+        } else if (fromReverse >= 0 && to.getEdge() == fromReverse) {
+            target = 1 - to.getFraction();
+        } else {
+            return Double.POSITIVE_INFINITY;
+        }
+        int edge = target >= from.getFraction() ? from.getEdge() : fromReverse;
+        if (edge < 0 || Double.isInfinite(graph.weight(edge))) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.abs(target - from.getFraction()) * graph.weight(edge);
+    }
+
+    /**
+     * 결과 객체 없이 거리만 계산 (경로는 workspace에 남음)
+     * 축약 계층과 양방향 탐색은 두 개의 작업 공간이 필요하므로 {@link #route}를 사용한다.
+     */
+    public double search(int startNode, int endNode, @NonNull RoutingMode mode,
+                         @NonNull SearchWorkspace workspace) {
+        switch (mode) {
+            case A_STAR:
+            case ALT:
+                return AStarAlgorithm.search(graph, startNode, endNode, heuristic(mode), workspace);
+            case CONTRACTION_HIERARCHY:
+            case BIDIRECTIONAL_DIJKSTRA:
+                throw new IllegalArgumentException("Use route() for " + mode + " queries");
+            case D_STAR_LITE:
+                throw new IllegalArgumentException("Use a RouteSession for incremental replanning");
+            case DIJKSTRA:
+            default:
+                return DijkstraAlgorithm.search(graph, startNode, endNode, workspace);
+        }
+    }
+
+    /**
+     * 간선 위 지점에서 거리 예산 안에 도달할 수 있는 영역
+     * 출발점에서 가까운 간선 끝 노드와 예산(0.1 단위)별로 캐시하므로, 같은 노드 근처에서 다시 요청하면
+     * 처음 계산한 결과를 돌려준다 (오차는 간선 길이의 절반 이내).
+     */
+    @NonNull
+    public Isochrone isochrone(@NonNull EdgeSnap from, double maxDistance) {
+        if (!from.isValid()) {
+            throw new IllegalArgumentException("Snap is not on an edge");
+        }
+        int node = from.getFraction() < 0.5 ? from.getFromNode() : from.getToNode();
+        long key = ((long) node << 32) | (Math.round(maxDistance * 10) & 0xFFFFFFFFL);
+        synchronized (isochrones) {
+            Isochrone cached = isochrones.get(key);
+            if (cached != null) return cached;
+        }
+        Isochrone computed = Isochrone.compute(graph, from, maxDistance);
+        synchronized (isochrones) {
+            isochrones.put(key, computed);
+        }
+        return computed;
+    }
+
+    /**
+     * 진입 간선 목록 (증분 탐색용, 처음 필요할 때 계산)
+     */
+    @NonNull
+    public ReverseAdjacency getReverseAdjacency() {
+        if (base != null) return base.getReverseAdjacency();
+        ReverseAdjacency current = reverse;
+        if (current == null) {
+            synchronized (this) {
+                current = reverse;
+                if (current == null) {
+                    current = ReverseAdjacency.of(graph);
+                    reverse = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 직선 거리 휴리스틱 배율, 좌표가 없는 그래프는 0 (휴리스틱 없음)
+     */
+    public double getEuclideanScale() {
+        if (base != null) return base.getEuclideanScale();
+        double current = euclideanScale;
+        if (Double.isNaN(current)) {
+            current = graph.hasCoordinates() ? AStarAlgorithm.euclideanScale(graph) : 0;
+            euclideanScale = current;
+        }
+        return current;
+    }
+
+    // A_STAR는 직선 거리 (좌표가 없으면 랜드마크), ALT는 랜드마크
+    private AStarAlgorithm.Heuristic heuristic(RoutingMode mode) {
+        return mode == RoutingMode.A_STAR && graph.hasCoordinates() ? euclidean() : landmarks();
+    }
+
+    private AStarAlgorithm.Heuristic euclidean() {
+        if (base != null) return base.euclidean();
+        AStarAlgorithm.Heuristic current = euclidean;
+        if (current == null) {
+            synchronized (this) {
+                current = euclidean;
+                if (current == null) {
+                    current = AStarAlgorithm.euclidean(graph);
+                    euclidean = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private LandmarkTable landmarks() {
+        if (base != null) return base.landmarks();
+        LandmarkTable current = landmarks;
+        if (current == null) {
+            synchronized (this) {
+                current = landmarks;
+                if (current == null) {
+                    current = LandmarkTable.build(graph, landmarkCount);
+                    landmarks = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private ContractionHierarchy requireHierarchy() {
+        ContractionHierarchy current = hierarchy;
+        if (current == null) {
+            throw new IllegalStateException("Contraction hierarchy not loaded");
+        }
+        return current;
+    }
+}
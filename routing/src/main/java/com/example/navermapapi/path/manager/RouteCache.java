@@ -0,0 +1,247 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * (출발 간선, 도착 지점) 단위 경로 캐시 (가장 오래 쓰지 않은 항목부터 제거)
+ * 항목에는 출발 간선의 두 끝 노드에서 도착 지점까지의 최단 거리와 노드 경로를 담아 두므로,
+ * 같은 간선 위라면 출발 지점이 조금 달라도 간선 일부 비용만 다시 더해 처음 탐색과 같은 결과를 돌려준다.
+ * 항목은 도착 지점에서 거꾸로 한 번 탐색해 만들고 (두 끝 노드가 확정되면 중단), 축약 계층은 끝 노드 조합마다 질의한다.
+ * 캐시하는 방식은 이렇게 항목을 만들 수 있는 DIJKSTRA와 CONTRACTION_HIERARCHY뿐이고, 항목은 만든 방식의
+ * 질의에만 돌려준다. 다른 방식은 요청한 방식 그대로 {@link PathRouter#route(EdgeSnap, EdgeSnap, RoutingMode)}로 넘긴다.
+ * 항목은 그래프 스냅샷 버전으로 구분하며, 스냅샷이 바뀔 때 {@link #advance}로 영향 없는 항목만 새 버전으로 넘긴다.
+ */
+public final class RouteCache {
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final int capacity;
+    private final Map<Long, CachedRoute> entries;
+    private long hits;
+    private long misses;
+    private long invalidations;
+
+    public RouteCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid cache capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Long, CachedRoute>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedRoute> eldest) {
+                return size() > RouteCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * 캐시를 거쳐 간선 위 두 지점 사이 경로 탐색
+     * @param version router 그래프의 스냅샷 버전
+     * @param mode 탐색 방식 (DIJKSTRA, CONTRACTION_HIERARCHY 외에는 캐시하지 않음)
+     */
+    @NonNull
+    public RouteResult route(@NonNull PathRouter router, long version, @NonNull EdgeSnap from,
+                      @NonNull EdgeSnap to, @NonNull RoutingMode mode) {
+        if (!isCached(mode)) {
+            return router.route(from, to, mode);
+        }
+        long key = ((long) from.getEdge() << 32) | (to.getEdge() & 0xFFFFFFFFL);
+        CachedRoute entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && entry.version == version && entry.mode == mode
+                    && entry.destinationFraction == to.getFraction()) {
+                hits++;
+            } else {
+                entry = null;
+                misses++;
+            }
+        }
+        if (entry == null) {
+            entry = CachedRoute.compute(router, version, from, to, mode);
+            synchronized (this) {
+                entries.put(key, entry);
+            }
+        }
+        return entry.route(router.getGraph(), from, to);
+    }
+
+    // 항목을 만드는 탐색과 같은 방식만 캐시 (다른 방식의 결과로 돌려주지 않음)
+    private static boolean isCached(RoutingMode mode) {
+        return mode == RoutingMode.DIJKSTRA || mode == RoutingMode.CONTRACTION_HIERARCHY;
+    }
+
+    /**
+     * 스냅샷 교체 반영: 이전 버전 항목 중 경로가 바뀐 간선을 지나지 않는 항목만 새 버전으로 넘김
+     * 비용이 내려간 간선이 있으면 다른 경로가 더 짧아질 수 있으므로 모두 버린다.
+     * @param changedEdges 비용이 달라진 간선 (오름차순)
+     * @param raisedOnly 모든 변경이 비용을 올리는 변경인지
+     */
+    public synchronized void advance(long previousVersion, long version, @NonNull CsrGraph graph,
+                                     @NonNull int[] changedEdges, boolean raisedOnly) {
+        Iterator<CachedRoute> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CachedRoute entry = iterator.next();
+            if (entry.version == previousVersion && raisedOnly && !entry.crossesAny(graph, changedEdges)) {
+                entry.version = version;
+            } else {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * 적중률 (질의가 없으면 0)
+     */
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : 0;
+    }
+
+    /**
+     * 스냅샷 교체로 버린 항목 수
+     */
+    public synchronized long getInvalidationCount() {
+        return invalidations;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 출발 간선의 끝 노드별 도착 지점까지 최단 거리와 경로
+     */
+    private static final class CachedRoute {
+        final int[] sources = new int[2];
+        int sourceCount;
+        int destinationEdge;
+        double destinationFraction;
+        final double[] distances = new double[2];   // 끝 노드 → 도착 지점 (도착 간선 일부 포함)
+        final int[][] paths = new int[2][];          // 끝 노드 → 도착 간선 끝 노드
+        RoutingMode mode;                            // 항목을 만든 탐색 방식 (이 방식의 질의에만 사용)
+        int settledNodes;                            // 항목을 만들 때 확정한 노드 수
+        volatile long version;
+
+        static CachedRoute compute(PathRouter router, long version, EdgeSnap from, EdgeSnap to,
+                                   RoutingMode mode) {
+            CsrGraph graph = router.getGraph();
+            CachedRoute entry = new CachedRoute();
+            entry.version = version;
+            entry.destinationEdge = to.getEdge();
+            entry.destinationFraction = to.getFraction();
+            double[] costs = new double[2];
+            entry.sourceCount = PathRouter.startCandidates(graph, from, entry.sources, costs);
+            int[] targets = new int[2];
+            double[] targetCosts = new double[2];
+            int targetCount = PathRouter.endCandidates(graph, to, targets, targetCosts);
+
+            if (mode == RoutingMode.CONTRACTION_HIERARCHY) {
+                entry.mode = mode;
+                for (int i = 0; i < entry.sourceCount; i++) {
+                    entry.distances[i] = Double.POSITIVE_INFINITY;
+                    entry.paths[i] = new int[0];
+                    for (int j = 0; j < targetCount; j++) {
+                        RouteResult result = router.route(entry.sources[i], targets[j], mode);
+                        entry.settledNodes += result.getSettledNodes();
+                        if (result.getDistance() + targetCosts[j] < entry.distances[i]) {
+                            entry.distances[i] = result.getDistance() + targetCosts[j];
+                            entry.paths[i] = result.getNodes();
+                        }
+                    }
+                }
+                return entry;
+            }
+
+            SearchWorkspace workspace = SearchWorkspace.getReverse(graph.getNodeCount());
+            for (int j = 0; j < targetCount; j++) {
+                DijkstraAlgorithm.seed(targets[j], targetCosts[j], workspace);
+            }
+            if (entry.sourceCount > 0) {
+                DijkstraAlgorithm.searchSeededBackward(graph, router.getReverseAdjacency(), entry.sources[0],
+                        entry.sourceCount > 1 ? entry.sources[1] : -1, workspace);
+            }
+            entry.mode = RoutingMode.DIJKSTRA;
+            entry.settledNodes = workspace.getSettledCount();
+            for (int i = 0; i < entry.sourceCount; i++) {
+                entry.distances[i] = workspace.distance(entry.sources[i]);
+                entry.paths[i] = Double.isInfinite(entry.distances[i]) ?
+                        new int[0] : towardSeed(entry.sources[i], workspace);
+            }
+            return entry;
+        }
+
+        // 역방향 탐색의 이전 노드를 따라 도착 쪽으로 (출발 노드부터 순서대로)
+        private static int[] towardSeed(int node, SearchWorkspace workspace) {
+            int length = 0;
+            for (int at = node; at != -1; at = workspace.previous(at)) {
+                length++;
+            }
+            int[] path = new int[length];
+            int index = 0;
+            for (int at = node; at != -1; at = workspace.previous(at)) {
+                path[index++] = at;
+            }
+            return path;
+        }
+
+        // 출발 간선 일부 비용은 현재 지점으로 다시 계산
+        RouteResult route(CsrGraph graph, EdgeSnap from, EdgeSnap to) {
+            int[] nodes = new int[2];
+            double[] sourceCosts = new double[2];
+            int count = PathRouter.startCandidates(graph, from, nodes, sourceCosts);
+
+            // 출발 간선 한 방향이 통제되면 후보 순서가 항목과 다를 수 있으므로 노드로 맞춤
+            double bestDistance = PathRouter.directDistance(graph, from, to);
+            int best = -1;
+            for (int i = 0; i < sourceCount; i++) {
+                for (int k = 0; k < count; k++) {
+                    if (nodes[k] != sources[i]) continue;
+                    double total = sourceCosts[k] + distances[i];
+                    if (total < bestDistance) {
+                        bestDistance = total;
+                        best = i;
+                    }
+                }
+            }
+            int[] path = best >= 0 ? paths[best].clone() : new int[0];
+            return new RouteResult(mode, path, bestDistance, settledNodes);
+        }
+
+        // 경로의 간선이나 도착 간선(일부 비용이 거리에 포함됨)이 바뀌었는지
+        boolean crossesAny(CsrGraph graph, int[] changedEdges) {
+            if (Arrays.binarySearch(changedEdges, destinationEdge) >= 0) return true;
+            int reverse = graph.findEdge(graph.target(destinationEdge), graph.source(destinationEdge));
+            if (reverse >= 0 && Arrays.binarySearch(changedEdges, reverse) >= 0) return true;
+            for (int i = 0; i < sourceCount; i++) {
+                int[] path = paths[i];
+                for (int k = 0; k + 1 < path.length; k++) {
+                    int edge = graph.findEdge(path[k], path[k + 1]);
+                    if (Arrays.binarySearch(changedEdges, edge) >= 0) return true;
+                }
+            }
+            return false;
+        }
+    }
+}
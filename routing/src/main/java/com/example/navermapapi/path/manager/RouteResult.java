@@ -0,0 +1,78 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * 경로 탐색 결과
+ * 모든 탐색 방식이 같은 결과 형식을 반환하므로 확정 노드 수로 방식별 비용을 비교할 수 있다.
+ */
+public final class RouteResult {
+    private final RoutingMode mode;
+    private final int[] nodes;
+    private final double distance;
+    private final int settledNodes;
+
+    public RouteResult(@NonNull RoutingMode mode, @NonNull int[] nodes,
+                       double distance, int settledNodes) {
+        this.mode = mode;
+        this.nodes = nodes;
+        this.distance = distance;
+        this.settledNodes = settledNodes;
+    }
+
+    @NonNull
+    public RoutingMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 경로를 찾았는지 여부 (같은 간선 위 두 지점 사이 경로는 노드 없이 찾을 수 있음)
+     * 거리가 무한대이거나 NaN이면 찾지 못한 것으로 본다.
+     */
+    public boolean isFound() {
+        return !Double.isInfinite(distance) && !Double.isNaN(distance);
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getNode(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * 경로 노드 배열의 복사본
+     */
+    @NonNull
+    public int[] getNodes() {
+        return nodes.clone();
+    }
+
+    /**
+     * 경로 총 거리 (미터), 경로가 없으면 {@link Double#POSITIVE_INFINITY}
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * 탐색 중 확정(settle)된 노드 수
+     */
+    public int getSettledNodes() {
+        return settledNodes;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "RouteResult{" +
+                "mode=" + mode +
+                ", nodes=" + Arrays.toString(nodes) +
+                ", distance=" + distance +
+                ", settledNodes=" + settledNodes +
+                '}';
+    }
+}
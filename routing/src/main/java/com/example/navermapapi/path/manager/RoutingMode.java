@@ -0,0 +1,13 @@
+package com.example.navermapapi.path.manager;
+
+/**
+ * 경로 탐색 방식
+ */
+public enum RoutingMode {
+    DIJKSTRA,   // 기본 Dijkstra
+    BIDIRECTIONAL_DIJKSTRA,  // 출발/도착 양쪽에서 동시에 탐색
+    A_STAR,     // 좌표 기반 직선 거리 휴리스틱
+    ALT,        // 랜드마크 삼각 부등식 휴리스틱
+    CONTRACTION_HIERARCHY,  // 전처리된 축약 계층 양방향 탐색
+    D_STAR_LITE  // 목적지 고정 증분 재탐색 (RouteSession 전용)
+}
@@ -0,0 +1,267 @@
+package com.example.navermapapi.path.manager;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+/**
+ * 여러 전시물을 도는 관람 순서 계획
+ * 1) 방문지마다 one-to-many 다익스트라 한 번으로 거리 행렬을 만들고
+ * 2) 최근접 이웃으로 초기 순서를 정한 뒤
+ * 3) 2-opt(구간 뒤집기)와 Or-opt(1~3개 구간 옮기기)로 시간 예산 안에서 개선한다.
+ * 단방향 통로가 있으면 행렬이 비대칭이므로 뒤집은 구간의 비용도 실제 방향으로 다시 계산한다.
+ * 출발지(0번)는 고정이며, 출발지로 돌아오는 순환 경로와 마지막 방문지에서 끝나는 경로를 모두 지원한다.
+ */
+public final class TourPlanner {
+    /** 순서 개선에 쓰는 기본 시간 예산 (거리 행렬 계산 제외) */
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 30;
+
+    private static final int OR_OPT_MAX_SEGMENT = 3;
+    // 도달할 수 없는 쌍의 비용 (INF끼리 빼면 NaN이 되므로 큰 유한값으로 대체)
+    private static final double UNREACHABLE = 1e12;
+    private static final double EPSILON = 1e-9;
+
+    private final PathRouter router;
+
+    public TourPlanner(@NonNull PathRouter router) {
+        this.router = router;
+    }
+
+    /**
+     * 관람 순서 계획
+     * @param stops 간선 위로 투영한 지점 (0번은 출발지)
+     * @param returnToStart 출발지로 돌아오는 경로인지 여부
+     * @param timeBudgetMillis 순서 개선 시간 예산
+     * @param mode 구간 경로를 그릴 때의 탐색 방식
+     */
+    @NonNull
+    public Tour plan(@NonNull EdgeSnap[] stops, boolean returnToStart, long timeBudgetMillis,
+                     @NonNull RoutingMode mode) {
+        int n = stops.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Tour needs at least a start point");
+        }
+        for (EdgeSnap stop : stops) {
+            if (!stop.isValid()) {
+                throw new IllegalArgumentException("Stop is not on an edge");
+            }
+        }
+        double[] matrix = distanceMatrix(stops);
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        int[] order = nearestNeighbour(matrix, n);
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadline) {
+            improved = twoOpt(order, matrix, returnToStart, deadline)
+                    | orOpt(order, matrix, returnToStart, deadline);
+        }
+
+        // 순서대로 구간 경로 탐색
+        int legCount = returnToStart && n > 1 ? n : n - 1;
+        RouteResult[] legs = new RouteResult[legCount];
+        double distance = 0;
+        for (int k = 0; k < legCount; k++) {
+            legs[k] = router.route(stops[order[k]], stops[order[(k + 1) % n]], mode);
+            distance += legs[k].getDistance();
+        }
+        return new Tour(order, legs, distance);
+    }
+
+    /**
+     * 방문지 사이 거리 행렬 (행 우선, matrix[i * n + j] = i → j)
+     * 행마다 출발 후보를 시드로 넣고 모든 방문지의 도착 후보가 확정될 때까지만 탐색한다.
+     */
+    @NonNull
+    double[] distanceMatrix(@NonNull EdgeSnap[] stops) {
+        CsrGraph graph = router.getGraph();
+        int n = stops.length;
+        int[] endNodes = new int[n * 2];
+        double[] endCosts = new double[n * 2];
+        int[] endCounts = new int[n];
+        int[] allEnds = new int[n * 2];
+        int allCount = 0;
+        for (int j = 0; j < n; j++) {
+            int[] nodes = new int[2];
+            double[] costs = new double[2];
+            endCounts[j] = PathRouter.endCandidates(graph, stops[j], nodes, costs);
+            for (int k = 0; k < endCounts[j]; k++) {
+                endNodes[j * 2 + k] = nodes[k];
+                endCosts[j * 2 + k] = costs[k];
+                allEnds[allCount++] = nodes[k];
+            }
+        }
+
+        double[] matrix = new double[n * n];
+        int[] sources = new int[2];
+        double[] sourceCosts = new double[2];
+        for (int i = 0; i < n; i++) {
+            SearchWorkspace workspace = SearchWorkspace.get(graph.getNodeCount());
+            int sourceCount = PathRouter.startCandidates(graph, stops[i], sources, sourceCosts);
+            for (int k = 0; k < sourceCount; k++) {
+                DijkstraAlgorithm.seed(sources[k], sourceCosts[k], workspace);
+            }
+            DijkstraAlgorithm.searchSeededToAll(graph, allEnds, allCount, workspace);
+
+            for (int j = 0; j < n; j++) {
+                double best = i == j ? 0 : PathRouter.directDistance(graph, stops[i], stops[j]);
+                for (int k = 0; k < endCounts[j]; k++) {
+                    best = Math.min(best, workspace.distance(endNodes[j * 2 + k]) + endCosts[j * 2 + k]);
+                }
+                matrix[i * n + j] = Double.isInfinite(best) ? UNREACHABLE : best;
+            }
+        }
+        return matrix;
+    }
+
+    // 출발지에서 시작해 가장 가까운 미방문지를 차례로 선택
+    static int[] nearestNeighbour(double[] matrix, int n) {
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        for (int k = 1; k < n; k++) {
+            int from = order[k - 1];
+            int best = -1;
+            for (int j = 0; j < n; j++) {
+                if (!visited[j] && (best < 0 || matrix[from * n + j] < matrix[from * n + best])) {
+                    best = j;
+                }
+            }
+            order[k] = best;
+            visited[best] = true;
+        }
+        return order;
+    }
+
+    // 구간 order[i..j]를 뒤집어 줄어들면 적용 (출발지는 고정)
+    private static boolean twoOpt(int[] order, double[] matrix, boolean closed, long deadline) {
+        int n = order.length;
+        boolean improved = false;
+        for (int i = 1; i < n - 1; i++) {
+            if (System.nanoTime() >= deadline) break;
+            int before = order[i - 1];
+            double forward = 0;   // order[i..j] 정방향 내부 비용
+            double backward = 0;  // 뒤집었을 때 내부 비용
+            for (int j = i + 1; j < n; j++) {
+                forward += matrix[order[j - 1] * n + order[j]];
+                backward += matrix[order[j] * n + order[j - 1]];
+                int after = j + 1 < n ? order[j + 1] : (closed ? order[0] : -1);
+                double oldCost = matrix[before * n + order[i]] + forward + arc(matrix, n, order[j], after);
+                double newCost = matrix[before * n + order[j]] + backward + arc(matrix, n, order[i], after);
+                if (newCost < oldCost - EPSILON) {
+                    reverse(order, i, j);
+                    improved = true;
+                    forward = 0;
+                    backward = 0;
+                    for (int k = i + 1; k <= j; k++) {
+                        forward += matrix[order[k - 1] * n + order[k]];
+                        backward += matrix[order[k] * n + order[k - 1]];
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    // 1~3개 연속 방문지를 다른 위치로 옮겨 줄어들면 적용 (방향 유지)
+    private static boolean orOpt(int[] order, double[] matrix, boolean closed, long deadline) {
+        int n = order.length;
+        boolean improved = false;
+        int[] scratch = new int[n];
+        for (int length = 1; length <= OR_OPT_MAX_SEGMENT; length++) {
+            for (int i = 1; i + length <= n; i++) {
+                if (System.nanoTime() >= deadline) return improved;
+                int last = i + length - 1;
+                int prev = order[i - 1];
+                int next = last + 1 < n ? order[last + 1] : (closed ? order[0] : -1);
+                double removeGain = matrix[prev * n + order[i]] + arc(matrix, n, order[last], next)
+                        - arc(matrix, n, prev, next);
+
+                for (int p = 0; p < n; p++) {
+                    if (p >= i - 1 && p <= last) continue;
+                    int a = order[p];
+                    int b = p + 1 < n ? order[p + 1] : (closed ? order[0] : -1);
+                    double insertCost = matrix[a * n + order[i]] + arc(matrix, n, order[last], b)
+                            - arc(matrix, n, a, b);
+                    if (insertCost < removeGain - EPSILON) {
+                        move(order, i, length, p, scratch);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    // to가 -1이면 열린 경로의 끝 (비용 없음)
+    private static double arc(double[] matrix, int n, int from, int to) {
+        return to < 0 ? 0 : matrix[from * n + to];
+    }
+
+    private static void reverse(int[] order, int i, int j) {
+        while (i < j) {
+            int tmp = order[i];
+            order[i++] = order[j];
+            order[j--] = tmp;
+        }
+    }
+
+    // order[start..start+length)를 order[p] 뒤로 이동
+    private static void move(int[] order, int start, int length, int p, int[] scratch) {
+        int n = order.length;
+        int size = 0;
+        for (int k = 0; k < n; k++) {
+            if (k >= start && k < start + length) continue;
+            scratch[size++] = order[k];
+            if (k == p) {
+                for (int s = 0; s < length; s++) {
+                    scratch[size++] = order[start + s];
+                }
+            }
+        }
+        System.arraycopy(scratch, 0, order, 0, n);
+    }
+
+    /**
+     * 계획된 관람 순서와 구간 경로
+     */
+    public static final class Tour {
+        private final int[] order;
+        private final RouteResult[] legs;
+        private final double distance;
+
+        Tour(int[] order, RouteResult[] legs, double distance) {
+            this.order = order;
+            this.legs = legs;
+            this.distance = distance;
+        }
+
+        /**
+         * 방문 순서 (입력 지점 번호, 0번 출발지부터)
+         */
+        @NonNull
+        public int[] getOrder() {
+            return order.clone();
+        }
+
+        public int getLegCount() {
+            return legs.length;
+        }
+
+        /**
+         * k번째 방문지 → 다음 방문지 경로
+         */
+        @NonNull
+        public RouteResult getLeg(int index) {
+            return legs[index];
+        }
+
+        /**
+         * 총 거리 (미터), 도달할 수 없는 방문지가 있으면 {@link Double#POSITIVE_INFINITY}
+         */
+        public double getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.example.navermapapi.path.spatial;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.EdgeAttributes;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 그래프 간선(복도 선분)에 대한 정적 R-트리 (STR 일괄 적재)
+ * 양방향 간선 쌍은 선분 하나로 색인하고, 층 연결 간선(엘리베이터, 계단, 경사로)은 복도가 아니므로 제외한다. 트리 노드는 단계별로 배열에 연속 저장되며
+ * (잎 단계가 앞, 루트가 마지막), 질의는 분기 한정 깊이 우선 탐색으로 할당 없이 동작한다.
+ */
+public final class EdgeRTree {
+    private static final int NODE_CAPACITY = 8;
+
+    // 선분 (잎 순서)
+    private final int[] segmentEdges;
+    private final int[] segmentFrom;
+    private final int[] segmentTo;
+    private final double[] ax;
+    private final double[] ay;
+    private final double[] bx;
+    private final double[] by;
+
+    // 트리 노드 경계 상자와 자식 구간
+    private final double[] minX;
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+    private final int[] childStart;
+    private final int[] childEnd;
+    private final int leafNodeCount;   // 이보다 작은 번호의 노드는 자식이 선분
+
+    private EdgeRTree(int segmentCount, int nodeCapacity, int leafNodeCount) {
+        segmentEdges = new int[segmentCount];
+        segmentFrom = new int[segmentCount];
+        segmentTo = new int[segmentCount];
+        ax = new double[segmentCount];
+        ay = new double[segmentCount];
+        bx = new double[segmentCount];
+        by = new double[segmentCount];
+        minX = new double[nodeCapacity];
+        minY = new double[nodeCapacity];
+        maxX = new double[nodeCapacity];
+        maxY = new double[nodeCapacity];
+        childStart = new int[nodeCapacity];
+        childEnd = new int[nodeCapacity];
+        this.leafNodeCount = leafNodeCount;
+    }
+
+    /**
+     * 그래프의 모든 복도 간선으로 트리 생성 (O(m log m))
+     * @throws IllegalArgumentException 좌표가 없는 그래프인 경우
+     */
+    @NonNull
+    public static EdgeRTree build(@NonNull CsrGraph graph) {
+        return build(graph, 0, graph.getNodeCount());
+    }
+
+    /**
+     * 노드 번호 구간 [firstNode, endNode) 안의 복도 간선으로 트리 생성 (층별 색인용)
+     */
+    @NonNull
+    public static EdgeRTree build(@NonNull CsrGraph graph, int firstNode, int endNode) {
+        if (!graph.hasCoordinates()) {
+            throw new IllegalArgumentException("Spatial index requires node coordinates");
+        }
+
+        // 역방향이 있는 간선은 번호가 작은 노드 쪽에서만 색인
+        int count = 0;
+        int[] edges = new int[graph.getEdgeCount()];
+        int[] sources = new int[graph.getEdgeCount()];
+        for (int u = firstNode; u < endNode; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (v == u || v < firstNode || v >= endNode
+                        || EdgeAttributes.isConnector(graph.edgeAttributes(e))
+                        || (v < u && graph.findEdge(v, u) >= 0)) continue;
+                edges[count] = e;
+                sources[count] = u;
+                count++;
+            }
+        }
+
+        // 잎 단계: 선분 중심 기준 STR 정렬
+        double[] centerX = new double[count];
+        double[] centerY = new double[count];
+        for (int i = 0; i < count; i++) {
+            int e = edges[i];
+            centerX[i] = (graph.x(sources[i]) + graph.x(graph.target(e))) * 0.5;
+            centerY[i] = (graph.y(sources[i]) + graph.y(graph.target(e))) * 0.5;
+        }
+        Integer[] order = strOrder(count, centerX, centerY);
+
+        int leafNodes = groups(count);
+        int nodeCapacity = 0;
+        for (int level = leafNodes; ; level = groups(level)) {
+            nodeCapacity += level;
+            if (level <= 1) break;
+        }
+        EdgeRTree tree = new EdgeRTree(count, nodeCapacity, leafNodes);
+
+        for (int i = 0; i < count; i++) {
+            int source = order[i];
+            int e = edges[source];
+            int from = sources[source];
+            int to = graph.target(e);
+            tree.segmentEdges[i] = e;
+            tree.segmentFrom[i] = from;
+            tree.segmentTo[i] = to;
+            tree.ax[i] = graph.x(from);
+            tree.ay[i] = graph.y(from);
+            tree.bx[i] = graph.x(to);
+            tree.by[i] = graph.y(to);
+        }
+        for (int node = 0; node < leafNodes; node++) {
+            int start = node * NODE_CAPACITY;
+            int end = Math.min(count, start + NODE_CAPACITY);
+            tree.childStart[node] = start;
+            tree.childEnd[node] = end;
+            tree.minX[node] = Double.POSITIVE_INFINITY;
+            tree.minY[node] = Double.POSITIVE_INFINITY;
+            tree.maxX[node] = Double.NEGATIVE_INFINITY;
+            tree.maxY[node] = Double.NEGATIVE_INFINITY;
+            for (int s = start; s < end; s++) {
+                tree.include(node, tree.ax[s], tree.ay[s]);
+                tree.include(node, tree.bx[s], tree.by[s]);
+            }
+        }
+
+        // 상위 단계: 바로 아래 단계 노드를 다시 STR로 묶음
+        int levelStart = 0;
+        int levelCount = leafNodes;
+        while (levelCount > 1) {
+            tree.sortLevel(levelStart, levelCount);
+            int parentStart = levelStart + levelCount;
+            int parents = groups(levelCount);
+            for (int p = 0; p < parents; p++) {
+                int node = parentStart + p;
+                int start = levelStart + p * NODE_CAPACITY;
+                int end = Math.min(levelStart + levelCount, start + NODE_CAPACITY);
+                tree.childStart[node] = start;
+                tree.childEnd[node] = end;
+                tree.minX[node] = Double.POSITIVE_INFINITY;
+                tree.minY[node] = Double.POSITIVE_INFINITY;
+                tree.maxX[node] = Double.NEGATIVE_INFINITY;
+                tree.maxY[node] = Double.NEGATIVE_INFINITY;
+                for (int c = start; c < end; c++) {
+                    tree.include(node, tree.minX[c], tree.minY[c]);
+                    tree.include(node, tree.maxX[c], tree.maxY[c]);
+                }
+            }
+            levelStart = parentStart;
+            levelCount = parents;
+        }
+        return tree;
+    }
+
+    public int getSegmentCount() {
+        return segmentEdges.length;
+    }
+
+    /**
+     * 가장 가까운 간선 위의 점
+     * @param out 결과 (재사용 가능), 간선이 없으면 {@link EdgeSnap#isValid()}가 false
+     * @return 간선을 찾았는지 여부
+     */
+    public boolean nearest(double x, double y, @NonNull EdgeSnap out) {
+        return nearest(x, y, Double.POSITIVE_INFINITY, null, out);
+    }
+
+    /**
+     * maxDistance(m) 안에서 가장 가까운 간선 위의 점
+     */
+    public boolean nearest(double x, double y, double maxDistance, @NonNull EdgeSnap out) {
+        return nearest(x, y, maxDistance, null, out);
+    }
+
+    /**
+     * maxDistance(m) 안에서 weights 기준으로 지나갈 수 있는 가장 가까운 간선 위의 점
+     * 비용이 POSITIVE_INFINITY인 방향(통제된 복도)은 후보에서 빼고, 한 방향만 열려 있으면 그 방향 간선으로 돌려준다.
+     * @param weights 색인을 만든 그래프와 구조가 같은 비용 그래프 (통제 반영), null이면 모든 간선
+     */
+    public boolean nearest(double x, double y, double maxDistance, @Nullable CsrGraph weights,
+                           @NonNull EdgeSnap out) {
+        out.reset();
+        if (segmentEdges.length == 0) return false;
+        double bound = maxDistance * maxDistance;
+        search(childStart.length - 1, x, y, bound, weights, out);
+        if (!out.isValid()) return false;
+        // 탐색 중에는 제곱 거리를 보관
+        out.set(out.getEdge(), out.getFromNode(), out.getToNode(), out.getFraction(),
+                out.getX(), out.getY(), Math.sqrt(out.getDistance()));
+        return true;
+    }
+
+    /**
+     * maxDistance(m) 안에서 가까운 간선 순으로 최대 out.length개 (지도 매칭 후보용)
+     * 탐색 중 할당이 없으며, 결과를 담으면서 out 배열 안의 객체 순서가 바뀔 수 있다.
+     * @param out 결과 (재사용 가능), 앞에서부터 거리 오름차순
+     * @return 찾은 간선 수
+     */
+    public int nearest(double x, double y, double maxDistance, @NonNull EdgeSnap[] out) {
+        if (segmentEdges.length == 0 || out.length == 0) return 0;
+        int count = searchK(childStart.length - 1, x, y, maxDistance * maxDistance, out, 0);
+        for (int i = 0; i < count; i++) {
+            EdgeSnap snap = out[i];
+            snap.set(snap.getEdge(), snap.getFromNode(), snap.getToNode(), snap.getFraction(),
+                    snap.getX(), snap.getY(), Math.sqrt(snap.getDistance()));
+        }
+        return count;
+    }
+
+    // 상위 k개 탐색: out[0..count)는 제곱 거리 오름차순, 가득 차면 마지막 거리가 한계
+    private int searchK(int node, double x, double y, double limitSquared, EdgeSnap[] out, int count) {
+        int start = childStart[node];
+        int end = childEnd[node];
+        if (node < leafNodeCount) {
+            for (int s = start; s < end; s++) {
+                count = offerSegmentK(s, x, y, limitSquared, out, count);
+            }
+            return count;
+        }
+        for (int c = start; c < end; c++) {
+            double bound = count == out.length ? out[count - 1].getDistance() : limitSquared;
+            if (boxDistanceSquared(c, x, y) <= bound) {
+                count = searchK(c, x, y, limitSquared, out, count);
+            }
+        }
+        return count;
+    }
+
+    private int offerSegmentK(int s, double x, double y, double limitSquared, EdgeSnap[] out, int count) {
+        double dx = bx[s] - ax[s];
+        double dy = by[s] - ay[s];
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared > 0 ? ((x - ax[s]) * dx + (y - ay[s]) * dy) / lengthSquared : 0;
+        if (t < 0) t = 0;
+        else if (t > 1) t = 1;
+        double px = ax[s] + t * dx;
+        double py = ay[s] + t * dy;
+        double d = (px - x) * (px - x) + (py - y) * (py - y);
+        if (d > limitSquared || (count == out.length && d >= out[count - 1].getDistance())) {
+            return count;
+        }
+
+        // 마지막 칸(또는 밀려나는 결과)의 객체를 재사용해 삽입 정렬
+        int i = count < out.length ? count++ : count - 1;
+        EdgeSnap slot = out[i];
+        while (i > 0 && out[i - 1].getDistance() > d) {
+            out[i] = out[i - 1];
+            i--;
+        }
+        out[i] = slot;
+        slot.set(segmentEdges[s], segmentFrom[s], segmentTo[s], t, px, py, d);
+        return count;
+    }
+
+    private double search(int node, double x, double y, double bestSquared, CsrGraph weights, EdgeSnap out) {
+        int start = childStart[node];
+        int end = childEnd[node];
+        if (node < leafNodeCount) {
+            for (int s = start; s < end; s++) {
+                bestSquared = offerSegment(s, x, y, bestSquared, weights, out);
+            }
+            return bestSquared;
+        }
+
+        // 가장 가까운 자식을 먼저 방문해 한계를 빨리 줄임
+        int first = -1;
+        double firstDistance = Double.POSITIVE_INFINITY;
+        for (int c = start; c < end; c++) {
+            double d = boxDistanceSquared(c, x, y);
+            if (d < firstDistance) {
+                firstDistance = d;
+                first = c;
+            }
+        }
+        if (first < 0 || firstDistance > bestSquared) return bestSquared;
+        bestSquared = search(first, x, y, bestSquared, weights, out);
+        for (int c = start; c < end; c++) {
+            if (c != first && boxDistanceSquared(c, x, y) <= bestSquared) {
+                bestSquared = search(c, x, y, bestSquared, weights, out);
+            }
+        }
+        return bestSquared;
+    }
+
+    private double offerSegment(int s, double x, double y, double bestSquared, CsrGraph weights, EdgeSnap out) {
+        double dx = bx[s] - ax[s];
+        double dy = by[s] - ay[s];
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared > 0 ? ((x - ax[s]) * dx + (y - ay[s]) * dy) / lengthSquared : 0;
+        if (t < 0) t = 0;
+        else if (t > 1) t = 1;
+        double px = ax[s] + t * dx;
+        double py = ay[s] + t * dy;
+        double d = (px - x) * (px - x) + (py - y) * (py - y);
+        if (d < bestSquared || (d == bestSquared && !out.isValid())) {
+            int edge = segmentEdges[s];
+            if (weights == null || !Double.isInfinite(weights.weight(edge))) {
+                out.set(edge, segmentFrom[s], segmentTo[s], t, px, py, d);
+                return d;
+            }
+            // 정방향이 통제되면 열린 역방향 간선으로
+            int reverse = weights.findEdge(segmentTo[s], segmentFrom[s]);
+            if (reverse >= 0 && !Double.isInfinite(weights.weight(reverse))) {
+                out.set(reverse, segmentTo[s], segmentFrom[s], 1 - t, px, py, d);
+                return d;
+            }
+        }
+        return bestSquared;
+    }
+
+    private double boxDistanceSquared(int node, double x, double y) {
+        double dx = x < minX[node] ? minX[node] - x : (x > maxX[node] ? x - maxX[node] : 0);
+        double dy = y < minY[node] ? minY[node] - y : (y > maxY[node] ? y - maxY[node] : 0);
+        return dx * dx + dy * dy;
+    }
+
+    private void include(int node, double x, double y) {
+        if (x < minX[node]) minX[node] = x;
+        if (y < minY[node]) minY[node] = y;
+        if (x > maxX[node]) maxX[node] = x;
+        if (y > maxY[node]) maxY[node] = y;
+    }
+
+    // 한 단계의 노드를 중심 기준 STR 순서로 재배치 (자식 구간은 노드와 함께 이동)
+    private void sortLevel(int levelStart, int levelCount) {
+        double[] centerX = new double[levelCount];
+        double[] centerY = new double[levelCount];
+        for (int i = 0; i < levelCount; i++) {
+            int node = levelStart + i;
+            centerX[i] = (minX[node] + maxX[node]) * 0.5;
+            centerY[i] = (minY[node] + maxY[node]) * 0.5;
+        }
+        Integer[] order = strOrder(levelCount, centerX, centerY);
+        double[][] boxes = {
+                Arrays.copyOfRange(minX, levelStart, levelStart + levelCount),
+                Arrays.copyOfRange(minY, levelStart, levelStart + levelCount),
+                Arrays.copyOfRange(maxX, levelStart, levelStart + levelCount),
+                Arrays.copyOfRange(maxY, levelStart, levelStart + levelCount)};
+        int[] starts = Arrays.copyOfRange(childStart, levelStart, levelStart + levelCount);
+        int[] ends = Arrays.copyOfRange(childEnd, levelStart, levelStart + levelCount);
+        for (int i = 0; i < levelCount; i++) {
+            int node = levelStart + i;
+            int source = order[i];
+            minX[node] = boxes[0][source];
+            minY[node] = boxes[1][source];
+            maxX[node] = boxes[2][source];
+            maxY[node] = boxes[3][source];
+            childStart[node] = starts[source];
+            childEnd[node] = ends[source];
+        }
+    }
+
+    /**
+     * Sort-Tile-Recursive 순서: x로 정렬해 세로 띠로 나눈 뒤 띠마다 y로 정렬
+     */
+    private static Integer[] strOrder(int count, double[] centerX, double[] centerY) {
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(centerX[a], centerX[b]));
+        int pages = groups(count);
+        int slices = (int) Math.ceil(Math.sqrt(pages));
+        int sliceSize = slices * NODE_CAPACITY;
+        Comparator<Integer> byY = (a, b) -> Double.compare(centerY[a], centerY[b]);
+        for (int start = 0; start < count; start += sliceSize) {
+            Arrays.sort(order, start, Math.min(count, start + sliceSize), byY);
+        }
+        return order;
+    }
+
+    private static int groups(int count) {
+        return Math.max(1, (count + NODE_CAPACITY - 1) / NODE_CAPACITY);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.navermapapi.path.spatial;
+
+/**
+ * 간선 위로 투영한 위치 (가상 노드)
+ * 센서 주기마다 호출되는 질의에서 재사용하도록 가변 객체로 두며, 한 스레드에서만 사용한다.
+ */
+public final class EdgeSnap {
+    private int edge = -1;
+    private int fromNode = -1;
+    private int toNode = -1;
+    private double fraction;
+    private double x;
+    private double y;
+    private double distance = Double.POSITIVE_INFINITY;
+
+    public void reset() {
+        edge = -1;
+        fromNode = -1;
+        toNode = -1;
+        fraction = 0;
+        x = 0;
+        y = 0;
+        distance = Double.POSITIVE_INFINITY;
+    }
+
+    void set(int edge, int fromNode, int toNode, double fraction, double x, double y, double distance) {
+        this.edge = edge;
+        this.fromNode = fromNode;
+        this.toNode = toNode;
+        this.fraction = fraction;
+        this.x = x;
+        this.y = y;
+        this.distance = distance;
+    }
+
+    /**
+     * 다른 결과를 복사 (이전 위치 보관용)
+     */
+    public void copyFrom(EdgeSnap other) {
+        set(other.edge, other.fromNode, other.toNode, other.fraction, other.x, other.y, other.distance);
+    }
+
+    public boolean isValid() {
+        return edge >= 0;
+    }
+
+    /**
+     * CSR 간선 번호 (fromNode → toNode 방향)
+     */
+    public int getEdge() {
+        return edge;
+    }
+
+    public int getFromNode() {
+        return fromNode;
+    }
+
+    public int getToNode() {
+        return toNode;
+    }
+
+    /**
+     * fromNode에서 toNode 방향으로의 위치 비율 (0 ~ 1)
+     */
+    public double getFraction() {
+        return fraction;
+    }
+
+    /**
+     * 투영된 점의 로컬 좌표 (m)
+     */
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * 질의 지점에서 간선까지의 수직 거리 (m)
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    @Override
+    public String toString() {
+        return "EdgeSnap{edge=" + edge + ", " + fromNode + "->" + toNode
+                + ", fraction=" + fraction + ", distance=" + distance + '}';
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.navermapapi.path.spatial;
+
+import androidx.annotation.NonNull;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+
+/**
+ * 그래프 노드 좌표(로컬 미터 좌표계)에 대한 2차원 k-d 트리
+ * 배열 하나에 암묵적으로 저장하며 (구간 [lo, hi)의 중앙이 분할 노드), 좌표를 트리 순서로 복사해
+ * 탐색 중 메모리 접근이 연속되도록 한다. 질의는 할당 없이 동작하고 여러 스레드에서 동시에 호출할 수 있다.
+ */
+public final class KdTree {
+    private static final byte AXIS_X = 0;
+    private static final byte AXIS_Y = 1;
+
+    private final int[] nodes;     // 트리 순서의 노드 번호
+    private final double[] xs;
+    private final double[] ys;
+    private final byte[] axes;     // 분할 축 (구간 분산이 큰 축)
+
+    private KdTree(int[] nodes, double[] xs, double[] ys, byte[] axes) {
+        this.nodes = nodes;
+        this.xs = xs;
+        this.ys = ys;
+        this.axes = axes;
+    }
+
+    /**
+     * 그래프의 모든 노드로 트리 생성 (O(n log n))
+     * @throws IllegalArgumentException 좌표가 없는 그래프인 경우
+     */
+    @NonNull
+    public static KdTree build(@NonNull CsrGraph graph) {
+        if (!graph.hasCoordinates()) {
+            throw new IllegalArgumentException("Spatial index requires node coordinates");
+        }
+        int n = graph.getNodeCount();
+        int[] nodes = new int[n];
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int v = 0; v < n; v++) {
+            nodes[v] = v;
+            xs[v] = graph.x(v);
+            ys[v] = graph.y(v);
+        }
+        byte[] axes = new byte[n];
+        KdTree tree = new KdTree(nodes, xs, ys, axes);
+        tree.buildRange(0, n);
+        return tree;
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * 가장 가까운 노드
+     * @return 노드 번호 (빈 트리면 -1)
+     */
+    public int nearest(double x, double y) {
+        if (nodes.length == 0) return -1;
+        return nodes[nearest(0, nodes.length, x, y, -1, Double.POSITIVE_INFINITY)];
+    }
+
+    /**
+     * 가까운 순서로 최대 k개의 노드
+     * @param outNodes 결과 노드 (길이가 k)
+     * @param outDistances 결과 거리(m), 탐색 중 작업 버퍼로도 쓰므로 거리가 필요 없어도 넘긴다 (길이 k 이상)
+     * @return 찾은 노드 수 (노드가 k개보다 적으면 그 수)
+     */
+    public int nearest(double x, double y, @NonNull int[] outNodes, @NonNull double[] outDistances) {
+        int k = outNodes.length;
+        if (outDistances.length < k) {
+            throw new IllegalArgumentException("Distance buffer smaller than node buffer");
+        }
+        if (k == 0 || nodes.length == 0) return 0;
+
+        // outNodes에 트리 위치, 거리 버퍼에 제곱 거리를 오름차순으로 유지
+        int count = kNearest(0, nodes.length, x, y, outNodes, outDistances, 0);
+        for (int i = 0; i < count; i++) {
+            outNodes[i] = nodes[outNodes[i]];
+            outDistances[i] = Math.sqrt(outDistances[i]);
+        }
+        return count;
+    }
+
+    /**
+     * 반경 안의 노드 (순서 없음)
+     * @param out 결과 버퍼 (모자라면 앞부분만 채움)
+     * @return 반경 안의 전체 노드 수 (out 길이보다 클 수 있음)
+     */
+    public int withinRadius(double x, double y, double radius, @NonNull int[] out) {
+        if (nodes.length == 0 || radius < 0) return 0;
+        return withinRadius(0, nodes.length, x, y, radius * radius, out, 0);
+    }
+
+    /**
+     * 반경 안에 노드가 하나라도 있는지
+     */
+    public boolean anyWithin(double x, double y, double radius) {
+        if (nodes.length == 0 || radius < 0) return false;
+        int position = nearest(0, nodes.length, x, y, -1, Double.POSITIVE_INFINITY);
+        return squaredDistance(position, x, y) <= radius * radius;
+    }
+
+    private void buildRange(int lo, int hi) {
+        if (hi - lo <= 1) return;
+        byte axis = widerAxis(lo, hi);
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, axis);
+        axes[mid] = axis;
+        buildRange(lo, mid);
+        buildRange(mid + 1, hi);
+    }
+
+    private byte widerAxis(int lo, int hi) {
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = lo; i < hi; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        return maxX - minX >= maxY - minY ? AXIS_X : AXIS_Y;
+    }
+
+    // 구간 [left, right]에서 k번째 위치에 축 기준 중앙값이 오도록 배치 (quickselect)
+    private void select(int left, int right, int k, byte axis) {
+        while (right > left) {
+            double pivot = coordinate((left + right) >>> 1, axis);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(i, axis) < pivot) i++;
+                while (coordinate(j, axis) > pivot) j--;
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int node = nodes[i];
+        nodes[i] = nodes[j];
+        nodes[j] = node;
+        double x = xs[i];
+        xs[i] = xs[j];
+        xs[j] = x;
+        double y = ys[i];
+        ys[i] = ys[j];
+        ys[j] = y;
+    }
+
+    private double coordinate(int position, byte axis) {
+        return axis == AXIS_X ? xs[position] : ys[position];
+    }
+
+    private double squaredDistance(int position, double x, double y) {
+        double dx = xs[position] - x;
+        double dy = ys[position] - y;
+        return dx * dx + dy * dy;
+    }
+
+    // 현재까지의 최선 위치를 인자로 넘기고 갱신된 위치를 돌려받아 상태 객체 없이 탐색
+    private int nearest(int lo, int hi, double x, double y, int best, double bestSquared) {
+        if (lo >= hi) return best;
+        int mid = (lo + hi) >>> 1;
+        double d = squaredDistance(mid, x, y);
+        if (d < bestSquared) {
+            best = mid;
+            bestSquared = d;
+        }
+        if (hi - lo == 1) return best;
+
+        double delta = (axes[mid] == AXIS_X ? x : y) - coordinate(mid, axes[mid]);
+        boolean leftFirst = delta < 0;
+        best = leftFirst ? nearest(lo, mid, x, y, best, bestSquared)
+                : nearest(mid + 1, hi, x, y, best, bestSquared);
+        bestSquared = squaredDistance(best, x, y);
+        if (delta * delta < bestSquared) {
+            best = leftFirst ? nearest(mid + 1, hi, x, y, best, bestSquared)
+                    : nearest(lo, mid, x, y, best, bestSquared);
+        }
+        return best;
+    }
+
+    private int kNearest(int lo, int hi, double x, double y,
+                         int[] positions, double[] squared, int count) {
+        if (lo >= hi) return count;
+        int mid = (lo + hi) >>> 1;
+        count = offer(mid, squaredDistance(mid, x, y), positions, squared, count);
+        if (hi - lo == 1) return count;
+
+        double delta = (axes[mid] == AXIS_X ? x : y) - coordinate(mid, axes[mid]);
+        boolean leftFirst = delta < 0;
+        count = leftFirst ? kNearest(lo, mid, x, y, positions, squared, count)
+                : kNearest(mid + 1, hi, x, y, positions, squared, count);
+        if (count < positions.length || delta * delta < squared[count - 1]) {
+            count = leftFirst ? kNearest(mid + 1, hi, x, y, positions, squared, count)
+                    : kNearest(lo, mid, x, y, positions, squared, count);
+        }
+        return count;
+    }
+
+    // 정렬된 후보 목록에 삽입 (k가 작으므로 삽입 정렬)
+    private static int offer(int position, double d, int[] positions, double[] squared, int count) {
+        int k = positions.length;
+        if (count == k && d >= squared[k - 1]) return count;
+        int i = count < k ? count++ : k - 1;
+        while (i > 0 && squared[i - 1] > d) {
+            positions[i] = positions[i - 1];
+            squared[i] = squared[i - 1];
+            i--;
+        }
+        positions[i] = position;
+        squared[i] = d;
+        return count;
+    }
+
+    private int withinRadius(int lo, int hi, double x, double y, double radiusSquared,
+                             int[] out, int count) {
+        if (lo >= hi) return count;
+        int mid = (lo + hi) >>> 1;
+        if (squaredDistance(mid, x, y) <= radiusSquared) {
+            if (count < out.length) out[count] = nodes[mid];
+            count++;
+        }
+        if (hi - lo == 1) return count;
+
+        double delta = (axes[mid] == AXIS_X ? x : y) - coordinate(mid, axes[mid]);
+        if (delta <= 0 || delta * delta <= radiusSquared) {
+            count = withinRadius(lo, mid, x, y, radiusSquared, out, count);
+        }
+        if (delta >= 0 || delta * delta <= radiusSquared) {
+            count = withinRadius(mid + 1, hi, x, y, radiusSquared, out, count);
+        }
+        return count;
+    }
+}
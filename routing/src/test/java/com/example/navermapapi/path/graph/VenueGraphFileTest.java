@@ -0,0 +1,49 @@
+package com.example.navermapapi.path.graph;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * 시설 그래프 파일: 기록한 그래프를 그대로 읽고, 체크섬이 맞아도 간선 비용이 잘못된 파일은 거부하는지 확인
+ */
+public class VenueGraphFileTest {
+    private static final LocalFrame FRAME = new LocalFrame(37.5, 127.0);
+
+    @Test
+    public void roundTrip() throws IOException {
+        CsrGraph graph = SyntheticVenue.create(SyntheticVenue.Shape.GRID, 100, 1);
+        CsrGraph read = VenueGraphFile.read(write(graph), true).getGraph();
+        assertEquals(graph.getNodeCount(), read.getNodeCount());
+        assertEquals(graph.getEdgeCount(), read.getEdgeCount());
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            assertEquals(graph.target(e), read.target(e));
+            assertEquals(graph.weight(e), read.weight(e), 0);
+        }
+    }
+
+    @Test
+    public void rejectsInfiniteWeight() throws IOException {
+        CsrGraph graph = SyntheticVenue.create(SyntheticVenue.Shape.GRID, 100, 1);
+        // 통제를 반영한 그래프를 그대로 기록하면 체크섬은 맞지만 비용이 무한대
+        CsrGraph closed = EdgeOverlay.EMPTY.close(3).applyTo(graph);
+        ByteBuffer buffer = write(closed);
+        try {
+            VenueGraphFile.read(buffer, true);
+            fail("Infinite weight should be rejected");
+        } catch (IOException expected) {
+            // 잘못된 간선 비용
+        }
+    }
+
+    private static ByteBuffer write(CsrGraph graph) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        VenueGraphFile.write(new VenueGraph(graph, FRAME), output);
+        return ByteBuffer.wrap(output.toByteArray());
+    }
+}
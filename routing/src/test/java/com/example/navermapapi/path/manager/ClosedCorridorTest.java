@@ -0,0 +1,110 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.EdgeOverlay;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+import com.example.navermapapi.path.spatial.EdgeRTree;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 통제된 복도: 노드 위에 선 위치가 통제된 간선으로 투영되어도 NaN 거리가 나오지 않고,
+ * 통제를 반영한 투영은 열린 복도를 골라 다익스트라와 같은 거리를 찾는지 확인
+ */
+public class ClosedCorridorTest {
+    private static final double EPSILON = 1e-6;
+
+    private static final RoutingMode[] MODES = {
+            RoutingMode.DIJKSTRA,
+            RoutingMode.BIDIRECTIONAL_DIJKSTRA,
+            RoutingMode.A_STAR,
+            RoutingMode.ALT
+    };
+
+    private CsrGraph graph;
+    private CsrGraph closed;
+    private PathRouter router;
+    private EdgeRTree tree;
+    private int junction;
+    private final EdgeSnap onClosed = new EdgeSnap();
+    private final EdgeSnap to = new EdgeSnap();
+
+    @Before
+    public void setUp() {
+        graph = SyntheticVenue.create(SyntheticVenue.Shape.GRID, 400, 9);
+        tree = EdgeRTree.build(graph);
+
+        // 복도가 셋 이상 만나는 노드 위에 선 위치
+        junction = -1;
+        for (int v = graph.getNodeCount() / 2; v < graph.getNodeCount() && junction < 0; v++) {
+            if (graph.endEdge(v) - graph.firstEdge(v) >= 3) junction = v;
+        }
+        assertTrue(junction >= 0);
+        assertTrue(tree.nearest(graph.x(junction), graph.y(junction), onClosed));
+        assertTrue(onClosed.getFraction() == 0 || onClosed.getFraction() == 1);
+
+        // 투영된 복도를 양방향 통제
+        EdgeOverlay overlay = EdgeOverlay.EMPTY.close(onClosed.getEdge());
+        int reverse = graph.findEdge(onClosed.getToNode(), onClosed.getFromNode());
+        if (reverse >= 0) overlay = overlay.close(reverse);
+        closed = overlay.applyTo(graph);
+        router = new PathRouter(graph).withRaisedWeights(closed);
+
+        assertTrue(tree.nearest(graph.x(0) + 0.3, graph.y(0) + 0.2, Double.POSITIVE_INFINITY, closed, to));
+    }
+
+    @Test
+    public void closedSnapIsNotFoundInsteadOfNaN() {
+        int[] nodes = new int[2];
+        double[] costs = new double[2];
+        assertEquals(0, PathRouter.startCandidates(closed, onClosed, nodes, costs));
+        assertEquals(0, PathRouter.endCandidates(closed, onClosed, nodes, costs));
+        assertTrue(Double.isInfinite(PathRouter.directDistance(closed, onClosed, onClosed)));
+
+        for (RoutingMode mode : MODES) {
+            RouteResult result = router.route(onClosed, to, mode);
+            assertFalse(mode.toString(), Double.isNaN(result.getDistance()));
+            assertFalse(mode.toString(), result.isFound());
+        }
+        RouteResult cached = new RouteCache(4).route(router, 1, onClosed, to, RoutingMode.DIJKSTRA);
+        assertFalse(Double.isNaN(cached.getDistance()));
+        assertFalse(cached.isFound());
+        assertFalse(new RouteResult(RoutingMode.DIJKSTRA, new int[0], Double.NaN, 0).isFound());
+    }
+
+    @Test
+    public void snapSkipsClosedCorridor() {
+        EdgeSnap from = new EdgeSnap();
+        assertTrue(tree.nearest(graph.x(junction), graph.y(junction), Double.POSITIVE_INFINITY, closed, from));
+        assertFalse(Double.isInfinite(closed.weight(from.getEdge())));
+        assertEquals(0, from.getDistance(), EPSILON);
+
+        double expected = fromNode(junction, to);
+        for (RoutingMode mode : MODES) {
+            RouteResult result = router.route(from, to, mode);
+            assertTrue(mode.toString(), result.isFound());
+            assertEquals(mode.toString(), expected, result.getDistance(), EPSILON);
+        }
+    }
+
+    // 노드에서 도착 후보를 거쳐 도착 지점까지 다익스트라
+    private double fromNode(int node, EdgeSnap target) {
+        int[] targets = new int[2];
+        double[] targetCosts = new double[2];
+        int count = PathRouter.endCandidates(closed, target, targets, targetCosts);
+        double best = Double.POSITIVE_INFINITY;
+        SearchWorkspace workspace = new SearchWorkspace(closed.getNodeCount());
+        for (int j = 0; j < count; j++) {
+            workspace.prepare(closed.getNodeCount());
+            best = Math.min(best, DijkstraAlgorithm.search(closed, node, targets[j], workspace) + targetCosts[j]);
+        }
+        return best;
+    }
+}
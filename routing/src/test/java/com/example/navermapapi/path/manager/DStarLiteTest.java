@@ -0,0 +1,77 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.EdgeOverlay;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * D* Lite 증분 재탐색: 출발점이 움직이고 간선이 막히거나 느려지는 동안 매번 처음부터 하는
+ * 다익스트라와 같은 거리를 내는지 확인
+ */
+public class DStarLiteTest {
+    private static final int NODES = 1600;
+    private static final int GOALS = 10;
+    private static final int STEPS = 30;
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    public void replanningMatchesDijkstra() {
+        for (SyntheticVenue.Shape shape : SyntheticVenue.Shape.values()) {
+            CsrGraph graph = SyntheticVenue.create(shape, NODES, 7);
+            PathRouter router = new PathRouter(graph);
+            SearchWorkspace workspace = new SearchWorkspace(graph.getNodeCount());
+            Random random = new Random(1);
+
+            for (int trial = 0; trial < GOALS; trial++) {
+                int goal = random.nextInt(graph.getNodeCount());
+                DStarLite planner = new DStarLite(graph, router.getReverseAdjacency(),
+                        router.getEuclideanScale(), new int[]{goal}, new double[]{0}, 1);
+                EdgeOverlay overlay = EdgeOverlay.EMPTY;
+                CsrGraph current = graph;
+                int position = random.nextInt(graph.getNodeCount());
+
+                for (int step = 0; step < STEPS; step++) {
+                    if (step % 5 == 4) {
+                        // 간선 몇 개를 막거나, 느리게 하거나, 되돌림
+                        EdgeOverlay next = overlay;
+                        for (int k = 0; k < 5; k++) {
+                            int edge = random.nextInt(graph.getEdgeCount());
+                            switch (random.nextInt(3)) {
+                                case 0:
+                                    next = next.close(edge);
+                                    break;
+                                case 1:
+                                    next = next.penalize(edge, 1 + random.nextDouble() * 3);
+                                    break;
+                                default:
+                                    next = next.clear(edge);
+                                    break;
+                            }
+                        }
+                        current = next.applyTo(graph);
+                        for (int edge : EdgeOverlay.changedEdges(overlay, next)) {
+                            planner.updateEdgeWeight(edge, current.weight(edge));
+                        }
+                        overlay = next;
+                    }
+
+                    int degree = graph.degree(position);
+                    if (degree > 0) {
+                        position = graph.target(graph.firstEdge(position) + random.nextInt(degree));
+                    }
+                    double actual = planner.plan(position);
+                    workspace.prepare(graph.getNodeCount());
+                    double expected = DijkstraAlgorithm.search(current, position, goal, workspace);
+                    assertEquals(shape + " step " + step, expected, actual, EPSILON);
+                }
+            }
+        }
+    }
+}
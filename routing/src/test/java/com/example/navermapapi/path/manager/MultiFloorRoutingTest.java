@@ -0,0 +1,50 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.EdgeAttributes;
+import com.example.navermapapi.path.graph.NodeAttributes;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 층 연결 간선을 지나는 경로: 같은 층 두 지점 사이라도 다른 층을 거치는 쪽이 짧으면 그 경로를 찾아야 한다
+ */
+public class MultiFloorRoutingTest {
+    private static final RoutingMode[] MODES = {
+            RoutingMode.DIJKSTRA,
+            RoutingMode.BIDIRECTIONAL_DIJKSTRA,
+            RoutingMode.A_STAR,
+            RoutingMode.ALT,
+            RoutingMode.CONTRACTION_HIERARCHY
+    };
+
+    /**
+     * 0층: 0 - 1 (10m), 1층: 2 - 3 (100m), 계단 0 - 2, 1 - 3 (1m)
+     * 1층의 2 → 3은 1층 복도(100m)보다 0층으로 내려갔다 오는 쪽(12m)이 짧다.
+     */
+    @Test
+    public void shortestPathMayLeaveTheFloor() {
+        CsrGraph.Builder builder = new CsrGraph.Builder(4);
+        for (int node = 0; node < 4; node++) {
+            builder.setCoordinates(node, node % 2 == 0 ? 0 : 10, 0);
+            builder.setNodeAttributes(node, NodeAttributes.pack(node < 2 ? 0 : 1, 0));
+        }
+        int stairs = EdgeAttributes.pack(EdgeAttributes.TYPE_STAIRS, 0);
+        builder.addUndirectedEdge(0, 1, 10);
+        builder.addUndirectedEdge(2, 3, 100);
+        builder.addUndirectedEdge(0, 2, 1, stairs);
+        builder.addUndirectedEdge(1, 3, 1, stairs);
+        CsrGraph graph = builder.build();
+
+        PathRouter router = new PathRouter(graph);
+        router.setContractionHierarchy(ContractionHierarchyBuilder.build(graph));
+        for (RoutingMode mode : MODES) {
+            RouteResult result = router.route(2, 3, mode);
+            assertEquals(mode.toString(), 12, result.getDistance(), 1e-9);
+            assertArrayEquals(mode.toString(), new int[]{2, 0, 1, 3}, result.getNodes());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+import com.example.navermapapi.path.spatial.EdgeRTree;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * 경로 캐시: 요청한 탐색 방식을 그대로 돌려주고, 다른 방식으로 만든 항목을 쓰지 않는지 확인
+ */
+public class RouteCacheTest {
+    private static final double EPSILON = 1e-6;
+
+    private CsrGraph graph;
+    private PathRouter router;
+    private RouteCache cache;
+    private final EdgeSnap from = new EdgeSnap();
+    private final EdgeSnap to = new EdgeSnap();
+
+    @Before
+    public void setUp() {
+        graph = SyntheticVenue.create(SyntheticVenue.Shape.GRID, 400, 9);
+        router = new PathRouter(graph);
+        router.setContractionHierarchy(ContractionHierarchyBuilder.build(graph));
+        cache = new RouteCache(RouteCache.DEFAULT_CAPACITY);
+        EdgeRTree tree = EdgeRTree.build(graph);
+        tree.nearest(1.3, 2.1, from);
+        tree.nearest(25.7, 24.2, to);
+    }
+
+    @Test
+    public void keepsRequestedMode() {
+        double expected = router.route(from, to, RoutingMode.DIJKSTRA).getDistance();
+        for (RoutingMode mode : new RoutingMode[]{RoutingMode.A_STAR, RoutingMode.ALT,
+                RoutingMode.BIDIRECTIONAL_DIJKSTRA, RoutingMode.DIJKSTRA, RoutingMode.CONTRACTION_HIERARCHY}) {
+            for (int repeat = 0; repeat < 2; repeat++) {
+                RouteResult result = cache.route(router, 0, from, to, mode);
+                assertEquals(mode.toString(), mode, result.getMode());
+                assertEquals(mode.toString(), expected, result.getDistance(), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void doesNotShareEntriesBetweenModes() {
+        cache.route(router, 0, from, to, RoutingMode.CONTRACTION_HIERARCHY);
+        assertEquals(RoutingMode.DIJKSTRA, cache.route(router, 0, from, to, RoutingMode.DIJKSTRA).getMode());
+        assertEquals(RoutingMode.DIJKSTRA, cache.route(router, 0, from, to, RoutingMode.DIJKSTRA).getMode());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(RoutingMode.CONTRACTION_HIERARCHY,
+                cache.route(router, 0, from, to, RoutingMode.CONTRACTION_HIERARCHY).getMode());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void dStarLiteStillRejected() {
+        try {
+            cache.route(router, 0, from, to, RoutingMode.D_STAR_LITE);
+            fail("D* Lite should be rejected");
+        } catch (IllegalArgumentException expected) {
+            // RouteSession 사용
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 노드 간 경로 탐색: 모든 탐색 방식이 합성 그래프에서 다익스트라와 같은 최단 거리를 찾는지 확인
+ */
+public class RoutingModeTest {
+    private static final int NODES = 2500;
+    private static final int PAIRS = 200;
+    private static final double EPSILON = 1e-6;
+
+    private static final RoutingMode[] MODES = {
+            RoutingMode.BIDIRECTIONAL_DIJKSTRA,
+            RoutingMode.A_STAR,
+            RoutingMode.ALT,
+            RoutingMode.CONTRACTION_HIERARCHY
+    };
+
+    @Test
+    public void allModesMatchDijkstra() {
+        for (SyntheticVenue.Shape shape : SyntheticVenue.Shape.values()) {
+            CsrGraph graph = SyntheticVenue.create(shape, NODES, 42);
+            PathRouter router = new PathRouter(graph);
+            router.setContractionHierarchy(ContractionHierarchyBuilder.build(graph));
+
+            int[] pairs = SyntheticVenue.randomPairs(graph, PAIRS, 7);
+            for (int i = 0; i < pairs.length; i += 2) {
+                RouteResult expected = router.route(pairs[i], pairs[i + 1], RoutingMode.DIJKSTRA);
+                assertPath(graph, expected, pairs[i], pairs[i + 1]);
+                for (RoutingMode mode : MODES) {
+                    RouteResult actual = router.route(pairs[i], pairs[i + 1], mode);
+                    String message = shape + " " + mode + " " + pairs[i] + " -> " + pairs[i + 1];
+                    assertEquals(message, mode, actual.getMode());
+                    assertEquals(message, expected.getDistance(), actual.getDistance(), EPSILON);
+                    assertPath(graph, actual, pairs[i], pairs[i + 1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sameStartAndEnd() {
+        CsrGraph graph = SyntheticVenue.create(SyntheticVenue.Shape.GRID, 100, 1);
+        PathRouter router = new PathRouter(graph);
+        router.setContractionHierarchy(ContractionHierarchyBuilder.build(graph));
+        for (RoutingMode mode : MODES) {
+            RouteResult result = router.route(5, 5, mode);
+            assertEquals(mode.toString(), 0, result.getDistance(), 0);
+            assertEquals(mode.toString(), 1, result.getNodeCount());
+        }
+    }
+
+    /**
+     * 결과 노드가 출발부터 도착까지 실제 간선으로 이어지고 간선 비용 합이 거리와 같은지 확인
+     */
+    static void assertPath(CsrGraph graph, RouteResult result, int start, int end) {
+        assertTrue(result.isFound());
+        assertEquals(start, result.getNode(0));
+        assertEquals(end, result.getNode(result.getNodeCount() - 1));
+        double length = 0;
+        for (int i = 0; i + 1 < result.getNodeCount(); i++) {
+            int edge = graph.findEdge(result.getNode(i), result.getNode(i + 1));
+            assertTrue("Missing edge " + result.getNode(i) + " -> " + result.getNode(i + 1), edge >= 0);
+            length += graph.weight(edge);
+        }
+        assertEquals(result.getDistance(), length, EPSILON);
+    }
+}
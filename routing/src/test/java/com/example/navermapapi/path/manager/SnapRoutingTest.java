@@ -0,0 +1,110 @@
+package com.example.navermapapi.path.manager;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SearchWorkspace;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+import com.example.navermapapi.path.spatial.EdgeRTree;
+import com.example.navermapapi.path.spatial.EdgeSnap;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * 간선 위 지점(가상 노드) 사이 경로 탐색: 요청한 방식으로 탐색하고, 양 끝 후보 조합을 모두
+ * 다익스트라로 푼 거리와 같은지 확인
+ */
+public class SnapRoutingTest {
+    private static final int NODES = 2500;
+    private static final int QUERIES = 300;
+    private static final double EPSILON = 1e-6;
+
+    private static final RoutingMode[] MODES = {
+            RoutingMode.DIJKSTRA,
+            RoutingMode.BIDIRECTIONAL_DIJKSTRA,
+            RoutingMode.A_STAR,
+            RoutingMode.ALT,
+            RoutingMode.CONTRACTION_HIERARCHY
+    };
+
+    @Test
+    public void allModesMatchBruteForce() {
+        for (SyntheticVenue.Shape shape : SyntheticVenue.Shape.values()) {
+            CsrGraph graph = SyntheticVenue.create(shape, NODES, 3);
+            PathRouter router = new PathRouter(graph);
+            router.setContractionHierarchy(ContractionHierarchyBuilder.build(graph));
+            EdgeRTree tree = EdgeRTree.build(graph);
+            double extent = extent(graph);
+
+            Random random = new Random(5);
+            EdgeSnap from = new EdgeSnap();
+            EdgeSnap to = new EdgeSnap();
+            for (int q = 0; q < QUERIES; q++) {
+                tree.nearest(random.nextDouble() * extent, random.nextDouble() * extent, from);
+                if (q % 20 == 0) {
+                    // 같은 간선 위 두 지점 (직진 거리와 우회 거리 비교)
+                    tree.nearest(from.getX() + random.nextDouble() - 0.5,
+                            from.getY() + random.nextDouble() - 0.5, to);
+                } else {
+                    tree.nearest(random.nextDouble() * extent, random.nextDouble() * extent, to);
+                }
+
+                double expected = bruteForce(graph, from, to);
+                for (RoutingMode mode : MODES) {
+                    RouteResult result = router.route(from, to, mode);
+                    String message = shape + " " + mode + " " + from + " -> " + to;
+                    assertEquals(message, mode, result.getMode());
+                    assertEquals(message, expected, result.getDistance(), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void dStarLiteNeedsRouteSession() {
+        CsrGraph graph = SyntheticVenue.create(SyntheticVenue.Shape.GRID, 100, 1);
+        EdgeRTree tree = EdgeRTree.build(graph);
+        EdgeSnap from = new EdgeSnap();
+        EdgeSnap to = new EdgeSnap();
+        tree.nearest(0, 0, from);
+        tree.nearest(10, 10, to);
+        try {
+            new PathRouter(graph).route(from, to, RoutingMode.D_STAR_LITE);
+            fail("D* Lite should be rejected");
+        } catch (IllegalArgumentException expected) {
+            // RouteSession 사용
+        }
+    }
+
+    // 출발 후보 × 도착 후보마다 노드 간 다익스트라, 같은 간선이면 직진 거리도 후보
+    private static double bruteForce(CsrGraph graph, EdgeSnap from, EdgeSnap to) {
+        int[] sources = new int[2];
+        double[] sourceCosts = new double[2];
+        int[] targets = new int[2];
+        double[] targetCosts = new double[2];
+        int sourceCount = PathRouter.startCandidates(graph, from, sources, sourceCosts);
+        int targetCount = PathRouter.endCandidates(graph, to, targets, targetCosts);
+
+        double best = PathRouter.directDistance(graph, from, to);
+        SearchWorkspace workspace = new SearchWorkspace(graph.getNodeCount());
+        for (int i = 0; i < sourceCount; i++) {
+            for (int j = 0; j < targetCount; j++) {
+                workspace.prepare(graph.getNodeCount());
+                double middle = DijkstraAlgorithm.search(graph, sources[i], targets[j], workspace);
+                best = Math.min(best, sourceCosts[i] + middle + targetCosts[j]);
+            }
+        }
+        return best;
+    }
+
+    private static double extent(CsrGraph graph) {
+        double max = 0;
+        for (int v = 0; v < graph.getNodeCount(); v++) {
+            max = Math.max(max, Math.max(graph.x(v), graph.y(v)));
+        }
+        return max;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.navermapapi.path.spatial;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.EdgeAttributes;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 간선 R-트리 질의를 모든 복도 간선을 훑는 결과와 비교
+ */
+public class EdgeRTreeTest {
+    private static final int QUERIES = 500;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void nearestMatchesBruteForce() {
+        for (SyntheticVenue.Shape shape : SyntheticVenue.Shape.values()) {
+            CsrGraph graph = SyntheticVenue.create(shape, 3000, 11);
+            EdgeRTree tree = EdgeRTree.build(graph);
+            Random random = new Random(2);
+            EdgeSnap snap = new EdgeSnap();
+            for (int q = 0; q < QUERIES; q++) {
+                // 그래프 범위 밖 질의도 포함
+                double x = random.nextDouble() * 200 - 20;
+                double y = random.nextDouble() * 200 - 20;
+                assertTrue(tree.nearest(x, y, snap));
+                assertEquals(shape + " (" + x + ", " + y + ")",
+                        bruteForce(graph, x, y)[0], snap.getDistance(), EPSILON);
+                assertOnEdge(graph, snap, x, y);
+            }
+        }
+    }
+
+    @Test
+    public void nearestWithinRadiusMatchesBruteForce() {
+        CsrGraph graph = SyntheticVenue.create(SyntheticVenue.Shape.PLANAR, 3000, 11);
+        EdgeRTree tree = EdgeRTree.build(graph);
+        Random random = new Random(3);
+        EdgeSnap[] out = new EdgeSnap[6];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = new EdgeSnap();
+        }
+        for (int q = 0; q < QUERIES; q++) {
+            double x = random.nextDouble() * 160;
+            double y = random.nextDouble() * 160;
+            double radius = random.nextDouble() * 5;
+            double[] expected = bruteForce(graph, x, y);
+            int within = 0;
+            while (within < expected.length && expected[within] <= radius) within++;
+
+            int count = tree.nearest(x, y, radius, out);
+            assertEquals(Math.min(within, out.length), count);
+            for (int i = 0; i < count; i++) {
+                assertEquals(expected[i], out[i].getDistance(), EPSILON);
+                assertOnEdge(graph, out[i], x, y);
+            }
+        }
+
+        EdgeSnap snap = new EdgeSnap();
+        assertFalse(tree.nearest(-1000, -1000, 10, snap));
+        assertFalse(snap.isValid());
+    }
+
+    // 투영점이 간선 위에 있고 질의 지점과의 거리가 결과 거리와 같은지 확인
+    private static void assertOnEdge(CsrGraph graph, EdgeSnap snap, double x, double y) {
+        int from = snap.getFromNode();
+        int to = snap.getToNode();
+        assertEquals(from, graph.source(snap.getEdge()));
+        assertEquals(to, graph.target(snap.getEdge()));
+        double px = graph.x(from) + snap.getFraction() * (graph.x(to) - graph.x(from));
+        double py = graph.y(from) + snap.getFraction() * (graph.y(to) - graph.y(from));
+        assertEquals(px, snap.getX(), 1e-6);
+        assertEquals(py, snap.getY(), 1e-6);
+        assertEquals(Math.hypot(px - x, py - y), snap.getDistance(), 1e-6);
+    }
+
+    // 모든 복도 간선까지의 거리 (오름차순)
+    private static double[] bruteForce(CsrGraph graph, double x, double y) {
+        double[] distances = new double[graph.getEdgeCount()];
+        int count = 0;
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            if (EdgeAttributes.isConnector(graph.edgeAttributes(e))) continue;
+            int u = graph.source(e);
+            int v = graph.target(e);
+            if (v < u && graph.findEdge(v, u) >= 0) continue;  // 양방향 간선은 한 번만
+            distances[count++] = segmentDistance(x, y, graph.x(u), graph.y(u), graph.x(v), graph.y(v));
+        }
+        double[] sorted = Arrays.copyOf(distances, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static double segmentDistance(double x, double y, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared > 0 ? ((x - ax) * dx + (y - ay) * dy) / lengthSquared : 0;
+        t = Math.max(0, Math.min(1, t));
+        return Math.hypot(ax + t * dx - x, ay + t * dy - y);
+    }
+}
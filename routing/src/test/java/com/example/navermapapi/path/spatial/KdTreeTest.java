@@ -0,0 +1,100 @@
+package com.example.navermapapi.path.spatial;
+
+import com.example.navermapapi.path.graph.CsrGraph;
+import com.example.navermapapi.path.graph.SyntheticVenue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * k-d 트리 질의를 모든 노드를 훑는 결과와 비교
+ */
+public class KdTreeTest {
+    private static final int QUERIES = 500;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void nearestMatchesBruteForce() {
+        for (SyntheticVenue.Shape shape : SyntheticVenue.Shape.values()) {
+            CsrGraph graph = SyntheticVenue.create(shape, 3000, 13);
+            KdTree tree = KdTree.build(graph);
+            assertEquals(graph.getNodeCount(), tree.size());
+
+            Random random = new Random(4);
+            int[] nodes = new int[8];
+            double[] distances = new double[8];
+            for (int q = 0; q < QUERIES; q++) {
+                double x = random.nextDouble() * 200 - 20;
+                double y = random.nextDouble() * 200 - 20;
+                double[] expected = bruteForce(graph, x, y);
+
+                int nearest = tree.nearest(x, y);
+                assertEquals(shape.toString(), expected[0], distance(graph, nearest, x, y), EPSILON);
+
+                int count = tree.nearest(x, y, nodes, distances);
+                assertEquals(nodes.length, count);
+                for (int i = 0; i < count; i++) {
+                    assertEquals(expected[i], distances[i], EPSILON);
+                    assertEquals(distances[i], distance(graph, nodes[i], x, y), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void withinRadiusMatchesBruteForce() {
+        CsrGraph graph = SyntheticVenue.create(SyntheticVenue.Shape.PLANAR, 3000, 13);
+        KdTree tree = KdTree.build(graph);
+        Random random = new Random(5);
+        int[] out = new int[graph.getNodeCount()];
+        for (int q = 0; q < QUERIES; q++) {
+            double x = random.nextDouble() * 160;
+            double y = random.nextDouble() * 160;
+            double radius = random.nextDouble() * 10;
+
+            int expected = 0;
+            for (int v = 0; v < graph.getNodeCount(); v++) {
+                if (distance(graph, v, x, y) <= radius) expected++;
+            }
+            int count = tree.withinRadius(x, y, radius, out);
+            assertEquals(expected, count);
+            for (int i = 0; i < count; i++) {
+                assertEquals(true, distance(graph, out[i], x, y) <= radius);
+            }
+            assertEquals(expected > 0, tree.anyWithin(x, y, radius));
+        }
+    }
+
+    @Test
+    public void fewerNodesThanRequested() {
+        CsrGraph graph = new CsrGraph.Builder(3)
+                .setCoordinates(0, 0, 0)
+                .setCoordinates(1, 1, 0)
+                .setCoordinates(2, 5, 0)
+                .build();
+        KdTree tree = KdTree.build(graph);
+        int[] nodes = new int[5];
+        assertEquals(3, tree.nearest(0.9, 0, nodes, new double[5]));
+        assertEquals(1, nodes[0]);
+        assertEquals(0, nodes[1]);
+        assertEquals(2, nodes[2]);
+    }
+
+    // 모든 노드까지의 거리 (오름차순)
+    private static double[] bruteForce(CsrGraph graph, double x, double y) {
+        double[] distances = new double[graph.getNodeCount()];
+        for (int v = 0; v < distances.length; v++) {
+            distances[v] = distance(graph, v, x, y);
+        }
+        Arrays.sort(distances);
+        return distances;
+    }
+
+    private static double distance(CsrGraph graph, int node, double x, double y) {
+        return Math.hypot(graph.x(node) - x, graph.y(node) - y);
+    }
+}